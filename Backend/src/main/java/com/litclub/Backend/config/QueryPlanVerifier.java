@@ -0,0 +1,231 @@
+package com.litclub.Backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Reports, at startup, hot-path repository queries that would be answered by reading a large table end to end.
+ *
+ * <p>Each {@link PlannedQuery} is the SQL a repository finder issues, with literal sample arguments. Once the
+ * application is ready every one of them is {@code EXPLAIN}ed, and a plan that scans a table sequentially
+ * (PostgreSQL's {@code Seq Scan}, H2's {@code tableScan}) is a violation when that table holds more than
+ * {@code litclub.schema.plan-check.min-rows} rows. Small tables are exempt because a planner rightly reads
+ * them whole; the tests set the limit to zero, so there every query must be planned against an index.</p>
+ *
+ * <p>Violations are logged as a warning: a planner may prefer a scan on a production table for reasons of its own
+ * statistics, and that is no cause to refuse to start. With {@code litclub.schema.plan-check.fail-on-scan} set, as
+ * the tests do, they fail startup instead.</p>
+ *
+ * <p>Table sizes come from the planner statistics on PostgreSQL and from {@code COUNT(*)} elsewhere.</p>
+ *
+ * <p>When a finder is added or its filter changes, add or update its entry here alongside its index in the
+ * {@code db/migration/common} scripts.</p>
+ */
+@Component
+@Slf4j
+public class QueryPlanVerifier {
+
+    /** A repository finder and the SQL it issues. */
+    public record PlannedQuery(String finder, String sql) {}
+
+    /** A query whose plan scans {@code table}, which holds {@code rows} rows. */
+    public record Violation(String finder, String table, long rows, String plan) {}
+
+    private static final String SINCE = "TIMESTAMP '2000-01-01 00:00:00'";
+
+    /** The keyset condition and order of a newest-first feed over {@code id}, as issued for one page. */
+    private static String feedAfter(String id) {
+        return " AND (created_at < " + SINCE + " OR (created_at = " + SINCE + " AND " + id + " < 0))"
+                + " ORDER BY created_at DESC, " + id + " DESC LIMIT 21";
+    }
+
+    public static final List<PlannedQuery> QUERIES = List.of(
+            new PlannedQuery("NoteRepository.findAllByClub",
+                    "SELECT * FROM notes WHERE club_id = 0"),
+            new PlannedQuery("NoteRepository.findViewsByBookAndIsPrivate",
+                    "SELECT * FROM notes WHERE book_id = 0 AND is_private = FALSE"),
+            new PlannedQuery("NoteRepository.findAllByUserAndBook",
+                    "SELECT * FROM notes WHERE user_id = 0 AND book_id = 0"),
+            new PlannedQuery("NoteRepository.findAllByDiscussionPrompt",
+                    "SELECT * FROM notes WHERE discussion_id = 0"),
+            new PlannedQuery("NoteRepository.findFeedByClub",
+                    "SELECT * FROM notes WHERE club_id = 0" + feedAfter("noteid")),
+            new PlannedQuery("NoteRepository.findFeedByDiscussionPrompt",
+                    "SELECT * FROM notes WHERE discussion_id = 0" + feedAfter("noteid")),
+            new PlannedQuery("ReplyRepository.findAllByParentNote",
+                    "SELECT * FROM replies WHERE parent_note_id = 0"),
+            new PlannedQuery("MeetingRepository.findByClubAndStartTimeAfterOrderByStartTimeAsc",
+                    "SELECT * FROM meetings WHERE club_id = 0 AND start_time > " + SINCE + " ORDER BY start_time"),
+            new PlannedQuery("MeetingRepository.findConflictingMeetings",
+                    "SELECT * FROM meetings WHERE club_id = 0 AND start_time < " + SINCE
+                            + " AND end_time > " + SINCE),
+            new PlannedQuery("MeetingRepository.findFeedByClub",
+                    "SELECT * FROM meetings WHERE club_id = 0" + feedAfter("meetingid")),
+            new PlannedQuery("MeetingRepository.findFeedForMember",
+                    "SELECT * FROM meetings WHERE club_id IN (SELECT club_id FROM club_memberships WHERE member_id = 0)"
+                            + feedAfter("meetingid")),
+            new PlannedQuery("MeetingRepository.findAllByCreator",
+                    "SELECT * FROM meetings WHERE creator_user_id = 0"),
+            new PlannedQuery("MeetingAttendeeRepository.findByMeeting",
+                    "SELECT * FROM meeting_attendees WHERE meeting_id = 0"),
+            new PlannedQuery("MeetingAttendeeRepository.findByUser",
+                    "SELECT * FROM meeting_attendees WHERE user_id = 0"),
+            new PlannedQuery("MeetingRegisterRepository.findAllByMeeting",
+                    "SELECT * FROM meeting_register WHERE meeting_id = 0"),
+            new PlannedQuery("MeetingRegisterRepository.findAllByUser",
+                    "SELECT * FROM meeting_register WHERE user_id = 0"),
+            new PlannedQuery("ClubMembershipRepository.findByClub",
+                    "SELECT * FROM club_memberships WHERE club_id = 0"),
+            new PlannedQuery("ClubMembershipRepository.findByMember",
+                    "SELECT * FROM club_memberships WHERE member_id = 0"),
+            new PlannedQuery("ClubMembership.roles",
+                    "SELECT * FROM club_membership_roles WHERE club_id = 0 AND member_id = 0"),
+            new PlannedQuery("ClubRepository.findClubByClubName",
+                    "SELECT * FROM clubs WHERE club_name = 'sample'"),
+            new PlannedQuery("DiscussionPromptRepository.findAllByClub",
+                    "SELECT * FROM discussion_prompts WHERE club_id = 0"),
+            new PlannedQuery("DiscussionPromptRepository.findAllByPoster",
+                    "SELECT * FROM discussion_prompts WHERE poster_id = 0"),
+            new PlannedQuery("UserRepository.findUserByUsername",
+                    "SELECT * FROM users WHERE username = 'sample'"),
+            new PlannedQuery("UserRepository.findUserByEmail",
+                    "SELECT * FROM users WHERE email = 'sample'"),
+            new PlannedQuery("User.globalRoles",
+                    "SELECT * FROM user_global_roles WHERE user_id = 0"),
+            new PlannedQuery("UserBooksRepository.findAllByBook",
+                    "SELECT * FROM user_books WHERE book_id = 0"),
+            new PlannedQuery("UserBooksRepository.findShelfByUser",
+                    "SELECT * FROM user_books WHERE user_id = 0 AND status = 0 ORDER BY created_at DESC, book_id"),
+            new PlannedQuery("ReviewRepository.findByBookAndUser",
+                    "SELECT * FROM reviews WHERE book_id = 0 AND user_id = 0"),
+            new PlannedQuery("ReviewRepository.findByUser",
+                    "SELECT * FROM reviews WHERE user_id = 0"),
+            new PlannedQuery("ReviewRepository.findFeedByBook",
+                    "SELECT * FROM reviews WHERE book_id = 0" + feedAfter("review_id")),
+            new PlannedQuery("ReviewRepository.findFeedByUser",
+                    "SELECT * FROM reviews WHERE user_id = 0" + feedAfter("review_id")),
+            new PlannedQuery("ClubBookRepository.findAllByClubAndValid",
+                    "SELECT * FROM club_books WHERE club_id = 0 AND is_valid = TRUE"),
+            new PlannedQuery("BookRepository.findBookByisbn",
+                    "SELECT * FROM books WHERE isbn = 'sample'"),
+            new PlannedQuery("BookRepository.findBookByTitleAndPrimaryAuthor",
+                    "SELECT * FROM books WHERE title = 'sample' AND primary_author = 'sample'"),
+            new PlannedQuery("Book.authors",
+                    "SELECT * FROM book_authors WHERE book_id = 0"),
+            new PlannedQuery("BookEnrichmentJobRepository.findAllByBook_BookID",
+                    "SELECT * FROM book_enrichment_jobs WHERE book_id = 0"),
+            new PlannedQuery("BookNeighbourRepository.findRecommendedBookIDs",
+                    "SELECT * FROM book_neighbours WHERE book_id = 0"),
+            new PlannedQuery("RedeemedInviteService.purgeExpired",
+                    "SELECT * FROM redeemed_invites WHERE expires_at < " + SINCE),
+            new PlannedQuery("UserBooksRepository.findLibraryChangedSince",
+                    "SELECT * FROM user_books WHERE user_id = 0 AND updated_at > " + SINCE),
+            new PlannedQuery("ClubMembershipRepository.findClubsChangedForMember",
+                    "SELECT * FROM club_memberships cm JOIN clubs c ON c.club_id = cm.club_id WHERE cm.member_id = 0"
+                            + " AND (c.updated_at > " + SINCE + " OR cm.joined_at > " + SINCE + ")"),
+            new PlannedQuery("MeetingRepository.findViewsChangedForMember",
+                    "SELECT * FROM meetings WHERE club_id IN (SELECT club_id FROM club_memberships WHERE member_id = 0)"
+                            + " AND (updated_at > " + SINCE + " OR club_id IN (SELECT club_id FROM club_memberships"
+                            + " WHERE member_id = 0 AND joined_at > " + SINCE + "))"),
+            new PlannedQuery("NoteRepository.findViewsChangedByUser",
+                    "SELECT * FROM notes WHERE user_id = 0 AND updated_at > " + SINCE),
+            new PlannedQuery("ReviewRepository.findViewsChangedByUser",
+                    "SELECT * FROM reviews WHERE user_id = 0 AND updated_at > " + SINCE),
+            new PlannedQuery("SyncTombstoneService.findSince",
+                    "SELECT * FROM sync_tombstones WHERE user_id = 0 AND deleted_at > " + SINCE
+                            + " UNION ALL SELECT * FROM sync_tombstones WHERE club_id IN"
+                            + " (SELECT club_id FROM club_memberships WHERE member_id = 0) AND deleted_at > " + SINCE),
+            new PlannedQuery("SyncTombstoneService.purgeExpired",
+                    "SELECT * FROM sync_tombstones WHERE deleted_at < " + SINCE)
+    );
+
+    /** PostgreSQL's sequential scan node, or H2's table scan comment. */
+    private static final Pattern TABLE_SCAN =
+            Pattern.compile("Seq Scan on (\\w+)|(?:PUBLIC\\.)?(\\w+)\\.tableScan", Pattern.CASE_INSENSITIVE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final long minRows;
+    private final boolean failOnScan;
+
+    public QueryPlanVerifier(JdbcTemplate jdbcTemplate,
+                             DataSource dataSource,
+                             @Value("${litclub.schema.plan-check.enabled:true}") boolean enabled,
+                             @Value("${litclub.schema.plan-check.min-rows:10000}") long minRows,
+                             @Value("${litclub.schema.plan-check.fail-on-scan:false}") boolean failOnScan) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.minRows = minRows;
+        this.failOnScan = failOnScan;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() throws MetaDataAccessException {
+        if (!enabled) return;
+        List<Violation> violations = verify(QUERIES);
+        if (!violations.isEmpty()) {
+            String message = "Hot-path queries scan large tables:\n" + violations.stream()
+                    .map(violation -> "  %s scans %s (%d rows)%n    %s".formatted(violation.finder(),
+                            violation.table(), violation.rows(), violation.plan().replace("\n", "\n    ")))
+                    .collect(Collectors.joining("\n"));
+            if (failOnScan) throw new IllegalStateException(message);
+            log.warn(message);
+            return;
+        }
+        log.info("Query plans verified for {} hot-path queries", QUERIES.size());
+    }
+
+    /**
+     * Explains each query and reports those that scan a table above the size limit.
+     *
+     * @return the violations, in query order; empty when every plan is acceptable
+     */
+    public List<Violation> verify(List<PlannedQuery> queries) throws MetaDataAccessException {
+        boolean postgres = "PostgreSQL".equals(
+                JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+        Map<String, Long> tableRows = new HashMap<>();
+        List<Violation> violations = new ArrayList<>();
+
+        for (PlannedQuery query : queries) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query.sql(), String.class));
+            Set<String> scanned = new LinkedHashSet<>();
+            Matcher matcher = TABLE_SCAN.matcher(plan);
+            while (matcher.find()) {
+                scanned.add((matcher.group(1) != null ? matcher.group(1) : matcher.group(2)).toLowerCase(Locale.ROOT));
+            }
+            for (String table : scanned) {
+                long rows = tableRows.computeIfAbsent(table, name -> countRows(name, postgres));
+                if (rows >= minRows) {
+                    violations.add(new Violation(query.finder(), table, rows, plan));
+                }
+            }
+        }
+        return violations;
+    }
+
+    private long countRows(String table, boolean postgres) {
+        if (postgres) {
+            Long estimate = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE relname = ?", Long.class, table);
+            // never analyzed: no estimate yet
+            if (estimate != null && estimate >= 0) return estimate;
+        }
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+}
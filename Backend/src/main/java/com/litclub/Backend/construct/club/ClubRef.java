@@ -0,0 +1,12 @@
+package com.litclub.Backend.construct.club;
+
+/**
+ * A club as other read models refer to it: enough to label and link it, without its members or settings.
+ */
+public record ClubRef(Long clubID, String clubName) {
+
+    /** @return the reference, or {@code null} when {@code clubID} is (an outer join found no club) */
+    public static ClubRef of(Long clubID, String clubName) {
+        return clubID == null ? null : new ClubRef(clubID, clubName);
+    }
+}
@@ -0,0 +1,12 @@
+package com.litclub.Backend.construct.discussion;
+
+/**
+ * A discussion prompt as other read models refer to it, without its club and poster.
+ */
+public record PromptRef(Long promptID, String prompt) {
+
+    /** @return the reference, or {@code null} when {@code promptID} is (an outer join found no prompt) */
+    public static PromptRef of(Long promptID, String prompt) {
+        return promptID == null ? null : new PromptRef(promptID, prompt);
+    }
+}
@@ -0,0 +1,39 @@
+package com.litclub.Backend.construct.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.litclub.Backend.construct.meeting.MeetingView;
+import com.litclub.Backend.construct.note.NoteView;
+
+/**
+ * One change pushed on a club or user change stream.
+ *
+ * <p>A delta rather than a list: the row that changed, in the same shape the list endpoints return, or only its ID
+ * when it was deleted. At most one of {@code note}, {@code reply}, {@code meeting} and {@code membership} is set,
+ * matching {@link #type()}.</p>
+ *
+ * @param eventID increases with every event; sent as the SSE event ID and resumed from with {@code Last-Event-ID}
+ * @param clubID the club the change belongs to
+ * @param entityID the note, reply or meeting changed, or the member whose membership changed
+ * @param parentID the note replied to for replies, the discussion prompt for prompt notes
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChangeEvent(
+        long eventID,
+        ChangeType type,
+        Long clubID,
+        Long entityID,
+        Long parentID,
+        NoteView note,
+        NoteView reply,
+        MeetingView meeting,
+        MembershipChange membership
+) {
+
+    public ChangeEvent withID(long eventID) {
+        return new ChangeEvent(eventID, type, clubID, entityID, parentID, note, reply, meeting, membership);
+    }
+
+    public static ChangeEvent reset(long eventID) {
+        return new ChangeEvent(eventID, ChangeType.RESET, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.litclub.Backend.construct.event;
+
+/**
+ * What a {@link ChangeEvent} reports. The name is also the SSE event name.
+ */
+public enum ChangeType {
+    NOTE_CREATED,
+    NOTE_UPDATED,
+    NOTE_DELETED,
+    REPLY_CREATED,
+    REPLY_UPDATED,
+    REPLY_DELETED,
+    MEETING_CREATED,
+    MEETING_UPDATED,
+    MEETING_DELETED,
+    MEMBER_JOINED,
+    MEMBER_UPDATED,
+    MEMBER_LEFT,
+
+    /** The stream cannot resume from the client's last event; everything it shows must be fetched again. */
+    RESET;
+
+    public boolean isMeeting() {
+        return this == MEETING_CREATED || this == MEETING_UPDATED || this == MEETING_DELETED;
+    }
+
+    public boolean isMembership() {
+        return this == MEMBER_JOINED || this == MEMBER_UPDATED || this == MEMBER_LEFT;
+    }
+}
@@ -0,0 +1,12 @@
+package com.litclub.Backend.construct.event;
+
+import com.litclub.Backend.construct.club.ClubRef;
+import com.litclub.Backend.construct.user.UserRef;
+import com.litclub.Backend.security.roles.ClubRole;
+
+import java.util.Set;
+
+/**
+ * A member's place in a club after a membership change; {@code roles} is empty once they have left.
+ */
+public record MembershipChange(ClubRef club, UserRef member, Set<ClubRole> roles) {}
@@ -0,0 +1,38 @@
+package com.litclub.Backend.construct.feed;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated feed.
+ *
+ * @param content the items, in feed order
+ * @param nextCursor token for the page after this one, or {@code null} when this is the last page
+ * @see FeedCursor
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    public static final int MAX_SIZE = 100;
+
+    /** Clamps a requested page size to {@code [1, MAX_SIZE]}. */
+    public static int size(int requested) {
+        return Math.clamp(requested, 1, MAX_SIZE);
+    }
+
+    /**
+     * Builds a page from a query that asked for one row more than {@code size}; the extra row only tells
+     * whether another page follows.
+     *
+     * @param rows up to {@code size + 1} rows, in feed order
+     * @param position the feed position of a row
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, FeedCursor> position) {
+        if (rows.size() <= size) return new CursorPage<>(List.copyOf(rows), null);
+        List<T> content = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(content, position.apply(content.getLast()).encode());
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,54 @@
+package com.litclub.Backend.construct.feed;
+
+import com.litclub.Backend.exception.MalformedDTOException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * A position in a feed ordered by {@code (created_at, id)}: the last item a client has seen.
+ *
+ * <p>Clients receive it as an opaque URL-safe token and send it back unchanged to fetch the items after it.
+ * Because the next page is selected by key rather than by offset, rows inserted or removed ahead of the
+ * position neither repeat nor skip items, and deep pages cost the same as the first.</p>
+ *
+ * @param createdAt creation time of the last item seen
+ * @param id ID of the last item seen, breaking ties between equal timestamps
+ */
+public record FeedCursor(LocalDateTime createdAt, long id) {
+
+    /** Position ahead of every item of a newest-first feed. */
+    public static final FeedCursor NEWEST = new FeedCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /** Position ahead of every item of an oldest-first feed. */
+    public static final FeedCursor OLDEST = new FeedCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private static final char SEPARATOR = '~';
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token issued by {@link #encode()}.
+     *
+     * @param token the token, or {@code null} or blank for the first page
+     * @param start the position to use for the first page
+     * @throws MalformedDTOException if the token was not issued by this server
+     */
+    public static FeedCursor decode(String token, FeedCursor start) {
+        if (token == null || token.isBlank()) return start;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) throw new MalformedDTOException("Invalid cursor");
+            return new FeedCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new MalformedDTOException("Invalid cursor");
+        }
+    }
+}
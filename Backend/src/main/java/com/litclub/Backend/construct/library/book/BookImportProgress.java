@@ -0,0 +1,109 @@
+package com.litclub.Backend.construct.library.book;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live counters of a running bulk ISBN import.
+ *
+ * <p>Updated concurrently by the import's worker threads; {@link #report()} may be called from any thread
+ * at any time.</p>
+ *
+ * @see BookImportReport
+ */
+public class BookImportProgress {
+
+    private final String importID = UUID.randomUUID().toString();
+    private final Long ownerID;
+    private final Instant startedAt = Instant.now();
+    private volatile Instant finishedAt;
+
+    private final AtomicInteger requested = new AtomicInteger();
+    private final AtomicInteger unique = new AtomicInteger();
+    private final AtomicInteger invalid = new AtomicInteger();
+    private final AtomicInteger alreadyKnown = new AtomicInteger();
+    private final AtomicInteger imported = new AtomicInteger();
+    private final AtomicInteger notFound = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger remoteRequests = new AtomicInteger();
+
+    public BookImportProgress() {
+        this(null);
+    }
+
+    /**
+     * @param ownerID the user who started the import, or null for imports not started on a user's behalf
+     */
+    public BookImportProgress(Long ownerID) {
+        this.ownerID = ownerID;
+    }
+
+    public String getImportID() {
+        return importID;
+    }
+
+    public Long getOwnerID() {
+        return ownerID;
+    }
+
+    public void accepted(int requested, int unique, int invalid) {
+        this.requested.set(requested);
+        this.unique.set(unique);
+        this.invalid.set(invalid);
+    }
+
+    public void alreadyKnown(int count) {
+        alreadyKnown.addAndGet(count);
+    }
+
+    public void imported(int count) {
+        imported.addAndGet(count);
+    }
+
+    public void notFound(int count) {
+        notFound.addAndGet(count);
+    }
+
+    public void failed(int count) {
+        failed.addAndGet(count);
+    }
+
+    public void remoteRequest() {
+        remoteRequests.incrementAndGet();
+    }
+
+    public void finish() {
+        finishedAt = Instant.now();
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public BookImportReport report() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long elapsedMillis = Duration.between(startedAt, end).toMillis();
+        int processed = alreadyKnown.get() + imported.get() + notFound.get() + failed.get();
+        double perSecond = elapsedMillis > 0 ? processed * 1000.0 / elapsedMillis : processed;
+
+        return new BookImportReport(
+                importID,
+                finishedAt != null,
+                requested.get(),
+                unique.get(),
+                invalid.get(),
+                alreadyKnown.get(),
+                imported.get(),
+                notFound.get(),
+                failed.get(),
+                processed,
+                remoteRequests.get(),
+                startedAt,
+                finishedAt,
+                elapsedMillis,
+                perSecond
+        );
+    }
+}
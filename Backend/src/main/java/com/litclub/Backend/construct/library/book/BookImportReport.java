@@ -0,0 +1,31 @@
+package com.litclub.Backend.construct.library.book;
+
+import java.time.Instant;
+
+/**
+ * Point-in-time view of a bulk ISBN import.
+ *
+ * <p>{@code requested} counts every submitted line, {@code unique} the distinct well-formed ISBNs among
+ * them. Each unique ISBN ends up in exactly one of {@code alreadyKnown}, {@code imported},
+ * {@code notFound} or {@code failed}; {@code processed} is their sum.</p>
+ *
+ * @param remoteRequests number of Open Library search requests issued so far
+ * @param isbnsPerSecond processed ISBNs per second of elapsed time
+ */
+public record BookImportReport(
+        String importID,
+        boolean finished,
+        int requested,
+        int unique,
+        int invalid,
+        int alreadyKnown,
+        int imported,
+        int notFound,
+        int failed,
+        int processed,
+        int remoteRequests,
+        Instant startedAt,
+        Instant finishedAt,
+        long elapsedMillis,
+        double isbnsPerSecond
+) {}
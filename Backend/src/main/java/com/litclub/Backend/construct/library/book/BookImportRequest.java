@@ -0,0 +1,7 @@
+package com.litclub.Backend.construct.library.book;
+
+import java.util.List;
+
+public record BookImportRequest(
+        List<String> isbns
+) {}
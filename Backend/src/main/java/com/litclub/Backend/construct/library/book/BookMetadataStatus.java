@@ -0,0 +1,11 @@
+package com.litclub.Backend.construct.library.book;
+
+/**
+ * Progress of a {@link com.litclub.Backend.entity.Book}'s Open Library enrichment.
+ */
+public enum BookMetadataStatus {
+    PENDING,
+    ENRICHED,
+    NOT_FOUND,
+    FAILED
+}
@@ -0,0 +1,12 @@
+package com.litclub.Backend.construct.library.book;
+
+/**
+ * A book as other read models refer to it: enough to label and link it, without its metadata.
+ */
+public record BookRef(Long bookID, String title) {
+
+    /** @return the reference, or {@code null} when {@code bookID} is (an outer join found no book) */
+    public static BookRef of(Long bookID, String title) {
+        return bookID == null ? null : new BookRef(bookID, title);
+    }
+}
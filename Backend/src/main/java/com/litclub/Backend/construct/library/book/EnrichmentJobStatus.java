@@ -0,0 +1,8 @@
+package com.litclub.Backend.construct.library.book;
+
+public enum EnrichmentJobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+}
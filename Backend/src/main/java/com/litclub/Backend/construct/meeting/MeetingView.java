@@ -0,0 +1,41 @@
+package com.litclub.Backend.construct.meeting;
+
+import com.litclub.Backend.construct.club.ClubRef;
+import com.litclub.Backend.construct.user.UserRef;
+import com.litclub.Backend.entity.Meeting;
+
+import java.time.LocalDateTime;
+
+/**
+ * A meeting as the list endpoints return it: the {@link com.litclub.Backend.entity.Meeting Meeting} entity's
+ * shape with references to its club and creator, read by a single joined query.
+ */
+public record MeetingView(
+        Long meetingID,
+        ClubRef club,
+        String title,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String location,
+        String link,
+        UserRef creator,
+        LocalDateTime createdAt
+) {
+
+    /** Flat form for JPQL constructor expressions. */
+    public MeetingView(Long meetingID, Long clubID, String clubName, String title,
+                       LocalDateTime startTime, LocalDateTime endTime, String location, String link,
+                       Long creatorID, String creatorUsername, LocalDateTime createdAt) {
+        this(meetingID, ClubRef.of(clubID, clubName), title, startTime, endTime, location, link,
+                UserRef.of(creatorID, creatorUsername), createdAt);
+    }
+
+    /** The view of a loaded meeting; its club and creator must be initialized. */
+    public static MeetingView of(Meeting meeting) {
+        return new MeetingView(meeting.getMeetingID(),
+                new ClubRef(meeting.getClub().getClubID(), meeting.getClub().getClubName()),
+                meeting.getTitle(), meeting.getStartTime(), meeting.getEndTime(), meeting.getLocation(),
+                meeting.getLink(), new UserRef(meeting.getCreator().getUserID(), meeting.getCreator().getUsername()),
+                meeting.getCreatedAt());
+    }
+}
@@ -0,0 +1,53 @@
+package com.litclub.Backend.construct.note;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.litclub.Backend.construct.club.ClubRef;
+import com.litclub.Backend.construct.discussion.PromptRef;
+import com.litclub.Backend.construct.library.book.BookRef;
+import com.litclub.Backend.construct.user.UserRef;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.DiscussionPrompt;
+import com.litclub.Backend.entity.Note;
+
+import java.time.LocalDateTime;
+
+/**
+ * A note or reply as the list endpoints return it.
+ *
+ * <p>Read straight from the repositories with a single joined query, so listing notes loads no entities. The
+ * JSON keeps the shape of the {@link com.litclub.Backend.entity.Note Note} entity, but the book, club, prompt
+ * and author are references rather than whole graphs.</p>
+ */
+public record NoteView(
+        Long noteID,
+        BookRef book,
+        ClubRef club,
+        PromptRef discussionPrompt,
+        UserRef user,
+        String content,
+        @JsonProperty("private") boolean isPrivate,
+        LocalDateTime createdAt
+) {
+
+    /** Flat form for JPQL constructor expressions. */
+    public NoteView(Long noteID, Long bookID, String bookTitle, Long clubID, String clubName,
+                    Long promptID, String prompt, Long userID, String username,
+                    String content, boolean isPrivate, LocalDateTime createdAt) {
+        this(noteID, BookRef.of(bookID, bookTitle), ClubRef.of(clubID, clubName), PromptRef.of(promptID, prompt),
+                UserRef.of(userID, username), content, isPrivate, createdAt);
+    }
+
+    /** The view of a loaded note or reply; its associations must be initialized. */
+    public static NoteView of(Note note) {
+        Book book = note.getBook();
+        Club club = note.getClub();
+        DiscussionPrompt prompt = note.getDiscussionPrompt();
+        return new NoteView(note.getNoteID(),
+                book == null ? null : new BookRef(book.getBookID(), book.getTitle()),
+                club == null ? null : new ClubRef(club.getClubID(), club.getClubName()),
+                prompt == null ? null : new PromptRef(prompt.getPromptID(), prompt.getPrompt()),
+                new UserRef(note.getUser().getUserID(), note.getUser().getUsername()),
+                note.getContent(), note.isPrivate(), note.getCreatedAt());
+    }
+}
@@ -1,12 +1,18 @@
 package com.litclub.Backend.construct.note;
 
-import com.litclub.Backend.entity.Reply;
 import com.litclub.Backend.entity.Note;
 import java.util.List;
 
+/**
+ * A note and its reply thread as a tree.
+ *
+ * @param note the note (a {@link com.litclub.Backend.entity.Reply} for nested nodes)
+ * @param replies the direct replies, each carrying its own replies
+ * @param replyCount the number of replies below this note at any depth
+ */
 public record NoteWithReplies(
         Note note,
-        List<Reply> replies,
+        List<NoteWithReplies> replies,
         int replyCount
 ) {
 }
@@ -0,0 +1,24 @@
+package com.litclub.Backend.construct.review;
+
+import com.litclub.Backend.entity.BookRatingStats;
+
+import java.util.Map;
+
+/**
+ * Average rating and 1–5 star histogram of one book, as returned by the batch ratings endpoint.
+ */
+public record BookRatingSummary(
+        Long bookID,
+        long ratings,
+        double averageRating,
+        Map<Integer, Long> histogram
+) {
+    public static BookRatingSummary of(BookRatingStats stats) {
+        return new BookRatingSummary(stats.getBookID(), stats.getRatings(), stats.getAverageRating(), stats.getHistogram());
+    }
+
+    /** Summary of a book nobody has rated. */
+    public static BookRatingSummary unrated(Long bookID) {
+        return of(new BookRatingStats(bookID));
+    }
+}
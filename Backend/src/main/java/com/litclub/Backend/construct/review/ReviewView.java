@@ -0,0 +1,26 @@
+package com.litclub.Backend.construct.review;
+
+import com.litclub.Backend.construct.library.book.BookRef;
+import com.litclub.Backend.construct.user.UserRef;
+
+import java.time.LocalDateTime;
+
+/**
+ * A review as the list endpoints return it: the {@link com.litclub.Backend.entity.Review Review} entity's
+ * shape with references to its book and author, read by a single joined query.
+ */
+public record ReviewView(
+        Long reviewID,
+        BookRef book,
+        UserRef user,
+        Integer rating,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    /** Flat form for JPQL constructor expressions. */
+    public ReviewView(Long reviewID, Long bookID, String bookTitle, Long userID, String username,
+                      Integer rating, String content, LocalDateTime createdAt) {
+        this(reviewID, BookRef.of(bookID, bookTitle), UserRef.of(userID, username), rating, content, createdAt);
+    }
+}
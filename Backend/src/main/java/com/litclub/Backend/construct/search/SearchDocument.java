@@ -0,0 +1,44 @@
+package com.litclub.Backend.construct.search;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * A searchable unit of text as stored by a {@link com.litclub.Backend.search.SearchEngine}.
+ *
+ * <p>Besides the text, a document carries what is needed to decide who may see it without going back to
+ * the source tables:</p>
+ * <ul>
+ *   <li>{@code privateTo}: if set, only this user (and the author) may see the document. Private notes and
+ *       every reply in a private note's thread carry the note owner's ID.</li>
+ *   <li>{@code clubID}: if set, only members of this club (and the author) may see the document. Replies
+ *       inherit the club of their thread's root note.</li>
+ * </ul>
+ *
+ * @param title weighted above the body when ranking (book title, or the title of the book a note/review is about)
+ * @param rootID for replies, the ID of the note at the root of the thread; {@code null} otherwise
+ */
+public record SearchDocument(
+        SearchDocumentType type,
+        Long entityID,
+        String title,
+        String body,
+        Long authorID,
+        Long privateTo,
+        Long clubID,
+        Long bookID,
+        Long rootID,
+        LocalDateTime createdAt
+) {
+
+    public Key key() {
+        return new Key(type, entityID);
+    }
+
+    public boolean isVisibleTo(Long viewerID, Set<Long> viewerClubIDs) {
+        if (viewerID != null && (viewerID.equals(authorID) || viewerID.equals(privateTo))) return true;
+        return privateTo == null && (clubID == null || viewerClubIDs.contains(clubID));
+    }
+
+    public record Key(SearchDocumentType type, Long entityID) {}
+}
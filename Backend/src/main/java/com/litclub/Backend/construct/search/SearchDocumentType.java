@@ -0,0 +1,8 @@
+package com.litclub.Backend.construct.search;
+
+public enum SearchDocumentType {
+    BOOK,
+    NOTE,
+    REPLY,
+    REVIEW
+}
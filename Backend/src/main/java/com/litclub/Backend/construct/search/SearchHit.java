@@ -0,0 +1,19 @@
+package com.litclub.Backend.construct.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * One ranked search result. {@code snippet} is an excerpt of the matching text; {@code score} is only
+ * meaningful relative to other hits of the same search.
+ */
+public record SearchHit(
+        SearchDocumentType type,
+        Long entityID,
+        String title,
+        String snippet,
+        double score,
+        Long bookID,
+        Long clubID,
+        Long authorID,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,36 @@
+package com.litclub.Backend.construct.search;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * What to search for and on whose behalf.
+ *
+ * @param text free text; every (non stop-)word must match
+ * @param types document types to search; empty means all
+ * @param viewerID the user searching, or {@code null} to see public documents only
+ * @param viewerClubIDs clubs the viewer belongs to
+ * @param authorID if set, only documents written by this user
+ * @param bookID if set, only documents about this book
+ */
+public record SearchQuery(
+        String text,
+        Set<SearchDocumentType> types,
+        Long viewerID,
+        Set<Long> viewerClubIDs,
+        Long authorID,
+        Long bookID
+) {
+
+    public SearchQuery {
+        types = (types == null || types.isEmpty()) ? EnumSet.allOf(SearchDocumentType.class) : EnumSet.copyOf(types);
+        viewerClubIDs = viewerClubIDs == null ? Set.of() : Set.copyOf(viewerClubIDs);
+    }
+
+    public boolean matchesFilters(SearchDocument document) {
+        return types.contains(document.type())
+                && (authorID == null || authorID.equals(document.authorID()))
+                && (bookID == null || bookID.equals(document.bookID()))
+                && document.isVisibleTo(viewerID, viewerClubIDs);
+    }
+}
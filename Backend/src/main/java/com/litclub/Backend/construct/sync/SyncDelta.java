@@ -0,0 +1,11 @@
+package com.litclub.Backend.construct.sync;
+
+import java.util.List;
+
+/**
+ * The changes to one kind of row since a client's last sync.
+ *
+ * @param upserted rows created or changed since then, to insert or replace by ID
+ * @param deleted IDs of rows to remove; never an ID that is also in {@code upserted}
+ */
+public record SyncDelta<T>(List<T> upserted, List<Long> deleted) {}
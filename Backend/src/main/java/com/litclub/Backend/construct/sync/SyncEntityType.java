@@ -0,0 +1,18 @@
+package com.litclub.Backend.construct.sync;
+
+/**
+ * The kinds of rows {@code GET /api/sync} delivers, and the kinds of {@link SyncTombstone} recorded when one is
+ * deleted. The name is stored in {@code sync_tombstones.entity_type}.
+ */
+public enum SyncEntityType {
+    /** A library entry, identified by its book ID. */
+    LIBRARY,
+    /** A club the user belongs to. */
+    CLUBS,
+    /** A meeting of one of the user's clubs. */
+    MEETINGS,
+    /** A note or reply written by the user. */
+    NOTES,
+    /** A review written by the user. */
+    REVIEWS
+}
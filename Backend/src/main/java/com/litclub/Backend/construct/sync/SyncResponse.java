@@ -0,0 +1,32 @@
+package com.litclub.Backend.construct.sync;
+
+import com.litclub.Backend.construct.library.BookWithStatus;
+import com.litclub.Backend.construct.meeting.MeetingView;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.construct.review.ReviewView;
+import com.litclub.Backend.entity.Club;
+
+/**
+ * Answer to {@code GET /api/sync}: everything about the user that changed since the token they sent.
+ *
+ * <p>When {@code full} is set the deltas hold a complete snapshot and the client replaces what it has stored
+ * instead of merging into it. That happens on a first sync and whenever the token is older than the tombstones
+ * the server keeps.</p>
+ *
+ * @param token to send as {@code since} on the next sync
+ * @param full whether the deltas are a complete snapshot
+ * @param library the user's library entries; deletions are book IDs
+ * @param clubs the clubs the user belongs to; a club the user left or that was removed is deleted
+ * @param meetings meetings of the user's clubs; meetings of a deleted club are not listed one by one
+ * @param notes notes and replies the user wrote
+ * @param reviews reviews the user wrote
+ */
+public record SyncResponse(
+        String token,
+        boolean full,
+        SyncDelta<BookWithStatus> library,
+        SyncDelta<Club> clubs,
+        SyncDelta<MeetingView> meetings,
+        SyncDelta<NoteView> notes,
+        SyncDelta<ReviewView> reviews
+) {}
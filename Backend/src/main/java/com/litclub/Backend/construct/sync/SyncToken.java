@@ -0,0 +1,40 @@
+package com.litclub.Backend.construct.sync;
+
+import com.litclub.Backend.exception.MalformedDTOException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * The point a client has synced up to: every change made after {@code since} is still to be delivered.
+ *
+ * <p>Clients receive it as an opaque URL-safe token and send it back unchanged on their next sync.</p>
+ *
+ * @param since changes strictly after this time are delivered
+ */
+public record SyncToken(LocalDateTime since) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(since.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token issued by {@link #encode()}.
+     *
+     * @param token the token, or {@code null} or blank for a first sync
+     * @return the token, or {@code null} for a first sync
+     * @throws MalformedDTOException if the token was not issued by this server
+     */
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            return new SyncToken(LocalDateTime.parse(
+                    new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new MalformedDTOException("Invalid sync token");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.litclub.Backend.construct.sync;
+
+/**
+ * A row that was deleted, as recorded in {@code sync_tombstones}.
+ *
+ * @param entityType what kind of row it was
+ * @param entityID its ID; the book ID for {@link SyncEntityType#LIBRARY} entries
+ */
+public record SyncTombstone(SyncEntityType entityType, long entityID) {}
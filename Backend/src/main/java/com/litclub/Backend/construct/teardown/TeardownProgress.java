@@ -0,0 +1,89 @@
+package com.litclub.Backend.construct.teardown;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Live record of a running teardown.
+ *
+ * <p>Written by the thread running the teardown; {@link #report()} may be called from any thread
+ * at any time.</p>
+ *
+ * @see TeardownReport
+ */
+public class TeardownProgress {
+
+    private final String teardownID = UUID.randomUUID().toString();
+    private final TeardownTarget target;
+    private final Long targetID;
+    private final Long requesterID;
+    private final Instant startedAt = Instant.now();
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    private final List<TeardownStep> steps = new CopyOnWriteArrayList<>();
+
+    public TeardownProgress(TeardownTarget target, Long targetID) {
+        this(target, targetID, null);
+    }
+
+    /**
+     * @param requesterID the user who asked for the teardown and may poll its report; {@code null} if only
+     *                    administrators may
+     */
+    public TeardownProgress(TeardownTarget target, Long targetID, Long requesterID) {
+        this.target = target;
+        this.targetID = targetID;
+        this.requesterID = requesterID;
+    }
+
+    public String getTeardownID() {
+        return teardownID;
+    }
+
+    public Long getRequesterID() {
+        return requesterID;
+    }
+
+    public void step(String table, String operation, long rows, long elapsedNanos) {
+        steps.add(new TeardownStep(table, operation, rows, elapsedNanos / 1_000_000));
+    }
+
+    public void finish() {
+        finishedAt = Instant.now();
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = Instant.now();
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public TeardownReport report() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        List<TeardownStep> snapshot = List.copyOf(steps);
+        long rowsDeleted = snapshot.stream()
+                .filter(step -> "DELETE".equals(step.operation()))
+                .mapToLong(TeardownStep::rows)
+                .sum();
+
+        return new TeardownReport(
+                teardownID,
+                target,
+                targetID,
+                finishedAt != null,
+                error,
+                snapshot,
+                rowsDeleted,
+                startedAt,
+                finishedAt,
+                Duration.between(startedAt, end).toMillis()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.litclub.Backend.construct.teardown;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Point-in-time view of a club, user or meeting teardown.
+ *
+ * <p>A teardown runs in a single transaction, so until {@code finished} is set the listed steps are not
+ * visible to other readers yet, and a teardown that ends with an {@code error} has removed nothing.</p>
+ *
+ * @param targetID the club or user ID; {@code null} for a batch of meetings
+ * @param steps the statements issued so far, in execution order
+ * @param rowsDeleted total rows removed by {@code DELETE} steps
+ */
+public record TeardownReport(
+        String teardownID,
+        TeardownTarget target,
+        Long targetID,
+        boolean finished,
+        String error,
+        List<TeardownStep> steps,
+        long rowsDeleted,
+        Instant startedAt,
+        Instant finishedAt,
+        long elapsedMillis
+) {}
@@ -0,0 +1,16 @@
+package com.litclub.Backend.construct.teardown;
+
+/**
+ * One set-based statement of a teardown.
+ *
+ * @param table the table the statement changed
+ * @param operation {@code DELETE}, or {@code UPDATE} for rows that are detached rather than removed
+ * @param rows number of rows affected
+ * @param elapsedMillis time spent on the statement (summed over chunks when the statement was split)
+ */
+public record TeardownStep(
+        String table,
+        String operation,
+        long rows,
+        long elapsedMillis
+) {}
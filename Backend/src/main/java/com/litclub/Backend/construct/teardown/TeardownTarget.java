@@ -0,0 +1,8 @@
+package com.litclub.Backend.construct.teardown;
+
+/**
+ * What a teardown removes.
+ */
+public enum TeardownTarget {
+    CLUB, USER, MEETINGS
+}
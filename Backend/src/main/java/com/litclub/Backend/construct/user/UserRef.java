@@ -0,0 +1,12 @@
+package com.litclub.Backend.construct.user;
+
+/**
+ * A user as other read models refer to them: ID and username only, never credentials, roles or clubs.
+ */
+public record UserRef(Long userID, String username) {
+
+    /** @return the reference, or {@code null} when {@code userID} is (an outer join found no user) */
+    public static UserRef of(Long userID, String username) {
+        return userID == null ? null : new UserRef(userID, username);
+    }
+}
@@ -49,6 +49,30 @@ public class AdminController {
         ));
     }
 
+    @PostMapping("/statistics/rebuild")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    public ResponseEntity<Integer> rebuildUserStatistics() {
+        return ResponseEntity.ok(adminService.rebuildUserStatistics());
+    }
+
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    public ResponseEntity<Integer> rebuildSearchIndex() {
+        return ResponseEntity.ok(adminService.rebuildSearchIndex());
+    }
+
+    @PostMapping("/recommendations/rebuild")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    public ResponseEntity<Long> rebuildRecommendations() {
+        return ResponseEntity.ok(adminService.rebuildRecommendations());
+    }
+
+    @PostMapping("/ratings/rebuild")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    public ResponseEntity<Integer> rebuildRatingStatistics() {
+        return ResponseEntity.ok(adminService.rebuildRatingStatistics());
+    }
+
     public record LoadedInstanceSettings(
             ConfigurationManager.InstanceSettings instanceSettings,
             Boolean isAdmin
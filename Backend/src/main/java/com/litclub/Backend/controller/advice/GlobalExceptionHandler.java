@@ -183,6 +183,13 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.FORBIDDEN, "Insufficient permissions to perform this action");
     }
 
+    @ExceptionHandler(TooManyImportsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<Map<String, Object>> handleTooManyImports(TooManyImportsException ex) {
+        logException("warn", "Import rejected: " + ex.getMessage(), ex);
+        return buildResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
+    }
+
     // ====== JPA / PERSISTENCE EXCEPTIONS ======
 
     @ExceptionHandler(EntityNotFoundException.class)
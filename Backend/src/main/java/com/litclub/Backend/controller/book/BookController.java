@@ -1,15 +1,22 @@
 package com.litclub.Backend.controller.book;
 
+import com.litclub.Backend.construct.feed.CursorPage;
 import com.litclub.Backend.construct.library.BookAddRequest;
 import com.litclub.Backend.construct.library.ReviewRequest;
+import com.litclub.Backend.construct.library.book.BookImportReport;
+import com.litclub.Backend.construct.library.book.BookImportRequest;
 import com.litclub.Backend.construct.library.book.BookSearchRequest;
 import com.litclub.Backend.construct.note.NoteCreateRequest;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.construct.review.BookRatingSummary;
 import com.litclub.Backend.construct.review.ReviewDTO;
+import com.litclub.Backend.construct.review.ReviewView;
 import com.litclub.Backend.construct.user.UserRecord;
 import com.litclub.Backend.entity.*;
 import com.litclub.Backend.exception.MalformedDTOException;
 import com.litclub.Backend.security.roles.GlobalRole;
 import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import com.litclub.Backend.service.low.BookImportService;
 import com.litclub.Backend.service.low.NoteService;
 import com.litclub.Backend.service.low.ReviewService;
 import com.litclub.Backend.service.middle.BookService;
@@ -26,7 +33,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -38,15 +44,20 @@ public class BookController {
     private final LibraryManagementService libraryManagementService;
     private final NoteService noteService;
     private final ReplyService replyService;
+    private final UserService userService;
+    private final BookImportService bookImportService;
 
     public BookController(BookService bookService, ReviewService reviewService,
                           LibraryManagementService libraryManagementService,
-                          NoteService noteService, ReplyService replyService) {
+                          NoteService noteService, ReplyService replyService,
+                          UserService userService, BookImportService bookImportService) {
         this.bookService = bookService;
         this.reviewService = reviewService;
         this.libraryManagementService = libraryManagementService;
         this.noteService = noteService;
         this.replyService = replyService;
+        this.userService = userService;
+        this.bookImportService = bookImportService;
     }
 
     @GetMapping
@@ -62,6 +73,20 @@ public class BookController {
         return ResponseEntity.status(HttpStatus.CREATED).body(book);
     }
 
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<BookImportReport> importBooks(@RequestBody BookImportRequest bookImportRequest,
+                                                        @AuthenticationPrincipal CustomUserDetails cud) {
+        BookImportReport report = bookImportService.startImport(cud.getUserID(), bookImportRequest.isbns());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(report);
+    }
+
+    @GetMapping("/import/{importID}")
+    @PreAuthorize("@bookImportSecurity.isOwner(authentication, #importID) or hasRole('ADMINISTRATOR')")
+    public ResponseEntity<BookImportReport> getImport(@PathVariable String importID) {
+        return ResponseEntity.ok(bookImportService.getReport(importID));
+    }
+
     @GetMapping("/{bookID}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Book> getBook(@PathVariable Long bookID) {
@@ -70,8 +95,8 @@ public class BookController {
 
     @PostMapping("/search")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<List<Book>> searchBook(@RequestBody BookSearchRequest bsr) {
-        return ResponseEntity.ok(bookService.searchBook(bsr));
+    public ResponseEntity<List<Book>> searchBook(@RequestBody BookSearchRequest bsr, Pageable pageable) {
+        return ResponseEntity.ok(bookService.searchBook(bsr, pageable).getContent());
     }
 
     @GetMapping("/isbn/{isbn}")
@@ -86,15 +111,26 @@ public class BookController {
             @PathVariable Long bookID,
             Pageable pageable
     ) {
-        Page<Review> page = reviewService.getReviews(bookService.getBook(bookID), pageable);
+        Page<ReviewView> page = reviewService.getReviews(bookService.getBook(bookID), pageable);
 
         Page<LoadedReview> mapped = page.map(r ->
-                new LoadedReview(r.getUser().getUsername(), r)
+                new LoadedReview(r.user().username(), r)
         );
 
         return ResponseEntity.ok(mapped);
     }
 
+    @GetMapping("/{bookID}/reviews/feed")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<CursorPage<LoadedReview>> getBookReviewFeed(
+            @PathVariable Long bookID,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<ReviewView> page = reviewService.getReviewFeed(bookService.getBook(bookID), cursor, size);
+        return ResponseEntity.ok(page.map(r -> new LoadedReview(r.user().username(), r)));
+    }
+
     @PostMapping("/{bookID}/reviews")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Review> postReview(@PathVariable Long bookID, @RequestBody ReviewRequest reviewRequest,
@@ -132,17 +168,22 @@ public class BookController {
         return ResponseEntity.ok(reviewService.getAverageRating(bookService.getBook(bookID)));
     }
 
+    @GetMapping("/ratings")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<List<BookRatingSummary>> getBookRatings(@RequestParam List<Long> bookIDs) {
+        return ResponseEntity.ok(reviewService.getBookRatings(bookIDs));
+    }
+
     @GetMapping("/{bookID}/readers")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Page<UserRecord>> getReaders(Pageable pageable, @PathVariable Long bookID) {
-        List<User> users = bookService.getUsersForBook(Map.of("bookID", bookID));
-        Page<UserRecord> page = UserService.convertUserListToRecordPage(users, pageable);
-        return ResponseEntity.ok(page);
+        Book book = bookService.getBook(bookID);
+        return ResponseEntity.ok(userService.getReaderRecordsForBook(book, pageable));
     }
 
     @GetMapping("/{bookID}/notes")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<Page<Note>> getNotes(Pageable pageable, @PathVariable Long bookID) {
+    public ResponseEntity<Page<NoteView>> getNotes(Pageable pageable, @PathVariable Long bookID) {
         Book book = bookService.getBook(bookID);
         return ResponseEntity.ok(noteService.getAllNotes(book, pageable));
     }
@@ -190,13 +231,24 @@ public class BookController {
 
     @GetMapping("/{bookID}/notes/{noteID}/replies")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<Page<Reply>> getReplies(@PathVariable Long bookID, @PathVariable Long noteID,
+    public ResponseEntity<Page<NoteView>> getReplies(@PathVariable Long bookID, @PathVariable Long noteID,
                                                   @AuthenticationPrincipal CustomUserDetails cud, Pageable pageable) {
         Note note = validateNoteBelongsToBook(bookID, noteID);
         validateNoteAccess(note, cud);
         return ResponseEntity.ok(replyService.getRepliesForNote(note, pageable));
     }
 
+    @GetMapping("/{bookID}/notes/{noteID}/replies/feed")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<CursorPage<NoteView>> getReplyFeed(@PathVariable Long bookID, @PathVariable Long noteID,
+                                                          @AuthenticationPrincipal CustomUserDetails cud,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        Note note = validateNoteBelongsToBook(bookID, noteID);
+        validateNoteAccess(note, cud);
+        return ResponseEntity.ok(replyService.getReplyFeed(note, cursor, size));
+    }
+
     @PostMapping("/{bookID}/notes/{noteID}/replies")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Reply> createReply(@PathVariable Long bookID, @PathVariable Long noteID,
@@ -284,6 +336,6 @@ public class BookController {
         }
     }
 
-    public record LoadedReview(String username, Review review) {}
+    public record LoadedReview(String username, ReviewView review) {}
 
 }
\ No newline at end of file
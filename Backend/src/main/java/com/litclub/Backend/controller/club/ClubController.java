@@ -6,15 +6,20 @@ import com.litclub.Backend.construct.club.ClubCreateRequest;
 import com.litclub.Backend.construct.club.ClubDashboard;
 import com.litclub.Backend.construct.club.ClubStatistics;
 import com.litclub.Backend.construct.discussion.DiscussionThread;
+import com.litclub.Backend.construct.feed.CursorPage;
 import com.litclub.Backend.construct.meeting.MeetingCreateRequest;
 import com.litclub.Backend.construct.meeting.MeetingUpdateRequest;
+import com.litclub.Backend.construct.meeting.MeetingView;
 import com.litclub.Backend.construct.note.NoteCreateRequest;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.construct.teardown.TeardownReport;
 import com.litclub.Backend.construct.user.UserRecord;
 import com.litclub.Backend.entity.*;
 import com.litclub.Backend.exception.MalformedDTOException;
 import com.litclub.Backend.security.roles.ClubRole;
 import com.litclub.Backend.security.roles.GlobalRole;
 import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import com.litclub.Backend.service.low.ChangeStreamService;
 import com.litclub.Backend.service.low.ClubMembershipService;
 import com.litclub.Backend.service.low.DiscussionPromptService;
 import com.litclub.Backend.service.low.NoteService;
@@ -32,11 +37,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Set;
@@ -58,6 +65,7 @@ public class ClubController {
     private final NoteService noteService;
     private final ReplyService replyService;
     private final ClubInviteGenerator clubInviteGenerator;
+    private final ChangeStreamService changeStreamService;
 
     public ClubController(ClubService clubService,
                           AdminService adminService,
@@ -70,7 +78,8 @@ public class ClubController {
                           DiscussionPromptService discussionPromptService,
                           DiscussionManagementService discussionManagementService,
                           NoteService noteService,
-                          ReplyService replyService, ClubInviteGenerator clubInviteGenerator) {
+                          ReplyService replyService, ClubInviteGenerator clubInviteGenerator,
+                          ChangeStreamService changeStreamService) {
         this.clubService = clubService;
         this.adminService = adminService;
         this.userService = userService;
@@ -84,6 +93,7 @@ public class ClubController {
         this.noteService = noteService;
         this.replyService = replyService;
         this.clubInviteGenerator = clubInviteGenerator;
+        this.changeStreamService = changeStreamService;
     }
 
     @GetMapping
@@ -98,6 +108,16 @@ public class ClubController {
         return ResponseEntity.ok(clubService.requireClubById(clubID));
     }
 
+    @GetMapping(value = "/{clubID}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
+    public SseEmitter streamClubChanges(
+            @PathVariable Long clubID,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventID,
+            @AuthenticationPrincipal CustomUserDetails cud
+    ) {
+        return changeStreamService.subscribeToClub(clubID, cud.getUser().getUserID(), lastEventID);
+    }
+
     @GetMapping("/{clubID}/role")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
     public ResponseEntity<ClubRole> getClubRole(
@@ -136,25 +156,35 @@ public class ClubController {
     }
 
     @PutMapping("/{clubID}")
-    @PreAuthorize("@clubSecurity.isOwner(authentication, clubID) or hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@clubSecurity.isOwner(authentication, #clubID) or hasRole('ADMINISTRATOR')")
     public ResponseEntity<Club> updateClub(@PathVariable Long clubID, @Valid @RequestBody ClubCreateRequest clubRequest) {
         Club club = clubService.requireClubById(clubID);
         return ResponseEntity.ok(clubService.updateClub(clubRequest, club));
     }
 
     @DeleteMapping("/{clubID}")
-    @PreAuthorize("@clubSecurity.isOwner(authentication, clubID) or hasRole('ADMINISTRATOR')")
-    public ResponseEntity<Void> deleteClub(@PathVariable Long clubID) {
-        clubService.deleteClub(clubID);
-        return ResponseEntity.noContent().build();
+    @PreAuthorize("@clubSecurity.isOwner(authentication, #clubID) or hasRole('ADMINISTRATOR')")
+    public ResponseEntity<TeardownReport> deleteClub(
+            @PathVariable Long clubID,
+            @AuthenticationPrincipal CustomUserDetails cud
+    ) {
+        TeardownReport report = clubService.deleteClub(clubID, cud.getUserID());
+        return report.finished()
+                ? ResponseEntity.ok(report)
+                : ResponseEntity.status(HttpStatus.ACCEPTED).body(report);
+    }
+
+    @GetMapping("/teardowns/{teardownID}")
+    @PreAuthorize("@teardownSecurity.isRequester(authentication, #teardownID) or hasRole('ADMINISTRATOR')")
+    public ResponseEntity<TeardownReport> getTeardown(@PathVariable String teardownID) {
+        return ResponseEntity.ok(clubService.getTeardownReport(teardownID));
     }
 
     @GetMapping("/{clubID}/members")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID) or hasRole('ADMINISTRATOR')")
     public ResponseEntity<Page<UserRecord>> getClubMembers(@PathVariable Long clubID, @PageableDefault Pageable pageable) {
-        List<User> members = clubService.getUsersForClub(clubID);
-        Page<UserRecord> page = UserService.convertUserListToRecordPage(members, pageable);
-        return ResponseEntity.ok(page);
+        Club club = clubService.requireClubById(clubID);
+        return ResponseEntity.ok(userService.getMemberRecordsForClub(club, pageable));
     }
 
     @PostMapping("/{clubID}/members")
@@ -219,8 +249,9 @@ public class ClubController {
 
     @GetMapping("/{clubID}/dashboard")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
-    public ResponseEntity<ClubDashboard> getClubDashboard(@PathVariable Long clubID) {
-        return ResponseEntity.ok(clubActivityService.getClubDashboard(clubID));
+    public ResponseEntity<ClubDashboard> getClubDashboard(@PathVariable Long clubID,
+                                                          @PageableDefault(size = 10) Pageable members) {
+        return ResponseEntity.ok(clubActivityService.getClubDashboard(clubID, members));
     }
 
     @GetMapping("/{clubID}/activity")
@@ -269,12 +300,27 @@ public class ClubController {
 
     @GetMapping("/{clubID}/meetings")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
-    public ResponseEntity<Page<Meeting>> getClubMeetings(@PathVariable Long clubID, @PageableDefault Pageable pageable) {
+    public ResponseEntity<Page<MeetingView>> getClubMeetings(@PathVariable Long clubID, @PageableDefault Pageable pageable) {
         Club club = clubService.requireClubById(clubID);
-        Page<Meeting> meetings = meetingService.getMeetingsForClub(club, pageable);
+        Page<MeetingView> meetings = meetingService.getMeetingsForClub(club, pageable);
         return ResponseEntity.ok(meetings);
     }
 
+    @GetMapping("/{clubID}/meetings/feed")
+    @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
+    public ResponseEntity<CursorPage<MeetingView>> getClubMeetingFeed(@PathVariable Long clubID,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        Club club = clubService.requireClubById(clubID);
+        return ResponseEntity.ok(meetingService.getMeetingFeed(club, cursor, size));
+    }
+
+    @GetMapping("/{clubID}/meetings/upcoming")
+    @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
+    public ResponseEntity<Page<MeetingView>> getUpcomingClubMeetings(@PathVariable Long clubID, @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(clubActivityService.getUpcomingMeetings(clubID, pageable));
+    }
+
     @PostMapping("/{clubID}/meetings")
     @PreAuthorize("@clubSecurity.isModerator(authentication, #clubID)")
     public ResponseEntity<Meeting> addMeeting(@PathVariable Long clubID, @RequestBody MeetingCreateRequest createRequest,
@@ -339,11 +385,20 @@ public class ClubController {
 
     @GetMapping("/{clubID}/notes")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
-    public ResponseEntity<Page<Note>> getClubNotes(@PathVariable Long clubID, Pageable pageable) {
+    public ResponseEntity<Page<NoteView>> getClubNotes(@PathVariable Long clubID, Pageable pageable) {
         Club club = clubService.requireClubById(clubID);
         return ResponseEntity.ok(noteService.getAllNotes(club, pageable));
     }
 
+    @GetMapping("/{clubID}/notes/feed")
+    @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
+    public ResponseEntity<CursorPage<NoteView>> getClubNoteFeed(@PathVariable Long clubID,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "20") int size) {
+        Club club = clubService.requireClubById(clubID);
+        return ResponseEntity.ok(noteService.getNoteFeed(club, cursor, size));
+    }
+
     @PostMapping("/{clubID}/notes")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
     public ResponseEntity<Note> createClubNote(@PathVariable Long clubID, @RequestBody NoteCreateRequest noteCreateRequest,
@@ -379,11 +434,20 @@ public class ClubController {
 
     @GetMapping("/{clubID}/discussions/{promptID}/notes")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
-    public ResponseEntity<Page<Note>> getPromptNotes(@PathVariable Long clubID, @PathVariable Long promptID, Pageable pageable) {
+    public ResponseEntity<Page<NoteView>> getPromptNotes(@PathVariable Long clubID, @PathVariable Long promptID, Pageable pageable) {
         DiscussionPrompt prompt = validatePromptBelongsToClub(clubID, promptID);
         return ResponseEntity.ok(noteService.getAllNotes(prompt, pageable));
     }
 
+    @GetMapping("/{clubID}/discussions/{promptID}/notes/feed")
+    @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
+    public ResponseEntity<CursorPage<NoteView>> getPromptNoteFeed(@PathVariable Long clubID, @PathVariable Long promptID,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        DiscussionPrompt prompt = validatePromptBelongsToClub(clubID, promptID);
+        return ResponseEntity.ok(noteService.getNoteFeed(prompt, cursor, size));
+    }
+
     @PostMapping("/{clubID}/discussions/{promptID}/notes")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
     public ResponseEntity<Note> createPromptNote(@PathVariable Long clubID, @PathVariable Long promptID,
@@ -423,7 +487,7 @@ public class ClubController {
 
     @GetMapping("/{clubID}/discussions/{promptID}/notes/{noteID}/replies")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
-    public ResponseEntity<Page<Reply>> getReplies(@PathVariable Long clubID, @PathVariable Long promptID,
+    public ResponseEntity<Page<NoteView>> getReplies(@PathVariable Long clubID, @PathVariable Long promptID,
                                                   @PathVariable Long noteID, Pageable pageable) {
         DiscussionPrompt prompt = validatePromptBelongsToClub(clubID, promptID);
         Note note = noteService.getNoteById(noteID);
@@ -431,6 +495,18 @@ public class ClubController {
         return ResponseEntity.ok(replyService.getRepliesForNote(note, pageable));
     }
 
+    @GetMapping("/{clubID}/discussions/{promptID}/notes/{noteID}/replies/feed")
+    @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
+    public ResponseEntity<CursorPage<NoteView>> getReplyFeed(@PathVariable Long clubID, @PathVariable Long promptID,
+                                                          @PathVariable Long noteID,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        DiscussionPrompt prompt = validatePromptBelongsToClub(clubID, promptID);
+        Note note = noteService.getNoteById(noteID);
+        validateNotePromptRelationship(note, prompt);
+        return ResponseEntity.ok(replyService.getReplyFeed(note, cursor, size));
+    }
+
     @PostMapping("/{clubID}/discussions/{promptID}/notes/{noteID}/replies")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID)")
     public ResponseEntity<Reply> createReply(@PathVariable Long clubID, @PathVariable Long promptID,
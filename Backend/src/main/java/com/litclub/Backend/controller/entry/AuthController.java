@@ -5,6 +5,7 @@ import com.litclub.Backend.construct.user.UserLoginRecord;
 import com.litclub.Backend.construct.user.UserRecord;
 import com.litclub.Backend.construct.user.UserRegistrationRecord;
 import com.litclub.Backend.security.jwt.JwtService;
+import com.litclub.Backend.security.userdetails.CustomUserDetailsService;
 import com.litclub.Backend.service.middle.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,10 +31,14 @@ public class AuthController {
 
     private final UserService userService;
     private final JwtService jwtService;
+    private final CustomUserDetailsService customUserDetailsService;
 
-    public AuthController(UserService userService, JwtService jwtService) {
+    public AuthController(UserService userService,
+                          JwtService jwtService,
+                          CustomUserDetailsService customUserDetailsService) {
         this.userService = userService;
         this.jwtService = jwtService;
+        this.customUserDetailsService = customUserDetailsService;
     }
 
     /**
@@ -45,7 +50,7 @@ public class AuthController {
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> registerUser(@RequestBody UserRegistrationRecord userRegistrationRecord) {
         UserRecord userRecord = userService.registerUser(userRegistrationRecord);
-        String token = jwtService.generateToken(userRecord);
+        String token = issueToken(userRecord);
         return ResponseEntity.ok(new AuthResponse(token, userRecord));
     }
 
@@ -58,7 +63,14 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> loginUser(@RequestBody UserLoginRecord userLoginRecord) {
         UserRecord userRecord = userService.login(userLoginRecord);
-        String token = jwtService.generateToken(userRecord);
+        String token = issueToken(userRecord);
         return ResponseEntity.ok(new AuthResponse(token, userRecord));
     }
+
+    /**
+     * Issues a token carrying the user's membership version and club roles.
+     */
+    private String issueToken(UserRecord userRecord) {
+        return jwtService.generateToken(customUserDetailsService.loadUserByUsername(userRecord.username()));
+    }
 }
@@ -1,5 +1,7 @@
 package com.litclub.Backend.controller.meeting;
 
+import com.litclub.Backend.construct.feed.CursorPage;
+import com.litclub.Backend.construct.meeting.MeetingView;
 import com.litclub.Backend.construct.user.UserRecord;
 import com.litclub.Backend.entity.Meeting;
 import com.litclub.Backend.entity.User;
@@ -13,6 +15,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -33,7 +36,7 @@ public class MeetingController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMINISTRATOR')")
-    public ResponseEntity<Page<Meeting>> getAllMeetings(Pageable pageable) {
+    public ResponseEntity<Page<MeetingView>> getAllMeetings(Pageable pageable) {
         return ResponseEntity.ok(meetingService.getAllMeetings(pageable));
     }
 
@@ -42,14 +45,12 @@ public class MeetingController {
     public ResponseEntity<List<UserRecord>> getAttendees(@PathVariable Long meetingID) {
         Meeting meeting = meetingService.requireById(meetingID);
         List<User> users = meetingService.getAttendeesForMeeting(meeting);
-        return ResponseEntity.ok(
-                users.stream().map(UserService::convertUserToRecord).toList()
-        );
+        return ResponseEntity.ok(userService.convertUsersToRecords(users));
     }
 
     @GetMapping("/club/{clubID}")
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID) or hasRole('ADMINISTRATOR')")
-    public ResponseEntity<Page<Meeting>> getMeetingsByClubID(
+    public ResponseEntity<Page<MeetingView>> getMeetingsByClubID(
             @PathVariable Long clubID,
             Pageable pageable
     ) {
@@ -60,7 +61,7 @@ public class MeetingController {
 
     @GetMapping("/user/{userID}")
     @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
-    public ResponseEntity<Page<Meeting>> getMeetingsByUserID(
+    public ResponseEntity<Page<MeetingView>> getMeetingsByUserID(
             @PathVariable Long userID,
             Pageable pageable
     ) {
@@ -71,4 +72,16 @@ public class MeetingController {
                 )
         );
     }
+
+    @GetMapping("/user/{userID}/feed")
+    @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
+    public ResponseEntity<CursorPage<MeetingView>> getMeetingFeedByUserID(
+            @PathVariable Long userID,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                meetingService.getMeetingFeed(userService.requireUserById(userID), cursor, size)
+        );
+    }
 }
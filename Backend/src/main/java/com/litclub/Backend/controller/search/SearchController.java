@@ -0,0 +1,41 @@
+package com.litclub.Backend.controller.search;
+
+import com.litclub.Backend.construct.search.SearchDocumentType;
+import com.litclub.Backend.construct.search.SearchHit;
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import com.litclub.Backend.service.low.SearchIndexService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    public SearchController(SearchIndexService searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<Page<SearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<SearchDocumentType> types,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(searchIndexService.search(
+                customUserDetails.getUserID(),
+                q,
+                types == null ? Set.of() : types,
+                pageable
+        ));
+    }
+}
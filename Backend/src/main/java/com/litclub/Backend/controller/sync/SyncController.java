@@ -0,0 +1,29 @@
+package com.litclub.Backend.controller.sync;
+
+import com.litclub.Backend.construct.sync.SyncResponse;
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import com.litclub.Backend.service.top.facilitator.SyncService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<SyncResponse> sync(
+            @RequestParam(required = false) String since,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        return ResponseEntity.ok(syncService.sync(customUserDetails.getUserID(), since));
+    }
+}
@@ -1,14 +1,18 @@
 package com.litclub.Backend.controller.user;
 
+import com.litclub.Backend.construct.feed.CursorPage;
 import com.litclub.Backend.construct.library.book.BookStatus;
 import com.litclub.Backend.construct.library.BookAddRequest;
 import com.litclub.Backend.construct.library.BookWithStatus;
 import com.litclub.Backend.construct.library.ReviewRequest;
 import com.litclub.Backend.construct.library.UserLibrary;
 import com.litclub.Backend.construct.note.NoteCreateRequest;
+import com.litclub.Backend.construct.review.ReviewView;
 import com.litclub.Backend.entity.*;
 import com.litclub.Backend.construct.user.*;
 import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import com.litclub.Backend.service.low.ChangeStreamService;
+import com.litclub.Backend.service.low.ClubMembershipService;
 import com.litclub.Backend.service.low.ReviewService;
 import com.litclub.Backend.service.low.UserBooksService;
 import com.litclub.Backend.service.middle.BookService;
@@ -18,15 +22,15 @@ import com.litclub.Backend.service.top.facilitator.LibraryManagementService;
 import com.litclub.Backend.service.top.facilitator.RecommenderService;
 import com.litclub.Backend.service.top.facilitator.UserActivityService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Collections;
 import java.util.List;
 
 @RestController
@@ -41,6 +45,8 @@ public class UserController {
     private final ReviewService reviewService;
     private final UserBooksService userBooksService;
     private final RecommenderService recommenderService;
+    private final ClubMembershipService clubMembershipService;
+    private final ChangeStreamService changeStreamService;
 
     public UserController(UserService userService,
                           UserActivityService userActivityService,
@@ -49,7 +55,9 @@ public class UserController {
                           DiscussionManagementService discussionManagementService,
                           ReviewService reviewService,
                           UserBooksService userBooksService,
-                          RecommenderService recommenderService) {
+                          RecommenderService recommenderService,
+                          ClubMembershipService clubMembershipService,
+                          ChangeStreamService changeStreamService) {
         this.userService = userService;
         this.userActivityService = userActivityService;
         this.libraryManagementService = libraryManagementService;
@@ -58,6 +66,8 @@ public class UserController {
         this.reviewService = reviewService;
         this.userBooksService = userBooksService;
         this.recommenderService = recommenderService;
+        this.clubMembershipService = clubMembershipService;
+        this.changeStreamService = changeStreamService;
     }
 
     // ====== USER INFO ======
@@ -112,21 +122,20 @@ public class UserController {
     }
 
 
+    @GetMapping(value = "/{userID}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
+    public SseEmitter streamUserChanges(
+            @PathVariable("userID") Long userID,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventID
+    ) {
+        return changeStreamService.subscribeToUser(
+                userID, clubMembershipService.getClubIDsForUser(userID), lastEventID);
+    }
+
     @GetMapping("/{userID}/clubs")
     @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
     public ResponseEntity<Page<Club>> getClubs(@PathVariable("userID") Long userID, Pageable pageable) {
-        List<Club> clubs = userActivityService.getClubsForUser(userID);
-        if (clubs == null) {
-            clubs = Collections.emptyList();
-        }
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), clubs.size());
-
-        List<Club> pageContent = (start >= clubs.size()) ? Collections.emptyList() : clubs.subList(start, end);
-        Page<Club> page = new PageImpl<>(pageContent, pageable, clubs.size());
-
-        return ResponseEntity.ok(page);
+        return ResponseEntity.ok(userActivityService.getClubsForUser(userID, pageable));
     }
 
 
@@ -138,6 +147,16 @@ public class UserController {
         return ResponseEntity.ok(libraryManagementService.getUserLibrary(userID));
     }
 
+    @GetMapping(value = "/{userID}/library", params = "status")
+    @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
+    public ResponseEntity<Page<BookWithStatus>> getUserLibraryShelf(
+            @PathVariable("userID") Long userID,
+            @RequestParam("status") BookStatus status,
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(libraryManagementService.getUserLibraryShelf(userID, status, pageable));
+    }
+
     @PostMapping("/{userID}/library")
     @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
     public ResponseEntity<BookWithStatus> addBookToLibrary(
@@ -200,7 +219,7 @@ public class UserController {
 
     @GetMapping("/{userID}/reviews")
     @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
-    public ResponseEntity<Page<Review>> getUserReviews(
+    public ResponseEntity<Page<ReviewView>> getUserReviews(
             @PathVariable Long userID,
             Pageable pageable
     ) {
@@ -211,6 +230,18 @@ public class UserController {
         );
     }
 
+    @GetMapping("/{userID}/reviews/feed")
+    @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
+    public ResponseEntity<CursorPage<ReviewView>> getUserReviewFeed(
+            @PathVariable Long userID,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                reviewService.getReviewFeed(userService.requireUserById(userID), cursor, size)
+        );
+    }
+
     @PostMapping("/{userID}/reviews")
     @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
     public ResponseEntity<Review> addReview(
@@ -1,8 +1,10 @@
 package com.litclub.Backend.entity;
 
+import com.litclub.Backend.construct.library.book.BookMetadataStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -30,10 +32,14 @@ import java.util.List;
  *   <li><strong>{@link #authors}:</strong> A list of all authors associated with the book.</li>
  *   <li><strong>{@link #primaryAuthor}:</strong> The first listed author, synchronized automatically with {@link #authors}.</li>
  *   <li><strong>{@link #isbn}:</strong> A unique ISBN, used for external metadata retrieval.</li>
+ *   <li><strong>{@link #metadataStatus}:</strong> Progress of background metadata enrichment;
+ *       {@code null} for books that were never queued for it.</li>
  * </ul>
  *
  * <p><strong>Lifecycle Notes:</strong></p>
  * <ul>
+ *   <li>{@link #authors} is loaded eagerly, in batches of up to 100 books, so a page of books costs one extra
+ *       query rather than one per book.</li>
  *   <li>When authors are set via {@link #setAuthors(List)}, the {@link #primaryAuthor} is automatically
  *       updated to the first element of the list (or defaults to {@code "Unknown"} if empty).</li>
  *   <li>Convenience methods such as {@link #addAuthor(String)} and {@link #getAuthorsAsString()}
@@ -45,7 +51,9 @@ import java.util.List;
  * <p><strong>Integration Notes:</strong></p>
  * <ul>
  *   <li>Metadata enrichment is handled by {@link com.litclub.Backend.service.low.BookMetadataService},
- *       which may populate missing information based on the title, author, or ISBN.</li>
+ *       which may populate missing information based on the title, author, or ISBN. New books are saved
+ *       as placeholders and enriched in the background by
+ *       {@link com.litclub.Backend.service.low.BookEnrichmentWorker}.</li>
  *   <li>Domain-level operations such as creation, retrieval, and curation are managed by
  *       {@link com.litclub.Backend.service.middle.BookService}.</li>
  * </ul>
@@ -60,7 +68,9 @@ import java.util.List;
 public class Book {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "book_id")
     private Long bookID;
 
@@ -68,6 +78,7 @@ public class Book {
     private String title;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
     @CollectionTable(name = "book_authors", joinColumns = @JoinColumn(name = "book_id"))
     @Column(name = "author_name")
     private List<String> authors = new ArrayList<>();
@@ -94,6 +105,10 @@ public class Book {
     @JoinColumn(name = "added_by")
     private User addedBy;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metadata_status")
+    private BookMetadataStatus metadataStatus;
+
     // --- Convenience Methods ---
 
     /** Ensures primaryAuthor stays in sync with authors list. */
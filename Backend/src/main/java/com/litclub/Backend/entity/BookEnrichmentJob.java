@@ -0,0 +1,86 @@
+package com.litclub.Backend.entity;
+
+import com.litclub.Backend.construct.library.book.EnrichmentJobStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A durable request to enrich one {@link Book} with Open Library metadata.
+ *
+ * <p>Jobs are written in the same transaction that creates the placeholder book, so an
+ * accepted book is never left without pending enrichment, even if the process stops before
+ * the job runs. Workers claim jobs with a lease and perform the remote lookup outside any
+ * database transaction.</p>
+ *
+ * <p><strong>Core Attributes:</strong></p>
+ * <ul>
+ *   <li><strong>{@link #isbn}, {@link #title}, {@link #author}:</strong> the lookup keys as submitted.
+ *       An ISBN lookup is used when present, otherwise title and author.</li>
+ *   <li><strong>{@link #status}:</strong> see {@link EnrichmentJobStatus}.</li>
+ *   <li><strong>{@link #availableAt}:</strong> earliest time the job may be claimed; pushed back after a failed attempt.</li>
+ *   <li><strong>{@link #lockedUntil}:</strong> lease of a running job. A job whose lease has expired
+ *       (for example because its worker died) becomes claimable again.</li>
+ *   <li><strong>{@link #leaseOwner}:</strong> token identifying the claim that holds the lease. Only
+ *       that claim, and only while its lease lasts, may record the job's outcome.</li>
+ * </ul>
+ *
+ * @see Book
+ * @see com.litclub.Backend.service.low.BookEnrichmentService
+ */
+@Entity
+@Table(name = "book_enrichment_jobs")
+@Getter @Setter
+public class BookEnrichmentJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_enrichment_jobs_seq")
+    @SequenceGenerator(name = "book_enrichment_jobs_seq", sequenceName = "book_enrichment_jobs_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
+    @Column(name = "job_id")
+    private Long jobID;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "book_id", nullable = false)
+    private Book book;
+
+    @Column(name = "isbn")
+    private String isbn;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "author")
+    private String author;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private EnrichmentJobStatus status = EnrichmentJobStatus.QUEUED;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,42 @@
+package com.litclub.Backend.entity;
+
+import com.litclub.Backend.entity.compositeKey.BookNeighbourID;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One precomputed "readers of this book also read" edge between two {@link Book}s.
+ *
+ * <p>The recommender serves personal recommendations by summing the {@link #similarity} of the neighbours of a
+ * reader's books, so it never has to scan other users' libraries at request time.</p>
+ *
+ * <p><strong>Core Attributes:</strong></p>
+ * <ul>
+ *   <li><strong>{@link #bookNeighbourID}:</strong> the book and one of its nearest neighbours. Neither column is
+ *       a foreign key, so removing a book never has to touch this table first; stale rows disappear on the next
+ *       rebuild and are filtered out by the joins that read them.</li>
+ *   <li><strong>{@link #similarity}:</strong> cosine similarity of the two books' rating- and recency-weighted
+ *       reader vectors, between 0 and 1.</li>
+ * </ul>
+ *
+ * <p><strong>Lifecycle Notes:</strong></p>
+ * <ul>
+ *   <li>Rows are written only by {@link com.litclub.Backend.service.low.BookNeighbourService}, which replaces the
+ *       whole table in one transaction, keeping the top {@code k} neighbours per book.</li>
+ * </ul>
+ *
+ * @see Book
+ * @see com.litclub.Backend.service.low.BookNeighbourService
+ */
+@Entity
+@Table(name = "book_neighbours")
+@Getter @Setter
+public class BookNeighbour {
+
+    @EmbeddedId
+    private BookNeighbourID bookNeighbourID = new BookNeighbourID();
+
+    @Column(nullable = false)
+    private double similarity;
+}
@@ -0,0 +1,37 @@
+package com.litclub.Backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Materialized rating aggregate of one {@link Book}: number of ratings, their sum and a 1–5 star histogram.
+ *
+ * <p>Lets book cards show an average without loading every {@link Review} (and its content) of the book.</p>
+ *
+ * <p><strong>Lifecycle Notes:</strong></p>
+ * <ul>
+ *   <li>Rows are written only by {@link com.litclub.Backend.service.low.RatingStatsService}, which applies each
+ *       review's rating change as a delta before the transaction that changed the review commits.</li>
+ *   <li>{@link #bookID} is deliberately not a foreign key; a missing row means the book has no ratings.</li>
+ *   <li>The reconciliation job rebuilds every row from the reviews table.</li>
+ * </ul>
+ *
+ * @see RatingStats
+ * @see com.litclub.Backend.service.low.RatingStatsService
+ */
+@Entity
+@Table(name = "book_rating_stats")
+@Getter @Setter
+public class BookRatingStats extends RatingStats {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookID;
+
+    public BookRatingStats() {}
+
+    public BookRatingStats(Long bookID) {
+        this.bookID = bookID;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -26,6 +27,8 @@ import java.time.LocalDateTime;
  * <ul>
  *   <li>The {@link org.hibernate.annotations.CreationTimestamp @CreationTimestamp} annotation
  *       automatically initializes {@link #createdAt} when the club is first persisted.</li>
+ *   <li>The {@link org.hibernate.annotations.UpdateTimestamp @UpdateTimestamp} annotation refreshes
+ *       {@link #updatedAt} on every write, which {@code GET /api/sync} uses as its watermark.</li>
  *   <li>Deletion or modification of a club may cascade to related memberships,
  *       depending on the cascade configuration defined in the {@link ClubMembership} entity.</li>
  * </ul>
@@ -51,7 +54,9 @@ import java.time.LocalDateTime;
 public class Club {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clubs_seq")
+    @SequenceGenerator(name = "clubs_seq", sequenceName = "clubs_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "club_id")
     private Long clubID;
 
@@ -68,4 +73,8 @@ public class Club {
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
 }
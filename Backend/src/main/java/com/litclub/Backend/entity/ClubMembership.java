@@ -48,20 +48,18 @@ import java.util.Set;
 @Entity
 @Table(name = "club_memberships")
 @Getter @Setter
-public class ClubMembership {
+public class ClubMembership extends CompositeKeyEntity<ClubMembershipID> {
 
     @EmbeddedId
     private ClubMembershipID clubMembershipID = new ClubMembershipID();
 
     @ManyToOne
-    @MapsId("memberID")
-    @JoinColumn(name = "member_id", nullable = false)
+    @JoinColumn(name = "member_id", nullable = false, insertable = false, updatable = false)
     @JsonIgnore
     private User member;
 
     @ManyToOne
-    @MapsId("clubID")
-    @JoinColumn(name = "club_id", nullable = false)
+    @JoinColumn(name = "club_id", nullable = false, insertable = false, updatable = false)
     @JsonIgnore
     private Club club;
 
@@ -77,4 +75,19 @@ public class ClubMembership {
     @CreationTimestamp
     @Column(name = "joined_at")
     private LocalDateTime joinedAt;
+
+    public void setMember(User member) {
+        this.member = member;
+        clubMembershipID.setMemberID(member.getUserID());
+    }
+
+    public void setClub(Club club) {
+        this.club = club;
+        clubMembershipID.setClubID(club.getClubID());
+    }
+
+    @Override
+    public ClubMembershipID getId() {
+        return clubMembershipID;
+    }
 }
@@ -0,0 +1,48 @@
+package com.litclub.Backend.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Base of the join entities whose {@code @EmbeddedId} is assigned by the application rather than generated.
+ *
+ * <p>Spring Data treats an entity with a non-null ID as existing, so {@code save} on a new join row would
+ * {@code merge} it: one {@code SELECT} per row before the insert, and no insert batching. Tracking whether
+ * the instance was loaded or persisted lets {@code save} and {@code saveAll} call {@code persist} instead,
+ * so new rows go out as JDBC batches.</p>
+ *
+ * <p>Consequently a new instance must not be built for a row that already exists; load it and modify it.</p>
+ *
+ * <p>Subclasses write their key columns through the embedded ID and map the associations read-only, the
+ * association setters copying the parent's ID into the key. A {@code @MapsId} association would imply a
+ * persist cascade, and {@code persist} would then reject the detached parents (a cached principal, say)
+ * callers routinely pass in.</p>
+ *
+ * @param <ID> the embedded key type
+ */
+@MappedSuperclass
+public abstract class CompositeKeyEntity<ID> implements Persistable<ID> {
+
+    @Transient
+    private boolean persisted;
+
+    @Override
+    @JsonIgnore
+    public abstract ID getId();
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
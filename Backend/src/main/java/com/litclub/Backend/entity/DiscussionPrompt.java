@@ -48,7 +48,9 @@ import java.time.LocalDateTime;
 public class DiscussionPrompt {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "discussion_prompts_seq")
+    @SequenceGenerator(name = "discussion_prompts_seq", sequenceName = "discussion_prompts_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long promptID;
 
     @ManyToOne
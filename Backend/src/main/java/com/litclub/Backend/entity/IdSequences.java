@@ -0,0 +1,16 @@
+package com.litclub.Backend.entity;
+
+/**
+ * The database sequences that generate entity IDs.
+ *
+ * <p>IDs are handed out in blocks: each call to a sequence reserves {@link #ALLOCATION_SIZE} IDs, which
+ * Hibernate then assigns without further round trips. Unlike identity columns this keeps JDBC insert
+ * batching available, since an ID is known before its row is written. The sequences themselves are
+ * created by the schema migrations, with an increment equal to the allocation size.</p>
+ */
+public final class IdSequences {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {}
+}
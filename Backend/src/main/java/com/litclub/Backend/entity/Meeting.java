@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -36,6 +37,8 @@ import java.time.LocalDateTime;
  * <ul>
  *   <li>The {@link org.hibernate.annotations.CreationTimestamp @CreationTimestamp}
  *       annotation automatically sets {@link #createdAt} upon persistence.</li>
+ *   <li>The {@link org.hibernate.annotations.UpdateTimestamp @UpdateTimestamp} annotation refreshes
+ *       {@link #updatedAt} on every write, which {@code GET /api/sync} uses as its watermark.</li>
  *   <li>Meetings are immutable after creation except for administrative updates
  *       such as rescheduling or changing the meeting link.</li>
  *   <li>Club-level access and scheduling permissions are controlled through
@@ -54,7 +57,9 @@ import java.time.LocalDateTime;
 public class Meeting {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meetings_seq")
+    @SequenceGenerator(name = "meetings_seq", sequenceName = "meetings_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long meetingID;
 
     @ManyToOne
@@ -84,4 +89,8 @@ public class Meeting {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
 }
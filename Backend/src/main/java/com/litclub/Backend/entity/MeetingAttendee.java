@@ -52,19 +52,17 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "meeting_attendees")
 @Getter @Setter
-public class MeetingAttendee {
+public class MeetingAttendee extends CompositeKeyEntity<MeetingAttendeeID> {
 
     @EmbeddedId
-    private MeetingAttendeeID meetingAttendeeID;
+    private MeetingAttendeeID meetingAttendeeID = new MeetingAttendeeID();
 
     @ManyToOne
-    @MapsId("meetingID")
-    @JoinColumn(name = "meeting_id", nullable = false)
+    @JoinColumn(name = "meeting_id", nullable = false, insertable = false, updatable = false)
     private Meeting meeting;
 
     @ManyToOne
-    @MapsId("userID")
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, insertable = false, updatable = false)
     private User user;
 
     @Column(name = "rsvp_status")
@@ -74,4 +72,18 @@ public class MeetingAttendee {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    public void setMeeting(Meeting meeting) {
+        this.meeting = meeting;
+        meetingAttendeeID.setMeetingID(meeting.getMeetingID());
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+        meetingAttendeeID.setUserID(user.getUserID());
+    }
+
+    @Override
+    public MeetingAttendeeID getId() {
+        return meetingAttendeeID;
+    }
 }
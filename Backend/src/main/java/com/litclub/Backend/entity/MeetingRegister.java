@@ -45,19 +45,17 @@ import lombok.Setter;
 @Entity
 @Table(name = "meeting_register")
 @Getter @Setter
-public class MeetingRegister {
+public class MeetingRegister extends CompositeKeyEntity<RegisterID> {
 
     @EmbeddedId
-    private RegisterID registerID;
+    private RegisterID registerID = new RegisterID();
 
     @ManyToOne
-    @MapsId("meetingID")
-    @JoinColumn(nullable = false, name = "meeting_id")
+    @JoinColumn(nullable = false, name = "meeting_id", insertable = false, updatable = false)
     private Meeting meeting;
 
     @ManyToOne
-    @MapsId("userID")
-    @JoinColumn(nullable = false, name = "user_id")
+    @JoinColumn(nullable = false, name = "user_id", insertable = false, updatable = false)
     private User user;
 
     @Column
@@ -69,4 +67,18 @@ public class MeetingRegister {
     @Column
     private boolean excused;
 
+    public void setMeeting(Meeting meeting) {
+        this.meeting = meeting;
+        registerID.setMeetingID(meeting.getMeetingID());
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+        registerID.setUserID(user.getUserID());
+    }
+
+    @Override
+    public RegisterID getId() {
+        return registerID;
+    }
 }
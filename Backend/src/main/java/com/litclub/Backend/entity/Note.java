@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -38,6 +39,8 @@ import java.util.Set;
  * <ul>
  *   <li>The {@link org.hibernate.annotations.CreationTimestamp @CreationTimestamp}
  *       annotation automatically sets {@link #createdAt} when the note is persisted.</li>
+ *   <li>The {@link org.hibernate.annotations.UpdateTimestamp @UpdateTimestamp} annotation refreshes
+ *       {@link #updatedAt} on every write, which {@code GET /api/sync} uses as its watermark.</li>
  *   <li>During {@link jakarta.persistence.PrePersist @PrePersist}, if {@link #isPrivate}
  *       is {@code true}, all club-related associations ({@link #club}, {@link #discussionPrompt})
  *       are cleared to prevent unintended exposure in shared contexts.</li>
@@ -60,7 +63,9 @@ import java.util.Set;
 public class Note {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notes_seq")
+    @SequenceGenerator(name = "notes_seq", sequenceName = "notes_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long noteID;
 
     @ManyToOne
@@ -90,6 +95,10 @@ public class Note {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
     @JsonIgnore
     @OneToMany(mappedBy = "parentNote", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<Reply> replies = new HashSet<>();
@@ -0,0 +1,65 @@
+package com.litclub.Backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rating aggregate columns shared by {@link BookRatingStats} and {@link UserRatingStats}.
+ *
+ * <p>Only rated {@link Review}s are counted. {@link #ratingSum} is kept next to {@link #ratings} so the average
+ * can be derived without rounding drift; the five star columns form the histogram. Ratings outside 1–5 are
+ * counted in the sum but in no star column.</p>
+ */
+@MappedSuperclass
+@Getter @Setter
+public abstract class RatingStats {
+
+    @Column(nullable = false)
+    private long ratings;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "one_star", nullable = false)
+    private long oneStar;
+
+    @Column(name = "two_stars", nullable = false)
+    private long twoStars;
+
+    @Column(name = "three_stars", nullable = false)
+    private long threeStars;
+
+    @Column(name = "four_stars", nullable = false)
+    private long fourStars;
+
+    @Column(name = "five_stars", nullable = false)
+    private long fiveStars;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public double getAverageRating() {
+        return ratings == 0 ? 0.0 : (double) ratingSum / ratings;
+    }
+
+    /**
+     * @return number of ratings per star value, 1 to 5, including zero counts
+     */
+    public Map<Integer, Long> getHistogram() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, oneStar);
+        histogram.put(2, twoStars);
+        histogram.put(3, threeStars);
+        histogram.put(4, fourStars);
+        histogram.put(5, fiveStars);
+        return histogram;
+    }
+}
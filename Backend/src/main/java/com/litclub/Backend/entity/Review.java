@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -35,6 +36,8 @@ import java.time.LocalDateTime;
  * <ul>
  *   <li>The {@link org.hibernate.annotations.CreationTimestamp @CreationTimestamp}
  *       annotation automatically sets {@link #createdAt} at persistence time.</li>
+ *   <li>The {@link org.hibernate.annotations.UpdateTimestamp @UpdateTimestamp} annotation refreshes
+ *       {@link #updatedAt} on every write, which {@code GET /api/sync} uses as its watermark.</li>
  *   <li>Reviews are used for aggregation and recommendation features, such as
  *       computing average ratings per book or generating personalized reading suggestions.</li>
  * </ul>
@@ -49,7 +52,9 @@ import java.time.LocalDateTime;
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_seq")
+    @SequenceGenerator(name = "reviews_seq", sequenceName = "reviews_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "review_id")
     private Long reviewID;
 
@@ -71,4 +76,8 @@ public class Review {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
 }
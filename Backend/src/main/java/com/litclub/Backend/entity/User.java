@@ -5,6 +5,7 @@ import com.litclub.Backend.security.roles.GlobalRole;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -39,6 +40,8 @@ import java.util.Set;
  *   <li><strong>{@link #globalRoles}:</strong> Set of {@link com.litclub.Backend.security.roles.GlobalRole}
  *       values granting elevated privileges (e.g., {@code ADMINISTRATOR}).</li>
  *   <li><strong>{@link #createdAt}:</strong> Account creation timestamp.</li>
+ *   <li><strong>{@link #membershipVersion}:</strong> Counter bumped whenever the user's club memberships
+ *       or club roles change; tokens carrying an older value are re-issued.</li>
  * </ul>
  *
  * <p><strong>Lifecycle & Persistence Notes:</strong></p>
@@ -48,6 +51,9 @@ import java.util.Set;
  *   <li>{@link #memberships} is mapped with {@link jakarta.persistence.CascadeType#ALL} and
  *       {@link jakarta.persistence.FetchType#LAZY}, so membership lifecycle events are propagated
  *       from the user and loaded on demand.</li>
+ *   <li>{@link #membershipVersion} is not updatable through the entity; it is only advanced by
+ *       {@link com.litclub.Backend.repository.UserRepository#incrementMembershipVersion(Long)} so a stale
+ *       detached {@code User} can never roll it back.</li>
  *   <li>The constructor convenience method automatically assigns the {@code USER} global role,
  *       and conditionally adds {@code ADMINISTRATOR} when requested — ensure higher-level role
  *       assignments are audited and validated at the service layer.</li>
@@ -67,7 +73,9 @@ import java.util.Set;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "user_id")
     private Long userID;
 
@@ -100,6 +108,11 @@ public class User {
     )
     private LocalDateTime createdAt;
 
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "membership_version", nullable = false, updatable = false)
+    private long membershipVersion;
+
     @JsonIgnore
     @OneToMany(mappedBy = "member", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private Set<ClubMembership> memberships = new HashSet<>();
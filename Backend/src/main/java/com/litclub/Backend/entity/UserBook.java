@@ -7,6 +7,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -42,6 +43,8 @@ import java.time.LocalDateTime;
  *       ensures a unique record per user-book pair.</li>
  *   <li>The {@link org.hibernate.annotations.CreationTimestamp @CreationTimestamp}
  *       annotation automatically initializes {@link #createdAt} upon persistence.</li>
+ *   <li>The {@link org.hibernate.annotations.UpdateTimestamp @UpdateTimestamp} annotation refreshes
+ *       {@link #updatedAt} on every write, which {@code GET /api/sync} uses as its watermark.</li>
  *   <li>Updates to {@link #status}, {@link #rating}, or reading dates
  *       reflect ongoing user activity and can inform recommendations or reading stats.</li>
  * </ul>
@@ -55,20 +58,18 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "user_books")
 @Getter @Setter
-public class UserBook {
+public class UserBook extends CompositeKeyEntity<UserBookID> {
 
     @EmbeddedId
     private UserBookID userBookID = new UserBookID();
 
-    @MapsId("userID")
     @ManyToOne
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
     @JsonIgnore
     private User user;
 
-    @MapsId("bookID")
     @ManyToOne
-    @JoinColumn(name = "book_id")
+    @JoinColumn(name = "book_id", insertable = false, updatable = false)
     @JsonIgnore
     private Book book;
 
@@ -91,4 +92,23 @@ public class UserBook {
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void setUser(User user) {
+        this.user = user;
+        userBookID.setUserID(user.getUserID());
+    }
+
+    public void setBook(Book book) {
+        this.book = book;
+        userBookID.setBookID(book.getBookID());
+    }
+
+    @Override
+    public UserBookID getId() {
+        return userBookID;
+    }
 }
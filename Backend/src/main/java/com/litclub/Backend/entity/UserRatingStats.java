@@ -0,0 +1,36 @@
+package com.litclub.Backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Materialized aggregate of the ratings one {@link User} has given: number of ratings, their sum and a 1–5
+ * star histogram.
+ *
+ * <p><strong>Lifecycle Notes:</strong></p>
+ * <ul>
+ *   <li>Rows are written only by {@link com.litclub.Backend.service.low.RatingStatsService}, which applies each
+ *       review's rating change as a delta before the transaction that changed the review commits.</li>
+ *   <li>{@link #userID} is deliberately not a foreign key; a missing row means the user has rated nothing.</li>
+ *   <li>The reconciliation job rebuilds every row from the reviews table.</li>
+ * </ul>
+ *
+ * @see RatingStats
+ * @see com.litclub.Backend.service.low.RatingStatsService
+ */
+@Entity
+@Table(name = "user_rating_stats")
+@Getter @Setter
+public class UserRatingStats extends RatingStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userID;
+
+    public UserRatingStats() {}
+
+    public UserRatingStats(Long userID) {
+        this.userID = userID;
+    }
+}
@@ -0,0 +1,117 @@
+package com.litclub.Backend.entity;
+
+import com.litclub.Backend.construct.library.book.BookStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A materialized read model holding per-{@link User} activity counts.
+ *
+ * <p>{@code UserStats} lets the statistics endpoints answer with a single-row read instead of
+ * loading a user's library, reviews, notes, prompts, RSVPs and register entries only to count
+ * them. Each row is recomputed from the source tables whenever one of them changes for that user.</p>
+ *
+ * <p><strong>Core Attributes:</strong></p>
+ * <ul>
+ *   <li><strong>{@link #userID}:</strong> The user the row belongs to. Deliberately not a foreign key,
+ *       so removing a user never has to touch this table first.</li>
+ *   <li><strong>Library counts:</strong> one column per {@link BookStatus}.</li>
+ *   <li><strong>{@link #ratingSum} / {@link #ratedReviews}:</strong> kept separately so the average
+ *       rating can be derived without rounding drift.</li>
+ * </ul>
+ *
+ * <p><strong>Lifecycle Notes:</strong></p>
+ * <ul>
+ *   <li>Rows are written only by {@link com.litclub.Backend.service.low.UserStatsService}, which
+ *       recomputes a user's row before the transaction that changed their activity commits.</li>
+ *   <li>A missing row is computed on first read; a full rebuild backfills or repairs every row.</li>
+ *   <li>Time-dependent values (such as upcoming meetings) are not stored here.</li>
+ * </ul>
+ *
+ * @see User
+ * @see com.litclub.Backend.service.low.UserStatsService
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter @Setter
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userID;
+
+    @Column(nullable = false)
+    private long clubs;
+
+    @Column(name = "books_want_to_read", nullable = false)
+    private long booksWantToRead;
+
+    @Column(name = "books_reading", nullable = false)
+    private long booksReading;
+
+    @Column(name = "books_read", nullable = false)
+    private long booksRead;
+
+    @Column(name = "books_dnf", nullable = false)
+    private long booksDnf;
+
+    @Column(nullable = false)
+    private long reviews;
+
+    @Column(name = "rated_reviews", nullable = false)
+    private long ratedReviews;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(nullable = false)
+    private long notes;
+
+    @Column(nullable = false)
+    private long prompts;
+
+    @Column(nullable = false)
+    private long rsvps;
+
+    @Column(name = "meetings_attended", nullable = false)
+    private long meetingsAttended;
+
+    @Column(name = "late_arrivals", nullable = false)
+    private long lateArrivals;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public UserStats() {}
+
+    public UserStats(Long userID) {
+        this.userID = userID;
+    }
+
+    public long getTotalBooks() {
+        return booksWantToRead + booksReading + booksRead + booksDnf;
+    }
+
+    public double getAverageRating() {
+        return ratedReviews == 0 ? 0.0 : (double) ratingSum / ratedReviews;
+    }
+
+    /**
+     * @return count per {@link BookStatus}, omitting statuses with no books
+     */
+    public Map<BookStatus, Long> getReadingStatusBreakdown() {
+        Map<BookStatus, Long> breakdown = new EnumMap<>(BookStatus.class);
+        if (booksRead > 0) breakdown.put(BookStatus.READ, booksRead);
+        if (booksReading > 0) breakdown.put(BookStatus.READING, booksReading);
+        if (booksWantToRead > 0) breakdown.put(BookStatus.WANT_TO_READ, booksWantToRead);
+        if (booksDnf > 0) breakdown.put(BookStatus.DNF, booksDnf);
+        return breakdown;
+    }
+}
@@ -0,0 +1,33 @@
+package com.litclub.Backend.entity.compositeKey;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Composite primary key for {@link com.litclub.Backend.entity.BookNeighbour}.
+ *
+ * <p>Leads with the book so that a reader's seed books can be looked up through the primary key index.</p>
+ */
+@Embeddable
+@EqualsAndHashCode
+@Getter @Setter
+public class BookNeighbourID implements Serializable {
+
+    @Column(name = "book_id")
+    private Long bookID;
+
+    @Column(name = "neighbour_id")
+    private Long neighbourID;
+
+    public BookNeighbourID() {}
+
+    public BookNeighbourID(Long bookID, Long neighbourID) {
+        this.bookID = bookID;
+        this.neighbourID = neighbourID;
+    }
+}
@@ -0,0 +1,9 @@
+package com.litclub.Backend.exception;
+
+import jakarta.persistence.EntityNotFoundException;
+
+public class BookImportNotFoundException extends EntityNotFoundException {
+    public BookImportNotFoundException(String importID) {
+        super("Book import " + importID + " not found");
+    }
+}
@@ -0,0 +1,9 @@
+package com.litclub.Backend.exception;
+
+import jakarta.persistence.EntityNotFoundException;
+
+public class TeardownNotFoundException extends EntityNotFoundException {
+    public TeardownNotFoundException(String teardownID) {
+        super("Teardown " + teardownID + " not found");
+    }
+}
@@ -0,0 +1,7 @@
+package com.litclub.Backend.exception;
+
+public class TooManyImportsException extends RuntimeException {
+    public TooManyImportsException(int limit) {
+        super("At most " + limit + " imports can run at once");
+    }
+}
@@ -0,0 +1,206 @@
+package com.litclub.Backend.recommend;
+
+import java.util.Arrays;
+
+/**
+ * Sparse, weighted user × book matrix held in primitive arrays.
+ *
+ * <p>Users and books are renumbered densely ({@code 0..n-1}) and the matrix is stored twice in compressed
+ * sparse row form: once by user (the books each user interacted with) and once by book (the users who
+ * interacted with each book). Nothing is boxed, so a few million interactions fit in tens of megabytes.</p>
+ *
+ * <p>Instances are immutable and safe to share between threads. Build them with {@link #builder(int)}.</p>
+ *
+ * @see ItemNeighbourhoods
+ */
+public final class InteractionMatrix {
+
+    private final long[] bookIDs;
+
+    private final int[] userOffsets;
+    private final int[] userBooks;
+    private final float[] userWeights;
+
+    private final int[] bookOffsets;
+    private final int[] bookUsers;
+    private final float[] bookWeights;
+
+    private final float[] bookNorms;
+
+    private InteractionMatrix(long[] bookIDs, int[] userOffsets, int[] userBooks, float[] userWeights) {
+        this.bookIDs = bookIDs;
+        this.userOffsets = userOffsets;
+        this.userBooks = userBooks;
+        this.userWeights = userWeights;
+
+        int books = bookIDs.length;
+        int users = userOffsets.length - 1;
+        int interactions = userOffsets[users];
+
+        bookOffsets = new int[books + 1];
+        for (int n = 0; n < interactions; n++) bookOffsets[userBooks[n] + 1]++;
+        for (int b = 0; b < books; b++) bookOffsets[b + 1] += bookOffsets[b];
+
+        bookUsers = new int[interactions];
+        bookWeights = new float[interactions];
+        bookNorms = new float[books];
+        int[] cursor = Arrays.copyOf(bookOffsets, books);
+        for (int u = 0; u < users; u++) {
+            for (int n = userOffsets[u]; n < userOffsets[u + 1]; n++) {
+                int b = userBooks[n];
+                int slot = cursor[b]++;
+                bookUsers[slot] = u;
+                bookWeights[slot] = userWeights[n];
+                bookNorms[b] += userWeights[n] * userWeights[n];
+            }
+        }
+        for (int b = 0; b < books; b++) bookNorms[b] = (float) Math.sqrt(bookNorms[b]);
+    }
+
+    /**
+     * @param maxBooksPerUser at most this many of a user's books (the highest weighted) take part; caps the
+     *                        quadratic cost of very large libraries
+     */
+    public static Builder builder(int maxBooksPerUser) {
+        return new Builder(maxBooksPerUser);
+    }
+
+    public int users() {
+        return userOffsets.length - 1;
+    }
+
+    public int books() {
+        return bookIDs.length;
+    }
+
+    public int interactions() {
+        return userOffsets[users()];
+    }
+
+    long bookID(int book) {
+        return bookIDs[book];
+    }
+
+    int userStart(int user) { return userOffsets[user]; }
+    int userEnd(int user) { return userOffsets[user + 1]; }
+    int userBook(int slot) { return userBooks[slot]; }
+    float userWeight(int slot) { return userWeights[slot]; }
+
+    int bookStart(int book) { return bookOffsets[book]; }
+    int bookEnd(int book) { return bookOffsets[book + 1]; }
+    int bookUser(int slot) { return bookUsers[slot]; }
+    float bookWeight(int slot) { return bookWeights[slot]; }
+
+    float bookNorm(int book) { return bookNorms[book]; }
+
+    /**
+     * Collects {@code (user, book, weight)} triples in growable primitive arrays. Repeated pairs are summed;
+     * non-positive weights are ignored.
+     */
+    public static final class Builder {
+
+        private final int maxBooksPerUser;
+        private long[] users = new long[1024];
+        private long[] books = new long[1024];
+        private float[] weights = new float[1024];
+        private int size;
+
+        private Builder(int maxBooksPerUser) {
+            if (maxBooksPerUser < 1) throw new IllegalArgumentException("maxBooksPerUser must be positive");
+            this.maxBooksPerUser = maxBooksPerUser;
+        }
+
+        public Builder add(long userID, long bookID, float weight) {
+            if (!(weight > 0)) return this;
+            if (size == users.length) {
+                int capacity = size + (size >> 1);
+                users = Arrays.copyOf(users, capacity);
+                books = Arrays.copyOf(books, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            users[size] = userID;
+            books[size] = bookID;
+            weights[size] = weight;
+            size++;
+            return this;
+        }
+
+        public InteractionMatrix build() {
+            long[] userIDs = distinct(users, size);
+            long[] bookIDs = distinct(books, size);
+
+            int[] offsets = new int[userIDs.length + 1];
+            int[] userOf = new int[size];
+            for (int n = 0; n < size; n++) {
+                userOf[n] = Arrays.binarySearch(userIDs, users[n]);
+                offsets[userOf[n] + 1]++;
+            }
+            for (int u = 0; u < userIDs.length; u++) offsets[u + 1] += offsets[u];
+
+            // (book << 32 | weight bits) sorts a row by book; positive float bits sort like the floats themselves
+            long[] packed = new long[size];
+            int[] cursor = Arrays.copyOf(offsets, userIDs.length);
+            for (int n = 0; n < size; n++) {
+                int book = Arrays.binarySearch(bookIDs, books[n]);
+                packed[cursor[userOf[n]]++] = (long) book << 32 | Float.floatToRawIntBits(weights[n]);
+            }
+
+            int[] rowOffsets = new int[userIDs.length + 1];
+            int[] rowBooks = new int[size];
+            float[] rowWeights = new float[size];
+            int written = 0;
+            for (int u = 0; u < userIDs.length; u++) {
+                int start = written;
+                Arrays.sort(packed, offsets[u], offsets[u + 1]);
+                for (int n = offsets[u]; n < offsets[u + 1]; n++) {
+                    int book = (int) (packed[n] >>> 32);
+                    float weight = Float.intBitsToFloat((int) packed[n]);
+                    if (written > start && rowBooks[written - 1] == book) {
+                        rowWeights[written - 1] += weight;
+                    } else {
+                        rowBooks[written] = book;
+                        rowWeights[written] = weight;
+                        written++;
+                    }
+                }
+                if (written - start > maxBooksPerUser) {
+                    written = start + keepHeaviest(rowBooks, rowWeights, start, written, maxBooksPerUser);
+                }
+                rowOffsets[u + 1] = written;
+            }
+
+            return new InteractionMatrix(bookIDs,
+                    rowOffsets, Arrays.copyOf(rowBooks, written), Arrays.copyOf(rowWeights, written));
+        }
+
+        private static long[] distinct(long[] values, int size) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int unique = 0;
+            for (int n = 0; n < size; n++) {
+                if (unique == 0 || sorted[unique - 1] != sorted[n]) sorted[unique++] = sorted[n];
+            }
+            return Arrays.copyOf(sorted, unique);
+        }
+
+        /** Keeps the {@code limit} heaviest entries of {@code [from, to)} in book order; returns {@code limit}. */
+        private static int keepHeaviest(int[] books, float[] weights, int from, int to, int limit) {
+            long[] byWeight = new long[to - from];
+            for (int n = from; n < to; n++) {
+                byWeight[n - from] = (long) Float.floatToRawIntBits(weights[n]) << 32 | books[n];
+            }
+            Arrays.sort(byWeight);
+            long[] kept = new long[limit];
+            for (int n = 0; n < limit; n++) {
+                long entry = byWeight[byWeight.length - 1 - n];
+                kept[n] = (entry & 0xFFFFFFFFL) << 32 | (entry >>> 32);
+            }
+            Arrays.sort(kept);
+            for (int n = 0; n < limit; n++) {
+                books[from + n] = (int) (kept[n] >>> 32);
+                weights[from + n] = Float.intBitsToFloat((int) kept[n]);
+            }
+            return limit;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.litclub.Backend.recommend;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code k} most similar books of every book in an {@link InteractionMatrix}.
+ *
+ * <p>Similarity is the cosine of two books' weighted reader vectors. Each book's row is computed on its own:
+ * walk the book's readers, then each reader's books, and accumulate the weight products in a dense scratch
+ * array (a sparse accumulator). Only the scratch slots that were touched are read back and reset, so the cost
+ * per book is proportional to its co-occurrences, not to the catalogue size, and no book × book matrix is
+ * ever materialized.</p>
+ *
+ * <p>Books are handed out to the worker threads in blocks; each worker owns its scratch space and writes
+ * only its books' slots of the result arrays, so no synchronization is needed beyond the block counter.</p>
+ */
+public final class ItemNeighbourhoods {
+
+    private static final int BLOCK_SIZE = 256;
+
+    private final InteractionMatrix matrix;
+    private final int k;
+    private final int[] counts;
+    private final int[] neighbours;
+    private final float[] scores;
+
+    private ItemNeighbourhoods(InteractionMatrix matrix, int k) {
+        this.matrix = matrix;
+        this.k = k;
+        this.counts = new int[matrix.books()];
+        this.neighbours = new int[matrix.books() * k];
+        this.scores = new float[matrix.books() * k];
+    }
+
+    /**
+     * Computes the top-{@code k} neighbours of every book.
+     *
+     * @param parallelism number of worker threads
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public static ItemNeighbourhoods compute(InteractionMatrix matrix, int k, int parallelism)
+            throws InterruptedException {
+        if (k < 1) throw new IllegalArgumentException("k must be positive");
+        ItemNeighbourhoods result = new ItemNeighbourhoods(matrix, k);
+
+        AtomicInteger nextBlock = new AtomicInteger();
+        int workers = Math.max(1, Math.min(parallelism, (matrix.books() + BLOCK_SIZE - 1) / BLOCK_SIZE));
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                running.add(executor.submit(() -> result.work(nextBlock)));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Neighbourhood computation failed", e.getCause());
+        }
+        return result;
+    }
+
+    private void work(AtomicInteger nextBlock) {
+        float[] scratch = new float[matrix.books()];
+        int[] touched = new int[matrix.books()];
+        int[] heapBooks = new int[k];
+        float[] heapScores = new float[k];
+
+        int block;
+        while ((block = nextBlock.getAndIncrement() * BLOCK_SIZE) < matrix.books()) {
+            int end = Math.min(block + BLOCK_SIZE, matrix.books());
+            for (int book = block; book < end; book++) {
+                neighboursOf(book, scratch, touched, heapBooks, heapScores);
+            }
+        }
+    }
+
+    private void neighboursOf(int book, float[] scratch, int[] touched, int[] heapBooks, float[] heapScores) {
+        int touchedCount = 0;
+        for (int r = matrix.bookStart(book); r < matrix.bookEnd(book); r++) {
+            int user = matrix.bookUser(r);
+            float weight = matrix.bookWeight(r);
+            for (int n = matrix.userStart(user); n < matrix.userEnd(user); n++) {
+                int other = matrix.userBook(n);
+                if (other == book) continue;
+                if (scratch[other] == 0) touched[touchedCount++] = other;
+                scratch[other] += weight * matrix.userWeight(n);
+            }
+        }
+
+        int size = 0;
+        float norm = matrix.bookNorm(book);
+        for (int t = 0; t < touchedCount; t++) {
+            int other = touched[t];
+            float similarity = scratch[other] / (norm * matrix.bookNorm(other));
+            scratch[other] = 0;
+            if (size < k) {
+                heapBooks[size] = other;
+                heapScores[size] = similarity;
+                siftUp(heapBooks, heapScores, size++);
+            } else if (similarity > heapScores[0]) {
+                heapBooks[0] = other;
+                heapScores[0] = similarity;
+                siftDown(heapBooks, heapScores, size);
+            }
+        }
+
+        // drain the min-heap back to front so the row ends up best first
+        int base = book * k;
+        counts[book] = size;
+        for (int slot = size - 1; slot >= 0; slot--) {
+            neighbours[base + slot] = heapBooks[0];
+            scores[base + slot] = heapScores[0];
+            heapBooks[0] = heapBooks[slot];
+            heapScores[0] = heapScores[slot];
+            siftDown(heapBooks, heapScores, slot);
+        }
+    }
+
+    private static void siftUp(int[] books, float[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) return;
+            swap(books, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] books, float[] scores, int size) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && scores[left] < scores[smallest]) smallest = left;
+            if (right < size && scores[right] < scores[smallest]) smallest = right;
+            if (smallest == index) return;
+            swap(books, scores, smallest, index);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] books, float[] scores, int a, int b) {
+        int book = books[a];
+        books[a] = books[b];
+        books[b] = book;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+
+    public int k() {
+        return k;
+    }
+
+    /** Total number of stored {@code (book, neighbour)} pairs. */
+    public long size() {
+        long size = 0;
+        for (int count : counts) size += count;
+        return size;
+    }
+
+    /** Visits every {@code (book, neighbour, similarity)} triple, each book's neighbours best first. */
+    public void forEach(NeighbourConsumer consumer) {
+        for (int book = 0; book < counts.length; book++) {
+            long bookID = matrix.bookID(book);
+            for (int slot = book * k; slot < book * k + counts[book]; slot++) {
+                consumer.accept(bookID, matrix.bookID(neighbours[slot]), scores[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface NeighbourConsumer {
+        void accept(long bookID, long neighbourID, float similarity);
+    }
+}
@@ -0,0 +1,82 @@
+package com.litclub.Backend.repository;
+
+import com.litclub.Backend.entity.BookEnrichmentJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookEnrichmentJobRepository extends JpaRepository<BookEnrichmentJob, Long> {
+
+    /**
+     * Finds jobs that are due, or whose worker lease has expired, oldest first.
+     */
+    @Query("""
+        select j.jobID from BookEnrichmentJob j
+        where (j.status = com.litclub.Backend.construct.library.book.EnrichmentJobStatus.QUEUED
+                and j.availableAt <= :now)
+           or (j.status = com.litclub.Backend.construct.library.book.EnrichmentJobStatus.RUNNING
+                and j.lockedUntil < :now)
+        order by j.availableAt
+        """)
+    List<Long> findClaimableIDs(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Atomically claims a job for one attempt.
+     *
+     * <p>Repeats the claimability condition so that of several workers racing for the same job
+     * exactly one update succeeds.</p>
+     *
+     * @return 1 if the job was claimed, 0 if another worker got there first
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update BookEnrichmentJob j
+        set j.status = com.litclub.Backend.construct.library.book.EnrichmentJobStatus.RUNNING,
+            j.lockedUntil = :lockedUntil,
+            j.leaseOwner = :leaseOwner,
+            j.attempts = j.attempts + 1
+        where j.jobID = :jobID
+          and ((j.status = com.litclub.Backend.construct.library.book.EnrichmentJobStatus.QUEUED
+                  and j.availableAt <= :now)
+            or (j.status = com.litclub.Backend.construct.library.book.EnrichmentJobStatus.RUNNING
+                  and j.lockedUntil < :now))
+        """)
+    int claim(@Param("jobID") Long jobID,
+              @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil,
+              @Param("leaseOwner") String leaseOwner);
+
+    /**
+     * Ends a claim's lease so that its outcome can be recorded.
+     *
+     * <p>Succeeds only for the claim that holds the lease and only while the lease lasts. A worker
+     * whose lease expired, and whose job may since have been claimed by another worker, gets 0 and
+     * must discard its result.</p>
+     *
+     * @return 1 if the lease was released, 0 if the claim no longer holds it
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update BookEnrichmentJob j
+        set j.lockedUntil = null,
+            j.leaseOwner = null
+        where j.jobID = :jobID
+          and j.status = com.litclub.Backend.construct.library.book.EnrichmentJobStatus.RUNNING
+          and j.leaseOwner = :leaseOwner
+          and j.lockedUntil >= :now
+        """)
+    int release(@Param("jobID") Long jobID,
+                @Param("leaseOwner") String leaseOwner,
+                @Param("now") LocalDateTime now);
+
+    @Query("select j from BookEnrichmentJob j join fetch j.book where j.jobID = :jobID")
+    Optional<BookEnrichmentJob> findWithBookByJobID(@Param("jobID") Long jobID);
+
+    List<BookEnrichmentJob> findAllByBook_BookID(Long bookID);
+}
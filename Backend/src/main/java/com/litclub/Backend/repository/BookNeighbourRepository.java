@@ -0,0 +1,43 @@
+package com.litclub.Backend.repository;
+
+import com.litclub.Backend.entity.BookNeighbour;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.entity.compositeKey.BookNeighbourID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BookNeighbourRepository extends JpaRepository<BookNeighbour, BookNeighbourID> {
+
+    /**
+     * IDs of the books most similar to the user's library, best first, excluding books the user already has.
+     *
+     * <p>Books the user did not finish do not seed recommendations. Neighbours whose book has since been deleted
+     * are left out.</p>
+     */
+    @Query(value = """
+        select n.bookNeighbourID.neighbourID
+        from BookNeighbour n, UserBook ub, Book b
+        where ub.user = :user
+          and b.bookID = n.bookNeighbourID.neighbourID
+          and ub.status <> com.litclub.Backend.construct.library.book.BookStatus.DNF
+          and n.bookNeighbourID.bookID = ub.book.bookID
+          and n.bookNeighbourID.neighbourID not in (
+              select owned.book.bookID from UserBook owned where owned.user = :user)
+        group by n.bookNeighbourID.neighbourID
+        order by sum(n.similarity) desc, n.bookNeighbourID.neighbourID
+        """,
+        countQuery = """
+        select count(distinct n.bookNeighbourID.neighbourID)
+        from BookNeighbour n, UserBook ub, Book b
+        where ub.user = :user
+          and b.bookID = n.bookNeighbourID.neighbourID
+          and ub.status <> com.litclub.Backend.construct.library.book.BookStatus.DNF
+          and n.bookNeighbourID.bookID = ub.book.bookID
+          and n.bookNeighbourID.neighbourID not in (
+              select owned.book.bookID from UserBook owned where owned.user = :user)
+        """)
+    Page<Long> findRecommendedBookIDs(@Param("user") User user, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package com.litclub.Backend.repository;
+
+import com.litclub.Backend.entity.BookRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookRatingStatsRepository extends JpaRepository<BookRatingStats, Long> {
+}
@@ -2,13 +2,21 @@ package com.litclub.Backend.repository;
 
 import com.litclub.Backend.entity.Book;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
 
     Optional<Book> findBookByisbn(String isbn);
+    List<Book> findAllByIsbnIn(Collection<String> isbns);
+
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
     Optional<Book> findBookByTitleAndPrimaryAuthor(String title, String author);
 
     List<Book> findAllByTitle(String title);
@@ -5,8 +5,13 @@ import com.litclub.Backend.entity.ClubMembership;
 import com.litclub.Backend.entity.User;
 import com.litclub.Backend.entity.compositeKey.ClubMembershipID;
 import com.litclub.Backend.security.roles.ClubRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -20,4 +25,110 @@ public interface ClubMembershipRepository extends JpaRepository<ClubMembership,
     List<ClubMembership> findClubMembershipsByClubAndRoles(Club club, Set<ClubRole> role);
     Optional<ClubMembership> findByClubAndMember(Club club, User user);
     Optional<ClubMembership> findClubMembershipByClubMembershipID(ClubMembershipID clubMembershipID);
+
+    @Query(value = """
+    SELECT u
+    FROM User u
+    JOIN ClubMembership cm ON cm.member = u
+    WHERE cm.club = :club
+    """,
+    countQuery = """
+    SELECT COUNT(cm)
+    FROM ClubMembership cm
+    WHERE cm.club = :club
+    """)
+    Page<User> findMembersByClub(Club club, Pageable pageable);
+
+    @Query(value = """
+    SELECT u
+    FROM User u
+    JOIN ClubMembership cm ON cm.member = u
+    WHERE cm.club = :club
+    ORDER BY cm.joinedAt DESC
+    """,
+    countQuery = """
+    SELECT COUNT(cm)
+    FROM ClubMembership cm
+    WHERE cm.club = :club
+    """)
+    Page<User> findRecentMembersByClub(Club club, Pageable pageable);
+
+    @Query(value = """
+    SELECT c
+    FROM Club c
+    JOIN ClubMembership cm ON cm.club = c
+    WHERE cm.member = :user
+    """,
+    countQuery = """
+    SELECT COUNT(cm)
+    FROM ClubMembership cm
+    WHERE cm.member = :user
+    """)
+    Page<Club> findClubsByMember(User user, Pageable pageable);
+
+    /**
+     * Returns {@code [memberID, Club]} pairs for every membership held by the given users.
+     */
+    @Query("""
+    SELECT cm.clubMembershipID.memberID, c
+    FROM ClubMembership cm
+    JOIN cm.club c
+    JOIN FETCH c.creator cr
+    LEFT JOIN FETCH cr.globalRoles
+    WHERE cm.clubMembershipID.memberID IN :memberIDs
+    """)
+    List<Object[]> findClubsByMemberIDs(Collection<Long> memberIDs);
+
+    /**
+     * Returns {@code [memberID, Club]} pairs for every membership.
+     */
+    @Query("""
+    SELECT cm.clubMembershipID.memberID, c
+    FROM ClubMembership cm
+    JOIN cm.club c
+    JOIN FETCH c.creator cr
+    LEFT JOIN FETCH cr.globalRoles
+    """)
+    List<Object[]> findAllMemberClubs();
+
+    /**
+     * Returns the clubs of {@code member} that changed, or that they joined, after {@code since}.
+     */
+    @Query("""
+    SELECT c
+    FROM ClubMembership cm
+    JOIN cm.club c
+    JOIN FETCH c.creator cr
+    LEFT JOIN FETCH cr.globalRoles
+    WHERE cm.member = :member
+      AND (c.updatedAt > :since OR cm.joinedAt > :since)
+    """)
+    List<Club> findClubsChangedForMember(User member, LocalDateTime since);
+
+    @Query("""
+    SELECT cm.clubMembershipID.memberID
+    FROM ClubMembership cm
+    WHERE cm.club = :club
+    """)
+    List<Long> findMemberIDsByClub(Club club);
+
+    @Query("""
+    SELECT cm.clubMembershipID.clubID
+    FROM ClubMembership cm
+    WHERE cm.clubMembershipID.memberID = :memberID
+    """)
+    List<Long> findClubIDsByMemberID(Long memberID);
+
+    /**
+     * Checks whether a user holds any of the given roles in a club, reading only the membership's role rows.
+     */
+    @Query("""
+    SELECT COUNT(r) > 0
+    FROM ClubMembership cm
+    JOIN cm.roles r
+    WHERE cm.clubMembershipID.clubID = :clubID
+      AND cm.clubMembershipID.memberID = :memberID
+      AND r IN :roles
+    """)
+    boolean hasAnyRole(Long clubID, Long memberID, Collection<ClubRole> roles);
 }
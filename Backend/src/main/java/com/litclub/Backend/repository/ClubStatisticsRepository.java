@@ -0,0 +1,62 @@
+package com.litclub.Backend.repository;
+
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.security.roles.ClubRole;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Read-only aggregate queries over a {@link Club} and its related rows.
+ *
+ * <p>Every count is a correlated {@code COUNT(*)} sub-select evaluated by the database, so a
+ * statistics or dashboard request costs a single round trip regardless of how many members,
+ * meetings, prompts or notes the club holds. No entities are loaded.</p>
+ */
+public interface ClubStatisticsRepository extends Repository<Club, Long> {
+
+    /**
+     * Counts associated with a single club.
+     */
+    interface ClubCounts {
+        long getMembers();
+        long getMeetings();
+        long getUpcomingMeetings();
+        long getPrompts();
+        long getNotes();
+        long getOwnerBooks();
+    }
+
+    /**
+     * Computes all {@link ClubCounts} for a club in one statement.
+     *
+     * <p>{@code ownerBooks} is the size of the personal library of the club's owner with the
+     * lowest user ID, or zero if the club has no owner.</p>
+     *
+     * @param clubID the club
+     * @param now reference time separating upcoming meetings from the rest
+     * @param owner the role identifying club owners
+     * @return the counts, or empty if the club does not exist
+     */
+    @Query("""
+        SELECT
+            (SELECT COUNT(cm) FROM ClubMembership cm WHERE cm.club = c) AS members,
+            (SELECT COUNT(m) FROM Meeting m WHERE m.club = c) AS meetings,
+            (SELECT COUNT(m) FROM Meeting m WHERE m.club = c AND m.startTime > :now) AS upcomingMeetings,
+            (SELECT COUNT(p) FROM DiscussionPrompt p WHERE p.club = c) AS prompts,
+            (SELECT COUNT(n) FROM Note n WHERE n.club = c) AS notes,
+            (SELECT COUNT(ub) FROM UserBook ub WHERE ub.user.userID = (
+                SELECT MIN(o.clubMembershipID.memberID)
+                FROM ClubMembership o JOIN o.roles r
+                WHERE o.club = c AND r = :owner
+            )) AS ownerBooks
+        FROM Club c
+        WHERE c.clubID = :clubID
+        """)
+    Optional<ClubCounts> findCounts(@Param("clubID") Long clubID,
+                                    @Param("now") LocalDateTime now,
+                                    @Param("owner") ClubRole owner);
+}
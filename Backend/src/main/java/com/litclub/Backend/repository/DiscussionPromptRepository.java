@@ -6,6 +6,9 @@ import com.litclub.Backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,4 +24,39 @@ public interface DiscussionPromptRepository extends JpaRepository<DiscussionProm
     List<DiscussionPrompt> findAllByPosterAndClub(User poster, Club club);
 
     Page<DiscussionPrompt> findAllByClub(Club club, Pageable pageable);
+
+    @Query("SELECT DISTINCT p.poster.userID FROM DiscussionPrompt p WHERE p.club = :club")
+    List<Long> findPosterIDsByClub(@Param("club") Club club);
+
+    /**
+     * Unlinks every note answering one of the club's prompts, so the prompts can be deleted in bulk.
+     *
+     * @return number of notes detached
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Note n SET n.discussionPrompt = NULL
+        WHERE n.discussionPrompt IN (SELECT p FROM DiscussionPrompt p WHERE p.club = :club)
+       """)
+    int detachNotesFromClubPrompts(@Param("club") Club club);
+
+    /**
+     * Unlinks every note answering one of the user's prompts, so the prompts can be deleted in bulk.
+     *
+     * @return number of notes detached
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Note n SET n.discussionPrompt = NULL
+        WHERE n.discussionPrompt IN (SELECT p FROM DiscussionPrompt p WHERE p.poster = :poster)
+       """)
+    int detachNotesFromPosterPrompts(@Param("poster") User poster);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DiscussionPrompt p WHERE p.club = :club")
+    int deleteAllInBulkByClub(@Param("club") Club club);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DiscussionPrompt p WHERE p.poster = :poster")
+    int deleteAllInBulkByPoster(@Param("poster") User poster);
 }
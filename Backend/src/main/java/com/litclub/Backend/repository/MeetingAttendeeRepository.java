@@ -8,6 +8,7 @@ import com.litclub.Backend.entity.User;
 import com.litclub.Backend.entity.compositeKey.MeetingAttendeeID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +28,6 @@ public interface MeetingAttendeeRepository extends JpaRepository<MeetingAttendee
     List<MeetingAttendee> findByMeeting_ClubAndRsvpStatus(Club club, RsvpStatus status);
     List<MeetingAttendee> findByUserAndRsvpStatus(User user, RsvpStatus status);
 
+    long countByUser_UserIDAndMeeting_StartTimeAfter(Long userID, LocalDateTime time);
+
 }
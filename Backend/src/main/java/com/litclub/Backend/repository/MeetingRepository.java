@@ -1,8 +1,10 @@
 package com.litclub.Backend.repository;
 
+import com.litclub.Backend.construct.meeting.MeetingView;
 import com.litclub.Backend.entity.Club;
 import com.litclub.Backend.entity.Meeting;
 import com.litclub.Backend.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,7 +12,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,11 @@ import java.util.Optional;
  */
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
+    /** Selects a {@link MeetingView} from {@code m}, which must be joined with {@link #MEETING_VIEW_JOINS}. */
+    String MEETING_VIEW = "new com.litclub.Backend.construct.meeting.MeetingView(m.meetingID, c.clubID, c.clubName, "
+            + "m.title, m.startTime, m.endTime, m.location, m.link, u.userID, u.username, m.createdAt)";
+    String MEETING_VIEW_JOINS = "JOIN m.club c JOIN m.creator u";
+
     // ====== BASIC FINDERS ======
 
     /**
@@ -43,13 +49,53 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     List<Meeting> findAllByClub(Club club);
 
     /**
-     * Finds all meetings for a specific club.
+     * Finds one page of a club's meetings as {@link MeetingView}s.
      *
      * @param club     the club
      * @param pageable pageable argument
-     * @return list of meetings, empty if none exist
+     * @return page of meetings, empty if none exist
+     */
+    @Query(value = "SELECT " + MEETING_VIEW + " FROM Meeting m " + MEETING_VIEW_JOINS + " WHERE m.club = :club",
+            countQuery = "SELECT COUNT(m) FROM Meeting m WHERE m.club = :club")
+    Page<MeetingView> findViewsByClub(@Param("club") Club club, Pageable pageable);
+
+    /**
+     * Finds one page of the meetings of every club a user belongs to, as {@link MeetingView}s.
+     *
+     * @param member the user
+     * @param pageable pageable argument
+     * @return page of meetings, empty if the user belongs to no club
+     */
+    @Query(value = "SELECT " + MEETING_VIEW + " FROM Meeting m " + MEETING_VIEW_JOINS
+            + " WHERE m.club IN (SELECT cm.club FROM ClubMembership cm WHERE cm.member = :member)",
+            countQuery = "SELECT COUNT(m) FROM Meeting m"
+                    + " WHERE m.club IN (SELECT cm.club FROM ClubMembership cm WHERE cm.member = :member)")
+    Page<MeetingView> findViewsForMember(@Param("member") User member, Pageable pageable);
+
+    /**
+     * Finds the meetings of every club a user belongs to that changed after {@code since}, together with every
+     * meeting of the clubs they joined after it, as {@link MeetingView}s.
+     *
+     * @param member the user
+     * @param since the time of the user's last sync
+     * @return list of meetings, empty if nothing changed
+     */
+    @Query("SELECT " + MEETING_VIEW + " FROM Meeting m " + MEETING_VIEW_JOINS + """
+        WHERE m.club IN (SELECT cm.club FROM ClubMembership cm WHERE cm.member = :member)
+          AND (m.updatedAt > :since
+               OR m.club IN (SELECT cm.club FROM ClubMembership cm WHERE cm.member = :member AND cm.joinedAt > :since))
+       """)
+    List<MeetingView> findViewsChangedForMember(@Param("member") User member, @Param("since") LocalDateTime since);
+
+    /**
+     * Finds one page of all meetings as {@link MeetingView}s.
+     *
+     * @param pageable pageable argument
+     * @return page of meetings
      */
-    Page<Meeting> findAllByClub(Club club, Pageable pageable);
+    @Query(value = "SELECT " + MEETING_VIEW + " FROM Meeting m " + MEETING_VIEW_JOINS,
+            countQuery = "SELECT COUNT(m) FROM Meeting m")
+    Page<MeetingView> findAllViews(Pageable pageable);
 
     /**
      * Finds all meetings created by a specific user.
@@ -79,6 +125,29 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
      */
     List<Meeting> findByClubAndStartTimeAfterOrderByStartTimeAsc(Club club, LocalDateTime time);
 
+    /**
+     * Finds one page of upcoming meetings for a club as {@link MeetingView}s.
+     *
+     * @param club the club
+     * @param time the reference time (typically current time)
+     * @param pageable pageable argument
+     * @return page of upcoming meetings ordered by start time ascending
+     */
+    @Query(value = "SELECT " + MEETING_VIEW + " FROM Meeting m " + MEETING_VIEW_JOINS
+            + " WHERE m.club = :club AND m.startTime > :time ORDER BY m.startTime ASC",
+            countQuery = "SELECT COUNT(m) FROM Meeting m WHERE m.club = :club AND m.startTime > :time")
+    Page<MeetingView> findUpcomingViewsByClub(@Param("club") Club club, @Param("time") LocalDateTime time,
+                                              Pageable pageable);
+
+    /**
+     * Finds the next upcoming meeting for a club.
+     *
+     * @param club the club
+     * @param time the reference time (typically current time)
+     * @return the meeting with the earliest start time after {@code time}, or empty if none
+     */
+    Optional<Meeting> findFirstByClubAndStartTimeAfterOrderByStartTimeAsc(Club club, LocalDateTime time);
+
     /**
      * Finds past meetings for a club (end time before specified time).
      *
@@ -310,9 +379,38 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
        \s""")
     List<Object[]> findMostActiveClubsByMeetingCount(@Param("limit") int limit);
 
-    Page<Meeting> findMeetingsByClub(Club club, Pageable pageable);
+    /**
+     * Finds a club's meetings that follow a feed position, most recently created first.
+     *
+     * <p>Keyset pagination: the position is the last meeting the caller has seen, so later pages cost
+     * the same as the first and meetings created in the meantime do not shift them.</p>
+     *
+     * @param club the club
+     * @param createdAt creation time of the last meeting seen
+     * @param meetingID ID of the last meeting seen
+     * @param limit maximum number of meetings to return
+     * @return the meetings after {@code (createdAt, meetingID)}, ordered by creation time then ID, descending
+     */
+    @Query("SELECT " + MEETING_VIEW + " FROM Meeting m " + MEETING_VIEW_JOINS + """
+        WHERE m.club = :club
+          AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.meetingID < :meetingID))
+        ORDER BY m.createdAt DESC, m.meetingID DESC
+       """)
+    List<MeetingView> findFeedByClub(@Param("club") Club club, @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("meetingID") long meetingID, Limit limit);
 
-    Page<Meeting> findAllByClubIn(Collection<Club> clubs, Pageable pageable);
+    /**
+     * Finds the meetings of every club a user belongs to that follow a feed position, most recently created first.
+     *
+     * @see #findFeedByClub(Club, LocalDateTime, long, Limit)
+     */
+    @Query("SELECT " + MEETING_VIEW + " FROM Meeting m " + MEETING_VIEW_JOINS + """
+        WHERE m.club IN (SELECT cm.club FROM ClubMembership cm WHERE cm.member = :member)
+          AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.meetingID < :meetingID))
+        ORDER BY m.createdAt DESC, m.meetingID DESC
+       """)
+    List<MeetingView> findFeedForMember(@Param("member") User member, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("meetingID") long meetingID, Limit limit);
 
     List<Meeting> findByClubAndStartTimeLessThanAndEndTimeGreaterThan(
             Club club,
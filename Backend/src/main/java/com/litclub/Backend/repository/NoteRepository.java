@@ -1,10 +1,15 @@
 package com.litclub.Backend.repository;
 
+import com.litclub.Backend.construct.note.NoteView;
 import com.litclub.Backend.entity.*;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,9 +29,51 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
     List<Note> findAllByUserAndContentContaining(User user, String content);
     List<Note> findAllByDiscussionPrompt(DiscussionPrompt prompt);
 
-    Page<Note> findAllByBook(Book book, Pageable pageable);
-    Page<Note> findAllByClub(Club club, Pageable pageable);
-    Page<Note> findAllByDiscussionPrompt(DiscussionPrompt prompt, Pageable pageable);
+    /** Selects a {@link NoteView} from {@code n}, which must be joined with {@link #NOTE_VIEW_JOINS}. */
+    String NOTE_VIEW = "new com.litclub.Backend.construct.note.NoteView(n.noteID, b.bookID, b.title, c.clubID, "
+            + "c.clubName, p.promptID, p.prompt, u.userID, u.username, n.content, n.isPrivate, n.createdAt)";
+    String NOTE_VIEW_JOINS = "JOIN n.user u LEFT JOIN n.book b LEFT JOIN n.club c LEFT JOIN n.discussionPrompt p";
 
-    Page<Note> findAllByBookAndIsPrivate(Book book, boolean isPrivate, Pageable pageable);
+    // Read models for the list endpoints: one joined statement per page, no entities loaded.
+
+    @Query(value = "SELECT " + NOTE_VIEW + " FROM Note n " + NOTE_VIEW_JOINS + " WHERE n.book = :book",
+            countQuery = "SELECT COUNT(n) FROM Note n WHERE n.book = :book")
+    Page<NoteView> findViewsByBook(@Param("book") Book book, Pageable pageable);
+
+    @Query(value = "SELECT " + NOTE_VIEW + " FROM Note n " + NOTE_VIEW_JOINS
+            + " WHERE n.book = :book AND n.isPrivate = :isPrivate",
+            countQuery = "SELECT COUNT(n) FROM Note n WHERE n.book = :book AND n.isPrivate = :isPrivate")
+    Page<NoteView> findViewsByBookAndIsPrivate(@Param("book") Book book, @Param("isPrivate") boolean isPrivate,
+                                               Pageable pageable);
+
+    @Query(value = "SELECT " + NOTE_VIEW + " FROM Note n " + NOTE_VIEW_JOINS + " WHERE n.club = :club",
+            countQuery = "SELECT COUNT(n) FROM Note n WHERE n.club = :club")
+    Page<NoteView> findViewsByClub(@Param("club") Club club, Pageable pageable);
+
+    @Query(value = "SELECT " + NOTE_VIEW + " FROM Note n " + NOTE_VIEW_JOINS + " WHERE n.discussionPrompt = :prompt",
+            countQuery = "SELECT COUNT(n) FROM Note n WHERE n.discussionPrompt = :prompt")
+    Page<NoteView> findViewsByDiscussionPrompt(@Param("prompt") DiscussionPrompt prompt, Pageable pageable);
+
+    @Query("SELECT " + NOTE_VIEW + " FROM Note n " + NOTE_VIEW_JOINS
+            + " WHERE n.user = :user AND n.updatedAt > :since")
+    List<NoteView> findViewsChangedByUser(@Param("user") User user, @Param("since") LocalDateTime since);
+
+    // Keyset feeds, newest first: the notes strictly after the position (createdAt, noteID).
+
+    @Query("SELECT " + NOTE_VIEW + " FROM Note n " + NOTE_VIEW_JOINS + """
+        WHERE n.club = :club
+          AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.noteID < :noteID))
+        ORDER BY n.createdAt DESC, n.noteID DESC
+       """)
+    List<NoteView> findFeedByClub(@Param("club") Club club, @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("noteID") long noteID, Limit limit);
+
+    @Query("SELECT " + NOTE_VIEW + " FROM Note n " + NOTE_VIEW_JOINS + """
+        WHERE n.discussionPrompt = :prompt
+          AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.noteID < :noteID))
+        ORDER BY n.createdAt DESC, n.noteID DESC
+       """)
+    List<NoteView> findFeedByDiscussionPrompt(@Param("prompt") DiscussionPrompt prompt,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("noteID") long noteID, Limit limit);
 }
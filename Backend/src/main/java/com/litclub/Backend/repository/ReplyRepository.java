@@ -1,14 +1,19 @@
 package com.litclub.Backend.repository;
 
+import com.litclub.Backend.construct.note.NoteView;
 import com.litclub.Backend.entity.Note;
 import com.litclub.Backend.entity.Reply;
 import com.litclub.Backend.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +24,17 @@ import java.util.List;
  */
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
+    /**
+     * One reply within a thread, as returned by {@link #findThreadNodes(Collection)}.
+     */
+    interface ReplyNode {
+        Long getRootID();
+        Long getNoteID();
+        Long getParentNoteID();
+        Long getUserID();
+        Integer getDepth();
+    }
+
     /**
      * Finds all direct replies to a specific parent note.
      *
@@ -27,7 +43,37 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
      */
     List<Reply> findAllByParentNote(Note parentNote);
 
-    Page<Reply> findAllByParentNote(Note parentNote, Pageable pageable);
+    /**
+     * Finds one page of the direct replies to a note as {@link NoteView}s, reading the author in the same
+     * statement.
+     *
+     * @param parentNote the parent note
+     * @param pageable page request
+     * @return page of direct replies
+     */
+    @Query(value = "SELECT " + NoteRepository.NOTE_VIEW + " FROM Reply n " + NoteRepository.NOTE_VIEW_JOINS
+            + " WHERE n.parentNote = :parentNote",
+            countQuery = "SELECT COUNT(r) FROM Reply r WHERE r.parentNote = :parentNote")
+    Page<NoteView> findViewsByParentNote(@Param("parentNote") Note parentNote, Pageable pageable);
+
+    /**
+     * Finds the direct replies to a note that follow a feed position, oldest first, so that a thread
+     * reads in the order it was written.
+     *
+     * @param parentNote the parent note
+     * @param createdAt creation time of the last reply seen
+     * @param noteID ID of the last reply seen
+     * @param limit maximum number of replies to return
+     * @return the replies after {@code (createdAt, noteID)}, ordered by creation time then ID
+     */
+    @Query("SELECT " + NoteRepository.NOTE_VIEW + " FROM Reply n " + NoteRepository.NOTE_VIEW_JOINS + """
+        WHERE n.parentNote = :parentNote
+          AND (n.createdAt > :createdAt OR (n.createdAt = :createdAt AND n.noteID > :noteID))
+        ORDER BY n.createdAt ASC, n.noteID ASC
+       """)
+    List<NoteView> findFeedByParentNote(@Param("parentNote") Note parentNote,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("noteID") long noteID, Limit limit);
 
     /**
      * Finds all replies created by a specific user.
@@ -37,6 +83,9 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
      */
     List<Reply> findAllByUser(User user);
 
+    @Query("SELECT r.noteID FROM Reply r WHERE r.user = :user")
+    List<Long> findNoteIDsByUser(@Param("user") User user);
+
     /**
      * Finds all replies created by a specific user on a specific parent note.
      *
@@ -153,4 +202,88 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
         LIMIT :limit
        """)
     List<Reply> findRecentRepliesForNote(@Param("parentNote") Note parentNote, @Param("limit") int limit);
-}
\ No newline at end of file
+
+    /**
+     * Walks every reply thread below the given root notes with a recursive CTE.
+     *
+     * <p>Each row identifies one reply, the root note whose thread it belongs to, its direct
+     * parent and its depth (1 for a direct reply to the root). Rows are ordered by depth and then
+     * by ID, so a parent always precedes its children. The statement is plain SQL:2003 and runs
+     * unchanged on PostgreSQL and H2.</p>
+     *
+     * @param rootIDs the IDs of the notes (or replies) whose threads to load
+     * @return every reply below the roots, empty if none exist
+     */
+    @Query(value = """
+        WITH RECURSIVE thread(root_id, note_id, parent_note_id, user_id, depth) AS (
+            SELECT r.parent_note_id, r.noteid, r.parent_note_id, n.user_id, 1
+            FROM replies r
+            JOIN notes n ON n.noteid = r.noteid
+            WHERE r.parent_note_id IN (:rootIDs)
+            UNION ALL
+            SELECT t.root_id, r.noteid, r.parent_note_id, n.user_id, t.depth + 1
+            FROM replies r
+            JOIN notes n ON n.noteid = r.noteid
+            JOIN thread t ON r.parent_note_id = t.note_id
+        )
+        SELECT root_id AS rootID, note_id AS noteID, parent_note_id AS parentNoteID,
+               user_id AS userID, depth AS depth
+        FROM thread
+        ORDER BY depth, note_id
+       """, nativeQuery = true)
+    List<ReplyNode> findThreadNodes(@Param("rootIDs") Collection<Long> rootIDs);
+
+    /**
+     * Counts every reply below a note, at any depth, without loading the replies.
+     *
+     * @param rootID the ID of the note whose thread to count
+     * @return total number of replies in the thread
+     */
+    @Query(value = """
+        WITH RECURSIVE thread(note_id) AS (
+            SELECT r.noteid FROM replies r WHERE r.parent_note_id = :rootID
+            UNION ALL
+            SELECT r.noteid FROM replies r JOIN thread t ON r.parent_note_id = t.note_id
+        )
+        SELECT COUNT(*) FROM thread
+       """, nativeQuery = true)
+    long countThread(@Param("rootID") Long rootID);
+
+    /**
+     * Loads replies by ID together with their authors and parents.
+     *
+     * @param noteIDs the reply IDs
+     * @return the matching replies, in no particular order
+     */
+    @Query("""
+        SELECT r FROM Reply r
+        JOIN FETCH r.user u
+        LEFT JOIN FETCH u.globalRoles
+        JOIN FETCH r.parentNote
+        WHERE r.noteID IN :noteIDs
+       """)
+    List<Reply> findAllWithAuthorByNoteIDIn(@Param("noteIDs") Collection<Long> noteIDs);
+
+    /**
+     * Removes the {@code replies} rows of the given replies.
+     *
+     * <p>Must be followed by {@link #deleteNoteRows(Collection)} for the same IDs, since a reply
+     * is stored across both tables.</p>
+     *
+     * @param noteIDs the reply IDs
+     * @return number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM replies WHERE noteid IN (:noteIDs)", nativeQuery = true)
+    int deleteReplyRows(@Param("noteIDs") Collection<Long> noteIDs);
+
+    /**
+     * Removes the {@code notes} rows of the given replies.
+     *
+     * @param noteIDs the reply IDs
+     * @return number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM notes WHERE noteid IN (:noteIDs)", nativeQuery = true)
+    int deleteNoteRows(@Param("noteIDs") Collection<Long> noteIDs);
+}
@@ -1,27 +1,42 @@
 package com.litclub.Backend.repository;
 
+import com.litclub.Backend.construct.review.ReviewView;
 import com.litclub.Backend.entity.Book;
 import com.litclub.Backend.entity.Review;
 import com.litclub.Backend.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    /** Selects a {@link ReviewView} from {@code r}, which must be joined with {@link #REVIEW_VIEW_JOINS}. */
+    String REVIEW_VIEW = "new com.litclub.Backend.construct.review.ReviewView(r.reviewID, b.bookID, b.title, "
+            + "u.userID, u.username, r.rating, r.content, r.createdAt)";
+    String REVIEW_VIEW_JOINS = "JOIN r.book b JOIN r.user u";
+
     boolean existsByUserAndBook(User user, Book book);
 
     Optional<Review> findByBookAndUser(Book book, User user);
 
     List<Review> findByUser(User user);
-    Page<Review> findByUser(User user, Pageable pageable);
+    @Query(value = "SELECT " + REVIEW_VIEW + " FROM Review r " + REVIEW_VIEW_JOINS + " WHERE r.user = :user",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.user = :user")
+    Page<ReviewView> findViewsByUser(@Param("user") User user, Pageable pageable);
+    @Query("SELECT " + REVIEW_VIEW + " FROM Review r " + REVIEW_VIEW_JOINS
+            + " WHERE r.user = :user AND r.updatedAt > :since")
+    List<ReviewView> findViewsChangedByUser(@Param("user") User user, @Param("since") LocalDateTime since);
     List<Review> findByBook(Book book);
-    Page<Review> findByBook(Book book, Pageable pageable);
+    @Query(value = "SELECT " + REVIEW_VIEW + " FROM Review r " + REVIEW_VIEW_JOINS + " WHERE r.book = :book",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.book = :book")
+    Page<ReviewView> findViewsByBook(@Param("book") Book book, Pageable pageable);
     List<Review> findByRatingEquals(int rating);
 
     List<Review> findByUserAndRatingEquals(User user, Integer rating);
@@ -52,4 +67,22 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByUserAndRatingLessThan(User user, Integer rating);
 
     boolean existsByReviewID(Long reviewID);
+
+    // Keyset feeds, newest first: the reviews strictly after the position (createdAt, reviewID).
+
+    @Query("SELECT " + REVIEW_VIEW + " FROM Review r " + REVIEW_VIEW_JOINS + """
+    WHERE r.book = :book
+      AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewID < :reviewID))
+    ORDER BY r.createdAt DESC, r.reviewID DESC
+""")
+    List<ReviewView> findFeedByBook(@Param("book") Book book, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("reviewID") long reviewID, Limit limit);
+
+    @Query("SELECT " + REVIEW_VIEW + " FROM Review r " + REVIEW_VIEW_JOINS + """
+    WHERE r.user = :user
+      AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewID < :reviewID))
+    ORDER BY r.createdAt DESC, r.reviewID DESC
+""")
+    List<ReviewView> findFeedByUser(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("reviewID") long reviewID, Limit limit);
 }
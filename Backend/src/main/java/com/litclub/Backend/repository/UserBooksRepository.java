@@ -1,5 +1,6 @@
 package com.litclub.Backend.repository;
 
+import com.litclub.Backend.construct.library.book.BookStatus;
 import com.litclub.Backend.entity.Book;
 import com.litclub.Backend.entity.User;
 import com.litclub.Backend.entity.UserBook;
@@ -9,6 +10,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,44 @@ public interface UserBooksRepository extends JpaRepository<UserBook, UserBookID>
     List<UserBook> findAllByBook(Book book);
     List<UserBook> findAllByUser(User user);
 
+    /** The whole library of {@code user}, with each book and its authors, in one statement. */
+    @Query("""
+    SELECT ub
+    FROM UserBook ub
+    JOIN FETCH ub.book b
+    LEFT JOIN FETCH b.authors
+    LEFT JOIN FETCH b.addedBy
+    WHERE ub.user = :user
+    ORDER BY ub.createdAt DESC
+    """)
+    List<UserBook> findLibraryByUser(User user);
+
+    /** The entries of {@code user}'s library created or changed after {@code since}, fetched the same way. */
+    @Query("""
+    SELECT ub
+    FROM UserBook ub
+    JOIN FETCH ub.book b
+    LEFT JOIN FETCH b.authors
+    LEFT JOIN FETCH b.addedBy
+    WHERE ub.user = :user AND ub.updatedAt > :since
+    ORDER BY ub.createdAt DESC
+    """)
+    List<UserBook> findLibraryChangedSince(User user, LocalDateTime since);
+
+    @Query(value = """
+    SELECT ub
+    FROM UserBook ub
+    JOIN FETCH ub.book
+    WHERE ub.user = :user AND ub.status = :status
+    ORDER BY ub.createdAt DESC, ub.book.bookID
+    """,
+    countQuery = """
+    SELECT COUNT(ub)
+    FROM UserBook ub
+    WHERE ub.user = :user AND ub.status = :status
+    """)
+    Page<UserBook> findShelfByUser(User user, BookStatus status, Pageable pageable);
+
     @Query("""
     SELECT ub.book
     FROM UserBook ub
@@ -29,9 +69,27 @@ public interface UserBooksRepository extends JpaRepository<UserBook, UserBookID>
         FROM ClubMembership cm2
         WHERE cm2.member = :user
     )
+    AND ub.book NOT IN (
+        SELECT owned.book
+        FROM UserBook owned
+        WHERE owned.user = :user
+    )
     GROUP BY ub.book
     ORDER BY COUNT(ub.book) DESC
     """)
     Page<Book> findRecommendedBooks(User user, Pageable pageable);
 
+    @Query(value = """
+    SELECT u
+    FROM User u
+    JOIN UserBook ub ON ub.user = u
+    WHERE ub.book = :book
+    """,
+    countQuery = """
+    SELECT COUNT(ub)
+    FROM UserBook ub
+    WHERE ub.book = :book
+    """)
+    Page<User> findReadersByBook(Book book, Pageable pageable);
+
 }
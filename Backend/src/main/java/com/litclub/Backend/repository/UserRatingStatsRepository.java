@@ -0,0 +1,7 @@
+package com.litclub.Backend.repository;
+
+import com.litclub.Backend.entity.UserRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserRatingStatsRepository extends JpaRepository<UserRatingStats, Long> {
+}
@@ -2,9 +2,12 @@ package com.litclub.Backend.repository;
 
 import com.litclub.Backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -26,5 +29,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findUserByEmail(String email);
     Optional<User> findUserByUserID(Long id);
 
+    /**
+     * Returns {@code [userID, firstName, secondName, username, email]} rows for the given users
+     * without loading the entities or their eager collections.
+     */
+    @Query("""
+        select u.userID, u.firstName, u.secondName, u.username, u.email
+        from User u
+        where u.userID in :userIDs
+        """)
+    List<Object[]> findRecordColumnsByUserIDs(@Param("userIDs") Collection<Long> userIDs);
+
+    @Query("""
+        select u.userID, u.firstName, u.secondName, u.username, u.email
+        from User u
+        """)
+    List<Object[]> findAllRecordColumns();
+
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.membershipVersion = u.membershipVersion + 1 where u.userID = :userID")
+    int incrementMembershipVersion(@Param("userID") Long userID);
+
 }
 
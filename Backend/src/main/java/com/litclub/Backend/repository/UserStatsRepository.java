@@ -0,0 +1,69 @@
+package com.litclub.Backend.repository;
+
+import com.litclub.Backend.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    /**
+     * Source counts for one user's {@link UserStats} row.
+     */
+    interface UserStatsCounts {
+        long getClubs();
+        long getBooksWantToRead();
+        long getBooksReading();
+        long getBooksRead();
+        long getBooksDnf();
+        long getReviews();
+        long getRatedReviews();
+        long getRatingSum();
+        long getNotes();
+        long getPrompts();
+        long getRsvps();
+        long getMeetingsAttended();
+        long getLateArrivals();
+    }
+
+    /**
+     * Computes every {@link UserStatsCounts} value for a user in one statement.
+     *
+     * @param userID the user
+     * @return the counts, or empty if the user does not exist
+     */
+    @Query("""
+        select
+            (select count(cm) from ClubMembership cm where cm.member = u) as clubs,
+            (select count(ub) from UserBook ub where ub.user = u
+                and ub.status = com.litclub.Backend.construct.library.book.BookStatus.WANT_TO_READ) as booksWantToRead,
+            (select count(ub) from UserBook ub where ub.user = u
+                and ub.status = com.litclub.Backend.construct.library.book.BookStatus.READING) as booksReading,
+            (select count(ub) from UserBook ub where ub.user = u
+                and ub.status = com.litclub.Backend.construct.library.book.BookStatus.READ) as booksRead,
+            (select count(ub) from UserBook ub where ub.user = u
+                and ub.status = com.litclub.Backend.construct.library.book.BookStatus.DNF) as booksDnf,
+            (select count(r) from Review r where r.user = u) as reviews,
+            (select count(r.rating) from Review r where r.user = u) as ratedReviews,
+            (select coalesce(sum(r.rating), 0) from Review r where r.user = u) as ratingSum,
+            (select count(n) from Note n where n.user = u) as notes,
+            (select count(p) from DiscussionPrompt p where p.poster = u) as prompts,
+            (select count(ma) from MeetingAttendee ma where ma.user = u) as rsvps,
+            (select count(mr) from MeetingRegister mr where mr.user = u and mr.attended = true) as meetingsAttended,
+            (select count(mr) from MeetingRegister mr where mr.user = u and mr.late = true) as lateArrivals
+        from User u
+        where u.userID = :userID
+        """)
+    Optional<UserStatsCounts> computeCounts(@Param("userID") Long userID);
+
+    @Query("select u.userID from User u order by u.userID")
+    List<Long> findAllUserIDs();
+
+    @Modifying
+    @Query("delete from UserStats s where s.userID not in (select u.userID from User u)")
+    int deleteOrphans();
+}
@@ -0,0 +1,227 @@
+package com.litclub.Backend.search;
+
+import com.litclub.Backend.construct.search.SearchDocument;
+import com.litclub.Backend.construct.search.SearchDocumentType;
+import com.litclub.Backend.construct.search.SearchHit;
+import com.litclub.Backend.construct.search.SearchQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index held in memory, used where Postgres full-text search is not available (H2, tests).
+ *
+ * <p>Terms come from {@link SearchAnalyzer}; a query matches documents containing every query term, ranked with
+ * BM25, where title terms count twice. The index is rebuilt from the source tables at startup
+ * ({@link #needsRebuild()} is always {@code true}) and kept up to date by applying writes once the surrounding
+ * transaction has committed.</p>
+ *
+ * <p><strong>Thread safety:</strong> guarded by a read/write lock; searches run concurrently.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "litclub.search.engine", havingValue = "memory")
+public class InMemorySearchEngine implements SearchEngine {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int SNIPPET_WORDS = 30;
+
+    private final Map<SearchDocument.Key, IndexedDocument> documents = new HashMap<>();
+    private final Map<String, Set<SearchDocument.Key>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    @Override
+    public void upsert(Collection<SearchDocument> documents) {
+        List<SearchDocument> copy = List.copyOf(documents);
+        afterCommit(() -> write(() -> copy.forEach(this::put)));
+    }
+
+    @Override
+    public void delete(SearchDocumentType type, Collection<Long> entityIDs) {
+        List<Long> copy = List.copyOf(entityIDs);
+        afterCommit(() -> write(() -> copy.forEach(id -> remove(new SearchDocument.Key(type, id)))));
+    }
+
+    @Override
+    public void deleteThread(Long rootNoteID) {
+        afterCommit(() -> write(() -> {
+            remove(new SearchDocument.Key(SearchDocumentType.NOTE, rootNoteID));
+            documents.values().stream()
+                    .map(IndexedDocument::document)
+                    .filter(document -> rootNoteID.equals(document.rootID()))
+                    .map(SearchDocument::key)
+                    .toList()
+                    .forEach(this::remove);
+        }));
+    }
+
+    @Override
+    public Page<SearchHit> search(SearchQuery query, Pageable pageable) {
+        List<String> queryTerms = SearchAnalyzer.terms(query.text()).stream().distinct().toList();
+        if (queryTerms.isEmpty()) return Page.empty(pageable);
+
+        List<SearchHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (SearchDocument.Key key : candidates(queryTerms)) {
+                IndexedDocument indexed = documents.get(key);
+                if (!query.matchesFilters(indexed.document())) continue;
+                hits.add(toHit(indexed, score(indexed, queryTerms), queryTerms));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparing(SearchHit::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(SearchHit::entityID));
+
+        if (pageable.isUnpaged()) return new PageImpl<>(hits, pageable, hits.size());
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        return new PageImpl<>(hits.subList(from, to), pageable, hits.size());
+    }
+
+    @Override
+    public boolean needsRebuild() {
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        afterCommit(() -> write(() -> {
+            documents.clear();
+            postings.clear();
+            totalLength = 0;
+        }));
+    }
+
+    // ------ Utility ------
+    private Set<SearchDocument.Key> candidates(List<String> queryTerms) {
+        List<Set<SearchDocument.Key>> lists = new ArrayList<>();
+        for (String term : queryTerms) {
+            Set<SearchDocument.Key> list = postings.get(term);
+            if (list == null) return Set.of();
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<SearchDocument.Key> result = new HashSet<>(lists.getFirst());
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private double score(IndexedDocument indexed, List<String> queryTerms) {
+        double averageLength = documents.isEmpty() ? 1 : (double) totalLength / documents.size();
+        double score = 0;
+        for (String term : queryTerms) {
+            int frequency = indexed.termFrequencies().getOrDefault(term, 0);
+            int documentFrequency = postings.get(term).size();
+            double idf = Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            double norm = K1 * (1 - B + B * indexed.length() / averageLength);
+            score += idf * frequency * (K1 + 1) / (frequency + norm);
+        }
+        return score;
+    }
+
+    private void put(SearchDocument document) {
+        remove(document.key());
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String term : SearchAnalyzer.terms(document.title())) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String term : SearchAnalyzer.terms(document.body())) {
+            frequencies.merge(term, 1, Integer::sum);
+            length++;
+        }
+
+        documents.put(document.key(), new IndexedDocument(document, frequencies, length));
+        frequencies.keySet().forEach(term -> postings.computeIfAbsent(term, t -> new HashSet<>()).add(document.key()));
+        totalLength += length;
+    }
+
+    private void remove(SearchDocument.Key key) {
+        IndexedDocument previous = documents.remove(key);
+        if (previous == null) return;
+
+        for (String term : previous.termFrequencies().keySet()) {
+            Set<SearchDocument.Key> list = postings.get(term);
+            list.remove(key);
+            if (list.isEmpty()) postings.remove(term);
+        }
+        totalLength -= previous.length();
+    }
+
+    private static SearchHit toHit(IndexedDocument indexed, double score, List<String> queryTerms) {
+        SearchDocument document = indexed.document();
+        return new SearchHit(
+                document.type(),
+                document.entityID(),
+                document.title(),
+                snippet(document.body(), queryTerms),
+                score,
+                document.bookID(),
+                document.clubID(),
+                document.authorID(),
+                document.createdAt()
+        );
+    }
+
+    /** Up to {@value #SNIPPET_WORDS} words of {@code body}, starting shortly before the first matching word. */
+    private static String snippet(String body, List<String> queryTerms) {
+        if (body == null || body.isBlank()) return "";
+        String[] words = body.trim().split("\\s+");
+
+        int match = 0;
+        for (int i = 0; i < words.length; i++) {
+            if (SearchAnalyzer.terms(words[i]).stream().anyMatch(queryTerms::contains)) {
+                match = i;
+                break;
+            }
+        }
+        int from = Math.max(0, match - 5);
+        int to = Math.min(words.length, from + SNIPPET_WORDS);
+
+        String excerpt = String.join(" ", Arrays.copyOfRange(words, from, to));
+        return (from > 0 ? "…" : "") + excerpt + (to < words.length ? "…" : "");
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private record IndexedDocument(SearchDocument document, Map<String, Integer> termFrequencies, int length) {}
+}
@@ -0,0 +1,160 @@
+package com.litclub.Backend.search;
+
+import com.litclub.Backend.construct.search.SearchDocument;
+import com.litclub.Backend.construct.search.SearchDocumentType;
+import com.litclub.Backend.construct.search.SearchHit;
+import com.litclub.Backend.construct.search.SearchQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Postgres full-text search over a {@code search_documents} table.
+ *
+ * <p>Each row holds a document's text and visibility columns plus a generated {@code tsvector} column, which
+ * weights the title ({@code A}) above the body ({@code B}) and is indexed with GIN. Queries are parsed with
+ * {@code websearch_to_tsquery}, ranked with {@code ts_rank_cd} and excerpted with {@code ts_headline}.
+ * Visibility is checked in the same statement.</p>
+ *
+ * <p>Writes use the caller's connection and so commit or roll back with the change that caused them. The
+ * table and its indexes are created by the {@code V9__search_documents} migration.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "litclub.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresSearchEngine implements SearchEngine {
+
+    private static final String UPSERT = """
+            INSERT INTO search_documents
+                (doc_type, entity_id, title, body, author_id, private_to, club_id, book_id, root_id, created_at)
+            VALUES
+                (:type, :entityID, :title, :body, :authorID, :privateTo, :clubID, :bookID, :rootID, :createdAt)
+            ON CONFLICT (doc_type, entity_id) DO UPDATE SET
+                title = EXCLUDED.title,
+                body = EXCLUDED.body,
+                author_id = EXCLUDED.author_id,
+                private_to = EXCLUDED.private_to,
+                club_id = EXCLUDED.club_id,
+                book_id = EXCLUDED.book_id,
+                root_id = EXCLUDED.root_id,
+                created_at = EXCLUDED.created_at
+            """;
+
+    private static final String MATCHES = """
+            FROM search_documents d, websearch_to_tsquery('english', :text) q
+            WHERE d.document @@ q
+              AND d.doc_type IN (:types)
+              AND (d.author_id = :viewerID OR d.private_to = :viewerID
+                   OR (d.private_to IS NULL AND (d.club_id IS NULL OR d.club_id IN (:clubIDs))))
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PostgresSearchEngine(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsert(Collection<SearchDocument> documents) {
+        if (documents.isEmpty()) return;
+        SqlParameterSource[] rows = documents.stream()
+                .map(document -> new MapSqlParameterSource()
+                        .addValue("type", document.type().name())
+                        .addValue("entityID", document.entityID())
+                        .addValue("title", document.title())
+                        .addValue("body", document.body())
+                        .addValue("authorID", document.authorID())
+                        .addValue("privateTo", document.privateTo())
+                        .addValue("clubID", document.clubID())
+                        .addValue("bookID", document.bookID())
+                        .addValue("rootID", document.rootID())
+                        .addValue("createdAt", document.createdAt() == null ? null : Timestamp.valueOf(document.createdAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+
+    @Override
+    public void delete(SearchDocumentType type, Collection<Long> entityIDs) {
+        if (entityIDs.isEmpty()) return;
+        jdbcTemplate.update(
+                "DELETE FROM search_documents WHERE doc_type = :type AND entity_id IN (:entityIDs)",
+                new MapSqlParameterSource("type", type.name()).addValue("entityIDs", entityIDs));
+    }
+
+    @Override
+    public void deleteThread(Long rootNoteID) {
+        jdbcTemplate.update("""
+                DELETE FROM search_documents
+                WHERE (doc_type = 'NOTE' AND entity_id = :rootID) OR root_id = :rootID
+                """, new MapSqlParameterSource("rootID", rootNoteID));
+    }
+
+    @Override
+    public Page<SearchHit> search(SearchQuery query, Pageable pageable) {
+        StringBuilder filters = new StringBuilder();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("text", query.text())
+                .addValue("types", query.types().stream().map(Enum::name).toList())
+                .addValue("viewerID", query.viewerID() == null ? -1L : query.viewerID())
+                .addValue("clubIDs", query.viewerClubIDs().isEmpty() ? List.of(-1L) : query.viewerClubIDs());
+        if (query.authorID() != null) {
+            filters.append(" AND d.author_id = :authorID");
+            params.addValue("authorID", query.authorID());
+        }
+        if (query.bookID() != null) {
+            filters.append(" AND d.book_id = :bookID");
+            params.addValue("bookID", query.bookID());
+        }
+
+        String page = "";
+        if (pageable.isPaged()) {
+            page = " LIMIT :limit OFFSET :offset";
+            params.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+        }
+
+        List<SearchHit> hits = jdbcTemplate.query("""
+                SELECT d.doc_type, d.entity_id, d.title, d.book_id, d.club_id, d.author_id, d.created_at,
+                       ts_rank_cd(d.document, q) AS score,
+                       ts_headline('english', coalesce(d.body, ''), q, 'MaxWords=30, MinWords=10') AS snippet
+                """ + MATCHES + filters + " ORDER BY score DESC, d.created_at DESC, d.entity_id" + page,
+                params,
+                (rs, rowNum) -> {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    return new SearchHit(
+                            SearchDocumentType.valueOf(rs.getString("doc_type")),
+                            rs.getLong("entity_id"),
+                            rs.getString("title"),
+                            rs.getString("snippet"),
+                            rs.getDouble("score"),
+                            rs.getObject("book_id", Long.class),
+                            rs.getObject("club_id", Long.class),
+                            rs.getObject("author_id", Long.class),
+                            createdAt == null ? null : createdAt.toLocalDateTime()
+                    );
+                });
+
+        if (pageable.isUnpaged()) return new PageImpl<>(hits, pageable, hits.size());
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) " + MATCHES + filters, params, Long.class);
+        return new PageImpl<>(hits, pageable, total == null ? 0 : total);
+    }
+
+    @Override
+    public boolean needsRebuild() {
+        Boolean empty = jdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT NOT EXISTS (SELECT 1 FROM search_documents)", Boolean.class);
+        return Boolean.TRUE.equals(empty);
+    }
+
+    @Override
+    public void clear() {
+        jdbcTemplate.getJdbcTemplate().execute("DELETE FROM search_documents");
+    }
+}
@@ -0,0 +1,46 @@
+package com.litclub.Backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns text into index terms for {@link InMemorySearchEngine}: lower-cases, splits on anything that is not a
+ * letter or digit, drops English stop words and strips common inflections, roughly like Postgres'
+ * {@code english} text search configuration.
+ */
+final class SearchAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+            "no", "not", "of", "on", "or", "such", "that", "the", "their", "then", "there", "these", "they",
+            "this", "to", "was", "will", "with", "i", "me", "my", "we", "our", "you", "your", "he", "she",
+            "his", "her", "its", "from", "has", "have", "had", "were", "been", "do", "does", "did"
+    );
+
+    private SearchAnalyzer() {}
+
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) return terms;
+
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty() || STOP_WORDS.contains(token)) continue;
+            terms.add(stem(token));
+        }
+        return terms;
+    }
+
+    static String stem(String token) {
+        if (token.length() <= 3 || !Character.isLetter(token.charAt(token.length() - 1))) return token;
+        if (token.endsWith("ies") && token.length() > 4) return token.substring(0, token.length() - 3) + "y";
+        if (token.endsWith("ing") && token.length() > 5) return token.substring(0, token.length() - 3);
+        if (token.endsWith("ed") && token.length() > 4) return token.substring(0, token.length() - 2);
+        if (token.endsWith("es") && token.length() > 4 && "sxz".indexOf(token.charAt(token.length() - 3)) >= 0) {
+            return token.substring(0, token.length() - 2);
+        }
+        if (token.endsWith("s") && !token.endsWith("ss")) return token.substring(0, token.length() - 1);
+        return token;
+    }
+}
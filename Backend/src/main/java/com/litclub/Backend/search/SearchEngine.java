@@ -0,0 +1,44 @@
+package com.litclub.Backend.search;
+
+import com.litclub.Backend.construct.search.SearchDocument;
+import com.litclub.Backend.construct.search.SearchDocumentType;
+import com.litclub.Backend.construct.search.SearchHit;
+import com.litclub.Backend.construct.search.SearchQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+
+/**
+ * Full-text index over books, notes, replies and reviews.
+ *
+ * <p>Exactly one implementation is active, chosen with {@code litclub.search.engine}:</p>
+ * <ul>
+ *   <li>{@code postgres} (default): {@link PostgresSearchEngine}, a {@code tsvector} column with a GIN index.</li>
+ *   <li>{@code memory}: {@link InMemorySearchEngine}, an inverted index for H2 and tests.</li>
+ * </ul>
+ *
+ * <p>Writes may be called inside the transaction that changed the source rows; implementations make sure a
+ * rolled-back transaction leaves the index untouched. Callers go through
+ * {@link com.litclub.Backend.service.low.SearchIndexService} rather than using an engine directly.</p>
+ */
+public interface SearchEngine {
+
+    /** Adds or replaces documents, keyed by type and entity ID. */
+    void upsert(Collection<SearchDocument> documents);
+
+    /** Removes documents of one type; unknown IDs are ignored. */
+    void delete(SearchDocumentType type, Collection<Long> entityIDs);
+
+    /** Removes a note and every reply in its thread. */
+    void deleteThread(Long rootNoteID);
+
+    /** Ranked, de-duplicated matches visible to the query's viewer. An unpaged request returns every match. */
+    Page<SearchHit> search(SearchQuery query, Pageable pageable);
+
+    /** Whether the index has to be filled from the source tables, e.g. because it lives in memory. */
+    boolean needsRebuild();
+
+    /** Removes every document; like the other writes, undone if the surrounding transaction rolls back. */
+    void clear();
+}
@@ -2,6 +2,7 @@ package com.litclub.Backend.security;
 
 import com.litclub.Backend.security.jwt.JwtAuthenticationFilter;
 import com.litclub.Backend.security.userdetails.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -84,6 +85,8 @@ public class SecurityConfiguration {
                 )
                 .authorizeHttpRequests(authorizeRequests ->
                         authorizeRequests
+                                // a change stream's request was authorized when it opened
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 .requestMatchers("/api/auth/**").permitAll()
                                 .requestMatchers("/api/ping").permitAll()
                                 .anyRequest().hasRole("USER")
@@ -100,6 +103,7 @@ public class SecurityConfiguration {
         config.setAllowedOrigins(List.of("http://localhost:3000")); // frontend domains
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of(JwtAuthenticationFilter.REFRESHED_TOKEN_HEADER));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,6 +1,8 @@
 package com.litclub.Backend.security.jwt;
 
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
 import com.litclub.Backend.security.userdetails.CustomUserDetailsService;
+import com.litclub.Backend.security.userdetails.PrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 /**
@@ -20,12 +23,21 @@ import java.io.IOException;
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Response header carrying a freshly issued token when the presented one predates a membership change.
+     */
+    public static final String REFRESHED_TOKEN_HEADER = "X-Refreshed-Token";
+
     private final JwtService jwtService;
     private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, CustomUserDetailsService customUserDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   CustomUserDetailsService customUserDetailsService,
+                                   PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.customUserDetailsService = customUserDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -37,13 +49,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         /*
          * 1. Extract the Authorization header.
          * 2. If the header is missing or doesn't start with "Bearer ", continue the filter chain without authentication.
-         * 3. Extract the JWT token from the header.
-         * 4. Extract the username from the token.
-         * 5. If a username is found and no authentication is currently set in the SecurityContext:
-         *    a. Load user details using the customUserDetailsService.
-         *    b. Validate the token.
-         *    c. If valid, create an authentication token and set it in the SecurityContext.
-         * 6. Continue the filter chain.
+         * 3. Verify and decode the token once; an invalid or expired token leaves the request unauthenticated.
+         * 4. If no authentication is currently set in the SecurityContext:
+         *    a. Load user details from the principal cache, falling back to the customUserDetailsService.
+         *    b. If the token predates the user's latest membership change, issue a replacement token.
+         *    c. Create an authentication token and set it in the SecurityContext.
+         * 5. Continue the filter chain.
          */
 
         final String authorizationHeader = request.getHeader("Authorization");
@@ -53,24 +64,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String token = jwtService.stripBearer(authorizationHeader);
-        String username = jwtService.extractUsername(token);
+        Optional<JwtClaims> parsed = jwtService.parseToken(authorizationHeader);
+
+        if (parsed.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            JwtClaims claims = parsed.get();
+            CustomUserDetails userDetails = principalCache.get(
+                    claims.username(),
+                    claims.issuedAtMillis(),
+                    () -> customUserDetailsService.loadUserByClaims(claims)
+            );
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var userDetails = customUserDetailsService.loadUserByUsername(username);
+            if (claims.isStale(userDetails.getUser().getMembershipVersion())) {
+                response.setHeader(REFRESHED_TOKEN_HEADER, jwtService.generateToken(userDetails));
+            }
 
-            if (jwtService.isTokenValid(token)) {
-                UsernamePasswordAuthenticationToken authenticationToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
+            UsernamePasswordAuthenticationToken authenticationToken =
+                    new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
 
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            }
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         }
         chain.doFilter(request, response);
     }
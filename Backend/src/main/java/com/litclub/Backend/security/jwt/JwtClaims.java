@@ -0,0 +1,43 @@
+package com.litclub.Backend.security.jwt;
+
+import com.litclub.Backend.security.roles.ClubRole;
+
+import java.util.Map;
+
+/**
+ * The validated contents of a JWT, produced by a single call to {@link JwtService#parseToken(String)}.
+ *
+ * <p>Instances only exist for tokens whose signature and expiry have already been checked,
+ * so callers never need to re-parse the token to read another claim.</p>
+ *
+ * @param username the token subject
+ * @param userID the {@code uid} claim, or {@code null} for tokens issued without one
+ * @param issuedAtMillis the {@code iat} claim in epoch milliseconds, or {@code 0} if absent
+ * @param membershipVersion the {@code mv} claim, or {@code null} for tokens issued before membership versioning
+ * @param clubRoles the compact {@code cla} claim (club ID to highest declared role), or {@code null} if absent
+ */
+public record JwtClaims(
+        String username,
+        Long userID,
+        long issuedAtMillis,
+        Long membershipVersion,
+        Map<Long, ClubRole> clubRoles
+) {
+
+    /**
+     * @return true if the token embeds club authorities that can be used without a database lookup
+     */
+    public boolean hasClubRoles() {
+        return clubRoles != null && membershipVersion != null;
+    }
+
+    /**
+     * Checks whether the memberships this token was issued against are older than {@code currentVersion}.
+     *
+     * @param currentVersion the user's current membership version
+     * @return true if the token predates a membership change and should be re-issued
+     */
+    public boolean isStale(long currentVersion) {
+        return membershipVersion != null && membershipVersion < currentVersion;
+    }
+}
@@ -1,11 +1,15 @@
 package com.litclub.Backend.security.jwt;
 
 import com.litclub.Backend.construct.user.UserRecord;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.security.roles.utility.AuthorityMapper;
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Value;
 
 import jakarta.annotation.PostConstruct;
@@ -19,14 +23,23 @@ import java.util.*;
 @Component
 public class JwtService {
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_MEMBERSHIP_VERSION = "mv";
+    static final String CLAIM_CLUB_ROLES = "cla";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.claims.club-authorities:true}")
+    private boolean embedClubAuthorities;
+
     private SecretKey signingKey;
 
+    private JwtParser parser;
+
     @PostConstruct
     public void init(){
 
@@ -45,38 +58,96 @@ public class JwtService {
             throw new IllegalStateException("Secret Key length is less than 32");
         }
 
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+
         System.out.println(
                 "Initialised JWT settings." +
                         "\nKey length (bytes): " + signingKey.getEncoded().length +
-                        "\nExpiration time: " + (jwtExpiration / 3600) + " hrs"
+                        "\nExpiration time: " + (jwtExpiration / 3600) + " hrs" +
+                        "\nEmbed club authorities: " + embedClubAuthorities
         );
 
     }
 
     public String generateToken(UserRecord ur) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("uid", ur.userID());
+        claims.put(CLAIM_USER_ID, ur.userID());
 
         return buildToken(claims, ur.username());
     }
 
+    /**
+     * Issues a token for a fully loaded principal.
+     *
+     * <p>In addition to the {@code uid} claim, the token records the user's membership version
+     * ({@code mv}) and, when {@code jwt.claims.club-authorities} is enabled, a compact map of
+     * club ID to highest declared club role ({@code cla}). Tokens whose {@code mv} falls behind
+     * the user's current version are re-issued by {@link JwtAuthenticationFilter}.</p>
+     *
+     * @param userDetails the principal, with memberships and roles loaded
+     * @return the signed token
+     */
+    public String generateToken(CustomUserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, userDetails.getUserID());
+        claims.put(CLAIM_MEMBERSHIP_VERSION, userDetails.getUser().getMembershipVersion());
+
+        if (embedClubAuthorities) {
+            Map<String, String> clubRoles = new HashMap<>();
+            AuthorityMapper.highestClubRoles(userDetails.getUser())
+                    .forEach((clubID, role) -> clubRoles.put(clubID.toString(), role.name()));
+            claims.put(CLAIM_CLUB_ROLES, clubRoles);
+        }
+
+        return buildToken(claims, userDetails.getUsername());
+    }
+
     // ===== Utility =====
     public String stripBearer(String token){
         if (token == null){return "";}
         return token.startsWith("Bearer ") ? token.substring(7) : token;
     }
 
+    /**
+     * Verifies and decodes a token in a single pass.
+     *
+     * <p>The signature is checked and the payload parsed exactly once; expiry is enforced by the parser.
+     * All claims the request pipeline needs are read from that one result.</p>
+     *
+     * @param token the raw token, with or without a {@code Bearer } prefix
+     * @return the validated claims, or empty if the token is malformed, tampered with, or expired
+     */
+    public Optional<JwtClaims> parseToken(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(stripBearer(token)).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (claims.getSubject() == null) return Optional.empty();
+
+        Date issuedAt = claims.getIssuedAt();
+        return Optional.of(new JwtClaims(
+                claims.getSubject(),
+                readLong(claims.get(CLAIM_USER_ID)),
+                issuedAt != null ? issuedAt.getTime() : 0L,
+                readLong(claims.get(CLAIM_MEMBERSHIP_VERSION)),
+                readClubRoles(claims.get(CLAIM_CLUB_ROLES))
+        ));
+    }
+
     public String extractUsername(String token){
         if (token == null){return "";}
         return parseAllClaims(token).getSubject();
     }
 
     public boolean isTokenValid(String token){
-        try{
-            return extractExpiration(token).after(new Date());
-        } catch(Exception e){
-            return false;
-        }
+        return parseToken(token).isPresent();
     }
 
     // ===== Internals =====
@@ -96,14 +167,25 @@ public class JwtService {
     }
 
     private Claims parseAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(stripBearer(token))
-                .getPayload();
+        return parser.parseSignedClaims(stripBearer(token)).getPayload();
     }
 
-    private Date extractExpiration(@Nonnull String token) {
-        return parseAllClaims(token).getExpiration();
+    private static Long readLong(Object value) {
+        return value instanceof Number n ? n.longValue() : null;
+    }
+
+    private static Map<Long, ClubRole> readClubRoles(Object value) {
+        if (!(value instanceof Map<?, ?> raw)) return null;
+
+        Map<Long, ClubRole> clubRoles = new HashMap<>(raw.size() * 2);
+        try {
+            for (Map.Entry<?, ?> entry : raw.entrySet()) {
+                clubRoles.put(Long.valueOf(entry.getKey().toString()), ClubRole.valueOf(entry.getValue().toString()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Unknown role or malformed club ID: ignore the claim and fall back to the database
+            return null;
+        }
+        return clubRoles;
     }
 }
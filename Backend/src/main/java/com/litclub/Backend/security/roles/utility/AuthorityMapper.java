@@ -6,7 +6,9 @@ import com.litclub.Backend.security.roles.ClubRole;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -15,6 +17,60 @@ public final class AuthorityMapper {
     private AuthorityMapper() {}
 
     public static Set<GrantedAuthority> mapToAuthorities(User user) {
+        Set<GrantedAuthority> authorities = mapGlobalAuthorities(user);
+
+        if (user.getMemberships() != null) {
+            for (ClubMembership cm : user.getMemberships()) {
+                Long clubId = cm.getClub().getClubID();
+                Set<ClubRole> declared = cm.getRoles() == null ? Set.of() : cm.getRoles();
+                addClubAuthorities(authorities, clubId, expandWithImpliedRoles(declared));
+            }
+        }
+
+        return authorities;
+    }
+
+    /**
+     * Builds the authority set from the user's global roles and a club role map taken from a token,
+     * without touching {@link User#getMemberships()}.
+     *
+     * @param user the user whose global roles are used
+     * @param clubRoles club ID to highest declared role, as produced by {@link #highestClubRoles(User)}
+     * @return the same authorities {@link #mapToAuthorities(User)} would produce for those memberships
+     */
+    public static Set<GrantedAuthority> mapToAuthorities(User user, Map<Long, ClubRole> clubRoles) {
+        Set<GrantedAuthority> authorities = mapGlobalAuthorities(user);
+        clubRoles.forEach((clubId, role) ->
+                addClubAuthorities(authorities, clubId, expandWithImpliedRoles(Set.of(role))));
+        return authorities;
+    }
+
+    /**
+     * Reduces each membership to its single highest declared role.
+     *
+     * <p>Because club roles are hierarchical, the highest role is enough to reconstruct the full
+     * effective set, which keeps the token claim compact.</p>
+     *
+     * @param user the user, with memberships and roles loaded
+     * @return club ID to highest declared role; memberships without any roles are omitted
+     */
+    public static Map<Long, ClubRole> highestClubRoles(User user) {
+        Map<Long, ClubRole> highest = new HashMap<>();
+        if (user.getMemberships() == null) return highest;
+
+        for (ClubMembership cm : user.getMemberships()) {
+            Set<ClubRole> declared = cm.getRoles() == null ? Set.of() : cm.getRoles();
+            if (declared.isEmpty()) continue;
+
+            ClubRole role = declared.contains(ClubRole.OWNER) ? ClubRole.OWNER
+                    : declared.contains(ClubRole.MODERATOR) ? ClubRole.MODERATOR
+                    : ClubRole.MEMBER;
+            highest.put(cm.getClub().getClubID(), role);
+        }
+        return highest;
+    }
+
+    private static Set<GrantedAuthority> mapGlobalAuthorities(User user) {
         Set<GrantedAuthority> authorities = new HashSet<>();
 
         if (user.getGlobalRoles() != null) {
@@ -24,21 +80,16 @@ public final class AuthorityMapper {
                     .collect(Collectors.toSet()));
         }
 
-        if (user.getMemberships() != null) {
-            for (ClubMembership cm : user.getMemberships()) {
-                Long clubId = cm.getClub().getClubID();
-                Set<ClubRole> declared = cm.getRoles() == null ? Set.of() : cm.getRoles();
-                Set<ClubRole> effective = expandWithImpliedRoles(declared);
-                for (ClubRole cr : effective) {
-                    String auth = String.format("CLUB_%d_%s", clubId, cr.name());
-                    authorities.add(new SimpleGrantedAuthority(auth));
-                }
-            }
-        }
-
         return authorities;
     }
 
+    private static void addClubAuthorities(Set<GrantedAuthority> authorities, Long clubId, Set<ClubRole> effective) {
+        for (ClubRole cr : effective) {
+            String auth = String.format("CLUB_%d_%s", clubId, cr.name());
+            authorities.add(new SimpleGrantedAuthority(auth));
+        }
+    }
+
     private static Set<ClubRole> expandWithImpliedRoles(Set<ClubRole> declared) {
         Set<ClubRole> s = new HashSet<>(declared);
         if (declared.contains(ClubRole.OWNER)) {
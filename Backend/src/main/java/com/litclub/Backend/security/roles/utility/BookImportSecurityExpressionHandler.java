@@ -0,0 +1,26 @@
+package com.litclub.Backend.security.roles.utility;
+
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import com.litclub.Backend.service.low.BookImportService;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * A security class for handling access to bulk book imports
+ *
+ * <p>An import's report is visible only to the user who started it.</p>
+ */
+@Component("bookImportSecurity")
+public class BookImportSecurityExpressionHandler {
+
+    private final BookImportService bookImportService;
+
+    public BookImportSecurityExpressionHandler(BookImportService bookImportService) {
+        this.bookImportService = bookImportService;
+    }
+
+    public boolean isOwner(Authentication auth, String importID) {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) return false;
+        return bookImportService.isOwner(importID, cud.getUserID());
+    }
+}
@@ -0,0 +1,140 @@
+package com.litclub.Backend.security.roles.utility;
+
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.security.roles.GlobalRole;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable, per-principal lookup of effective club roles.
+ *
+ * <p>Maps a club ID to a bitmask of {@link ClubRole}s (one bit per role ordinal) using a primitive
+ * open-addressing table, so {@link #hasRole(long, ClubRole)} is a constant-time probe that neither
+ * boxes nor allocates. The index is built once from the principal's authority set and records
+ * whether the principal is a global administrator.</p>
+ *
+ * <p>Only authorities of the form {@code CLUB_<id>_<ROLE>}, as produced by {@link AuthorityMapper},
+ * contribute club roles; anything else is ignored.</p>
+ *
+ * @see ClubSecurityExpressionHandler
+ * @see UserSecurityExpressionHandler
+ */
+public final class ClubRoleIndex {
+
+    private static final String CLUB_PREFIX = "CLUB_";
+    private static final String ADMIN_AUTHORITY = GlobalRole.ADMINISTRATOR.getAuthority();
+    private static final ClubRole[] ROLES = ClubRole.values();
+
+    private static final ClubRoleIndex EMPTY = new ClubRoleIndex(new long[1], new int[1], false);
+
+    private final long[] keys;
+    private final int[] masks;
+    private final int mask;
+    private final boolean admin;
+
+    private ClubRoleIndex(long[] keys, int[] masks, boolean admin) {
+        this.keys = keys;
+        this.masks = masks;
+        this.mask = keys.length - 1;
+        this.admin = admin;
+    }
+
+    /**
+     * Builds the index from an authority collection.
+     *
+     * @param authorities the principal's granted authorities
+     * @return the index; never {@code null}
+     */
+    public static ClubRoleIndex of(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null || authorities.isEmpty()) return EMPTY;
+
+        // Power-of-two capacity with load factor <= 0.5; never smaller than 2 so a free slot always exists
+        int capacity = Integer.highestOneBit(Math.max(2, authorities.size()) * 2 - 1) << 1;
+        long[] keys = new long[capacity];
+        int[] masks = new int[capacity];
+        boolean admin = false;
+
+        for (GrantedAuthority authority : authorities) {
+            String value = authority.getAuthority();
+            if (value == null) continue;
+
+            if (value.equals(ADMIN_AUTHORITY)) {
+                admin = true;
+                continue;
+            }
+            if (!value.startsWith(CLUB_PREFIX)) continue;
+
+            int separator = value.indexOf('_', CLUB_PREFIX.length());
+            if (separator < 0) continue;
+
+            long clubID;
+            ClubRole role;
+            try {
+                clubID = Long.parseLong(value, CLUB_PREFIX.length(), separator, 10);
+                role = ClubRole.valueOf(value.substring(separator + 1));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+
+            int slot = slotFor(keys, masks, clubID);
+            keys[slot] = clubID;
+            masks[slot] |= bit(role);
+        }
+
+        return new ClubRoleIndex(keys, masks, admin);
+    }
+
+    /**
+     * @return true if the principal holds {@code role} (directly or by implication) in club {@code clubID}
+     */
+    public boolean hasRole(long clubID, ClubRole role) {
+        int slot = hash(clubID) & mask;
+        while (masks[slot] != 0) {
+            if (keys[slot] == clubID) {
+                return (masks[slot] & bit(role)) != 0;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the principal holds the global {@code ADMINISTRATOR} role
+     */
+    public boolean isAdmin() {
+        return admin;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ClubRoleIndex{admin=").append(admin);
+        for (int i = 0; i < keys.length; i++) {
+            if (masks[i] == 0) continue;
+            sb.append(", ").append(keys[i]).append('=');
+            int m = masks[i];
+            sb.append(Arrays.stream(ROLES).filter(r -> (m & bit(r)) != 0).toList());
+        }
+        return sb.append('}').toString();
+    }
+
+    // ------ Utility ------
+    private static int bit(ClubRole role) {
+        return 1 << role.ordinal();
+    }
+
+    private static int slotFor(long[] keys, int[] masks, long clubID) {
+        int m = keys.length - 1;
+        int slot = hash(clubID) & m;
+        while (masks[slot] != 0 && keys[slot] != clubID) {
+            slot = (slot + 1) & m;
+        }
+        return slot;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -1,5 +1,7 @@
 package com.litclub.Backend.security.roles.utility;
 
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
@@ -9,24 +11,35 @@ import org.springframework.stereotype.Component;
  *
  * <p>This class utilises Method Security to secure the methods
  * in the top level gatekeeper Services</p>
+ *
+ * <p>For {@link CustomUserDetails} principals the check is a lookup in the principal's
+ * precomputed {@link ClubRoleIndex}; other principals fall back to scanning their authorities.</p>
  */
 @Component("clubSecurity")
 public class ClubSecurityExpressionHandler {
 
     public boolean isOwner(Authentication auth, Long clubID) {
-        return hasAuthority(auth, "CLUB_" + clubID + "_OWNER");
+        return hasClubRole(auth, clubID, ClubRole.OWNER);
     }
 
     public boolean isModerator(Authentication auth, Long clubID) {
-        return hasAuthority(auth, "CLUB_" + clubID + "_MODERATOR");
+        return hasClubRole(auth, clubID, ClubRole.MODERATOR);
     }
 
     public boolean isMember(Authentication auth, Long clubID) {
-        return hasAuthority(auth, "CLUB_" + clubID + "_MEMBER");
+        return hasClubRole(auth, clubID, ClubRole.MEMBER);
+    }
+
+    private boolean hasClubRole(Authentication auth, Long clubID, ClubRole role) {
+        if (auth == null || clubID == null) return false;
+        if (auth.getPrincipal() instanceof CustomUserDetails cud) {
+            return cud.getClubRoleIndex().hasRole(clubID, role);
+        }
+        return hasAuthority(auth, "CLUB_" + clubID + "_" + role.name());
     }
 
     private boolean hasAuthority(Authentication auth, String role) {
-        if (auth == null || auth.getAuthorities() == null) return false;
+        if (auth.getAuthorities() == null) return false;
         return auth.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .anyMatch(a -> a.equals(role));
@@ -0,0 +1,26 @@
+package com.litclub.Backend.security.roles.utility;
+
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import com.litclub.Backend.service.low.TeardownService;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * A security class for handling access to teardown reports
+ *
+ * <p>A background teardown's report is visible only to the user who requested it.</p>
+ */
+@Component("teardownSecurity")
+public class TeardownSecurityExpressionHandler {
+
+    private final TeardownService teardownService;
+
+    public TeardownSecurityExpressionHandler(TeardownService teardownService) {
+        this.teardownService = teardownService;
+    }
+
+    public boolean isRequester(Authentication auth, String teardownID) {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) return false;
+        return teardownService.isRequester(teardownID, cud.getUserID());
+    }
+}
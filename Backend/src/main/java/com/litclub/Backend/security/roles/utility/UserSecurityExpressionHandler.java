@@ -26,10 +26,13 @@ public class UserSecurityExpressionHandler {
     }
 
     private boolean hasRole(Authentication auth) {
-        if (auth == null || auth.getAuthorities() == null) return false;
+        if (auth == null) return false;
+        if (auth.getPrincipal() instanceof CustomUserDetails cud) {
+            return cud.getClubRoleIndex().isAdmin();
+        }
+        if (auth.getAuthorities() == null) return false;
         return auth.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .anyMatch(a -> a.equals("ROLE_ADMINISTRATOR"));
     }
 }
-
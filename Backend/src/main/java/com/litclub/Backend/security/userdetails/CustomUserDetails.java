@@ -2,6 +2,7 @@ package com.litclub.Backend.security.userdetails;
 
 import com.litclub.Backend.entity.User;
 import com.litclub.Backend.security.roles.utility.AuthorityMapper;
+import com.litclub.Backend.security.roles.utility.ClubRoleIndex;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -11,14 +12,23 @@ import java.util.Collection;
 public class CustomUserDetails implements UserDetails {
     private final User user;
     private final Set<GrantedAuthority> authorities;
+    private final ClubRoleIndex clubRoleIndex;
 
     public CustomUserDetails(User user) {
         this.user = user;
         this.authorities = AuthorityMapper.mapToAuthorities(user);
+        this.clubRoleIndex = ClubRoleIndex.of(authorities);
+    }
+
+    public CustomUserDetails(User user, Set<GrantedAuthority> authorities) {
+        this.user = user;
+        this.authorities = authorities;
+        this.clubRoleIndex = ClubRoleIndex.of(authorities);
     }
     
     public User getUser() {return user;}
     public Long getUserID() {return user.getUserID();}
+    public ClubRoleIndex getClubRoleIndex() {return clubRoleIndex;}
 
     @Override public Collection<? extends GrantedAuthority> getAuthorities() { return authorities; }
     @Override public String getPassword() { return user.getPasswordHash(); }
@@ -3,7 +3,8 @@ package com.litclub.Backend.security.userdetails;
 
 import com.litclub.Backend.entity.User;
 import com.litclub.Backend.repository.UserRepository;
-import org.springframework.security.core.userdetails.UserDetails;
+import com.litclub.Backend.security.jwt.JwtClaims;
+import com.litclub.Backend.security.roles.utility.AuthorityMapper;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -18,10 +19,32 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    public CustomUserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepo.findByUsernameWithMembershipsAndRoles(username)
                 .orElseThrow(() -> new UsernameNotFoundException("No user: " + username));
         return new CustomUserDetails(user);
     }
-}
 
+    /**
+     * Loads the principal for an already validated token.
+     *
+     * <p>When the token embeds club roles and was issued against the user's current membership
+     * version, only the user row (with its global roles) is read and the club authorities are
+     * taken from the token. Otherwise the memberships are needed after all, and this behaves like
+     * {@link #loadUserByUsername(String)}.</p>
+     *
+     * @param claims the validated token claims
+     * @return the principal
+     * @throws UsernameNotFoundException if the token subject no longer exists
+     */
+    public CustomUserDetails loadUserByClaims(JwtClaims claims) throws UsernameNotFoundException {
+        if (claims.hasClubRoles()) {
+            User user = userRepo.findUserByUsername(claims.username())
+                    .orElseThrow(() -> new UsernameNotFoundException("No user: " + claims.username()));
+            if (!claims.isStale(user.getMembershipVersion())) {
+                return new CustomUserDetails(user, AuthorityMapper.mapToAuthorities(user, claims.clubRoles()));
+            }
+        }
+        return loadUserByUsername(claims.username());
+    }
+}
@@ -0,0 +1,104 @@
+package com.litclub.Backend.security.userdetails;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time-limited cache of authenticated principals.
+ *
+ * <p>Resolving a {@link CustomUserDetails} requires the four-way fetch join in
+ * {@link com.litclub.Backend.repository.UserRepository#findByUsernameWithMembershipsAndRoles(String)}
+ * followed by {@link com.litclub.Backend.security.roles.utility.AuthorityMapper#mapToAuthorities}.
+ * The {@link com.litclub.Backend.security.jwt.JwtAuthenticationFilter} runs that on every
+ * authenticated request, so the result is cached here instead.</p>
+ *
+ * <p><strong>Keying:</strong> entries are keyed by username <em>and</em> the token's issue time.
+ * A freshly issued token therefore never observes a principal built for an older one, and
+ * the TTL bounds how long any entry can outlive a change that was not explicitly evicted.</p>
+ *
+ * <p><strong>Invalidation:</strong> anything that changes a user's authorities (club enrollment,
+ * club role changes, removal from a club, global role changes) must call {@link #evict(String)}.
+ * Eviction is deferred until the surrounding transaction commits, so a concurrent request
+ * cannot re-populate the cache with the pre-commit state.</p>
+ *
+ * <p>Hit/miss/eviction statistics are published to Micrometer under the cache name
+ * {@value #CACHE_NAME} and are visible through the actuator {@code metrics} endpoint.</p>
+ */
+@Component
+public class PrincipalCache {
+
+    public static final String CACHE_NAME = "principals";
+
+    private final Cache<PrincipalKey, CustomUserDetails> cache;
+
+    public PrincipalCache(
+            @Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.principal-cache.ttl:PT5M}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached principal for the given username and token issue time,
+     * invoking {@code loader} on a miss.
+     *
+     * @param username the token subject
+     * @param issuedAtMillis the token's {@code iat} claim in epoch milliseconds
+     * @param loader loads the principal from the database on a cache miss
+     * @return the cached or freshly loaded principal
+     */
+    public CustomUserDetails get(String username, long issuedAtMillis, Supplier<CustomUserDetails> loader) {
+        return cache.get(new PrincipalKey(username, issuedAtMillis), key -> loader.get());
+    }
+
+    /**
+     * Evicts every cached principal for {@code username}, regardless of token issue time.
+     *
+     * <p>If a transaction is active the eviction runs after it commits; otherwise it runs immediately.</p>
+     *
+     * @param username the username whose principals should be discarded
+     */
+    public void evict(String username) {
+        if (username == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(username);
+                }
+            });
+        } else {
+            evictNow(username);
+        }
+    }
+
+    /**
+     * Discards every cached principal.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private void evictNow(String username) {
+        cache.asMap().keySet().removeIf(key -> key.username().equals(username));
+    }
+
+    private record PrincipalKey(String username, long issuedAtMillis) {}
+}
@@ -4,21 +4,28 @@ import com.litclub.Backend.construct.library.book.clientDTO.BookMetadataDTO;
 import com.litclub.Backend.construct.library.book.clientDTO.OpenLibDoc;
 import com.litclub.Backend.construct.library.book.clientDTO.OpenLibSearchResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Client for querying the Open Library API to fetch book metadata.
  *
- * <p>Supports two search strategies:</p>
+ * <p>Supports three search strategies:</p>
  * <ul>
  *   <li>Search by ISBN (uses search endpoint for reliability)</li>
  *   <li>Search by title and author combination</li>
+ *   <li>Search by many ISBNs in one request, for bulk imports</li>
  * </ul>
  *
  * <p><strong>Note:</strong> ISBN lookups use the search API instead of the ISBN endpoint
@@ -32,16 +39,15 @@ import java.util.Optional;
 @Slf4j
 public class OpenLibraryClient {
 
-    private static final String BASE_URL = "https://openlibrary.org";
     private static final String SEARCH_ENDPOINT = "/search.json";
 
     private static final String USER_AGENT = "LitClub/1.0 (rynjeru@usiu.ac.ke)";
 
     private final RestClient restClient;
 
-    public OpenLibraryClient() {
+    public OpenLibraryClient(@Value("${openlibrary.base-url:https://openlibrary.org}") String baseUrl) {
         this.restClient = RestClient.builder()
-                .baseUrl(BASE_URL)
+                .baseUrl(baseUrl)
                 .defaultHeader("User-Agent", USER_AGENT)
                 .build();
     }
@@ -147,6 +153,96 @@ public class OpenLibraryClient {
         }
     }
 
+    /**
+     * Looks up the best match for a book, by ISBN if one is given and by title and author otherwise.
+     *
+     * <p>Unlike {@link #fetchByIsbn(String)} and {@link #fetchByTitleAndAuthor(String, String)}, transport
+     * and HTTP errors are not swallowed, so callers can tell "no match" apart from "try again later".</p>
+     *
+     * @param isbn the ISBN (optional)
+     * @param title the title, required when no ISBN is given
+     * @param author the author (optional)
+     * @return the best match, or empty if Open Library has none
+     * @throws RestClientException if Open Library could not be reached or answered with an error
+     */
+    public Optional<BookMetadataDTO> lookup(String isbn, String title, String author) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(SEARCH_ENDPOINT)
+                .queryParam("fields", "key,title,author_name,isbn,first_publish_year," +
+                        "publish_year,publisher,cover_i,publish_date,edition_key")
+                .queryParam("limit", 1);
+
+        String cleanIsbn = null;
+        if (isbn != null && !isbn.isBlank()) {
+            cleanIsbn = isbn.replaceAll("[\\s-]", "");
+            uriBuilder.queryParam("isbn", cleanIsbn);
+        } else if (title != null && !title.isBlank()) {
+            uriBuilder.queryParam("title", title);
+            if (author != null && !author.isBlank()) {
+                uriBuilder.queryParam("author", author);
+            }
+        } else {
+            return Optional.empty();
+        }
+
+        OpenLibSearchResponse response = restClient.get()
+                .uri(uriBuilder.build().toUriString())
+                .retrieve()
+                .body(OpenLibSearchResponse.class);
+
+        if (response == null || response.getDocs() == null || response.getDocs().isEmpty()) {
+            return Optional.empty();
+        }
+
+        BookMetadataDTO dto = mapSearchDocToDTO(response.getDocs().getFirst());
+        if (cleanIsbn != null && (dto.getIsbn() == null || dto.getIsbn().isEmpty())) {
+            dto.setIsbn(cleanIsbn);
+        }
+        return Optional.of(dto);
+    }
+
+    /**
+     * Looks up several ISBNs with a single search request ({@code q=isbn:(a OR b OR ...)}).
+     *
+     * <p>A search document lists the ISBNs of every edition of a work, so each requested ISBN is
+     * matched against those lists; ISBNs that no document lists are absent from the result. The
+     * returned metadata always carries the requested ISBN. Like {@link #lookup(String, String, String)},
+     * errors are not swallowed.</p>
+     *
+     * @param isbns normalized ISBNs (digits and {@code X} only)
+     * @return metadata keyed by requested ISBN
+     * @throws RestClientException if Open Library could not be reached or answered with an error
+     */
+    public Map<String, BookMetadataDTO> fetchByIsbns(Collection<String> isbns) {
+        if (isbns.isEmpty()) return Map.of();
+
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(SEARCH_ENDPOINT)
+                .queryParam("q", "isbn:(" + String.join(" OR ", isbns) + ")")
+                .queryParam("fields", "key,title,author_name,isbn,first_publish_year," +
+                        "publish_year,publisher,cover_i,publish_date,edition_key")
+                .queryParam("limit", isbns.size());
+
+        OpenLibSearchResponse response = restClient.get()
+                .uri(uriBuilder.build().toUriString())
+                .retrieve()
+                .body(OpenLibSearchResponse.class);
+
+        if (response == null || response.getDocs() == null) return Map.of();
+
+        Set<String> wanted = new HashSet<>(isbns);
+        Map<String, BookMetadataDTO> found = new HashMap<>();
+        for (OpenLibDoc doc : response.getDocs()) {
+            if (doc.getIsbn() == null) continue;
+            for (String isbn : doc.getIsbn()) {
+                if (wanted.contains(isbn) && !found.containsKey(isbn)) {
+                    BookMetadataDTO dto = mapSearchDocToDTO(doc);
+                    dto.setIsbn(isbn);
+                    found.put(isbn, dto);
+                }
+            }
+        }
+        return found;
+    }
+
     /**
      * Searches for multiple book results by title and author.
      * Useful when you want to present multiple options to the user.
@@ -0,0 +1,192 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.library.book.BookMetadataStatus;
+import com.litclub.Backend.construct.library.book.EnrichmentJobStatus;
+import com.litclub.Backend.construct.library.book.clientDTO.BookMetadataDTO;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.BookEnrichmentJob;
+import com.litclub.Backend.repository.BookEnrichmentJobRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service that manages the durable queue of {@link BookEnrichmentJob}s.
+ *
+ * <p>Every method is a short transaction that only moves a job (and its {@link Book}) from one
+ * state to the next. The remote Open Library call happens between {@link #claim(int)} and
+ * {@link #complete(Long, String, Optional)} / {@link #fail(Long, String, String)}, in
+ * {@link BookEnrichmentWorker}, with no transaction or connection held.</p>
+ *
+ * <p>Each claim leases its job under a token of its own ({@link BookEnrichmentJob#getLeaseOwner()}).
+ * {@link #complete} and {@link #fail} take that token and record nothing once the lease has expired,
+ * since the job may by then have been claimed, and even completed, by another worker.</p>
+ *
+ * <p><strong>Job lifecycle:</strong> {@code QUEUED → RUNNING → DONE}. A failed attempt returns the job to
+ * {@code QUEUED} with exponential backoff until {@code litclub.enrichment.max-attempts} is reached, after
+ * which the job and its book are marked {@code FAILED}.</p>
+ *
+ * <p><strong>Responsibilities of the caller:</strong>
+ * <ul>
+ *   <li>Call {@link #enqueue} inside the transaction that saves the placeholder book.</li>
+ *   <li>Handle access control externally; this service does not enforce it.</li>
+ * </ul>
+ *
+ * @see BookEnrichmentWorker
+ */
+@Service
+public class BookEnrichmentService {
+
+    /**
+     * Published when a job is queued; delivered to the worker once the enqueuing transaction commits.
+     */
+    public record EnrichmentRequested(Long jobID) {}
+
+    private final BookEnrichmentJobRepository jobRepository;
+    private final BookMetadataService metadataService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchIndexService searchIndexService;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoff;
+
+    public BookEnrichmentService(BookEnrichmentJobRepository jobRepository,
+                                 BookMetadataService metadataService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 SearchIndexService searchIndexService,
+                                 @Value("${litclub.enrichment.max-attempts:5}") int maxAttempts,
+                                 @Value("${litclub.enrichment.lease:PT2M}") Duration lease,
+                                 @Value("${litclub.enrichment.backoff:PT30S}") Duration backoff) {
+        this.jobRepository = jobRepository;
+        this.metadataService = metadataService;
+        this.eventPublisher = eventPublisher;
+        this.searchIndexService = searchIndexService;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.backoff = backoff;
+    }
+
+    // ====== CREATE ======
+
+    /**
+     * Queues a metadata lookup for a placeholder book and marks the book {@code PENDING}.
+     *
+     * @param book the saved placeholder book
+     * @param isbn ISBN to look up by (optional)
+     * @param title title to look up by when there is no ISBN
+     * @param author author to narrow a title lookup (optional)
+     * @return the queued job
+     */
+    @Transactional
+    public BookEnrichmentJob enqueue(Book book, String isbn, String title, String author) {
+        book.setMetadataStatus(BookMetadataStatus.PENDING);
+
+        BookEnrichmentJob job = new BookEnrichmentJob();
+        job.setBook(book);
+        job.setIsbn(isbn);
+        job.setTitle(title);
+        job.setAuthor(author);
+        job.setAvailableAt(LocalDateTime.now());
+
+        BookEnrichmentJob saved = jobRepository.save(job);
+        eventPublisher.publishEvent(new EnrichmentRequested(saved.getJobID()));
+        return saved;
+    }
+
+    // ====== READ ======
+    @Transactional(readOnly = true)
+    public List<BookEnrichmentJob> getJobsForBook(Long bookID) {
+        return jobRepository.findAllByBook_BookID(bookID);
+    }
+
+    // ====== UPDATE ======
+
+    /**
+     * Claims up to {@code limit} due jobs for this worker.
+     *
+     * @param limit maximum number of jobs to claim
+     * @return the claimed jobs, each leased for {@code litclub.enrichment.lease} under its own lease owner
+     */
+    @Transactional
+    public List<BookEnrichmentJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(lease);
+
+        List<BookEnrichmentJob> claimed = new ArrayList<>();
+        for (Long jobID : jobRepository.findClaimableIDs(now, PageRequest.of(0, limit))) {
+            if (jobRepository.claim(jobID, now, lockedUntil, UUID.randomUUID().toString()) == 1) {
+                jobRepository.findById(jobID).ifPresent(claimed::add);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Records the outcome of a successful lookup.
+     *
+     * @param jobID the claimed job
+     * @param leaseOwner the lease owner the job was claimed under
+     * @param metadata the match, or empty if Open Library had none
+     * @return {@code false} if the claim's lease had expired, in which case nothing is recorded
+     */
+    @Transactional
+    public boolean complete(Long jobID, String leaseOwner, Optional<BookMetadataDTO> metadata) {
+        if (jobRepository.release(jobID, leaseOwner, LocalDateTime.now()) == 0) return false;
+        BookEnrichmentJob job = requireJob(jobID);
+        Book book = job.getBook();
+
+        if (metadata.isPresent()) {
+            metadataService.applyMetadata(book, metadata.get());
+            book.setMetadataStatus(BookMetadataStatus.ENRICHED);
+            searchIndexService.indexBook(book);
+        } else {
+            book.setMetadataStatus(BookMetadataStatus.NOT_FOUND);
+        }
+
+        job.setStatus(EnrichmentJobStatus.DONE);
+        job.setLastError(null);
+        return true;
+    }
+
+    /**
+     * Records a failed attempt, re-queuing the job with backoff or giving up after the last attempt.
+     *
+     * @param jobID the claimed job
+     * @param leaseOwner the lease owner the job was claimed under
+     * @param error a description of the failure
+     * @return {@code false} if the claim's lease had expired, in which case nothing is recorded
+     */
+    @Transactional
+    public boolean fail(Long jobID, String leaseOwner, String error) {
+        if (jobRepository.release(jobID, leaseOwner, LocalDateTime.now()) == 0) return false;
+        BookEnrichmentJob job = requireJob(jobID);
+        job.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), 1000)));
+
+        if (job.getAttempts() >= maxAttempts) {
+            job.setStatus(EnrichmentJobStatus.FAILED);
+            job.getBook().setMetadataStatus(BookMetadataStatus.FAILED);
+            return true;
+        }
+
+        long factor = 1L << Math.min(job.getAttempts() - 1, 10);
+        job.setStatus(EnrichmentJobStatus.QUEUED);
+        job.setAvailableAt(LocalDateTime.now().plus(backoff.multipliedBy(factor)));
+        return true;
+    }
+
+    // ------ Utility ------
+    private BookEnrichmentJob requireJob(Long jobID) {
+        return jobRepository.findWithBookByJobID(jobID)
+                .orElseThrow(() -> new EntityNotFoundException("Enrichment job " + jobID + " not found"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.library.book.clientDTO.BookMetadataDTO;
+import com.litclub.Backend.entity.BookEnrichmentJob;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Background worker that drains the {@link BookEnrichmentJob} queue.
+ *
+ * <p>Jobs are processed on virtual threads. Each job performs its Open Library lookup through
+ * {@link BookMetadataService#fetchMetadata(String, String, String)}, i.e. behind the shared rate limiter and
+ * retry, without any transaction open; only the short claim and completion steps in
+ * {@link BookEnrichmentService} touch the database.</p>
+ *
+ * <p><strong>Triggers:</strong> a drain starts as soon as a transaction that queued a job commits, and
+ * on a fixed delay ({@code litclub.enrichment.poll-interval}) to pick up retries, jobs queued by other
+ * instances and jobs whose worker died mid-lease. Both hand the drain to the worker's own executor,
+ * so a long drain never holds up the shared scheduler thread.</p>
+ *
+ * <p>Disabled with {@code litclub.enrichment.worker.enabled=false}; jobs then simply stay queued.</p>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "litclub.enrichment.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class BookEnrichmentWorker {
+
+    private final BookEnrichmentService enrichmentService;
+    private final BookMetadataService metadataService;
+    private final int batchSize;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean rerun = new AtomicBoolean();
+
+    public BookEnrichmentWorker(BookEnrichmentService enrichmentService,
+                                BookMetadataService metadataService,
+                                @Value("${litclub.enrichment.batch-size:8}") int batchSize) {
+        this.enrichmentService = enrichmentService;
+        this.metadataService = metadataService;
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener
+    public void onEnrichmentRequested(BookEnrichmentService.EnrichmentRequested event) {
+        executor.execute(this::drain);
+    }
+
+    @Scheduled(fixedDelayString = "${litclub.enrichment.poll-interval:PT15S}")
+    public void poll() {
+        executor.execute(this::drain);
+    }
+
+    /**
+     * Processes due jobs until none are left.
+     *
+     * <p>Only one drain runs at a time; a request that arrives meanwhile makes the running drain go
+     * round once more instead of starting a second one. A request that lands just as the running
+     * drain lets go is picked up by that drain taking the flag back, so no request waits for the
+     * next poll.</p>
+     *
+     * @return number of jobs processed by this call
+     */
+    public int drain() {
+        rerun.set(true);
+        if (!draining.compareAndSet(false, true)) return 0;
+
+        int processed = 0;
+        do {
+            try {
+                while (rerun.getAndSet(false)) {
+                    List<BookEnrichmentJob> jobs;
+                    while (!(jobs = enrichmentService.claim(batchSize)).isEmpty()) {
+                        List<Future<?>> running = jobs.stream()
+                                .<Future<?>>map(job -> executor.submit(() -> process(job)))
+                                .toList();
+                        for (Future<?> future : running) {
+                            future.get();
+                        }
+                        processed += jobs.size();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return processed;
+            } catch (Exception e) {
+                log.error("Book enrichment drain failed: {}", e.getMessage(), e);
+                return processed;
+            } finally {
+                releaseDrain();
+            }
+        } while (rerun.get() && draining.compareAndSet(false, true));
+        return processed;
+    }
+
+    /**
+     * Lets another drain start. Kept apart from {@link #drain()} so a test can land a request at this moment.
+     */
+    void releaseDrain() {
+        draining.set(false);
+    }
+
+    private void process(BookEnrichmentJob job) {
+        Optional<BookMetadataDTO> metadata;
+        try {
+            metadata = metadataService.fetchMetadata(job.getIsbn(), job.getTitle(), job.getAuthor());
+        } catch (Exception e) {
+            log.warn("Enrichment job {} failed: {}", job.getJobID(), e.getMessage());
+            if (!enrichmentService.fail(job.getJobID(), job.getLeaseOwner(), e.getMessage())) {
+                log.warn("Enrichment job {} lease expired; failure discarded", job.getJobID());
+            }
+            return;
+        }
+        if (!enrichmentService.complete(job.getJobID(), job.getLeaseOwner(), metadata)) {
+            log.warn("Enrichment job {} lease expired; result discarded", job.getJobID());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
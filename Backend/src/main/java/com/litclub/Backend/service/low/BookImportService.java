@@ -0,0 +1,113 @@
+package com.litclub.Backend.service.low;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.litclub.Backend.construct.library.book.BookImportProgress;
+import com.litclub.Backend.construct.library.book.BookImportReport;
+import com.litclub.Backend.exception.BookImportNotFoundException;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.exception.TooManyImportsException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs bulk ISBN imports in the background and keeps their progress for polling.
+ *
+ * <p>An import is started with {@link #startImport(List)}, which returns immediately with the import's ID;
+ * the work itself is done by {@link BookMetadataService#importByIsbns(java.util.Collection, BookImportProgress)}
+ * on a virtual thread. Progress reports stay available through {@link #getReport(String)} for a few hours
+ * after the import was started. Reports are held in memory, so they are per instance and do not survive a
+ * restart; the imported books themselves are committed chunk by chunk.</p>
+ *
+ * <p>Each import belongs to the user who started it, and a user may have at most
+ * {@code litclub.import.max-running-per-user} imports running at once.</p>
+ */
+@Service
+@Slf4j
+public class BookImportService {
+
+    private final BookMetadataService metadataService;
+    private final int maxIsbns;
+    private final int maxRunningPerUser;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, BookImportProgress> imports = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(6))
+            .maximumSize(1_000)
+            .build();
+
+    public BookImportService(BookMetadataService metadataService,
+                             @Value("${litclub.import.max-isbns:20000}") int maxIsbns,
+                             @Value("${litclub.import.max-running-per-user:2}") int maxRunningPerUser) {
+        this.metadataService = metadataService;
+        this.maxIsbns = maxIsbns;
+        this.maxRunningPerUser = maxRunningPerUser;
+    }
+
+    /**
+     * Starts importing {@code isbns} in the background on behalf of a user.
+     *
+     * @param userID the user starting the import, who alone may poll it
+     * @return the initial report, carrying the ID to poll
+     * @throws MalformedDTOException if no ISBNs, or more than {@code litclub.import.max-isbns}, were given
+     * @throws TooManyImportsException if the user already has {@code litclub.import.max-running-per-user}
+     *         imports running
+     */
+    public synchronized BookImportReport startImport(Long userID, List<String> isbns) {
+        if (isbns == null || isbns.isEmpty()) {
+            throw new MalformedDTOException("isbns cannot be null or empty");
+        }
+        if (isbns.size() > maxIsbns) {
+            throw new MalformedDTOException("at most " + maxIsbns + " ISBNs can be imported at once");
+        }
+
+        long running = imports.asMap().values().stream()
+                .filter(progress -> userID.equals(progress.getOwnerID()) && !progress.isFinished())
+                .count();
+        if (running >= maxRunningPerUser) {
+            throw new TooManyImportsException(maxRunningPerUser);
+        }
+
+        BookImportProgress progress = new BookImportProgress(userID);
+        List<String> snapshot = new ArrayList<>(isbns);
+        imports.put(progress.getImportID(), progress);
+
+        executor.execute(() -> {
+            try {
+                metadataService.importByIsbns(snapshot, progress);
+            } catch (Exception e) {
+                log.error("Bulk import {} aborted: {}", progress.getImportID(), e.getMessage(), e);
+            }
+        });
+        return progress.report();
+    }
+
+    public BookImportReport getReport(String importID) {
+        BookImportProgress progress = imports.getIfPresent(importID);
+        if (progress == null) {
+            throw new BookImportNotFoundException(importID);
+        }
+        return progress.report();
+    }
+
+    /**
+     * @return whether the import exists and was started by the user
+     */
+    public boolean isOwner(String importID, Long userID) {
+        BookImportProgress progress = imports.getIfPresent(importID);
+        return progress != null && userID != null && userID.equals(progress.getOwnerID());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
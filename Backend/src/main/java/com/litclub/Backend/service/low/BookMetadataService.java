@@ -1,5 +1,8 @@
 package com.litclub.Backend.service.low;
 
+import com.litclub.Backend.construct.library.book.BookImportProgress;
+import com.litclub.Backend.construct.library.book.BookImportReport;
+import com.litclub.Backend.construct.library.book.BookMetadataStatus;
 import com.litclub.Backend.construct.library.book.clientDTO.BookMetadataDTO;
 import com.litclub.Backend.service.OpenLibraryClient;
 import com.litclub.Backend.entity.Book;
@@ -12,14 +15,19 @@ import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
 /**
  * <p>Service that enriches Book (JPA entity) using the OpenLibraryClient.</p>
@@ -31,6 +39,14 @@ import java.util.stream.Collectors;
  * <li>In-memory caching of enriched Book entities {@code Caffeine} to avoid repeated remote calls.</li>
  *</ul>
  *
+ * <p>{@link #fetchMetadata(String, String, String)} and {@link #applyMetadata(Book, BookMetadataDTO)} are the two
+ * halves used by the background enrichment pipeline: the first performs the rate-limited remote call and must be
+ * invoked outside any transaction, the second copies the result onto a managed entity.</p>
+ *
+ * <p>{@link #importByIsbns(Collection, BookImportProgress)} is the bulk path: many ISBNs per search request,
+ * several requests in flight within the rate budget, and JDBC batch inserts instead of one {@code save}
+ * per book.</p>
+ *
  * @see OpenLibraryClient
  *
  */
@@ -40,6 +56,7 @@ public class BookMetadataService {
 
     private final OpenLibraryClient openLibraryClient;
     private final BookRepository bookRepository;
+    private final SearchIndexService searchIndexService;
 
     // Small in-memory cache keyed by ISBN to reduce remote traffic. Adjust expiry/size as needed.
     private final Cache<String, Book> isbnCache = Caffeine.newBuilder()
@@ -54,9 +71,26 @@ public class BookMetadataService {
     // Retry config for transient errors
     private final Retry retry;
 
-    public BookMetadataService(OpenLibraryClient openLibraryClient, BookRepository bookRepository) {
+    // Bulk import: batched inserts, one short transaction per chunk
+    private static final int IN_CLAUSE_SIZE = 1_000;
+    private static final Pattern ISBN_PATTERN = Pattern.compile("\\d{9}[\\dX]|\\d{13}");
+
+    private final TransactionTemplate transactionTemplate;
+    private final int bulkChunkSize;
+    private final int bulkParallelism;
+
+    public BookMetadataService(OpenLibraryClient openLibraryClient,
+                               BookRepository bookRepository,
+                               SearchIndexService searchIndexService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${openlibrary.bulk.chunk-size:50}") int bulkChunkSize,
+                               @Value("${openlibrary.bulk.parallelism:2}") int bulkParallelism) {
         this.openLibraryClient = openLibraryClient;
         this.bookRepository = bookRepository;
+        this.searchIndexService = searchIndexService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bulkChunkSize = bulkChunkSize;
+        this.bulkParallelism = bulkParallelism;
 
         RateLimiterConfig rlConfig = RateLimiterConfig.custom()
                 // number of permits per refresh period
@@ -114,6 +148,7 @@ public class BookMetadataService {
             BookMetadataDTO dto = maybeDto.get();
             Book book = mapDtoToEntity(dto, key);
             Book saved = bookRepository.save(book);
+            searchIndexService.indexBook(saved);
 
             isbnCache.put(key, saved);
             return Optional.of(saved);
@@ -176,6 +211,7 @@ public class BookMetadataService {
 
             Book book = mapDtoToEntity(dto, isbnKey);
             Book saved = bookRepository.save(book);
+            searchIndexService.indexBook(saved);
             isbnCache.put(isbnKey, saved);
             return Optional.of(saved);
         } catch (Exception ex) {
@@ -185,16 +221,218 @@ public class BookMetadataService {
     }
 
     /**
-     * Bulk search/save from a list of ISBNs. This method will respect the same rate limits.
+     * Performs a rate-limited, retried Open Library lookup without touching the database.
+     *
+     * <p>Blocks for as long as the rate limiter and retries require, so it must not be called while a
+     * transaction (and with it a pooled connection) is held.</p>
+     *
+     * @return the best match, or empty if Open Library has none
+     * @throws RuntimeException if the lookup still failed after all retries
+     */
+    public Optional<BookMetadataDTO> fetchMetadata(String isbn, String title, String author) {
+        Supplier<Optional<BookMetadataDTO>> remoteCall = () -> openLibraryClient.lookup(isbn, title, author);
+        return Decorators.ofSupplier(remoteCall)
+                .withRateLimiter(rateLimiter)
+                .withRetry(retry)
+                .decorate()
+                .get();
+    }
+
+    /**
+     * Copies fetched metadata onto a book.
+     *
+     * <p>The ISBN is only filled in if the book has none and no other book already uses it.</p>
+     */
+    public void applyMetadata(Book book, BookMetadataDTO dto) {
+        if (dto.getTitle() != null && !dto.getTitle().isBlank()) book.setTitle(dto.getTitle());
+
+        if (dto.hasAuthor()) book.setAuthors(dto.getAuthors());
+
+        String isbn = dto.getIsbn();
+        if (book.getIsbn() == null && isbn != null && bookRepository.findBookByisbn(isbn).isEmpty()) {
+            book.setIsbn(isbn);
+        }
+
+        book.setPublishDate(dto.getPublishDate());
+        String coverURL = dto.getCoverUrl();
+        if (coverURL != null && !coverURL.isEmpty()) {book.setCoverUrl(coverURL);}
+
+        if (!dto.getPublishers().isEmpty()) {
+            book.setPublishers(String.join(", ", dto.getPublishers()));
+        }
+
+        if (dto.getEdition() != null) book.setEdition(dto.getEdition());
+    }
+
+    /**
+     * Bulk search/save from a list of ISBNs, returning every matching book (previously known or newly
+     * imported). See {@link #importByIsbns(Collection, BookImportProgress)}.
      */
-    @Transactional
     public List<Book> enrichAndSaveBulkByIsbns(List<String> isbns) {
-        return isbns.stream()
+        importByIsbns(isbns, new BookImportProgress());
+
+        List<String> normalized = isbns.stream()
+                .map(BookMetadataService::normalizeIsbn)
+                .filter(Objects::nonNull)
                 .distinct()
-                .map(this::enrichAndSaveByIsbn)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+                .toList();
+        List<Book> books = new ArrayList<>();
+        for (List<String> slice : partition(normalized, IN_CLAUSE_SIZE)) {
+            books.addAll(bookRepository.findAllByIsbnIn(slice));
+        }
+        return books;
+    }
+
+    /**
+     * Imports books for a (possibly very large) list of ISBNs.
+     *
+     * <ol>
+     *   <li>ISBNs are normalized and de-duplicated; malformed ones are counted as invalid.</li>
+     *   <li>ISBNs already in the catalogue are resolved with {@code IN} queries and skipped.</li>
+     *   <li>The rest are looked up in chunks of {@code openlibrary.bulk.chunk-size} ISBNs per search
+     *       request, with at most {@code openlibrary.bulk.parallelism} requests in flight, all behind
+     *       the shared rate limiter and retry.</li>
+     *   <li>Each chunk's matches are written with JDBC batch inserts in a short transaction of its own.</li>
+     * </ol>
+     *
+     * <p>Runs on the calling thread until the import is finished, without holding a transaction across
+     * remote calls. {@code progress} is updated as chunks complete.</p>
+     *
+     * @return the final report
+     */
+    public BookImportReport importByIsbns(Collection<String> isbns, BookImportProgress progress) {
+        try {
+            Set<String> unique = new LinkedHashSet<>();
+            int invalid = 0;
+            for (String raw : isbns) {
+                String isbn = normalizeIsbn(raw);
+                if (isbn == null) {
+                    invalid++;
+                } else {
+                    unique.add(isbn);
+                }
+            }
+            progress.accepted(isbns.size(), unique.size(), invalid);
+
+            List<String> unknown = new ArrayList<>();
+            for (List<String> slice : partition(new ArrayList<>(unique), IN_CLAUSE_SIZE)) {
+                Set<String> known = new HashSet<>(bookRepository.findExistingIsbns(slice));
+                progress.alreadyKnown(known.size());
+                slice.stream().filter(isbn -> !known.contains(isbn)).forEach(unknown::add);
+            }
+
+            Semaphore inFlight = new Semaphore(bulkParallelism);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (List<String> chunk : partition(unknown, bulkChunkSize)) {
+                    executor.execute(() -> importChunk(chunk, inFlight, progress));
+                }
+            }
+        } finally {
+            progress.finish();
+        }
+
+        BookImportReport report = progress.report();
+        log.info("Bulk import {} finished: {} imported, {} known, {} not found, {} failed in {} ms",
+                report.importID(), report.imported(), report.alreadyKnown(), report.notFound(),
+                report.failed(), report.elapsedMillis());
+        return report;
+    }
+
+    /**
+     * Rate-limited, retried multi-ISBN lookup; like {@link #fetchMetadata(String, String, String)} it must not
+     * be called while a transaction is held.
+     *
+     * @return metadata keyed by requested ISBN; ISBNs without a match are absent
+     */
+    public Map<String, BookMetadataDTO> fetchMetadataByIsbns(Collection<String> isbns) {
+        Supplier<Map<String, BookMetadataDTO>> remoteCall = () -> openLibraryClient.fetchByIsbns(isbns);
+        return Decorators.ofSupplier(remoteCall)
+                .withRateLimiter(rateLimiter)
+                .withRetry(retry)
+                .decorate()
+                .get();
+    }
+
+    private void importChunk(List<String> chunk, Semaphore inFlight, BookImportProgress progress) {
+        Map<String, BookMetadataDTO> found;
+        try {
+            inFlight.acquire();
+            try {
+                progress.remoteRequest();
+                found = fetchMetadataByIsbns(chunk);
+            } finally {
+                inFlight.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.failed(chunk.size());
+            return;
+        } catch (Exception e) {
+            log.warn("Bulk lookup of {} ISBNs failed: {}", chunk.size(), e.getMessage());
+            progress.failed(chunk.size());
+            return;
+        }
+
+        progress.notFound(chunk.size() - found.size());
+        if (found.isEmpty()) return;
+
+        try {
+            int inserted = insertBooks(found.values());
+            progress.imported(inserted);
+            progress.alreadyKnown(found.size() - inserted);
+        } catch (Exception e) {
+            log.warn("Saving {} imported books failed: {}", found.size(), e.getMessage());
+            progress.failed(found.size());
+        }
+    }
+
+    /**
+     * Inserts one book per metadata entry, skipping ISBNs that appeared in the catalogue since the import
+     * started. IDs come from the books sequence, so Hibernate writes the books and their author rows as
+     * JDBC batches.
+     *
+     * @return number of books inserted
+     */
+    private int insertBooks(Collection<BookMetadataDTO> found) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            List<String> isbns = found.stream().map(BookMetadataDTO::getIsbn).toList();
+            Set<String> known = new HashSet<>(bookRepository.findExistingIsbns(isbns));
+
+            List<Book> books = found.stream()
+                    .filter(dto -> !known.contains(dto.getIsbn()))
+                    .map(this::toImportedBook)
+                    .toList();
+            if (books.isEmpty()) return 0;
+
+            bookRepository.saveAll(books);
+            searchIndexService.indexBooks(books);
+            return books.size();
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private Book toImportedBook(BookMetadataDTO dto) {
+        Book book = new Book();
+        book.setIsbn(dto.getIsbn());
+        book.setTitle(dto.getIsbn());
+        applyMetadata(book, dto);
+        book.setMetadataStatus(BookMetadataStatus.ENRICHED);
+        return book;
+    }
+
+    /** Strips spaces and hyphens; returns {@code null} unless the result looks like an ISBN-10 or ISBN-13. */
+    static String normalizeIsbn(String raw) {
+        if (raw == null) return null;
+        String isbn = raw.replaceAll("[\\s-]", "").toUpperCase(Locale.ROOT);
+        return ISBN_PATTERN.matcher(isbn).matches() ? isbn : null;
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> slices = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            slices.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return slices;
     }
 
     // --- Mapping helper (simple) ---
@@ -0,0 +1,60 @@
+package com.litclub.Backend.service.low;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically rebuilds the precomputed book neighbours behind the recommendations.
+ *
+ * <p>The first rebuild runs shortly after startup ({@code litclub.recommendations.initial-delay}) and then on a
+ * fixed delay ({@code litclub.recommendations.refresh-interval}). Until the first rebuild completes, the
+ * recommender falls back to club popularity.</p>
+ *
+ * <p>Each tick only hands the rebuild to the scheduler's own thread, so a long rebuild never holds up the shared
+ * scheduler thread; a tick that finds the previous rebuild still running is dropped.</p>
+ *
+ * <p>Disabled with {@code litclub.recommendations.scheduler.enabled=false}; the table then only changes through
+ * the admin rebuild endpoint.</p>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "litclub.recommendations.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class BookNeighbourScheduler {
+
+    private final BookNeighbourService bookNeighbourService;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+            Thread.ofPlatform().name("book-neighbours").daemon().factory(),
+            (task, pool) -> log.info("Book neighbour rebuild still running; skipping this refresh"));
+
+    public BookNeighbourScheduler(BookNeighbourService bookNeighbourService) {
+        this.bookNeighbourService = bookNeighbourService;
+    }
+
+    @Scheduled(initialDelayString = "${litclub.recommendations.initial-delay:PT1M}",
+            fixedDelayString = "${litclub.recommendations.refresh-interval:PT6H}")
+    public void refresh() {
+        executor.execute(this::rebuild);
+    }
+
+    private void rebuild() {
+        try {
+            bookNeighbourService.rebuild();
+        } catch (Exception e) {
+            log.error("Book neighbour rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,206 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.entity.BookNeighbour;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.recommend.InteractionMatrix;
+import com.litclub.Backend.recommend.ItemNeighbourhoods;
+import com.litclub.Backend.repository.BookNeighbourRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maintains the precomputed {@link BookNeighbour} table and answers personal recommendations from it.
+ *
+ * <p>A rebuild reads every library entry (and every review without one) in a single streamed query, weighs each
+ * by status, rating and age, computes the top-{@code k} most similar books of every book with
+ * {@link ItemNeighbourhoods} and replaces the table in one transaction, so readers see either the old or the new
+ * neighbourhoods, never a mix.</p>
+ *
+ * <p><strong>Weights:</strong> finished books count fully, books being read slightly less and wish-list entries
+ * less again; abandoned books are left out. A rating (the library rating, else the review rating) scales the
+ * weight around a neutral 3 stars, and the weight halves every {@code litclub.recommendations.half-life}.</p>
+ *
+ * <p><strong>Thread safety:</strong> only one rebuild runs at a time; concurrent calls return immediately.</p>
+ *
+ * @see BookNeighbour
+ * @see com.litclub.Backend.service.top.facilitator.RecommenderService
+ */
+@Service
+@Slf4j
+public class BookNeighbourService {
+
+    private static final String SELECT_INTERACTIONS = """
+            SELECT ub.user_id, ub.book_id, ub.status,
+                   COALESCE(ub.rating, (SELECT MAX(r.rating) FROM reviews r
+                                        WHERE r.user_id = ub.user_id AND r.book_id = ub.book_id)) AS rating,
+                   ub.created_at
+            FROM user_books ub
+            UNION ALL
+            SELECT r.user_id, r.book_id, 0, r.rating, r.created_at
+            FROM reviews r
+            WHERE r.user_id IS NOT NULL AND r.book_id IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM user_books ub WHERE ub.user_id = r.user_id AND ub.book_id = r.book_id)
+            """;
+    private static final String DELETE_NEIGHBOURS = "DELETE FROM book_neighbours";
+    private static final String INSERT_NEIGHBOUR =
+            "INSERT INTO book_neighbours (book_id, neighbour_id, similarity) VALUES (?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final BookNeighbourRepository bookNeighbourRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int neighbours;
+    private final int parallelism;
+    private final int maxBooksPerUser;
+    private final double halfLifeDays;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public BookNeighbourService(BookNeighbourRepository bookNeighbourRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${litclub.recommendations.neighbours:20}") int neighbours,
+                                @Value("${litclub.recommendations.parallelism:0}") int parallelism,
+                                @Value("${litclub.recommendations.max-books-per-user:500}") int maxBooksPerUser,
+                                @Value("${litclub.recommendations.half-life:P365D}") Duration halfLife) {
+        this.bookNeighbourRepository = bookNeighbourRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.neighbours = neighbours;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxBooksPerUser = maxBooksPerUser;
+        this.halfLifeDays = halfLife.toSeconds() / 86_400.0;
+    }
+
+    // ====== READ ======
+    /**
+     * IDs of the books recommended to {@code user}, best first, never including a book already in their library.
+     */
+    @Transactional(readOnly = true)
+    public Page<Long> getRecommendedBookIDs(User user, Pageable pageable) {
+        return bookNeighbourRepository.findRecommendedBookIDs(
+                user, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    // ====== REBUILD ======
+    /**
+     * Recomputes every book's neighbours and replaces the stored table.
+     *
+     * @return the number of neighbour rows written, or {@code -1} if another rebuild was already running
+     */
+    public long rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return -1;
+        try {
+            long started = System.nanoTime();
+            InteractionMatrix matrix = loadInteractions();
+            ItemNeighbourhoods neighbourhoods = ItemNeighbourhoods.compute(matrix, neighbours, parallelism);
+            long computed = System.nanoTime();
+            store(neighbourhoods);
+
+            log.info("Rebuilt book neighbours from {} interactions of {} users over {} books: {} rows, "
+                            + "computed in {} ms, stored in {} ms",
+                    matrix.interactions(), matrix.users(), matrix.books(), neighbourhoods.size(),
+                    (computed - started) / 1_000_000, (System.nanoTime() - computed) / 1_000_000);
+            return neighbourhoods.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Book neighbour rebuild was interrupted", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private InteractionMatrix loadInteractions() {
+        InteractionMatrix.Builder builder = InteractionMatrix.builder(maxBooksPerUser);
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_INTERACTIONS);
+            statement.setFetchSize(10_000);
+            return statement;
+        }, row -> {
+            int statusOrdinal = row.getInt(3);
+            if (row.wasNull()) return; // a shelf entry without a status carries no signal
+            Timestamp createdAt = row.getTimestamp(5);
+            builder.add(row.getLong(1), row.getLong(2), weight(
+                    statusOrdinal,
+                    row.getObject(4) == null ? null : row.getInt(4),
+                    createdAt == null ? now : createdAt.toInstant(),
+                    now));
+        }));
+        return builder.build();
+    }
+
+    private float weight(int statusOrdinal, Integer rating, Instant addedAt, Instant now) {
+        double weight = switch (BookStatus.values()[statusOrdinal]) {
+            case READ -> 1.0;
+            case READING -> 0.8;
+            case WANT_TO_READ -> 0.4;
+            case DNF -> 0.0;
+        };
+        if (rating != null) {
+            weight *= Math.clamp(rating, 1, 5) / 3.0;
+        }
+        double ageDays = Math.max(0, Duration.between(addedAt, now).toSeconds() / 86_400.0);
+        return (float) (weight * Math.pow(0.5, ageDays / halfLifeDays));
+    }
+
+    private void store(ItemNeighbourhoods neighbourhoods) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_NEIGHBOURS);
+            BatchWriter writer = new BatchWriter();
+            neighbourhoods.forEach(writer::add);
+            writer.flush();
+        });
+    }
+
+    /** Buffers rows in primitive arrays and sends them as JDBC batches. */
+    private class BatchWriter {
+        private final long[] books = new long[INSERT_BATCH_SIZE];
+        private final long[] neighbourIDs = new long[INSERT_BATCH_SIZE];
+        private final float[] similarities = new float[INSERT_BATCH_SIZE];
+        private int size;
+
+        void add(long bookID, long neighbourID, float similarity) {
+            books[size] = bookID;
+            neighbourIDs[size] = neighbourID;
+            similarities[size] = similarity;
+            if (++size == INSERT_BATCH_SIZE) flush();
+        }
+
+        void flush() {
+            if (size == 0) return;
+            int batch = size;
+            jdbcTemplate.batchUpdate(INSERT_NEIGHBOUR, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, books[i]);
+                    ps.setLong(2, neighbourIDs[i]);
+                    ps.setDouble(3, similarities[i]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch;
+                }
+            });
+            size = 0;
+        }
+    }
+}
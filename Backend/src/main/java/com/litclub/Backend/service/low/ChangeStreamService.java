@@ -0,0 +1,410 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.club.ClubRef;
+import com.litclub.Backend.construct.event.ChangeEvent;
+import com.litclub.Backend.construct.event.ChangeType;
+import com.litclub.Backend.construct.event.MembershipChange;
+import com.litclub.Backend.construct.meeting.MeetingView;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.construct.user.UserRef;
+import com.litclub.Backend.entity.*;
+import com.litclub.Backend.security.roles.ClubRole;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Service that pushes club activity to connected clients as server-sent events.
+ *
+ * <p>The middle-tier services report each note, reply, meeting and membership change here, and it is delivered to
+ * two kinds of stream once the writing transaction commits:</p>
+ * <ul>
+ *   <li><strong>Club streams</strong> receive every change in one club. A member's club stream is closed when they
+ *       leave the club.</li>
+ *   <li><strong>User streams</strong> receive the meetings of every club the user belongs to and the changes to
+ *       the user's own memberships, which is what the club overview shows.</li>
+ * </ul>
+ *
+ * <p><strong>Resuming:</strong> event IDs increase across all streams, and the last
+ * {@code litclub.events.history-size} events are kept. A client that reconnects with {@code Last-Event-ID} is first
+ * sent the events it missed; if those are no longer kept, or the ID was issued before a restart, it is sent a
+ * single {@link ChangeType#RESET} event and must fetch its lists again. The history lives in memory, so each
+ * application instance only streams the changes written through it.</p>
+ *
+ * <p><strong>Delivery:</strong> every stream has its own bounded queue drained by a virtual thread, so a slow client
+ * delays no one else. A client that falls {@code litclub.events.queue-size} events behind is disconnected and
+ * resumes on reconnect. Idle streams are sent a comment every {@code litclub.events.heartbeat-interval} so that
+ * dead connections are noticed.</p>
+ *
+ * <p>Private notes and replies to notes outside any club are not streamed.</p>
+ */
+@Service
+@Slf4j
+public class ChangeStreamService {
+
+    private static final ChangeEvent HEARTBEAT = ChangeEvent.reset(-1);
+
+    private final long timeoutMillis;
+    private final int historySize;
+    private final int queueSize;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<ChangeEvent> history = new ArrayDeque<>();
+    private final long firstEventID = System.currentTimeMillis();
+    private long lastEventID = firstEventID;
+    private long forgottenThrough = firstEventID;
+
+    private final Map<Long, Set<Subscriber>> clubStreams = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> memberStreams = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> userStreams = new ConcurrentHashMap<>();
+
+    public ChangeStreamService(@Value("${litclub.events.timeout:PT30M}") Duration timeout,
+                               @Value("${litclub.events.history-size:1000}") int historySize,
+                               @Value("${litclub.events.queue-size:256}") int queueSize) {
+        this.timeoutMillis = timeout.toMillis();
+        this.historySize = historySize;
+        this.queueSize = queueSize;
+    }
+
+    // ====== SUBSCRIBE ======
+
+    /**
+     * Opens a stream of every change in a club.
+     *
+     * @param clubID the club, which {@code userID} must be a member of
+     * @param userID the subscriber, whose stream is closed when they leave the club
+     * @param lastEventID the {@code Last-Event-ID} the client reconnected with, or {@code null} for a new stream
+     */
+    public SseEmitter subscribeToClub(Long clubID, Long userID, Long lastEventID) {
+        return subscribeToClub(new SseEmitter(timeoutMillis), clubID, userID, lastEventID);
+    }
+
+    /**
+     * Opens a stream of the meetings in a user's clubs and of the user's membership changes.
+     *
+     * @param userID the user
+     * @param clubIDs the clubs the user currently belongs to
+     * @param lastEventID the {@code Last-Event-ID} the client reconnected with, or {@code null} for a new stream
+     */
+    public SseEmitter subscribeToUser(Long userID, Collection<Long> clubIDs, Long lastEventID) {
+        return subscribeToUser(new SseEmitter(timeoutMillis), userID, clubIDs, lastEventID);
+    }
+
+    SseEmitter subscribeToClub(SseEmitter emitter, Long clubID, Long userID, Long lastEventID) {
+        return open(new Subscriber(emitter, clubID, userID, Set.of()), lastEventID);
+    }
+
+    SseEmitter subscribeToUser(SseEmitter emitter, Long userID, Collection<Long> clubIDs, Long lastEventID) {
+        return open(new Subscriber(emitter, null, userID, clubIDs), lastEventID);
+    }
+
+    // ====== PUBLISH ======
+
+    /** Streams a club note once the current transaction commits. Private notes are ignored. */
+    public void publishNote(ChangeType type, Note note) {
+        if (note.isPrivate() || note.getClub() == null) return;
+
+        DiscussionPrompt prompt = note.getDiscussionPrompt();
+        NoteView view = type == ChangeType.NOTE_DELETED ? null : NoteView.of(note);
+        publish(() -> new ChangeEvent(0, type, note.getClub().getClubID(), note.getNoteID(),
+                prompt == null ? null : prompt.getPromptID(), committed(view, note), null, null, null));
+    }
+
+    /** Streams a created or updated reply to the club of the note thread it belongs to. */
+    public void publishReply(ChangeType type, Reply reply) {
+        Club club = clubOf(reply);
+        if (club == null) return;
+
+        NoteView view = NoteView.of(reply);
+        Long parentID = reply.getParentNote().getNoteID();
+        publish(() -> new ChangeEvent(0, type, club.getClubID(), reply.getNoteID(), parentID,
+                null, committed(view, reply), null, null));
+    }
+
+    /**
+     * Streams the deletion of a reply and of any replies below it.
+     *
+     * @param reply the deleted reply, for its thread's club and its parent
+     * @param replyIDs the IDs deleted, {@code reply}'s own included
+     */
+    public void publishRepliesDeleted(Reply reply, Collection<Long> replyIDs) {
+        Club club = clubOf(reply);
+        if (club == null) return;
+
+        Long parentID = reply.getParentNote().getNoteID();
+        for (Long replyID : replyIDs) {
+            publish(() -> new ChangeEvent(0, ChangeType.REPLY_DELETED, club.getClubID(), replyID,
+                    replyID.equals(reply.getNoteID()) ? parentID : null, null, null, null, null));
+        }
+    }
+
+    public void publishMeeting(ChangeType type, Meeting meeting) {
+        MeetingView view = type == ChangeType.MEETING_DELETED ? null : MeetingView.of(meeting);
+        publish(() -> new ChangeEvent(0, type, meeting.getClub().getClubID(), meeting.getMeetingID(), null,
+                null, null, committed(view, meeting), null));
+    }
+
+    public void publishMembership(ChangeType type, ClubMembership membership) {
+        Club club = membership.getClub();
+        User member = membership.getMember();
+        Set<ClubRole> roles =
+                type == ChangeType.MEMBER_LEFT ? Set.of() : Set.copyOf(membership.getRoles());
+
+        ChangeEvent event = new ChangeEvent(0, type, club.getClubID(), member.getUserID(), null, null, null, null,
+                new MembershipChange(new ClubRef(club.getClubID(), club.getClubName()),
+                        new UserRef(member.getUserID(), member.getUsername()), roles));
+        publish(() -> event);
+    }
+
+    /**
+     * Dispatches an event once the current transaction commits.
+     *
+     * <p>Callers read associations inside the transaction; {@code event} runs after the commit so that it also sees
+     * the values Hibernate generates on insert, such as creation timestamps.</p>
+     */
+    private void publish(Supplier<ChangeEvent> event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event.get());
+                }
+            });
+        } else {
+            dispatch(event.get());
+        }
+    }
+
+    // ====== DELIVERY ======
+
+    private SseEmitter open(Subscriber subscriber, Long resumeFrom) {
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        synchronized (lock) {
+            if (resumeFrom != null) {
+                if (resumeFrom < forgottenThrough || resumeFrom > lastEventID) {
+                    subscriber.offer(ChangeEvent.reset(lastEventID));
+                } else {
+                    for (ChangeEvent event : history) {
+                        if (event.eventID() > resumeFrom && subscriber.accepts(event)) {
+                            subscriber.offer(event);
+                        }
+                    }
+                }
+            }
+            register(subscriber);
+        }
+
+        Thread.ofVirtual().name("change-stream-" + subscriber.userID).start(subscriber::drain);
+        return emitter;
+    }
+
+    private void dispatch(ChangeEvent change) {
+        synchronized (lock) {
+            ChangeEvent event = change.withID(++lastEventID);
+            history.addLast(event);
+            if (history.size() > historySize) {
+                forgottenThrough = history.removeFirst().eventID();
+            }
+
+            Set<Subscriber> recipients = new LinkedHashSet<>(streams(clubStreams, event.clubID()));
+            if (event.type().isMeeting()) {
+                recipients.addAll(streams(memberStreams, event.clubID()));
+            } else if (event.type().isMembership()) {
+                recipients.addAll(streams(userStreams, event.entityID()));
+            }
+
+            for (Subscriber subscriber : recipients) {
+                boolean wasMember = subscriber.clubIDs.contains(event.clubID());
+                if (subscriber.accepts(event)) {
+                    subscriber.offer(event);
+                }
+                if (subscriber.clubID == null && wasMember != subscriber.clubIDs.contains(event.clubID())) {
+                    index(memberStreams, event.clubID(), subscriber, !wasMember);
+                }
+            }
+
+            if (event.type() == ChangeType.MEMBER_LEFT) {
+                for (Subscriber subscriber : streams(clubStreams, event.clubID())) {
+                    if (subscriber.userID.equals(event.entityID())) {
+                        remove(subscriber);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Keeps idle connections open and reveals the ones the client has dropped. */
+    @Scheduled(fixedDelayString = "${litclub.events.heartbeat-interval:PT30S}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> subscribers : userStreams.values()) {
+            subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+        }
+        for (Set<Subscriber> subscribers : clubStreams.values()) {
+            subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+        }
+    }
+
+    /** @return the number of open streams */
+    public int countStreams() {
+        return userStreams.values().stream().mapToInt(Set::size).sum()
+                + clubStreams.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        List<Subscriber> open = new ArrayList<>();
+        userStreams.values().forEach(open::addAll);
+        clubStreams.values().forEach(open::addAll);
+        open.forEach(this::remove);
+    }
+
+    // ------ Utility ------
+
+    private void register(Subscriber subscriber) {
+        if (subscriber.clubID != null) {
+            index(clubStreams, subscriber.clubID, subscriber, true);
+        } else {
+            index(userStreams, subscriber.userID, subscriber, true);
+            subscriber.clubIDs.forEach(clubID -> index(memberStreams, clubID, subscriber, true));
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.close();
+        synchronized (lock) {
+            if (subscriber.clubID != null) {
+                index(clubStreams, subscriber.clubID, subscriber, false);
+            } else {
+                index(userStreams, subscriber.userID, subscriber, false);
+                subscriber.clubIDs.forEach(clubID -> index(memberStreams, clubID, subscriber, false));
+            }
+        }
+    }
+
+    private static void index(Map<Long, Set<Subscriber>> streams, Long key, Subscriber subscriber, boolean add) {
+        if (add) {
+            streams.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        } else {
+            streams.computeIfPresent(key, (k, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
+    private static Set<Subscriber> streams(Map<Long, Set<Subscriber>> streams, Long key) {
+        return key == null ? Set.of() : streams.getOrDefault(key, Set.of());
+    }
+
+    private static NoteView committed(NoteView view, Note note) {
+        return view == null ? null : new NoteView(view.noteID(), view.book(), view.club(), view.discussionPrompt(),
+                view.user(), view.content(), view.isPrivate(), note.getCreatedAt());
+    }
+
+    private static MeetingView committed(MeetingView view, Meeting meeting) {
+        return view == null ? null : new MeetingView(view.meetingID(), view.club(), view.title(), view.startTime(),
+                view.endTime(), view.location(), view.link(), view.creator(), meeting.getCreatedAt());
+    }
+
+    /** The club of the note a reply thread starts from. */
+    private static Club clubOf(Reply reply) {
+        Note note = reply;
+        while (note instanceof Reply r) {
+            note = (Note) Hibernate.unproxy(r.getParentNote());
+        }
+        return note.getClub();
+    }
+
+    /**
+     * One open stream: its filter, and the queue its virtual thread writes to the client from.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Long clubID;
+        private final Long userID;
+        private final Set<Long> clubIDs;
+        private final BlockingQueue<ChangeEvent> queue = new ArrayBlockingQueue<>(queueSize);
+        private volatile boolean closed;
+        private volatile Thread writer;
+
+        private Subscriber(SseEmitter emitter, Long clubID, Long userID, Collection<Long> clubIDs) {
+            this.emitter = emitter;
+            this.clubID = clubID;
+            this.userID = userID;
+            this.clubIDs = new HashSet<>(clubIDs);
+        }
+
+        /** Whether this stream carries {@code event}; for a user stream, also follows their joins and leaves. */
+        private boolean accepts(ChangeEvent event) {
+            if (event.type() == ChangeType.RESET) return true;
+            if (clubID != null) return clubID.equals(event.clubID());
+
+            if (event.type().isMembership() && userID.equals(event.entityID())) {
+                if (event.type() == ChangeType.MEMBER_LEFT) {
+                    clubIDs.remove(event.clubID());
+                } else {
+                    clubIDs.add(event.clubID());
+                }
+                return true;
+            }
+            return event.type().isMeeting() && clubIDs.contains(event.clubID());
+        }
+
+        private void offer(ChangeEvent event) {
+            if (closed) return;
+            if (!queue.offer(event)) {
+                log.info("Closing change stream of user {}: {} events behind", userID, queue.size());
+                remove(this);
+            }
+        }
+
+        private void drain() {
+            writer = Thread.currentThread();
+            try {
+                while (!closed) {
+                    ChangeEvent event = queue.take();
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(event.eventID()))
+                                .name(event.type().name())
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.debug("Change stream of user {} closed: {}", userID, e.getMessage());
+                remove(this);
+            }
+        }
+
+        private void close() {
+            if (closed) return;
+            closed = true;
+            Thread thread = writer;
+            if (thread != null) thread.interrupt();
+            emitter.complete();
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.litclub.Backend.service.low;
 
+import com.litclub.Backend.construct.event.ChangeType;
 import com.litclub.Backend.entity.Club;
 import com.litclub.Backend.entity.ClubMembership;
 import com.litclub.Backend.entity.User;
 import com.litclub.Backend.entity.compositeKey.ClubMembershipID;
 import com.litclub.Backend.exception.MembershipNotFoundException;
 import com.litclub.Backend.repository.ClubMembershipRepository;
+import com.litclub.Backend.repository.UserRepository;
 import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.security.userdetails.PrincipalCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +33,14 @@ import java.util.*;
  *
  * <p><strong>Thread safety:</strong> This service is stateless and therefore thread-safe.
  *
+ * <p><strong>Principal cache:</strong> every operation that changes a member's roles bumps the
+ * member's membership version and evicts them from the {@link PrincipalCache} once the transaction
+ * commits, so the next request is authorized against the updated memberships and any token
+ * carrying the old club roles is re-issued.
+ *
+ * <p><strong>Change stream:</strong> joins, role changes and departures are also published to the
+ * {@link ChangeStreamService}, which keeps the member's open streams in step with their clubs.
+ *
  * @see ClubMembership
  * @see ClubRole
  */
@@ -36,9 +49,24 @@ import java.util.*;
 public class ClubMembershipService {
 
     private final ClubMembershipRepository clubMembershipRepository;
+    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final UserStatsService userStatsService;
+    private final ChangeStreamService changeStreamService;
+    private final SyncTombstoneService syncTombstoneService;
 
-    public ClubMembershipService(ClubMembershipRepository clubMembershipRepository) {
+    public ClubMembershipService(ClubMembershipRepository clubMembershipRepository,
+                                 UserRepository userRepository,
+                                 PrincipalCache principalCache,
+                                 UserStatsService userStatsService,
+                                 ChangeStreamService changeStreamService,
+                                 SyncTombstoneService syncTombstoneService) {
         this.clubMembershipRepository = clubMembershipRepository;
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.userStatsService = userStatsService;
+        this.changeStreamService = changeStreamService;
+        this.syncTombstoneService = syncTombstoneService;
     }
 
     // ====== CREATE ======
@@ -63,7 +91,10 @@ public class ClubMembershipService {
         membership.setMember(user);
         membership.setRoles(clubRoles);
 
-        return clubMembershipRepository.save(membership);
+        membershipChanged(user);
+        ClubMembership saved = clubMembershipRepository.save(membership);
+        changeStreamService.publishMembership(ChangeType.MEMBER_JOINED, saved);
+        return saved;
     }
 
     // ====== READ ======
@@ -129,6 +160,11 @@ public class ClubMembershipService {
         return clubs;
     }
 
+    @Transactional(readOnly = true)
+    public List<Long> getClubIDsForUser(Long userID) {
+        return clubMembershipRepository.findClubIDsByMemberID(userID);
+    }
+
     @Transactional(readOnly = true)
     public List<User> getUsersForClub(Club club) {
         List<ClubMembership> clubMemberships = getClubMembershipsByClub(club);
@@ -139,19 +175,52 @@ public class ClubMembershipService {
         return users;
     }
 
+    @Transactional(readOnly = true)
+    public Page<Club> getClubsForUser(User user, Pageable pageable) {
+        return clubMembershipRepository.findClubsByMember(user, pageable);
+    }
+
+    /**
+     * Retrieves the clubs of a user that changed, or that the user joined, after {@code since}.
+     */
+    @Transactional(readOnly = true)
+    public List<Club> getClubsChangedSince(User user, LocalDateTime since) {
+        return clubMembershipRepository.findClubsChangedForMember(user, since);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<User> getUsersForClub(Club club, Pageable pageable) {
+        return clubMembershipRepository.findMembersByClub(club, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<User> getRecentUsersForClub(Club club, Pageable pageable) {
+        return clubMembershipRepository.findRecentMembersByClub(club, pageable);
+    }
+
     @Transactional(readOnly = true)
     public Set<ClubRole> getRolesForUserInClub(User user, Club club) {
         ClubMembership membership = getMembershipByClubAndUser(club, user);
         return membership.getRoles();
     }
 
+    /**
+     * Checks whether a user holds any of the given roles in a club, without loading the user, club or membership.
+     *
+     * @return {@code false} if the user is not a member of the club
+     */
+    @Transactional(readOnly = true)
+    public boolean hasAnyRole(Long userID, Long clubID, Collection<ClubRole> roles) {
+        return clubMembershipRepository.hasAnyRole(clubID, userID, roles);
+    }
+
     // ====== UPDATE ======
     @Transactional
     public ClubMembership modifyClubRole(Set<ClubRole> clubRoles, User user, Club club) {
         ClubMembership membership = getMembershipByClubAndUser(club, user);
         clubRoles.addAll(membership.getRoles());
         membership.setRoles(clubRoles);
-        return clubMembershipRepository.save(membership);
+        return rolesChanged(membership);
     }
 
     @Transactional
@@ -160,7 +229,7 @@ public class ClubMembershipService {
         Set<ClubRole> updatedRoles = new HashSet<>(membership.getRoles());
         updatedRoles.removeAll(clubRoles);
         membership.setRoles(updatedRoles);
-        return clubMembershipRepository.save(membership);
+        return rolesChanged(membership);
     }
 
 
@@ -168,12 +237,32 @@ public class ClubMembershipService {
     @Transactional
     public void deRegisterUserFromClub(User user, Club club) {
         ClubMembership membership = getMembershipByClubAndUser(club, user);
+        syncTombstoneService.recordClubLeft(club.getClubID(), user.getUserID());
         clubMembershipRepository.delete(membership);
+        membershipChanged(user);
+        changeStreamService.publishMembership(ChangeType.MEMBER_LEFT, membership);
     }
 
     @Transactional
     public void deRegisterUserFromClub(ClubMembershipID clubMembershipID) {
         ClubMembership membership = getMembershipByClubAndUser(clubMembershipID);
+        syncTombstoneService.recordClubLeft(clubMembershipID.getClubID(), clubMembershipID.getMemberID());
         clubMembershipRepository.delete(membership);
+        membershipChanged(membership.getMember());
+        changeStreamService.publishMembership(ChangeType.MEMBER_LEFT, membership);
+    }
+
+    // ------ Utility ------
+    private ClubMembership rolesChanged(ClubMembership membership) {
+        membershipChanged(membership.getMember());
+        ClubMembership saved = clubMembershipRepository.save(membership);
+        changeStreamService.publishMembership(ChangeType.MEMBER_UPDATED, saved);
+        return saved;
+    }
+
+    private void membershipChanged(User user) {
+        userRepository.incrementMembershipVersion(user.getUserID());
+        principalCache.evict(user.getUsername());
+        userStatsService.markDirty(user);
     }
 }
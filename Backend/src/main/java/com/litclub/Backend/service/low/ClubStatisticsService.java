@@ -0,0 +1,43 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.exception.ClubNotFoundException;
+import com.litclub.Backend.repository.ClubStatisticsRepository;
+import com.litclub.Backend.repository.ClubStatisticsRepository.ClubCounts;
+import com.litclub.Backend.security.roles.ClubRole;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service that computes {@link Club} aggregates in the database.
+ *
+ * <p>Backs the club statistics and dashboard views with a single aggregate query instead of
+ * loading members, meetings, prompts and notes only to count them. This is a low tier Service,
+ * meaning that the caller has certain Responsibilities.
+ *
+ * <p><strong>Responsibilities of the caller:</strong>
+ * <ul>
+ *   <li>Handle access control and authorization externally; this service does not enforce it.</li>
+ * </ul>
+ *
+ * <p><strong>Thread safety:</strong> This service is stateless and therefore thread-safe.
+ *
+ * @see ClubStatisticsRepository
+ */
+@Service
+public class ClubStatisticsService {
+
+    private final ClubStatisticsRepository clubStatisticsRepository;
+
+    public ClubStatisticsService(ClubStatisticsRepository clubStatisticsRepository) {
+        this.clubStatisticsRepository = clubStatisticsRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ClubCounts getCounts(Club club) {
+        return clubStatisticsRepository.findCounts(club.getClubID(), LocalDateTime.now(), ClubRole.OWNER)
+                .orElseThrow(() -> new ClubNotFoundException("clubID", club.getClubID().toString()));
+    }
+}
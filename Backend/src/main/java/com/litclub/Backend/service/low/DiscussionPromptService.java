@@ -18,9 +18,12 @@ import java.util.List;
 public class DiscussionPromptService {
 
     private final DiscussionPromptRepository discussionPromptRepository;
+    private final UserStatsService userStatsService;
 
-    public DiscussionPromptService(DiscussionPromptRepository discussionPromptRepository) {
+    public DiscussionPromptService(DiscussionPromptRepository discussionPromptRepository,
+                                   UserStatsService userStatsService) {
         this.discussionPromptRepository = discussionPromptRepository;
+        this.userStatsService = userStatsService;
     }
 
     // ====== CREATE ======
@@ -36,6 +39,7 @@ public class DiscussionPromptService {
         discussionPrompt.setPoster(user);
         discussionPrompt.setClub(club);
 
+        userStatsService.markDirty(user);
         return discussionPromptRepository.save(discussionPrompt);
     }
 
@@ -81,13 +85,13 @@ public class DiscussionPromptService {
     @Transactional
     public void deleteByPromptID(long promptID) {
         var prompt = discussionPromptRepository.findByPromptID(promptID);
-        prompt.ifPresent(discussionPromptRepository::delete);
+        prompt.ifPresent(this::delete);
     }
 
     @Transactional
     public void deleteByPromptAndClub(String prompt, Club club) {
         var discussionPrompt = discussionPromptRepository.findByPromptAndClub(prompt, club);
-        discussionPrompt.ifPresent(discussionPromptRepository::delete);
+        discussionPrompt.ifPresent(this::delete);
     }
 
     @Transactional
@@ -96,25 +100,45 @@ public class DiscussionPromptService {
         if (!prompt.getClub().getClubID().equals(clubID)) {
             throw new MalformedDTOException("Prompt does not belong to club");
         }
-        discussionPromptRepository.delete(prompt);
+        delete(prompt);
     }
 
     @Transactional
     public void deletePrompt(Long promptID){
         DiscussionPrompt prompt = findPromptById(promptID);
-        discussionPromptRepository.delete(prompt);
+        delete(prompt);
     }
 
+    /**
+     * Deletes every prompt of a club with set-based statements. Notes answering the prompts are kept
+     * but no longer linked to a prompt.
+     *
+     * @param club the club whose prompts to delete
+     */
     @Transactional
     public void purgeClubPrompts(Club club) {
-        List<DiscussionPrompt> prompts = discussionPromptRepository.findAllByClub(club);
-        discussionPromptRepository.deleteAll(prompts);
+        List<Long> posterIDs = discussionPromptRepository.findPosterIDsByClub(club);
+        discussionPromptRepository.detachNotesFromClubPrompts(club);
+        discussionPromptRepository.deleteAllInBulkByClub(club);
+        posterIDs.forEach(userStatsService::markDirty);
     }
 
+    /**
+     * Deletes every prompt posted by a user with set-based statements. Notes answering the prompts are
+     * kept but no longer linked to a prompt.
+     *
+     * @param user the poster whose prompts to delete
+     */
     @Transactional
     public void purgeUserPrompts(User user) {
-        List<DiscussionPrompt> prompts = discussionPromptRepository.findAllByPoster(user);
-        discussionPromptRepository.deleteAll(prompts);
+        discussionPromptRepository.detachNotesFromPosterPrompts(user);
+        discussionPromptRepository.deleteAllInBulkByPoster(user);
+        userStatsService.markDirty(user);
     }
 
+    // ------ Utility ------
+    private void delete(DiscussionPrompt prompt) {
+        discussionPromptRepository.delete(prompt);
+        userStatsService.markDirty(prompt.getPoster());
+    }
 }
@@ -11,15 +11,19 @@ import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 public class MeetingAttendeeService {
 
     private final MeetingAttendeeRepository meetingAttendeeRepository;
+    private final UserStatsService userStatsService;
 
-    public MeetingAttendeeService(MeetingAttendeeRepository meetingAttendeeRepository) {
+    public MeetingAttendeeService(MeetingAttendeeRepository meetingAttendeeRepository,
+                                  UserStatsService userStatsService) {
         this.meetingAttendeeRepository = meetingAttendeeRepository;
+        this.userStatsService = userStatsService;
     }
 
     // ====== CREATE ======
@@ -34,6 +38,7 @@ public class MeetingAttendeeService {
         meetingAttendee.setMeeting(meeting);
         meetingAttendee.setRsvpStatus(bookStatus);
 
+        userStatsService.markDirty(user);
         return meetingAttendeeRepository.save(meetingAttendee);
     }
 
@@ -89,6 +94,11 @@ public class MeetingAttendeeService {
         return meetingAttendeeRepository.findByUserAndRsvpStatus(user, status);
     }
 
+    @Transactional(readOnly = true)
+    public long countUpcomingMeetingAttendances(Long userID) {
+        return meetingAttendeeRepository.countByUser_UserIDAndMeeting_StartTimeAfter(userID, LocalDateTime.now());
+    }
+
     // ====== UPDATE ======
     @Transactional
     public MeetingAttendee updateStatus(Meeting meeting, User user, RsvpStatus status) {
@@ -102,11 +112,13 @@ public class MeetingAttendeeService {
     public void deleteMeetingAttendee(Meeting meeting, User user) {
         MeetingAttendee meetingAttendance = getMeetingAttendance(meeting, user);
         meetingAttendeeRepository.delete(meetingAttendance);
+        userStatsService.markDirty(user);
     }
 
     @Transactional
     public void purgeClubAttendance(Club club) {
         List<MeetingAttendee> attendees = findAllMeetingAttendances(club);
         meetingAttendeeRepository.deleteAll(attendees);
+        attendees.forEach(attendee -> userStatsService.markDirty(attendee.getUser()));
     }
 }
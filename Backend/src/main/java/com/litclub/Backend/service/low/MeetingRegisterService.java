@@ -17,9 +17,12 @@ import java.util.List;
 public class MeetingRegisterService {
 
     private final MeetingRegisterRepository meetingRegisterRepository;
+    private final UserStatsService userStatsService;
 
-    public MeetingRegisterService(MeetingRegisterRepository meetingRegisterRepository) {
+    public MeetingRegisterService(MeetingRegisterRepository meetingRegisterRepository,
+                                  UserStatsService userStatsService) {
         this.meetingRegisterRepository = meetingRegisterRepository;
+        this.userStatsService = userStatsService;
     }
 
     // ====== CREATE ======
@@ -29,6 +32,7 @@ public class MeetingRegisterService {
             throw new EntityExistsException("Register entry already exists");
         }
         MeetingRegister meetingRegister = convertDtoToMeetingRegister(registerDTO);
+        userStatsService.markDirty(registerDTO.user());
         return meetingRegisterRepository.save(meetingRegister);
     }
 
@@ -1,25 +1,46 @@
 package com.litclub.Backend.service.low;
 
+import com.litclub.Backend.construct.feed.CursorPage;
+import com.litclub.Backend.construct.feed.FeedCursor;
+import com.litclub.Backend.construct.event.ChangeType;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.construct.search.SearchDocumentType;
+import com.litclub.Backend.construct.search.SearchQuery;
 import com.litclub.Backend.entity.*;
 import com.litclub.Backend.exception.MalformedDTOException;
 import com.litclub.Backend.repository.NoteRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class NoteService {
 
     private final NoteRepository noteRepository;
-
-    public NoteService(NoteRepository noteRepository) {
+    private final UserStatsService userStatsService;
+    private final SearchIndexService searchIndexService;
+    private final ChangeStreamService changeStreamService;
+    private final SyncTombstoneService syncTombstoneService;
+
+    public NoteService(NoteRepository noteRepository,
+                       UserStatsService userStatsService,
+                       SearchIndexService searchIndexService,
+                       ChangeStreamService changeStreamService,
+                       SyncTombstoneService syncTombstoneService) {
         this.noteRepository = noteRepository;
+        this.userStatsService = userStatsService;
+        this.searchIndexService = searchIndexService;
+        this.changeStreamService = changeStreamService;
+        this.syncTombstoneService = syncTombstoneService;
     }
 
     // ====== CREATE ======
@@ -51,7 +72,11 @@ public class NoteService {
         note.setPrivate(isPrivate);
         prompt.ifPresent(note::setDiscussionPrompt);
 
-        return noteRepository.save(note);
+        userStatsService.markDirty(user);
+        Note saved = noteRepository.save(note);
+        searchIndexService.indexNote(saved);
+        changeStreamService.publishNote(ChangeType.NOTE_CREATED, saved);
+        return saved;
     }
 
     // ====== READ ======
@@ -71,22 +96,30 @@ public class NoteService {
         return noteRepository.findAllByUser(user);
     }
 
+    /**
+     * Retrieves the notes and replies a user wrote that were created or changed after {@code since}.
+     */
+    @Transactional(readOnly = true)
+    public List<NoteView> getNotesChangedSince(User user, LocalDateTime since) {
+        return noteRepository.findViewsChangedByUser(user, since);
+    }
+
     @Transactional(readOnly = true)
     public List<Note> getAllNotes(Book book) {
         return noteRepository.findAllByBook(book);
     }
 
     @Transactional(readOnly = true)
-    public Page<Note> getAllNotes(Book book, Pageable pageable) {
-        return noteRepository.findAllByBook(book, pageable);
+    public Page<NoteView> getAllNotes(Book book, Pageable pageable) {
+        return noteRepository.findViewsByBook(book, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Note> getAllNotes(Book book, Pageable pageable, boolean isAdmin) {
+    public Page<NoteView> getAllNotes(Book book, Pageable pageable, boolean isAdmin) {
         if (isAdmin) {
             return getAllNotes(book, pageable);
         } else {
-            return noteRepository.findAllByBookAndIsPrivate(book, false, pageable); // return public notes
+            return noteRepository.findViewsByBookAndIsPrivate(book, false, pageable); // return public notes
         }
     }
 
@@ -96,13 +129,42 @@ public class NoteService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Note> getAllNotes(Club club, Pageable pageable) {
-        return noteRepository.findAllByClub(club, pageable);
+    public Page<NoteView> getAllNotes(Club club, Pageable pageable) {
+        return noteRepository.findViewsByClub(club, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Note> getAllNotes(DiscussionPrompt prompt, Pageable pageable) {
-        return noteRepository.findAllByDiscussionPrompt(prompt, pageable);
+    public Page<NoteView> getAllNotes(DiscussionPrompt prompt, Pageable pageable) {
+        return noteRepository.findViewsByDiscussionPrompt(prompt, pageable);
+    }
+
+    /**
+     * Retrieves one page of a club's notes, newest first.
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size the requested page size, clamped to {@link CursorPage#MAX_SIZE}
+     * @throws MalformedDTOException if the cursor is not one this server issued
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NoteView> getNoteFeed(Club club, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor, FeedCursor.NEWEST);
+        int pageSize = CursorPage.size(size);
+        return CursorPage.of(noteRepository.findFeedByClub(club, after.createdAt(), after.id(), Limit.of(pageSize + 1)),
+                pageSize, note -> new FeedCursor(note.createdAt(), note.noteID()));
+    }
+
+    /**
+     * Retrieves one page of the notes posted on a discussion prompt, newest first.
+     *
+     * @see #getNoteFeed(Club, String, int)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NoteView> getNoteFeed(DiscussionPrompt prompt, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor, FeedCursor.NEWEST);
+        int pageSize = CursorPage.size(size);
+        return CursorPage.of(noteRepository.findFeedByDiscussionPrompt(prompt, after.createdAt(), after.id(),
+                        Limit.of(pageSize + 1)),
+                pageSize, note -> new FeedCursor(note.createdAt(), note.noteID()));
     }
 
     @Transactional(readOnly = true)
@@ -123,9 +185,13 @@ public class NoteService {
     @Transactional(readOnly = true)
     public List<Note> getAllNotes(DiscussionPrompt prompt) { return noteRepository.findAllByDiscussionPrompt(prompt); }
 
+    /** One page of the user's own notes and replies matching {@code content}, best match first. */
     @Transactional(readOnly = true)
-    public List<Note> searchNotes(User user, String content) {
-        return noteRepository.findAllByUserAndContentContaining(user, content);
+    public Page<Note> searchNotes(User user, String content, Pageable pageable) {
+        Page<Long> noteIDs = searchIndexService.findIDs(new SearchQuery(
+                content, Set.of(SearchDocumentType.NOTE, SearchDocumentType.REPLY),
+                user.getUserID(), Set.of(), user.getUserID(), null), pageable);
+        return SearchIndexService.loadInRankOrder(noteIDs, noteRepository::findAllById, Note::getNoteID);
     }
 
     // ====== UPDATE ======
@@ -136,7 +202,10 @@ public class NoteService {
         }
         Note note = getNoteById(noteID);
         note.setContent(content);
-        return noteRepository.save(note);
+        Note saved = noteRepository.save(note);
+        searchIndexService.indexNote(saved);
+        changeStreamService.publishNote(ChangeType.NOTE_UPDATED, saved);
+        return saved;
     }
 
     // ====== DELETE ======
@@ -145,6 +214,12 @@ public class NoteService {
         if (noteID == null) {
             throw new MalformedDTOException("Note ID is null");
         }
-        noteRepository.deleteById(noteID);
+        noteRepository.findNoteByNoteID(noteID).ifPresent(note -> {
+            syncTombstoneService.recordNoteThread(noteID);
+            noteRepository.delete(note);
+            userStatsService.markDirty(note.getUser());
+            searchIndexService.removeNoteThread(noteID);
+            changeStreamService.publishNote(ChangeType.NOTE_DELETED, note);
+        });
     }
 }
@@ -0,0 +1,304 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.review.BookRatingSummary;
+import com.litclub.Backend.entity.*;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.repository.BookRatingStatsRepository;
+import com.litclub.Backend.repository.UserRatingStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.DatabaseMetaData;
+import java.util.*;
+
+/**
+ * Service that maintains the {@link BookRatingStats} and {@link UserRatingStats} aggregates.
+ *
+ * <p>{@link ReviewService} reports every change to a review's rating through {@link #ratingChanged}. The changes
+ * are collected per book and per user for the surrounding transaction and applied just before it commits, each
+ * as a single in-place write that adds the net delta to the row, creating it if needed. Aggregates therefore commit
+ * or roll back together with the reviews they describe, and reading them costs one primary key lookup.</p>
+ *
+ * <p><strong>Concurrency:</strong> on PostgreSQL a delta is one {@code INSERT ... ON CONFLICT DO UPDATE}, so two
+ * transactions creating the same row never collide. H2 has no such statement; there the delta is an
+ * {@code UPDATE}, then an {@code INSERT} if no row existed, and the {@code UPDATE} again if another transaction
+ * inserted the row first (a failed statement leaves an H2 transaction usable).</p>
+ *
+ * <p><strong>Reconciliation:</strong> {@link #rebuildAll()} recomputes both tables from the reviews table. It runs
+ * on {@code litclub.ratings.reconcile-cron} (nightly by default, {@code -} disables it) and repairs drift from
+ * changes made outside the application. Rows are overwritten in place rather than deleted and re-inserted, so
+ * deltas committed while it runs always find their row; a delta that commits after the recompute read the reviews
+ * table may be overwritten, and is restored by the next reconciliation.</p>
+ *
+ * <p><strong>Thread safety:</strong> pending deltas are bound to the current transaction, so this service holds
+ * no shared mutable state.</p>
+ *
+ * @see RatingStats
+ */
+@Service
+@Slf4j
+public class RatingStatsService {
+
+    // %1$s is the aggregate table, %2$s its key column (book_id or user_id)
+    private static final String COLUMNS =
+            "%2$s, ratings, rating_sum, one_star, two_stars, three_stars, four_stars, five_stars, updated_at";
+
+    private static final String ADD_DELTA = """
+            UPDATE %1$s SET ratings = ratings + ?, rating_sum = rating_sum + ?,
+                            one_star = one_star + ?, two_stars = two_stars + ?, three_stars = three_stars + ?,
+                            four_stars = four_stars + ?, five_stars = five_stars + ?,
+                            updated_at = CURRENT_TIMESTAMP
+            WHERE %2$s = ?
+            """;
+    private static final String INSERT_DELTA =
+            "INSERT INTO %1$s (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+    private static final String UPSERT_DELTA = INSERT_DELTA + """
+             ON CONFLICT (%2$s) DO UPDATE SET
+                ratings = %1$s.ratings + EXCLUDED.ratings, rating_sum = %1$s.rating_sum + EXCLUDED.rating_sum,
+                one_star = %1$s.one_star + EXCLUDED.one_star, two_stars = %1$s.two_stars + EXCLUDED.two_stars,
+                three_stars = %1$s.three_stars + EXCLUDED.three_stars,
+                four_stars = %1$s.four_stars + EXCLUDED.four_stars,
+                five_stars = %1$s.five_stars + EXCLUDED.five_stars,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String AGGREGATE = """
+            SELECT %2$s, COUNT(*) AS ratings, SUM(rating) AS rating_sum,
+                   SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END) AS one_star,
+                   SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END) AS two_stars,
+                   SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END) AS three_stars,
+                   SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END) AS four_stars,
+                   SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END) AS five_stars,
+                   CURRENT_TIMESTAMP AS updated_at
+            FROM reviews
+            WHERE rating IS NOT NULL AND %2$s IS NOT NULL
+            GROUP BY %2$s
+            """;
+    private static final String RECONCILE_UPSERT = "INSERT INTO %1$s (" + COLUMNS + ") " + AGGREGATE + """
+            ON CONFLICT (%2$s) DO UPDATE SET
+                ratings = EXCLUDED.ratings, rating_sum = EXCLUDED.rating_sum,
+                one_star = EXCLUDED.one_star, two_stars = EXCLUDED.two_stars, three_stars = EXCLUDED.three_stars,
+                four_stars = EXCLUDED.four_stars, five_stars = EXCLUDED.five_stars,
+                updated_at = EXCLUDED.updated_at
+            """;
+    private static final String RECONCILE_MERGE = "MERGE INTO %1$s t USING (" + AGGREGATE + """
+            ) s ON t.%2$s = s.%2$s
+            WHEN MATCHED THEN UPDATE SET
+                ratings = s.ratings, rating_sum = s.rating_sum,
+                one_star = s.one_star, two_stars = s.two_stars, three_stars = s.three_stars,
+                four_stars = s.four_stars, five_stars = s.five_stars,
+                updated_at = s.updated_at
+            WHEN NOT MATCHED THEN INSERT (%3$s)
+                VALUES (s.%2$s, s.ratings, s.rating_sum, s.one_star, s.two_stars, s.three_stars,
+                        s.four_stars, s.five_stars, s.updated_at)
+            """;
+    private static final String RESET_UNRATED = """
+            UPDATE %1$s SET ratings = 0, rating_sum = 0, one_star = 0, two_stars = 0, three_stars = 0,
+                            four_stars = 0, five_stars = 0, updated_at = CURRENT_TIMESTAMP
+            WHERE NOT EXISTS (SELECT 1 FROM reviews r WHERE r.%2$s = %1$s.%2$s AND r.rating IS NOT NULL)
+              AND (ratings <> 0 OR rating_sum <> 0 OR one_star <> 0 OR two_stars <> 0 OR three_stars <> 0
+                   OR four_stars <> 0 OR five_stars <> 0)
+            """;
+
+    private final BookRatingStatsRepository bookRatingStatsRepository;
+    private final UserRatingStatsRepository userRatingStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxBatchSize;
+    private final boolean postgres;
+
+    public RatingStatsService(BookRatingStatsRepository bookRatingStatsRepository,
+                              UserRatingStatsRepository userRatingStatsRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${litclub.ratings.max-batch-size:500}") int maxBatchSize)
+            throws MetaDataAccessException {
+        this.bookRatingStatsRepository = bookRatingStatsRepository;
+        this.userRatingStatsRepository = userRatingStatsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.postgres = "PostgreSQL".equals(JdbcUtils.extractDatabaseMetaData(
+                Objects.requireNonNull(jdbcTemplate.getDataSource()), DatabaseMetaData::getDatabaseProductName));
+    }
+
+    // ====== READ ======
+    @Transactional(readOnly = true)
+    public double getAverageRating(Book book) {
+        return bookRatingStatsRepository.findById(book.getBookID())
+                .map(RatingStats::getAverageRating)
+                .orElse(0.0);
+    }
+
+    @Transactional(readOnly = true)
+    public double getAverageRating(User user) {
+        return userRatingStatsRepository.findById(user.getUserID())
+                .map(RatingStats::getAverageRating)
+                .orElse(0.0);
+    }
+
+    /**
+     * Rating summaries of the given books in one query, in the order requested. Unknown and unrated books get an
+     * empty summary.
+     *
+     * @throws MalformedDTOException if more than {@code litclub.ratings.max-batch-size} IDs are requested
+     */
+    @Transactional(readOnly = true)
+    public List<BookRatingSummary> getBookRatings(Collection<Long> bookIDs) {
+        Set<Long> requested = new LinkedHashSet<>(bookIDs);
+        requested.remove(null);
+        if (requested.size() > maxBatchSize) {
+            throw new MalformedDTOException("At most " + maxBatchSize + " books can be requested at once");
+        }
+
+        Map<Long, BookRatingStats> stats = new HashMap<>();
+        for (BookRatingStats row : bookRatingStatsRepository.findAllById(requested)) {
+            stats.put(row.getBookID(), row);
+        }
+        return requested.stream()
+                .map(bookID -> stats.containsKey(bookID)
+                        ? BookRatingSummary.of(stats.get(bookID))
+                        : BookRatingSummary.unrated(bookID))
+                .toList();
+    }
+
+    // ====== UPDATE ======
+    /**
+     * Records that a review of {@code book} by {@code user} went from {@code oldRating} to {@code newRating}
+     * ({@code null} meaning unrated or no review: creation passes {@code null} as the old rating, deletion as the
+     * new one). The change is applied before the current transaction commits; without a transaction, immediately.
+     */
+    public void ratingChanged(Book book, User user, Integer oldRating, Integer newRating) {
+        ratingChanged(book == null ? null : book.getBookID(), user == null ? null : user.getUserID(),
+                oldRating, newRating);
+    }
+
+    /** Same as {@link #ratingChanged(Book, User, Integer, Integer)}, for callers holding only IDs. */
+    public void ratingChanged(Long bookID, Long userID, Integer oldRating, Integer newRating) {
+        if (Objects.equals(oldRating, newRating)) return;
+
+        PendingDeltas pending = pendingDeltas();
+        if (bookID != null) pending.books.computeIfAbsent(bookID, id -> new Delta()).change(oldRating, newRating);
+        if (userID != null) pending.users.computeIfAbsent(userID, id -> new Delta()).change(oldRating, newRating);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(pending);
+        }
+    }
+
+    /**
+     * Recomputes every book and user aggregate from the reviews table, in place. Rows of books and users that no
+     * longer have a rating are reset to zero.
+     *
+     * @return the number of rated books
+     */
+    @Transactional
+    @Scheduled(cron = "${litclub.ratings.reconcile-cron:0 30 3 * * *}")
+    public int rebuildAll() {
+        int books = reconcile("book_rating_stats", "book_id");
+        int users = reconcile("user_rating_stats", "user_id");
+        log.info("Rebuilt rating aggregates of {} books and {} users", books, users);
+        return books;
+    }
+
+    // ------ Utility ------
+    private PendingDeltas pendingDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingDeltas();
+        }
+
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingDeltas deltas = new PendingDeltas();
+            pending = deltas;
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    apply(deltas);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RatingStatsService.this);
+                }
+            });
+        }
+        return pending;
+    }
+
+    private void apply(PendingDeltas pending) {
+        pending.books.forEach((bookID, delta) -> addDelta("book_rating_stats", "book_id", bookID, delta));
+        pending.users.forEach((userID, delta) -> addDelta("user_rating_stats", "user_id", userID, delta));
+        pending.books.clear();
+        pending.users.clear();
+    }
+
+    private void addDelta(String table, String idColumn, Long id, Delta delta) {
+        if (delta.isEmpty()) return;
+        if (postgres) {
+            jdbcTemplate.update(UPSERT_DELTA.formatted(table, idColumn), delta.withIdFirst(id));
+            return;
+        }
+
+        String update = ADD_DELTA.formatted(table, idColumn);
+        if (jdbcTemplate.update(update, delta.withIdLast(id)) > 0) return;
+        try {
+            jdbcTemplate.update(INSERT_DELTA.formatted(table, idColumn), delta.withIdFirst(id));
+        } catch (DuplicateKeyException e) {
+            // Another transaction created the row in the meantime
+            jdbcTemplate.update(update, delta.withIdLast(id));
+        }
+    }
+
+    private int reconcile(String table, String idColumn) {
+        int rated = jdbcTemplate.update(
+                (postgres ? RECONCILE_UPSERT : RECONCILE_MERGE).formatted(table, idColumn, COLUMNS.formatted(table, idColumn)));
+        jdbcTemplate.update(RESET_UNRATED.formatted(table, idColumn));
+        return rated;
+    }
+
+    private static final class PendingDeltas {
+        private final Map<Long, Delta> books = new LinkedHashMap<>();
+        private final Map<Long, Delta> users = new LinkedHashMap<>();
+    }
+
+    /** Net change to one aggregate row. */
+    private static final class Delta {
+        private long ratings;
+        private long ratingSum;
+        private final long[] stars = new long[5];
+
+        void change(Integer oldRating, Integer newRating) {
+            add(oldRating, -1);
+            add(newRating, 1);
+        }
+
+        private void add(Integer rating, int sign) {
+            if (rating == null) return;
+            ratings += sign;
+            ratingSum += (long) sign * rating;
+            if (rating >= 1 && rating <= 5) stars[rating - 1] += sign;
+        }
+
+        boolean isEmpty() {
+            return ratings == 0 && ratingSum == 0 && Arrays.stream(stars).allMatch(count -> count == 0);
+        }
+
+        /** Parameters of {@code INSERT_DELTA} and {@code UPSERT_DELTA}. */
+        Object[] withIdFirst(Long id) {
+            return new Object[]{id, ratings, ratingSum, stars[0], stars[1], stars[2], stars[3], stars[4]};
+        }
+
+        /** Parameters of {@code ADD_DELTA}. */
+        Object[] withIdLast(Long id) {
+            return new Object[]{ratings, ratingSum, stars[0], stars[1], stars[2], stars[3], stars[4], id};
+        }
+    }
+}
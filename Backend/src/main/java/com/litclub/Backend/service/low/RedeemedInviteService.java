@@ -0,0 +1,65 @@
+package com.litclub.Backend.service.low;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+
+/**
+ * Service that remembers which club invites have been redeemed, so that each can be used once.
+ *
+ * <p>An invite is identified by its signature and recorded in the {@code redeemed_invites} table together with the
+ * moment the invite itself expires. The primary key makes {@link #markRedeemed} atomic across threads and
+ * application instances, and the record survives restarts.</p>
+ *
+ * <p><strong>Bounded size:</strong> once an invite has expired its signature check rejects it on its own, so the
+ * record is no longer needed. {@link #purgeExpired()} deletes those records on
+ * {@code litclub.invites.purge-interval} (hourly by default), which keeps the table at the invites redeemed within
+ * one invite lifetime.</p>
+ */
+@Service
+@Slf4j
+public class RedeemedInviteService {
+
+    private static final String INSERT = "INSERT INTO redeemed_invites (signature, expires_at) VALUES (?, ?)";
+    private static final String DELETE_EXPIRED = "DELETE FROM redeemed_invites WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RedeemedInviteService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records an invite as redeemed.
+     *
+     * @param signature the invite's signature
+     * @param expiresAtMillis when the invite expires, in epoch milliseconds
+     * @return {@code true} if this call redeemed the invite, {@code false} if it had been redeemed before
+     */
+    public boolean markRedeemed(String signature, long expiresAtMillis) {
+        try {
+            jdbcTemplate.update(INSERT, signature, new Timestamp(expiresAtMillis));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Forgets the invites that have expired.
+     *
+     * @return the number of records deleted
+     */
+    @Scheduled(fixedDelayString = "${litclub.invites.purge-interval:PT1H}")
+    public int purgeExpired() {
+        int purged = jdbcTemplate.update(DELETE_EXPIRED, new Timestamp(System.currentTimeMillis()));
+        if (purged > 0) {
+            log.info("Purged {} expired invite redemptions", purged);
+        }
+        return purged;
+    }
+}
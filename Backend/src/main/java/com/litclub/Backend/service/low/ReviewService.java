@@ -1,7 +1,13 @@
 package com.litclub.Backend.service.low;
 
+import com.litclub.Backend.construct.feed.CursorPage;
+import com.litclub.Backend.construct.feed.FeedCursor;
 import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.construct.review.BookRatingSummary;
 import com.litclub.Backend.construct.review.ReviewDTO;
+import com.litclub.Backend.construct.review.ReviewView;
+import com.litclub.Backend.construct.search.SearchDocumentType;
+import com.litclub.Backend.construct.search.SearchQuery;
 import com.litclub.Backend.entity.Book;
 import com.litclub.Backend.entity.Review;
 import com.litclub.Backend.entity.User;
@@ -9,24 +15,39 @@ import com.litclub.Backend.exception.MissingLibraryItemException;
 import com.litclub.Backend.repository.ReviewRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final UserBooksService userBooksService;
+    private final UserStatsService userStatsService;
+    private final SearchIndexService searchIndexService;
+    private final RatingStatsService ratingStatsService;
+    private final SyncTombstoneService syncTombstoneService;
 
     public ReviewService (ReviewRepository reviewRepository,
-                          UserBooksService userBooksService) {
+                          UserBooksService userBooksService,
+                          UserStatsService userStatsService,
+                          SearchIndexService searchIndexService,
+                          RatingStatsService ratingStatsService,
+                          SyncTombstoneService syncTombstoneService) {
         this.reviewRepository = reviewRepository;
         this.userBooksService = userBooksService;
+        this.userStatsService = userStatsService;
+        this.searchIndexService = searchIndexService;
+        this.ratingStatsService = ratingStatsService;
+        this.syncTombstoneService = syncTombstoneService;
     }
 
     // ====== CREATE ======
@@ -42,7 +63,11 @@ public class ReviewService {
             userBooksService.addUserBook(user, book, BookStatus.READ);
         }
         Review review = convertDTOToReview(reviewDTO, user, book);
-        return reviewRepository.save(review);
+        userStatsService.markDirty(user);
+        ratingStatsService.ratingChanged(book, user, null, review.getRating());
+        Review saved = reviewRepository.save(review);
+        searchIndexService.indexReview(saved);
+        return saved;
     }
 
     // ====== READ ======
@@ -63,8 +88,30 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Review> getReviews(User user, Pageable pageable) {
-        return reviewRepository.findByUser(user, pageable);
+    public Page<ReviewView> getReviews(User user, Pageable pageable) {
+        return reviewRepository.findViewsByUser(user, pageable);
+    }
+
+    /**
+     * Retrieves the reviews a user wrote that were created or changed after {@code since}.
+     */
+    @Transactional(readOnly = true)
+    public List<ReviewView> getReviewsChangedSince(User user, LocalDateTime since) {
+        return reviewRepository.findViewsChangedByUser(user, since);
+    }
+
+    /**
+     * Retrieves one page of a user's reviews, newest first.
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size the requested page size, clamped to {@link CursorPage#MAX_SIZE}
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewView> getReviewFeed(User user, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor, FeedCursor.NEWEST);
+        int pageSize = CursorPage.size(size);
+        return CursorPage.of(reviewRepository.findFeedByUser(user, after.createdAt(), after.id(), Limit.of(pageSize + 1)),
+                pageSize, ReviewService::feedPosition);
     }
 
     @Transactional(readOnly = true)
@@ -78,8 +125,21 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Review> getReviews(Book book, Pageable pageable) {
-        return reviewRepository.findByBook(book, pageable);
+    public Page<ReviewView> getReviews(Book book, Pageable pageable) {
+        return reviewRepository.findViewsByBook(book, pageable);
+    }
+
+    /**
+     * Retrieves one page of a book's reviews, newest first.
+     *
+     * @see #getReviewFeed(User, String, int)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewView> getReviewFeed(Book book, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor, FeedCursor.NEWEST);
+        int pageSize = CursorPage.size(size);
+        return CursorPage.of(reviewRepository.findFeedByBook(book, after.createdAt(), after.id(), Limit.of(pageSize + 1)),
+                pageSize, ReviewService::feedPosition);
     }
 
     @Transactional(readOnly = true)
@@ -89,24 +149,17 @@ public class ReviewService {
 
     @Transactional(readOnly = true)
     public double getAverageRating(User user) {
-        List<Review> reviews = getReviews(user);
-        return reviews.stream()
-                .map(Review::getRating)
-                .filter(Objects::nonNull)
-                .mapToInt(Integer::intValue)
-                .average()
-                .orElse(0.0);
+        return ratingStatsService.getAverageRating(user);
     }
 
     @Transactional(readOnly = true)
     public double getAverageRating(Book book) {
-        List<Review> reviews = getReviews(book);
-        return reviews.stream()
-                .map(Review::getRating)
-                .filter(Objects::nonNull)
-                .mapToInt(Integer::intValue)
-                .average()
-                .orElse(0.0);
+        return ratingStatsService.getAverageRating(book);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BookRatingSummary> getBookRatings(Collection<Long> bookIDs) {
+        return ratingStatsService.getBookRatings(bookIDs);
     }
 
 
@@ -121,18 +174,18 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public List<Review> searchUserReviews(User user, String query) {
-        return reviewRepository.findByUserAndContentContainsIgnoreCase(user, query);
+    public Page<Review> searchUserReviews(User user, String query, Pageable pageable) {
+        return searchReviews(query, user.getUserID(), null, pageable);
     }
 
     @Transactional(readOnly = true)
-    public List<Review> searchBookReviews(Book book, String query) {
-        return reviewRepository.findByBookAndContentContainsIgnoreCase(book, query);
+    public Page<Review> searchBookReviews(Book book, String query, Pageable pageable) {
+        return searchReviews(query, null, book.getBookID(), pageable);
     }
 
     @Transactional(readOnly = true)
-    public List<Review> generalSearch(String query) {
-        return reviewRepository.findByContentContainsIgnoreCase(query);
+    public Page<Review> generalSearch(String query, Pageable pageable) {
+        return searchReviews(query, null, null, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -163,9 +216,13 @@ public class ReviewService {
         }
 
         Review review = getReviewByUserAndBook(user, book);
+        ratingStatsService.ratingChanged(book, user, review.getRating(), reviewDTO.getRating());
         review.setRating(reviewDTO.getRating());
         review.setContent(reviewDTO.getContent());
-        return reviewRepository.save(review);
+        userStatsService.markDirty(user);
+        Review saved = reviewRepository.save(review);
+        searchIndexService.indexReview(saved);
+        return saved;
     }
 
     @Transactional
@@ -174,30 +231,56 @@ public class ReviewService {
             throw new EntityNotFoundException("Review not found");
         }
         Review review = getReviewByUserAndBook(user, book);
+        ratingStatsService.ratingChanged(book, user, review.getRating(), reviewDTO.getRating());
         review.setRating(reviewDTO.getRating());
         review.setContent(reviewDTO.getContent());
-        return reviewRepository.save(review);
+        userStatsService.markDirty(user);
+        Review saved = reviewRepository.save(review);
+        searchIndexService.indexReview(saved);
+        return saved;
     }
 
     // ====== DELETE ======
     @Transactional
     public void deleteReview(User user, Book book) {
         Review review = getReviewByUserAndBook(user, book);
+        syncTombstoneService.recordReviews(List.of(review.getReviewID()), user.getUserID());
         reviewRepository.delete(review);
+        userStatsService.markDirty(user);
+        ratingStatsService.ratingChanged(book, user, review.getRating(), null);
+        searchIndexService.removeReviews(List.of(review.getReviewID()));
     }
 
     @Transactional
     public void deleteReview(Review review) {
+        syncTombstoneService.recordReviews(List.of(review.getReviewID()), review.getUser().getUserID());
         reviewRepository.delete(review);
+        userStatsService.markDirty(review.getUser());
+        ratingStatsService.ratingChanged(review.getBook(), review.getUser(), review.getRating(), null);
+        searchIndexService.removeReviews(List.of(review.getReviewID()));
     }
 
     @Transactional
     public void purgeUserReviews(User user) {
         List<Review> reviews = getReviews(user);
+        syncTombstoneService.recordReviews(reviews.stream().map(Review::getReviewID).toList(), user.getUserID());
         reviewRepository.deleteAll(reviews);
+        userStatsService.markDirty(user);
+        reviews.forEach(review -> ratingStatsService.ratingChanged(review.getBook(), user, review.getRating(), null));
+        searchIndexService.removeReviews(reviews.stream().map(Review::getReviewID).toList());
     }
 
     // ------ utility ------
+    private Page<Review> searchReviews(String query, Long authorID, Long bookID, Pageable pageable) {
+        Page<Long> reviewIDs = searchIndexService.findIDs(new SearchQuery(
+                query, Set.of(SearchDocumentType.REVIEW), null, Set.of(), authorID, bookID), pageable);
+        return SearchIndexService.loadInRankOrder(reviewIDs, reviewRepository::findAllById, Review::getReviewID);
+    }
+
+    private static FeedCursor feedPosition(ReviewView review) {
+        return new FeedCursor(review.createdAt(), review.reviewID());
+    }
+
     public static Review convertDTOToReview(ReviewDTO reviewDTO, User user, Book book) {
         Review review = new Review();
         review.setUser(user);
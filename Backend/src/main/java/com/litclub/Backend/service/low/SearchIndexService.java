@@ -0,0 +1,290 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.search.SearchDocument;
+import com.litclub.Backend.construct.search.SearchDocumentType;
+import com.litclub.Backend.construct.search.SearchHit;
+import com.litclub.Backend.construct.search.SearchQuery;
+import com.litclub.Backend.entity.*;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.repository.BookRepository;
+import com.litclub.Backend.repository.ClubMembershipRepository;
+import com.litclub.Backend.repository.NoteRepository;
+import com.litclub.Backend.repository.ReviewRepository;
+import com.litclub.Backend.search.SearchEngine;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Keeps the full-text {@link SearchEngine} in sync with books, notes, replies and reviews, and answers searches
+ * on behalf of a user.
+ *
+ * <p>Services that write searchable entities call the {@code index...}/{@code remove...} methods from within
+ * their transaction, and a rolled-back transaction leaves the index untouched: the PostgreSQL engine writes its
+ * rows in that same transaction, so they commit or roll back with it, while the in-memory engine holds the
+ * change back until the transaction commits. Searches only
+ * return what the viewer may see: private notes (and replies in their threads) to their owner, club notes to
+ * club members, everything else to everyone.</p>
+ *
+ * <p>The index is filled from the source tables at startup when the engine reports that it is empty, and can be
+ * rebuilt on demand with {@link #rebuild()}. A rebuild clears and refills the index in one transaction, so
+ * searches keep seeing the previous index until it commits, and a rebuild that fails leaves it untouched.</p>
+ *
+ * @see SearchEngine
+ */
+@Service
+@Slf4j
+public class SearchIndexService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final SearchEngine searchEngine;
+    private final BookRepository bookRepository;
+    private final NoteRepository noteRepository;
+    private final ReviewRepository reviewRepository;
+    private final ClubMembershipRepository clubMembershipRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public SearchIndexService(SearchEngine searchEngine,
+                              BookRepository bookRepository,
+                              NoteRepository noteRepository,
+                              ReviewRepository reviewRepository,
+                              ClubMembershipRepository clubMembershipRepository,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager) {
+        this.searchEngine = searchEngine;
+        this.bookRepository = bookRepository;
+        this.noteRepository = noteRepository;
+        this.reviewRepository = reviewRepository;
+        this.clubMembershipRepository = clubMembershipRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ====== INDEX ======
+    public void indexBook(Book book) {
+        indexBooks(List.of(book));
+    }
+
+    public void indexBooks(Collection<Book> books) {
+        searchEngine.upsert(books.stream().map(SearchIndexService::toDocument).toList());
+    }
+
+    /** Indexes a note, or a reply if {@code note} is one. */
+    public void indexNote(Note note) {
+        searchEngine.upsert(List.of(toDocument(note)));
+    }
+
+    public void indexReview(Review review) {
+        searchEngine.upsert(List.of(toDocument(review)));
+    }
+
+    // ====== REMOVE ======
+    /** Removes a note together with every reply in its thread. */
+    public void removeNoteThread(Long noteID) {
+        searchEngine.deleteThread(noteID);
+    }
+
+    /** Removes root notes only; their replies are removed with {@link #removeReplies(Collection)}. */
+    public void removeNotes(Collection<Long> noteIDs) {
+        searchEngine.delete(SearchDocumentType.NOTE, noteIDs);
+    }
+
+    public void removeReplies(Collection<Long> replyIDs) {
+        searchEngine.delete(SearchDocumentType.REPLY, replyIDs);
+    }
+
+    public void removeReviews(Collection<Long> reviewIDs) {
+        searchEngine.delete(SearchDocumentType.REVIEW, reviewIDs);
+    }
+
+    // ====== SEARCH ======
+    /**
+     * Ranked search across the given document types (all if empty) as seen by {@code viewerID}.
+     *
+     * @throws MalformedDTOException if {@code text} is blank
+     */
+    @Transactional(readOnly = true)
+    public Page<SearchHit> search(Long viewerID, String text, Set<SearchDocumentType> types, Pageable pageable) {
+        if (text == null || text.isBlank()) {
+            throw new MalformedDTOException("search text cannot be null or blank");
+        }
+        Set<Long> clubIDs = viewerID == null
+                ? Set.of()
+                : new HashSet<>(clubMembershipRepository.findClubIDsByMemberID(viewerID));
+        return searchEngine.search(new SearchQuery(text, types, viewerID, clubIDs, null, null), pageable);
+    }
+
+    /** IDs of one page of matches for {@code query}, best first; an empty page if the text is blank. */
+    @Transactional(readOnly = true)
+    public Page<Long> findIDs(SearchQuery query, Pageable pageable) {
+        if (query.text() == null || query.text().isBlank()) return Page.empty(pageable);
+        return searchEngine.search(query, pageable).map(SearchHit::entityID);
+    }
+
+    /**
+     * Loads the entities of a page of ranked IDs (e.g. with {@code findAllById}) and returns them as a page,
+     * in rank order.
+     */
+    public static <T> Page<T> loadInRankOrder(Page<Long> rankedIDs, Function<List<Long>, List<T>> loader,
+                                              Function<T, Long> idOf) {
+        if (rankedIDs.isEmpty()) return new PageImpl<>(List.of(), rankedIDs.getPageable(), rankedIDs.getTotalElements());
+        List<T> entities = inRankOrder(loader.apply(rankedIDs.getContent()), rankedIDs.getContent(), idOf);
+        return new PageImpl<>(entities, rankedIDs.getPageable(), rankedIDs.getTotalElements());
+    }
+
+    /** Orders entities loaded by ID (e.g. with {@code findAllById}) the way {@link #findIDs} ranked them. */
+    public static <T> List<T> inRankOrder(Collection<T> entities, List<Long> rankedIDs, Function<T, Long> idOf) {
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < rankedIDs.size(); i++) rank.put(rankedIDs.get(i), i);
+        return entities.stream()
+                .sorted(Comparator.comparingInt(entity -> rank.getOrDefault(idOf.apply(entity), Integer.MAX_VALUE)))
+                .toList();
+    }
+
+    // ====== REBUILD ======
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        if (searchEngine.needsRebuild()) {
+            int documents = rebuild();
+            log.info("Search index built with {} documents", documents);
+        }
+    }
+
+    /**
+     * Discards the index and re-creates it from the books, notes, replies and reviews tables, in one transaction.
+     *
+     * <p>Runs its own transaction rather than relying on {@code @Transactional}, since the startup listener
+     * calls it on {@code this}, past the proxy.</p>
+     *
+     * @return the number of documents indexed
+     */
+    public int rebuild() {
+        Integer count = transactionTemplate.execute(status -> {
+            searchEngine.clear();
+            int documents = 0;
+            documents += rebuild(bookRepository::findAll, "bookID", SearchIndexService::toDocument);
+            documents += rebuild(noteRepository::findAll, "noteID", this::toDocument);
+            documents += rebuild(reviewRepository::findAll, "reviewID", SearchIndexService::toDocument);
+            return documents;
+        });
+        return count == null ? 0 : count;
+    }
+
+    private <T> int rebuild(Function<Pageable, Page<T>> source, String idProperty,
+                            Function<T, SearchDocument> toDocument) {
+        int count = 0;
+        Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by(idProperty));
+        Page<T> page;
+        do {
+            page = source.apply(pageable);
+            searchEngine.upsert(page.getContent().stream().map(toDocument).toList());
+            count += page.getNumberOfElements();
+            entityManager.clear();
+            pageable = pageable.next();
+        } while (page.hasNext());
+        return count;
+    }
+
+    // ------ Utility ------
+    private static SearchDocument toDocument(Book book) {
+        StringJoiner body = new StringJoiner(" ");
+        book.getAuthors().forEach(body::add);
+        if (book.getIsbn() != null) body.add(book.getIsbn());
+        if (book.getPublisher() != null) body.add(book.getPublisher());
+
+        return new SearchDocument(
+                SearchDocumentType.BOOK,
+                book.getBookID(),
+                book.getTitle(),
+                body.toString(),
+                book.getAddedBy() == null ? null : book.getAddedBy().getUserID(),
+                null,
+                null,
+                book.getBookID(),
+                null,
+                null
+        );
+    }
+
+    private SearchDocument toDocument(Note note) {
+        if (Hibernate.unproxy(note) instanceof Reply reply) {
+            Note root = rootOf(reply);
+            return new SearchDocument(
+                    SearchDocumentType.REPLY,
+                    reply.getNoteID(),
+                    titleOf(root),
+                    reply.getContent(),
+                    reply.getUser().getUserID(),
+                    root.isPrivate() ? root.getUser().getUserID() : null,
+                    clubIDOf(root),
+                    root.getBook() == null ? null : root.getBook().getBookID(),
+                    root.getNoteID(),
+                    reply.getCreatedAt()
+            );
+        }
+
+        return new SearchDocument(
+                SearchDocumentType.NOTE,
+                note.getNoteID(),
+                titleOf(note),
+                note.getContent(),
+                note.getUser().getUserID(),
+                note.isPrivate() ? note.getUser().getUserID() : null,
+                clubIDOf(note),
+                note.getBook() == null ? null : note.getBook().getBookID(),
+                null,
+                note.getCreatedAt()
+        );
+    }
+
+    private static SearchDocument toDocument(Review review) {
+        return new SearchDocument(
+                SearchDocumentType.REVIEW,
+                review.getReviewID(),
+                review.getBook() == null ? null : review.getBook().getTitle(),
+                review.getContent(),
+                review.getUser() == null ? null : review.getUser().getUserID(),
+                null,
+                null,
+                review.getBook() == null ? null : review.getBook().getBookID(),
+                null,
+                review.getCreatedAt()
+        );
+    }
+
+    private static Note rootOf(Reply reply) {
+        Note note = (Note) Hibernate.unproxy(reply.getParentNote());
+        while (note instanceof Reply parent) {
+            note = (Note) Hibernate.unproxy(parent.getParentNote());
+        }
+        return note;
+    }
+
+    private static String titleOf(Note note) {
+        if (note.getBook() != null) return note.getBook().getTitle();
+        if (note.getDiscussionPrompt() != null) return note.getDiscussionPrompt().getPrompt();
+        return null;
+    }
+
+    private static Long clubIDOf(Note note) {
+        if (note.getClub() != null) return note.getClub().getClubID();
+        if (note.getDiscussionPrompt() != null) return note.getDiscussionPrompt().getClub().getClubID();
+        return null;
+    }
+}
@@ -0,0 +1,177 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.sync.SyncEntityType;
+import com.litclub.Backend.construct.sync.SyncTombstone;
+import com.litclub.Backend.repository.ReplyRepository;
+import com.litclub.Backend.repository.ReplyRepository.ReplyNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service that remembers deleted rows, so that {@code GET /api/sync} can tell clients to drop them.
+ *
+ * <p>A tombstone is addressed either to one user ({@code user_id}: their library entries, reviews, notes and the
+ * clubs they left) or to every member of a club ({@code club_id}: its meetings). Tombstones are written with
+ * {@code INSERT ... SELECT} from the rows about to be deleted, so callers must record them <em>before</em> the
+ * delete, within the same transaction; a rolled-back delete leaves no tombstone.</p>
+ *
+ * <p>Deletion times come from this JVM's clock, like the {@code updated_at} columns filled by
+ * {@link org.hibernate.annotations.UpdateTimestamp @UpdateTimestamp}, so both compare against the same sync
+ * token.</p>
+ *
+ * <p><strong>Bounded size:</strong> {@link #purgeExpired()} deletes tombstones older than
+ * {@code litclub.sync.tombstone-retention} (30 days by default). A client that has not synced for longer receives
+ * a full snapshot instead of a delta; see {@link #getOldestRetained()}.</p>
+ */
+@Service
+@Slf4j
+public class SyncTombstoneService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String RECORD_NOTES = """
+            INSERT INTO sync_tombstones (entity_type, entity_id, user_id, deleted_at)
+            SELECT 'NOTES', noteid, user_id, :deletedAt FROM notes WHERE noteid IN (:ids)
+            """;
+    private static final String RECORD_MEETINGS = """
+            INSERT INTO sync_tombstones (entity_type, entity_id, club_id, deleted_at)
+            SELECT 'MEETINGS', meetingid, club_id, :deletedAt FROM meetings WHERE meetingid IN (:ids)
+            """;
+    private static final String RECORD_CLUB_MEMBERS = """
+            INSERT INTO sync_tombstones (entity_type, entity_id, user_id, deleted_at)
+            SELECT 'CLUBS', club_id, member_id, :deletedAt FROM club_memberships WHERE club_id = :clubID
+            """;
+    private static final String RECORD_FOR_USER = """
+            INSERT INTO sync_tombstones (entity_type, entity_id, user_id, deleted_at)
+            VALUES (:entityType, :entityID, :userID, :deletedAt)
+            """;
+    private static final String FIND_SINCE = """
+            SELECT entity_type, entity_id FROM sync_tombstones
+            WHERE user_id = :userID AND deleted_at > :since
+            UNION ALL
+            SELECT entity_type, entity_id FROM sync_tombstones
+            WHERE club_id IN (SELECT club_id FROM club_memberships WHERE member_id = :userID) AND deleted_at > :since
+            """;
+    private static final String DELETE_EXPIRED = "DELETE FROM sync_tombstones WHERE deleted_at < :before";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ReplyRepository replyRepository;
+    private final Duration retention;
+
+    public SyncTombstoneService(NamedParameterJdbcTemplate jdbcTemplate,
+                                ReplyRepository replyRepository,
+                                @Value("${litclub.sync.tombstone-retention:P30D}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.replyRepository = replyRepository;
+        this.retention = retention;
+    }
+
+    // ====== RECORD ======
+    /**
+     * Records the deletion of notes or replies for their authors. IDs of rows that do not exist are ignored.
+     */
+    public void recordNotes(Collection<Long> noteIDs) {
+        recordChunked(RECORD_NOTES, noteIDs);
+    }
+
+    /**
+     * Records the deletion of a note together with every reply below it, as removed by cascade.
+     */
+    public void recordNoteThread(Long noteID) {
+        Set<Long> noteIDs = new LinkedHashSet<>();
+        noteIDs.add(noteID);
+        for (ReplyNode node : replyRepository.findThreadNodes(List.of(noteID))) {
+            noteIDs.add(node.getNoteID());
+        }
+        recordNotes(noteIDs);
+    }
+
+    /**
+     * Records the deletion of meetings for the members of their clubs. IDs of rows that do not exist are ignored.
+     */
+    public void recordMeetings(Collection<Long> meetingIDs) {
+        recordChunked(RECORD_MEETINGS, meetingIDs);
+    }
+
+    /**
+     * Records, for every current member, that a club is going away.
+     */
+    public void recordClubMembers(Long clubID) {
+        jdbcTemplate.update(RECORD_CLUB_MEMBERS, new MapSqlParameterSource("clubID", clubID)
+                .addValue("deletedAt", LocalDateTime.now()));
+    }
+
+    public void recordClubLeft(Long clubID, Long userID) {
+        recordForUser(SyncEntityType.CLUBS, clubID, userID);
+    }
+
+    public void recordLibraryRemoval(Long bookID, Long userID) {
+        recordForUser(SyncEntityType.LIBRARY, bookID, userID);
+    }
+
+    public void recordReviews(Collection<Long> reviewIDs, Long userID) {
+        reviewIDs.forEach(reviewID -> recordForUser(SyncEntityType.REVIEWS, reviewID, userID));
+    }
+
+    // ====== READ ======
+    /**
+     * Finds the rows deleted after {@code since} that the user had been sent: their own, and the meetings of the
+     * clubs they still belong to.
+     */
+    public List<SyncTombstone> findSince(Long userID, LocalDateTime since) {
+        return jdbcTemplate.query(FIND_SINCE, new MapSqlParameterSource("userID", userID).addValue("since", since),
+                (row, rowNum) -> new SyncTombstone(SyncEntityType.valueOf(row.getString(1)), row.getLong(2)));
+    }
+
+    /**
+     * Gets the earliest time from which every deletion is still known. A sync token older than this cannot be
+     * answered with a delta.
+     */
+    public LocalDateTime getOldestRetained() {
+        return LocalDateTime.now().minus(retention);
+    }
+
+    // ====== PURGE ======
+    /**
+     * Forgets tombstones older than the retention period.
+     *
+     * @return the number of tombstones deleted
+     */
+    @Scheduled(fixedDelayString = "${litclub.sync.purge-interval:PT1H}")
+    public int purgeExpired() {
+        int purged = jdbcTemplate.update(DELETE_EXPIRED, new MapSqlParameterSource("before", getOldestRetained()));
+        if (purged > 0) {
+            log.info("Purged {} expired sync tombstones", purged);
+        }
+        return purged;
+    }
+
+    // ------ Utility ------
+    private void recordForUser(SyncEntityType entityType, Long entityID, Long userID) {
+        jdbcTemplate.update(RECORD_FOR_USER, new MapSqlParameterSource("entityType", entityType.name())
+                .addValue("entityID", entityID)
+                .addValue("userID", userID)
+                .addValue("deletedAt", LocalDateTime.now()));
+    }
+
+    private void recordChunked(String sql, Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        for (int from = 0; from < all.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = all.subList(from, Math.min(from + CHUNK_SIZE, all.size()));
+            jdbcTemplate.update(sql, new MapSqlParameterSource("ids", chunk).addValue("deletedAt", deletedAt));
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.litclub.Backend.service.low;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.litclub.Backend.construct.teardown.TeardownProgress;
+import com.litclub.Backend.construct.teardown.TeardownReport;
+import com.litclub.Backend.construct.teardown.TeardownTarget;
+import com.litclub.Backend.exception.ClubNotFoundException;
+import com.litclub.Backend.exception.TeardownNotFoundException;
+import com.litclub.Backend.exception.UserNotFoundException;
+import com.litclub.Backend.repository.ReplyRepository;
+import com.litclub.Backend.repository.ReplyRepository.ReplyNode;
+import com.litclub.Backend.security.userdetails.PrincipalCache;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Removes clubs, users and meetings together with everything that references them, using set-based
+ * {@code DELETE ... WHERE} statements instead of loading and deleting entities one by one.
+ *
+ * <p>Each teardown issues its statements in foreign-key order (children before parents) inside one
+ * transaction, so it either removes everything or nothing. Every statement is timed and its row count
+ * recorded in a {@link TeardownProgress}; the resulting {@link TeardownReport} stays available through
+ * {@link #getReport(String)} for a few hours.</p>
+ *
+ * <p>Statements go through JDBC, bypassing the persistence context: pending changes are flushed first
+ * and the context is cleared afterwards, so entities loaded before a teardown must not be reused.
+ * Side effects that entity deletes would have triggered (user statistics, rating aggregates, the search
+ * index, cached principals) are scheduled explicitly, and removed notes, meetings and memberships are
+ * recorded with the {@link SyncTombstoneService} so that synced clients drop them.</p>
+ *
+ * <p>Clubs above {@code litclub.teardown.async-threshold} rows can be removed in the background with
+ * {@link #startClubDeletion(Long, Long)}, which returns at once with a report that the requester can poll.</p>
+ */
+@Service
+@Slf4j
+public class TeardownService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String CLUB_NOTES = """
+            SELECT n.noteid, n.user_id, r.noteid AS reply_id
+            FROM notes n
+            LEFT JOIN replies r ON r.noteid = n.noteid
+            WHERE n.club_id = :clubID
+               OR n.discussion_id IN (SELECT p.promptid FROM discussion_prompts p WHERE p.club_id = :clubID)
+            """;
+    private static final String USER_NOTES = """
+            SELECT n.noteid, n.user_id, r.noteid AS reply_id
+            FROM notes n
+            LEFT JOIN replies r ON r.noteid = n.noteid
+            WHERE n.user_id = :userID
+            """;
+    private static final String CLUB_MEETINGS = "SELECT m.meetingid FROM meetings m WHERE m.club_id = :clubID";
+    private static final String CLUB_SIZE = """
+            SELECT (SELECT COUNT(*) FROM notes WHERE club_id = :clubID)
+                 + (SELECT COUNT(*) FROM club_memberships WHERE club_id = :clubID)
+                 + (SELECT COUNT(*) FROM meeting_attendees
+                    WHERE meeting_id IN (SELECT meetingid FROM meetings WHERE club_id = :clubID))
+            """;
+    private static final String SUCCESSOR = """
+            SELECT m.member_id
+            FROM club_memberships m
+            JOIN club_membership_roles r ON r.club_id = m.club_id AND r.member_id = m.member_id
+            WHERE m.club_id = :clubID AND m.member_id <> :userID AND r.roles = 'OWNER'
+            ORDER BY m.joined_at, m.member_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ReplyRepository replyRepository;
+    private final UserStatsService userStatsService;
+    private final RatingStatsService ratingStatsService;
+    private final SearchIndexService searchIndexService;
+    private final PrincipalCache principalCache;
+    private final SyncTombstoneService syncTombstoneService;
+    private final long asyncThreshold;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, TeardownProgress> teardowns = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(6))
+            .maximumSize(1_000)
+            .build();
+
+    public TeardownService(NamedParameterJdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           EntityManager entityManager,
+                           ReplyRepository replyRepository,
+                           UserStatsService userStatsService,
+                           RatingStatsService ratingStatsService,
+                           SearchIndexService searchIndexService,
+                           PrincipalCache principalCache,
+                           SyncTombstoneService syncTombstoneService,
+                           @Value("${litclub.teardown.async-threshold:10000}") long asyncThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.replyRepository = replyRepository;
+        this.userStatsService = userStatsService;
+        this.ratingStatsService = ratingStatsService;
+        this.searchIndexService = searchIndexService;
+        this.principalCache = principalCache;
+        this.syncTombstoneService = syncTombstoneService;
+        this.asyncThreshold = asyncThreshold;
+    }
+
+    // ====== START ======
+    /**
+     * Removes a club and everything belonging to it within the caller's transaction.
+     *
+     * <p>Order: replies and notes of the club (including notes answering its prompts, and every reply
+     * below them), prompts, RSVPs and attendance of its meetings, meetings, club books, membership roles,
+     * memberships and finally the club. Members' {@code membership_version} is bumped so tokens carrying
+     * the old memberships are rejected.</p>
+     *
+     * @throws ClubNotFoundException if the club does not exist
+     */
+    @Transactional
+    public TeardownReport deleteClub(Long clubID) {
+        return runNow(new TeardownProgress(TeardownTarget.CLUB, clubID), run -> tearDownClub(run, clubID));
+    }
+
+    /**
+     * Removes a user and everything they own within the caller's transaction.
+     *
+     * <p>The user's notes and replies go together with every reply below them; their prompts are removed
+     * and notes answering them are detached; reviews, library entries, RSVPs, attendance, memberships and
+     * roles are removed; meetings they created and books they added are kept without a creator. Clubs
+     * they created pass to another owner, or are torn down if there is none.</p>
+     *
+     * @throws UserNotFoundException if the user does not exist
+     */
+    @Transactional
+    public TeardownReport deleteUser(Long userID) {
+        return runNow(new TeardownProgress(TeardownTarget.USER, userID), run -> tearDownUser(run, userID));
+    }
+
+    /**
+     * Removes meetings with their RSVPs and attendance records within the caller's transaction.
+     * Unknown IDs are ignored.
+     */
+    @Transactional
+    public TeardownReport deleteMeetings(Collection<Long> meetingIDs) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(meetingIDs));
+        return runNow(new TeardownProgress(TeardownTarget.MEETINGS, null), run -> run.deleteMeetings(ids));
+    }
+
+    /**
+     * Removes a club like {@link #deleteClub(Long)}, but on a background thread in its own transaction.
+     *
+     * @param requesterID the user asking for the deletion, who may poll its report
+     * @return the initial report, carrying the ID to poll
+     */
+    public TeardownReport startClubDeletion(Long clubID, Long requesterID) {
+        TeardownProgress progress = register(new TeardownProgress(TeardownTarget.CLUB, clubID, requesterID));
+        executor.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> run(progress, run -> tearDownClub(run, clubID)));
+                progress.finish();
+            } catch (Exception e) {
+                log.error("Teardown {} of club {} failed: {}", progress.getTeardownID(), clubID, e.getMessage(), e);
+                progress.fail(e.getMessage());
+            }
+        });
+        return progress.report();
+    }
+
+    /**
+     * Whether the club holds more than {@code litclub.teardown.async-threshold} notes, memberships and
+     * RSVPs, and so should be removed with {@link #startClubDeletion(Long, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public boolean isLargeClub(Long clubID) {
+        Long size = jdbcTemplate.queryForObject(CLUB_SIZE, new MapSqlParameterSource("clubID", clubID), Long.class);
+        return size != null && size > asyncThreshold;
+    }
+
+    // ====== READ ======
+    public TeardownReport getReport(String teardownID) {
+        TeardownProgress progress = teardowns.getIfPresent(teardownID);
+        if (progress == null) {
+            throw new TeardownNotFoundException(teardownID);
+        }
+        return progress.report();
+    }
+
+    /**
+     * @return whether the teardown exists and was requested by the user
+     */
+    public boolean isRequester(String teardownID, Long userID) {
+        TeardownProgress progress = teardowns.getIfPresent(teardownID);
+        return progress != null && userID != null && userID.equals(progress.getRequesterID());
+    }
+
+    // ====== TEARDOWNS ======
+    private void tearDownClub(Run run, Long clubID) {
+        MapSqlParameterSource params = new MapSqlParameterSource("clubID", clubID);
+        if (run.queryForList("SELECT club_id FROM clubs WHERE club_id = :clubID", params).isEmpty()) {
+            throw new ClubNotFoundException("clubID", String.valueOf(clubID));
+        }
+
+        run.deleteNotes(CLUB_NOTES, params);
+
+        run.dirty(run.queryForList("SELECT DISTINCT poster_id FROM discussion_prompts WHERE club_id = :clubID", params));
+        run.execute("discussion_prompts", "DELETE", "DELETE FROM discussion_prompts WHERE club_id = :clubID", params);
+
+        run.deleteMeetings(run.queryForList(CLUB_MEETINGS, params));
+
+        run.execute("club_books", "DELETE", "DELETE FROM club_books WHERE club_id = :clubID", params);
+
+        jdbcTemplate.query("""
+                SELECT u.user_id, u.username FROM club_memberships m JOIN users u ON u.user_id = m.member_id
+                WHERE m.club_id = :clubID
+                """, params, row -> {
+            run.dirtyUsers.add(row.getLong(1));
+            run.usernames.add(row.getString(2));
+        });
+        run.execute("users", "UPDATE", """
+                UPDATE users SET membership_version = membership_version + 1
+                WHERE user_id IN (SELECT member_id FROM club_memberships WHERE club_id = :clubID)
+                """, params);
+        syncTombstoneService.recordClubMembers(clubID);
+        run.execute("club_membership_roles", "DELETE",
+                "DELETE FROM club_membership_roles WHERE club_id = :clubID", params);
+        run.execute("club_memberships", "DELETE", "DELETE FROM club_memberships WHERE club_id = :clubID", params);
+        run.execute("clubs", "DELETE", "DELETE FROM clubs WHERE club_id = :clubID", params);
+    }
+
+    private void tearDownUser(Run run, Long userID) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userID", userID)
+                .addValue("updatedAt", LocalDateTime.now());
+        List<String> username = jdbcTemplate.queryForList(
+                "SELECT username FROM users WHERE user_id = :userID", params, String.class);
+        if (username.isEmpty()) {
+            throw new UserNotFoundException("userID", String.valueOf(userID));
+        }
+        run.usernames.add(username.getFirst());
+
+        for (Long clubID : run.queryForList("SELECT club_id FROM clubs WHERE creator_id = :userID", params)) {
+            MapSqlParameterSource club = new MapSqlParameterSource("clubID", clubID).addValue("userID", userID)
+                    .addValue("updatedAt", params.getValue("updatedAt"));
+            List<Long> owners = run.queryForList(SUCCESSOR, club);
+            if (owners.isEmpty()) {
+                tearDownClub(run, clubID);
+            } else {
+                run.execute("clubs", "UPDATE",
+                        "UPDATE clubs SET creator_id = :ownerID, updated_at = :updatedAt WHERE club_id = :clubID",
+                        club.addValue("ownerID", owners.getFirst()));
+            }
+        }
+
+        run.deleteNotes(USER_NOTES, params);
+
+        run.execute("notes", "UPDATE", """
+                UPDATE notes SET discussion_id = NULL, updated_at = :updatedAt
+                WHERE discussion_id IN (SELECT promptid FROM discussion_prompts WHERE poster_id = :userID)
+                """, params);
+        run.execute("discussion_prompts", "DELETE", "DELETE FROM discussion_prompts WHERE poster_id = :userID", params);
+
+        List<Long> reviewIDs = new ArrayList<>();
+        jdbcTemplate.query("SELECT review_id, book_id, rating FROM reviews WHERE user_id = :userID", params, row -> {
+            reviewIDs.add(row.getLong(1));
+            Integer rating = row.getObject(3) == null ? null : row.getInt(3);
+            ratingStatsService.ratingChanged(row.getObject(2) == null ? null : row.getLong(2), null, rating, null);
+        });
+        run.execute("reviews", "DELETE", "DELETE FROM reviews WHERE user_id = :userID", params);
+        run.reviewIDs.addAll(reviewIDs);
+
+        run.execute("user_books", "DELETE", "DELETE FROM user_books WHERE user_id = :userID", params);
+        run.execute("meeting_attendees", "DELETE", "DELETE FROM meeting_attendees WHERE user_id = :userID", params);
+        run.execute("meeting_register", "DELETE", "DELETE FROM meeting_register WHERE user_id = :userID", params);
+        run.execute("meetings", "UPDATE", """
+                UPDATE meetings SET creator_user_id = NULL, updated_at = :updatedAt WHERE creator_user_id = :userID
+                """, params);
+        run.execute("books", "UPDATE", "UPDATE books SET added_by = NULL WHERE added_by = :userID", params);
+        run.execute("club_membership_roles", "DELETE",
+                "DELETE FROM club_membership_roles WHERE member_id = :userID", params);
+        run.execute("club_memberships", "DELETE", "DELETE FROM club_memberships WHERE member_id = :userID", params);
+        run.execute("user_global_roles", "DELETE", "DELETE FROM user_global_roles WHERE user_id = :userID", params);
+        run.execute("user_stats", "DELETE", "DELETE FROM user_stats WHERE user_id = :userID", params);
+        run.execute("user_rating_stats", "DELETE", "DELETE FROM user_rating_stats WHERE user_id = :userID", params);
+        run.execute("users", "DELETE", "DELETE FROM users WHERE user_id = :userID", params);
+        run.dirtyUsers.remove(userID);
+    }
+
+    // ------ Utility ------
+    private TeardownProgress register(TeardownProgress progress) {
+        teardowns.put(progress.getTeardownID(), progress);
+        return progress;
+    }
+
+    private TeardownReport runNow(TeardownProgress progress, Consumer<Run> teardown) {
+        register(progress);
+        try {
+            run(progress, teardown);
+        } catch (RuntimeException e) {
+            progress.fail(e.getMessage());
+            throw e;
+        }
+        progress.finish();
+        return progress.report();
+    }
+
+    private void run(TeardownProgress progress, Consumer<Run> teardown) {
+        entityManager.flush();
+        Run run = new Run(progress);
+        teardown.accept(run);
+        entityManager.clear();
+
+        run.dirtyUsers.forEach(userStatsService::markDirty);
+        run.usernames.forEach(principalCache::evict);
+        chunks(run.rootNoteIDs).forEach(searchIndexService::removeNotes);
+        chunks(run.replyIDs).forEach(searchIndexService::removeReplies);
+        chunks(run.reviewIDs).forEach(searchIndexService::removeReviews);
+
+        TeardownReport report = progress.report();
+        log.info("Teardown {} of {} {} removed {} rows in {} statements",
+                progress.getTeardownID(), report.target(), report.targetID(), report.rowsDeleted(),
+                report.steps().size());
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> all = List.copyOf(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += CHUNK_SIZE) {
+            chunks.add(all.subList(from, Math.min(from + CHUNK_SIZE, all.size())));
+        }
+        return chunks;
+    }
+
+    /** State of one teardown: the progress to report to and the side effects to schedule at the end. */
+    private final class Run {
+        private final TeardownProgress progress;
+        private final Set<Long> dirtyUsers = new HashSet<>();
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<Long> rootNoteIDs = new LinkedHashSet<>();
+        private final Set<Long> replyIDs = new LinkedHashSet<>();
+        private final Set<Long> reviewIDs = new LinkedHashSet<>();
+
+        private Run(TeardownProgress progress) {
+            this.progress = progress;
+        }
+
+        List<Long> queryForList(String sql, MapSqlParameterSource params) {
+            return jdbcTemplate.queryForList(sql, params, Long.class);
+        }
+
+        void dirty(Collection<Long> userIDs) {
+            dirtyUsers.addAll(userIDs);
+        }
+
+        void execute(String table, String operation, String sql, MapSqlParameterSource params) {
+            long started = System.nanoTime();
+            int rows = jdbcTemplate.update(sql, params);
+            progress.step(table, operation, rows, System.nanoTime() - started);
+        }
+
+        /** Runs {@code sql} once per chunk of {@code ids}, bound as {@code :ids}, and records one step. */
+        void executeChunked(String table, String operation, String sql, Collection<Long> ids) {
+            long started = System.nanoTime();
+            long rows = 0;
+            for (List<Long> chunk : chunks(ids)) {
+                rows += jdbcTemplate.update(sql, new MapSqlParameterSource("ids", chunk));
+            }
+            progress.step(table, operation, rows, System.nanoTime() - started);
+        }
+
+        /**
+         * Deletes the notes selected by {@code selectSql} (rows of note ID, author and reply ID) together with
+         * every reply below them. Reply rows go first: the parent link lives in {@code replies}, so once those
+         * rows are gone the {@code notes} rows can be removed in any order.
+         */
+        void deleteNotes(String selectSql, MapSqlParameterSource params) {
+            Set<Long> noteIDs = new LinkedHashSet<>();
+            Set<Long> replies = new LinkedHashSet<>();
+            jdbcTemplate.query(selectSql, params, row -> {
+                long noteID = row.getLong(1);
+                noteIDs.add(noteID);
+                dirtyUsers.add(row.getLong(2));
+                if (row.getObject(3) != null) replies.add(noteID);
+            });
+            for (List<Long> roots : chunks(noteIDs)) {
+                for (ReplyNode node : replyRepository.findThreadNodes(roots)) {
+                    replies.add(node.getNoteID());
+                    dirtyUsers.add(node.getUserID());
+                }
+            }
+            noteIDs.addAll(replies);
+
+            syncTombstoneService.recordNotes(noteIDs);
+            executeChunked("replies", "DELETE", "DELETE FROM replies WHERE noteid IN (:ids)", replies);
+            executeChunked("notes", "DELETE", "DELETE FROM notes WHERE noteid IN (:ids)", noteIDs);
+
+            noteIDs.stream().filter(id -> !replies.contains(id)).forEach(rootNoteIDs::add);
+            replyIDs.addAll(replies);
+        }
+
+        void deleteMeetings(List<Long> meetingIDs) {
+            if (meetingIDs.isEmpty()) return;
+            for (List<Long> chunk : chunks(meetingIDs)) {
+                dirty(jdbcTemplate.queryForList("""
+                        SELECT user_id FROM meeting_attendees WHERE meeting_id IN (:ids)
+                        UNION
+                        SELECT user_id FROM meeting_register WHERE meeting_id IN (:ids)
+                        """, new MapSqlParameterSource("ids", chunk), Long.class));
+            }
+            syncTombstoneService.recordMeetings(meetingIDs);
+            executeChunked("meeting_attendees", "DELETE",
+                    "DELETE FROM meeting_attendees WHERE meeting_id IN (:ids)", meetingIDs);
+            executeChunked("meeting_register", "DELETE",
+                    "DELETE FROM meeting_register WHERE meeting_id IN (:ids)", meetingIDs);
+            executeChunked("meetings", "DELETE", "DELETE FROM meetings WHERE meetingid IN (:ids)", meetingIDs);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
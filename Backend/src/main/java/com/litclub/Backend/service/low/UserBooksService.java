@@ -7,6 +7,8 @@ import com.litclub.Backend.entity.UserBook;
 import com.litclub.Backend.entity.compositeKey.UserBookID;
 import com.litclub.Backend.exception.MissingLibraryItemException;
 import com.litclub.Backend.repository.UserBooksRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,9 +22,15 @@ import java.util.Optional;
 public class UserBooksService {
 
     private final UserBooksRepository userBooksRepository;
+    private final UserStatsService userStatsService;
+    private final SyncTombstoneService syncTombstoneService;
 
-    public UserBooksService(UserBooksRepository userBooksRepository) {
+    public UserBooksService(UserBooksRepository userBooksRepository,
+                            UserStatsService userStatsService,
+                            SyncTombstoneService syncTombstoneService) {
         this.userBooksRepository = userBooksRepository;
+        this.userStatsService = userStatsService;
+        this.syncTombstoneService = syncTombstoneService;
     }
 
     // ====== CREATE ======
@@ -44,6 +52,7 @@ public class UserBooksService {
                         case DNF -> newUserBook.setDateFinished(today);
                     }
 
+                    userStatsService.markDirty(user);
                     return userBooksRepository.save(newUserBook);
                 });
     }
@@ -81,6 +90,28 @@ public class UserBooksService {
         return userBooksRepository.findAllByUser(user);
     }
 
+    /**
+     * Returns every library entry of {@code user} with its book and authors loaded, newest first,
+     * using a single query.
+     */
+    @Transactional(readOnly = true)
+    public List<UserBook> getLibrary(User user) {
+        return userBooksRepository.findLibraryByUser(user);
+    }
+
+    /**
+     * Retrieves the entries of a user's library created or changed after {@code since}, with their books.
+     */
+    @Transactional(readOnly = true)
+    public List<UserBook> getLibraryChangedSince(User user, LocalDateTime since) {
+        return userBooksRepository.findLibraryChangedSince(user, since);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<UserBook> getShelf(User user, BookStatus status, Pageable pageable) {
+        return userBooksRepository.findShelfByUser(user, status, pageable);
+    }
+
     @Transactional(readOnly = true)
     public List<User> getUsersForBook(Book book) {
         List<UserBook> userBooks = getUserBooksForBook(book);
@@ -91,6 +122,11 @@ public class UserBooksService {
         return readers;
     }
 
+    @Transactional(readOnly = true)
+    public Page<User> getUsersForBook(Book book, Pageable pageable) {
+        return userBooksRepository.findReadersByBook(book, pageable);
+    }
+
     @Transactional(readOnly = true)
     public List<Book> getBooksForUser(User user) {
         List<UserBook> userBooks = getUserBooksForUser(user);
@@ -111,6 +147,7 @@ public class UserBooksService {
         newUserBook.setDateStarted(userBook.getDateStarted());
         newUserBook.setDateFinished(userBook.getDateFinished());
 
+        userStatsService.markDirty(newUserBook.getUser());
         return userBooksRepository.save(newUserBook);
     }
 
@@ -125,6 +162,7 @@ public class UserBooksService {
         }
 
         userBook.setStatus(status);
+        userStatsService.markDirty(user);
         return userBooksRepository.save(userBook);
     }
 
@@ -138,6 +176,8 @@ public class UserBooksService {
     @Transactional
     public void removeUserBook(User user, Book book) {
         UserBook userBook = getUserBookByUserAndBook(user, book);
+        syncTombstoneService.recordLibraryRemoval(book.getBookID(), user.getUserID());
         userBooksRepository.delete(userBook);
+        userStatsService.markDirty(user);
     }
 }
@@ -0,0 +1,153 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.user.UserRecord;
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.repository.ClubMembershipRepository;
+import com.litclub.Backend.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Service that assembles {@link UserRecord}s for many users at once.
+ *
+ * <p>{@link com.litclub.Backend.service.middle.UserService#convertUserToRecord(User)} walks
+ * {@code user.getMemberships()} and each membership's club, which costs one or more lazy selects
+ * per user. This service instead loads the record columns and the clubs of every requested user
+ * with set-based queries, so the number of SQL statements does not depend on how many users are
+ * converted. This is a low tier Service, meaning that the caller has certain Responsibilities.
+ *
+ * <p><strong>Responsibilities of the caller:</strong>
+ * <ul>
+ *   <li>Ensure all entities (e.g. {@code User}, {@code Club}) are verified before being passed in.</li>
+ *   <li>Handle access control and authorization externally; this service does not enforce it.</li>
+ * </ul>
+ *
+ * <p><strong>Ordering:</strong> returned lists follow the iteration order of the input;
+ * duplicates are collapsed and IDs that do not match a user are skipped.
+ *
+ * <p><strong>Thread safety:</strong> This service is stateless and therefore thread-safe.
+ *
+ * @see UserRecord
+ */
+@Service
+public class UserRecordService {
+
+    private final UserRepository userRepository;
+    private final ClubMembershipRepository clubMembershipRepository;
+
+    public UserRecordService(UserRepository userRepository,
+                             ClubMembershipRepository clubMembershipRepository) {
+        this.userRepository = userRepository;
+        this.clubMembershipRepository = clubMembershipRepository;
+    }
+
+    /**
+     * Builds records for already loaded users. Runs one query for their clubs.
+     *
+     * @param users the users to convert
+     * @return one record per distinct user, in input order
+     */
+    @Transactional(readOnly = true)
+    public List<UserRecord> toUserRecords(Collection<User> users) {
+        if (users.isEmpty()) return List.of();
+
+        Map<Long, User> byID = new LinkedHashMap<>();
+        for (User user : users) {
+            byID.putIfAbsent(user.getUserID(), user);
+        }
+        Map<Long, Set<Club>> clubs = groupClubs(clubMembershipRepository.findClubsByMemberIDs(byID.keySet()));
+
+        List<UserRecord> records = new ArrayList<>(byID.size());
+        for (User user : byID.values()) {
+            records.add(new UserRecord(
+                    user.getUserID(),
+                    user.getFirstName(),
+                    user.getSecondName(),
+                    user.getUsername(),
+                    user.getEmail(),
+                    clubs.getOrDefault(user.getUserID(), new HashSet<>())
+            ));
+        }
+        return records;
+    }
+
+    /**
+     * Builds records for the given user IDs. Runs one query for the users and one for their clubs.
+     *
+     * @param userIDs the users to load
+     * @return one record per distinct existing user, in input order
+     */
+    @Transactional(readOnly = true)
+    public List<UserRecord> getUserRecords(Collection<Long> userIDs) {
+        if (userIDs.isEmpty()) return List.of();
+
+        Set<Long> ids = new LinkedHashSet<>(userIDs);
+        return assemble(
+                ids,
+                userRepository.findRecordColumnsByUserIDs(ids),
+                clubMembershipRepository.findClubsByMemberIDs(ids)
+        );
+    }
+
+    /**
+     * Builds records for every member of {@code club}.
+     *
+     * @param club the club (must be a valid entity)
+     * @return records for the club's members
+     */
+    @Transactional(readOnly = true)
+    public List<UserRecord> getMemberRecords(Club club) {
+        return getUserRecords(clubMembershipRepository.findMemberIDsByClub(club));
+    }
+
+    /**
+     * Builds records for every user in the system with two queries.
+     *
+     * @return records for all users
+     */
+    @Transactional(readOnly = true)
+    public List<UserRecord> getAllUserRecords() {
+        List<Object[]> rows = userRepository.findAllRecordColumns();
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            ids.add((Long) row[0]);
+        }
+        return assemble(ids, rows, clubMembershipRepository.findAllMemberClubs());
+    }
+
+    // ------ Utility ------
+    private static List<UserRecord> assemble(Set<Long> ids, List<Object[]> userRows, List<Object[]> clubRows) {
+        Map<Long, Set<Club>> clubs = groupClubs(clubRows);
+
+        Map<Long, UserRecord> byID = new HashMap<>();
+        for (Object[] row : userRows) {
+            Long userID = (Long) row[0];
+            byID.put(userID, new UserRecord(
+                    userID,
+                    (String) row[1],
+                    (String) row[2],
+                    (String) row[3],
+                    (String) row[4],
+                    clubs.getOrDefault(userID, new HashSet<>())
+            ));
+        }
+
+        List<UserRecord> records = new ArrayList<>(byID.size());
+        for (Long id : ids) {
+            UserRecord record = byID.get(id);
+            if (record != null) records.add(record);
+        }
+        return records;
+    }
+
+    private static Map<Long, Set<Club>> groupClubs(List<Object[]> rows) {
+        Map<Long, Set<Club>> clubs = new HashMap<>();
+        for (Object[] row : rows) {
+            clubs.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Club) row[1]);
+        }
+        return clubs;
+    }
+}
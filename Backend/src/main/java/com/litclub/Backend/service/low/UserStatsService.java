@@ -0,0 +1,193 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.entity.UserStats;
+import com.litclub.Backend.repository.UserStatsRepository;
+import com.litclub.Backend.repository.UserStatsRepository.UserStatsCounts;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Service that maintains the {@link UserStats} read model.
+ *
+ * <p>Low tier services call {@link #markDirty(User)} after changing anything a user's statistics
+ * are derived from (library entries, reviews, notes, prompts, RSVPs, register entries and club
+ * memberships). Affected users are collected for the surrounding transaction and each one's row is
+ * recomputed exactly once, just before that transaction commits, with a single aggregate query.
+ * The row therefore commits or rolls back together with the change that caused it.</p>
+ *
+ * <p><strong>Concurrency:</strong> a recompute first makes sure the user's row exists, with an
+ * insert that does nothing if another transaction got there first, and then locks it. Recomputes
+ * for the same user therefore run one after another, and under READ COMMITTED the aggregate query
+ * that follows the lock sees everything committed by the transaction that held it before, so the
+ * last transaction to commit always stores counts that include the others' changes. Pending users
+ * are recomputed in ID order, so transactions that touch several users lock their rows in the
+ * same order.</p>
+ *
+ * <p><strong>Responsibilities of the caller:</strong>
+ * <ul>
+ *   <li>Call {@link #markDirty(User)} from inside the transaction that performs the change.</li>
+ *   <li>Handle access control externally; this service does not enforce it.</li>
+ * </ul>
+ *
+ * <p><strong>Thread safety:</strong> pending users are bound to the current transaction, so this
+ * service holds no shared mutable state.
+ *
+ * @see UserStats
+ */
+@Service
+public class UserStatsService {
+
+    private static final String COLUMNS = "user_id, clubs, books_want_to_read, books_reading, books_read, books_dnf,"
+            + " reviews, rated_reviews, rating_sum, notes, prompts, rsvps, meetings_attended, late_arrivals";
+    private static final String ZEROS = "?, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0";
+
+    private static final String INSERT = "INSERT INTO user_stats (" + COLUMNS + ") VALUES (" + ZEROS + ")";
+    private static final String LOCK = "SELECT user_id FROM user_stats WHERE user_id = ? FOR UPDATE";
+
+    private final UserStatsRepository userStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertIfAbsent;
+
+    public UserStatsService(UserStatsRepository userStatsRepository, JdbcTemplate jdbcTemplate)
+            throws MetaDataAccessException {
+        this.userStatsRepository = userStatsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertIfAbsent = "PostgreSQL".equals(JdbcUtils.extractDatabaseMetaData(
+                Objects.requireNonNull(jdbcTemplate.getDataSource()), DatabaseMetaData::getDatabaseProductName))
+                ? INSERT + " ON CONFLICT (user_id) DO NOTHING" : INSERT;
+    }
+
+    // ====== READ ======
+
+    /**
+     * Returns the statistics row for a user, computing and storing it first if it does not exist yet.
+     *
+     * @param userID the user
+     * @return the row, or empty if the user does not exist
+     */
+    @Transactional
+    public Optional<UserStats> getStats(Long userID) {
+        Optional<UserStats> stats = userStatsRepository.findById(userID);
+        if (stats.isPresent()) return stats;
+        return recompute(userID);
+    }
+
+    // ====== UPDATE ======
+
+    public void markDirty(User user) {
+        if (user != null) markDirty(user.getUserID());
+    }
+
+    /**
+     * Schedules a recompute of the user's row before the current transaction commits.
+     *
+     * <p>Repeated calls for the same user within one transaction are collapsed. Without an active
+     * transaction the row is recomputed immediately.</p>
+     *
+     * @param userID the user whose statistics changed
+     */
+    public void markDirty(Long userID) {
+        if (userID == null) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recompute(userID);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> dirty = new TreeSet<>();
+            pending = dirty;
+            TransactionSynchronizationManager.bindResource(this, dirty);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    for (Long id : dirty) {
+                        recompute(id);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(UserStatsService.this);
+                }
+            });
+        }
+        pending.add(userID);
+    }
+
+    /**
+     * Recomputes a user's row from the source tables, deleting it if the user no longer exists.
+     *
+     * <p>Holds the lock on the row until the surrounding transaction ends.</p>
+     *
+     * @param userID the user
+     * @return the stored row, or empty if the user does not exist
+     */
+    @Transactional
+    public Optional<UserStats> recompute(Long userID) {
+        try {
+            jdbcTemplate.update(insertIfAbsent, userID);
+        } catch (DuplicateKeyException e) {
+            // H2 has no ON CONFLICT; a failed statement there leaves the transaction usable
+        }
+        jdbcTemplate.queryForList(LOCK, Long.class, userID);
+
+        UserStats stats = userStatsRepository.findById(userID).orElseThrow();
+        Optional<UserStatsCounts> counts = userStatsRepository.computeCounts(userID);
+        if (counts.isEmpty()) {
+            userStatsRepository.delete(stats);
+            return Optional.empty();
+        }
+
+        apply(stats, counts.get());
+        return Optional.of(userStatsRepository.save(stats));
+    }
+
+    /**
+     * Recomputes every user's row and removes rows left behind by deleted users.
+     *
+     * @return the number of rows rebuilt
+     */
+    @Transactional
+    public int rebuildAll() {
+        List<Long> userIDs = userStatsRepository.findAllUserIDs();
+        for (Long userID : userIDs) {
+            recompute(userID);
+        }
+        userStatsRepository.deleteOrphans();
+        return userIDs.size();
+    }
+
+    // ------ Utility ------
+    private static void apply(UserStats stats, UserStatsCounts counts) {
+        stats.setClubs(counts.getClubs());
+        stats.setBooksWantToRead(counts.getBooksWantToRead());
+        stats.setBooksReading(counts.getBooksReading());
+        stats.setBooksRead(counts.getBooksRead());
+        stats.setBooksDnf(counts.getBooksDnf());
+        stats.setReviews(counts.getReviews());
+        stats.setRatedReviews(counts.getRatedReviews());
+        stats.setRatingSum(counts.getRatingSum());
+        stats.setNotes(counts.getNotes());
+        stats.setPrompts(counts.getPrompts());
+        stats.setRsvps(counts.getRsvps());
+        stats.setMeetingsAttended(counts.getMeetingsAttended());
+        stats.setLateArrivals(counts.getLateArrivals());
+    }
+}
@@ -10,17 +10,24 @@ import com.litclub.Backend.exception.BookAlreadyExistsException;
 import com.litclub.Backend.exception.BookNotFoundException;
 import com.litclub.Backend.exception.MalformedDTOException;
 import com.litclub.Backend.repository.BookRepository;
+import com.litclub.Backend.service.low.BookEnrichmentService;
 import com.litclub.Backend.service.low.BookMetadataService;
+import com.litclub.Backend.service.low.SearchIndexService;
 import com.litclub.Backend.service.low.UserBooksService;
+import com.litclub.Backend.construct.search.SearchDocumentType;
+import com.litclub.Backend.construct.search.SearchQuery;
 import jakarta.persistence.EntityExistsException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
 
 @Service
 public class BookService {
@@ -29,62 +36,50 @@ public class BookService {
     private final UserBooksService userBooksService;
 
     private final BookMetadataService metadataService;
-
-    public BookService(BookRepository bookRepository, UserBooksService userBooksService, BookMetadataService metadataService) {
+    private final BookEnrichmentService enrichmentService;
+    private final SearchIndexService searchIndexService;
+
+    public BookService(BookRepository bookRepository,
+                       UserBooksService userBooksService,
+                       BookMetadataService metadataService,
+                       BookEnrichmentService enrichmentService,
+                       SearchIndexService searchIndexService) {
         this.bookRepository = bookRepository;
         this.userBooksService = userBooksService;
         this.metadataService = metadataService;
+        this.enrichmentService = enrichmentService;
+        this.searchIndexService = searchIndexService;
     }
 
     // ====== CREATE ======
     @Transactional
     public Book createBook(BookAddRequest book) {
-        Book newBook = null;
-        boolean alreadySavedByMetadataService = false;
-
         if (!bookRepository.findAllByTitle(book.title()).isEmpty()) {
             throw new EntityExistsException("Book already exists");
         }
 
+        // Save a placeholder now; authors, cover, publisher and year are filled in by the enrichment worker
+        Book newBook = new Book();
         if (book.title() != null && book.author() != null) {
-
-            var bookOpt = metadataService.enrichAndSaveByTitleAndAuthor(book.title(), book.author());
-
-            if (bookOpt.isPresent()) {
-                newBook = bookOpt.get();
-                alreadySavedByMetadataService = true;
-
-            } else {
-                if (bookRepository.findBookByTitleAndPrimaryAuthor(book.title(), book.author()).isPresent()) {
-                    throw new BookAlreadyExistsException("Book already exists");
-                }
-                newBook = new Book();
-                newBook.setTitle(book.title());
-                newBook.setPrimaryAuthor(book.author());
-
+            if (bookRepository.findBookByTitleAndPrimaryAuthor(book.title(), book.author()).isPresent()) {
+                throw new BookAlreadyExistsException("Book already exists");
             }
+            newBook.setTitle(book.title());
+            newBook.setAuthors(List.of(book.author()));
         } else if (book.isbn() != null) {
-            var bookOpt = metadataService.enrichAndSaveByIsbn(book.isbn());
-
-            if (bookOpt.isPresent()) {
-                newBook = bookOpt.get();
-                alreadySavedByMetadataService = true;
-
-            } else {
-                if (bookRepository.findBookByisbn(book.isbn()).isPresent()) {
-                    throw new BookAlreadyExistsException("Book already exists");
-                }
-                newBook = new Book();
-                newBook.setIsbn(book.isbn());
+            if (bookRepository.findBookByisbn(book.isbn()).isPresent()) {
+                throw new BookAlreadyExistsException("Book already exists");
             }
+            newBook.setTitle(book.title() != null ? book.title() : book.isbn());
+            newBook.setIsbn(book.isbn());
         } else {
             throw new MalformedDTOException("Book title/author or ISBN is required.");
         }
-        if (alreadySavedByMetadataService) {
-            return newBook;
-        } else {
-            return bookRepository.save(newBook);
-        }
+
+        Book saved = bookRepository.save(newBook);
+        searchIndexService.indexBook(saved);
+        enrichmentService.enqueue(saved, saved.getIsbn(), book.title(), book.author());
+        return saved;
     }
 
     // ===== READ ======
@@ -162,19 +157,24 @@ public class BookService {
         return userBooks.stream().map(UserBook::getBook).toList();
     }
 
-    @Transactional
-    public List<Book> searchBook(BookSearchRequest bookSearchRequest) {
-        List<Book> results = new ArrayList<>();
-        if (bookSearchRequest.isbn() != null && !bookSearchRequest.isbn().isEmpty()) {
-            results.addAll(bookRepository.findBookByisbnContainingIgnoreCase(bookSearchRequest.isbn()));
-        }
-        if (bookSearchRequest.title() != null && !bookSearchRequest.title().isEmpty()) {
-            results.addAll(bookRepository.findBookByTitleContainingIgnoreCase(bookSearchRequest.title()));
-        }
-        if (bookSearchRequest.author() != null && !bookSearchRequest.author().isEmpty()) {
-            results.addAll(bookRepository.findBookByPrimaryAuthorContainingIgnoreCase(bookSearchRequest.author()));
-        }
-        return results;
+    /**
+     * Finds books matching every word of the request's non-empty fields in the search index, whose book documents
+     * hold the title, authors, ISBN and publisher.
+     *
+     * @return one page of matching books, best match first
+     */
+    @Transactional(readOnly = true)
+    public Page<Book> searchBook(BookSearchRequest bookSearchRequest, Pageable pageable) {
+        StringJoiner text = new StringJoiner(" ");
+        Stream.of(bookSearchRequest.title(), bookSearchRequest.author(), bookSearchRequest.isbn())
+                .map(BookService::blankToNull)
+                .filter(Objects::nonNull)
+                .forEach(text::add);
+        if (text.length() == 0) return Page.empty(pageable);
+
+        Page<Long> bookIDs = searchIndexService.findIDs(new SearchQuery(
+                text.toString(), Set.of(SearchDocumentType.BOOK), null, Set.of(), null, null), pageable);
+        return SearchIndexService.loadInRankOrder(bookIDs, bookRepository::findAllById, Book::getBookID);
     }
 
     // ====== UPDATE ======
@@ -222,6 +222,10 @@ public class BookService {
                 .orElseThrow(() -> new RuntimeException("failed to update book"));
     }
 
+    private static String blankToNull(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
+    }
+
     public BookDTO convertBookToDTO(Book book, User user) {
         return new BookDTO(
                 book.getBookID(),
@@ -2,6 +2,7 @@ package com.litclub.Backend.service.middle;
 
 import com.litclub.Backend.construct.club.ClubCreateRequest;
 import com.litclub.Backend.construct.club.ClubRecord;
+import com.litclub.Backend.construct.teardown.TeardownReport;
 import com.litclub.Backend.entity.Club;
 import com.litclub.Backend.entity.ClubMembership;
 import com.litclub.Backend.entity.User;
@@ -10,16 +11,18 @@ import com.litclub.Backend.exception.UserNotFoundException;
 import com.litclub.Backend.repository.ClubRepository;
 import com.litclub.Backend.security.roles.ClubRole;
 import com.litclub.Backend.service.low.ClubMembershipService;
+import com.litclub.Backend.service.low.TeardownService;
+import com.litclub.Backend.service.low.UserRecordService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Middle-tier service managing club creation, retrieval, and membership queries.
@@ -41,17 +44,25 @@ import java.util.stream.Collectors;
  * @see Club
  * @see ClubRepository
  * @see ClubMembershipService
+ * @see UserRecordService
+ * @see TeardownService
  */
 @Service
 public class ClubService {
 
     private final ClubRepository clubRepository;
     private final ClubMembershipService clubMembershipService;
+    private final UserRecordService userRecordService;
+    private final TeardownService teardownService;
 
     public ClubService(ClubRepository clubRepository,
-                       ClubMembershipService clubMembershipService) {
+                       ClubMembershipService clubMembershipService,
+                       UserRecordService userRecordService,
+                       TeardownService teardownService) {
         this.clubRepository = clubRepository;
         this.clubMembershipService = clubMembershipService;
+        this.userRecordService = userRecordService;
+        this.teardownService = teardownService;
     }
 
     // ===== CREATE =====
@@ -196,6 +207,18 @@ public class ClubService {
         return clubMembershipService.getClubsForUser(user);
     }
 
+    /**
+     * Retrieves one page of the clubs a user is a part of.
+     *
+     * @param user the User entity (must be valid)
+     * @param pageable page request; sort properties refer to {@link Club} fields
+     * @return the requested page of {@link Club} entities
+     */
+    @Transactional(readOnly = true)
+    public Page<Club> getClubsByUser(User user, Pageable pageable) {
+        return clubMembershipService.getClubsForUser(user, pageable);
+    }
+
     @Transactional(readOnly = true)
     public List<User> getClubOwners(Long clubID) {
         Club club = requireClubById(clubID);
@@ -222,10 +245,33 @@ public class ClubService {
 
     // ====== DELETE ======
 
+    /**
+     * Deletes a club together with its notes, prompts, meetings, books and memberships.
+     *
+     * <p>Clubs larger than {@code litclub.teardown.async-threshold} rows are removed in the background;
+     * the returned report is then not yet {@code finished} and can be polled through
+     * {@link TeardownService#getReport(String)}.</p>
+     *
+     * @param clubID the club to delete
+     * @param requesterID the user asking for the deletion, who may poll a background deletion's report
+     * @return the teardown report
+     * @throws ClubNotFoundException if no club with the given ID exists
+     */
     @Transactional
-    public void deleteClub(Long clubID) {
-        Club club = requireClubById(clubID);
-        clubRepository.delete(club);
+    public TeardownReport deleteClub(Long clubID, Long requesterID) {
+        requireClubById(clubID);
+        return teardownService.isLargeClub(clubID)
+                ? teardownService.startClubDeletion(clubID, requesterID)
+                : teardownService.deleteClub(clubID);
+    }
+
+    /**
+     * Reports on a club deletion started by {@link #deleteClub(Long, Long)}.
+     *
+     * @throws com.litclub.Backend.exception.TeardownNotFoundException if the ID is unknown or has expired
+     */
+    public TeardownReport getTeardownReport(String teardownID) {
+        return teardownService.getReport(teardownID);
     }
 
     // ===== UTILITY =====
@@ -233,8 +279,8 @@ public class ClubService {
     /**
      * Converts a {@link Club} entity to a {@link ClubRecord} DTO.
      *
-     * <p>This method includes the club creator but initializes the members set as empty.
-     * Use {@link #getUsersForClub(Club)} to populate membership data if needed.</p>
+     * <p>This method includes the club owners and every member. For large clubs prefer
+     * {@link #convertClubToSummaryDTO(Club)}.</p>
      *
      * @param club the club entity to convert
      * @return the corresponding {@link ClubRecord}
@@ -244,8 +290,28 @@ public class ClubService {
         return new ClubRecord(
                 club.getClubID(),
                 club.getClubName(),
-                getClubOwners(club.getClubID()).stream().map(UserService::convertUserToRecord).toList(),
-                clubMembershipService.getUsersForClub(club).stream().map(UserService::convertUserToRecord).collect(Collectors.toSet())
+                userRecordService.toUserRecords(getClubOwners(club.getClubID())),
+                new HashSet<>(userRecordService.getMemberRecords(club))
+        );
+    }
+
+    /**
+     * Converts a {@link Club} entity to a {@link ClubRecord} DTO without its members.
+     *
+     * <p>This method includes the club owners but initializes the members set as empty, so its
+     * cost does not grow with the size of the club. Use {@link #getUsersForClub(Club)} to populate
+     * membership data if needed.</p>
+     *
+     * @param club the club entity to convert
+     * @return the corresponding {@link ClubRecord} with an empty members set
+     */
+    @Transactional(readOnly = true)
+    public ClubRecord convertClubToSummaryDTO(Club club) {
+        return new ClubRecord(
+                club.getClubID(),
+                club.getClubName(),
+                userRecordService.toUserRecords(getClubOwners(club.getClubID())),
+                new HashSet<>()
         );
     }
 }
\ No newline at end of file
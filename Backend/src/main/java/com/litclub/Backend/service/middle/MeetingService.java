@@ -1,13 +1,19 @@
 package com.litclub.Backend.service.middle;
 
+import com.litclub.Backend.construct.event.ChangeType;
+import com.litclub.Backend.construct.feed.CursorPage;
+import com.litclub.Backend.construct.feed.FeedCursor;
+import com.litclub.Backend.construct.meeting.MeetingView;
 import com.litclub.Backend.construct.meeting.RsvpStatus;
-import com.litclub.Backend.construct.user.UserRecord;
 import com.litclub.Backend.entity.*;
 import com.litclub.Backend.exception.MalformedDTOException;
 import com.litclub.Backend.repository.MeetingRepository;
+import com.litclub.Backend.service.low.ChangeStreamService;
 import com.litclub.Backend.service.low.MeetingAttendeeService;
 import com.litclub.Backend.service.low.MeetingRegisterService;
+import com.litclub.Backend.service.low.TeardownService;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -54,6 +60,7 @@ import java.util.stream.Collectors;
  * @see MeetingRepository
  * @see MeetingAttendeeService
  * @see MeetingRegisterService
+ * @see TeardownService
  */
 @Service
 public class MeetingService {
@@ -61,13 +68,19 @@ public class MeetingService {
     private final MeetingRepository meetingRepository;
     private final MeetingAttendeeService meetingAttendeeService;
     private final MeetingRegisterService meetingRegisterService;
+    private final TeardownService teardownService;
+    private final ChangeStreamService changeStreamService;
 
     public MeetingService(MeetingRepository meetingRepository,
                           MeetingAttendeeService meetingAttendeeService,
-                          MeetingRegisterService meetingRegisterService) {
+                          MeetingRegisterService meetingRegisterService,
+                          TeardownService teardownService,
+                          ChangeStreamService changeStreamService) {
         this.meetingRepository = meetingRepository;
         this.meetingAttendeeService = meetingAttendeeService;
         this.meetingRegisterService = meetingRegisterService;
+        this.teardownService = teardownService;
+        this.changeStreamService = changeStreamService;
     }
 
     // ====== CREATE ======
@@ -112,7 +125,9 @@ public class MeetingService {
         meeting.setLocation(location);
         meeting.setLink(link);
 
-        return meetingRepository.save(meeting);
+        Meeting saved = meetingRepository.save(meeting);
+        changeStreamService.publishMeeting(ChangeType.MEETING_CREATED, saved);
+        return saved;
     }
 
     // ====== READ ======
@@ -136,8 +151,8 @@ public class MeetingService {
      * @return list of all meetings, empty if none exist
      */
     @Transactional(readOnly = true)
-    public Page<Meeting> getAllMeetings(Pageable pageable) {
-        return meetingRepository.findAll(pageable);
+    public Page<MeetingView> getAllMeetings(Pageable pageable) {
+        return meetingRepository.findAllViews(pageable);
     }
 
     /**
@@ -155,8 +170,8 @@ public class MeetingService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Meeting> getMeetingsForClub(Club club, Pageable pageable) {
-        return meetingRepository.findAllByClub(club, pageable);
+    public Page<MeetingView> getMeetingsForClub(Club club, Pageable pageable) {
+        return meetingRepository.findViewsByClub(club, pageable);
     }
 
     /**
@@ -205,6 +220,18 @@ public class MeetingService {
         return meetingRepository.findByClubAndStartTimeAfterOrderByStartTimeAsc(club, LocalDateTime.now());
     }
 
+    /**
+     * Retrieves one page of upcoming meetings for a club.
+     *
+     * @param club the club whose upcoming meetings to retrieve
+     * @param pageable page request
+     * @return page of upcoming meetings ordered by start time
+     */
+    @Transactional(readOnly = true)
+    public Page<MeetingView> getUpcomingMeetings(Club club, Pageable pageable) {
+        return meetingRepository.findUpcomingViewsByClub(club, LocalDateTime.now(), pageable);
+    }
+
     /**
      * Retrieves all past meetings for a club.
      *
@@ -257,20 +284,55 @@ public class MeetingService {
      */
     @Transactional(readOnly = true)
     public java.util.Optional<Meeting> getNextMeeting(Club club) {
-        List<Meeting> upcoming = getUpcomingMeetings(club);
-        return upcoming.isEmpty() ? java.util.Optional.empty() : java.util.Optional.of(upcoming.getFirst());
+        return meetingRepository.findFirstByClubAndStartTimeAfterOrderByStartTimeAsc(club, LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<MeetingView> getMeetings(Club club, Pageable pageable) {
+        return meetingRepository.findViewsByClub(club, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Meeting> getMeetings(Club club, Pageable pageable) {
-        return meetingRepository.findAllByClub(club, pageable);
+    public Page<MeetingView> getMeetings(User user, Pageable pageable) {
+        return meetingRepository.findViewsForMember(user, pageable);
+    }
+
+    /**
+     * Retrieves the meetings of a user's clubs that changed after {@code since}, and every meeting of the clubs
+     * they joined after it.
+     */
+    @Transactional(readOnly = true)
+    public List<MeetingView> getMeetingsChangedSince(User user, LocalDateTime since) {
+        return meetingRepository.findViewsChangedForMember(user, since);
+    }
+
+    /**
+     * Retrieves one page of a club's meetings, most recently created first.
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size the requested page size, clamped to {@link CursorPage#MAX_SIZE}
+     * @throws MalformedDTOException if the cursor is not one this server issued
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MeetingView> getMeetingFeed(Club club, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor, FeedCursor.NEWEST);
+        int pageSize = CursorPage.size(size);
+        return CursorPage.of(meetingRepository.findFeedByClub(club, after.createdAt(), after.id(), Limit.of(pageSize + 1)),
+                pageSize, MeetingService::feedPosition);
     }
 
+    /**
+     * Retrieves one page of the meetings of every club the user belongs to, most recently created first.
+     *
+     * @see #getMeetingFeed(Club, String, int)
+     */
     @Transactional(readOnly = true)
-    public Page<Meeting> getMeetings(User user, Pageable pageable) {
-        UserRecord ur = UserService.convertUserToRecord(user);
-        if (ur.clubs().isEmpty()) return Page.empty(pageable);
-        return meetingRepository.findAllByClubIn(ur.clubs(), pageable);
+    public CursorPage<MeetingView> getMeetingFeed(User user, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor, FeedCursor.NEWEST);
+        int pageSize = CursorPage.size(size);
+        return CursorPage.of(meetingRepository.findFeedForMember(user, after.createdAt(), after.id(),
+                        Limit.of(pageSize + 1)),
+                pageSize, MeetingService::feedPosition);
     }
 
     /**
@@ -352,7 +414,7 @@ public class MeetingService {
         if (location != null) meeting.setLocation(location);
         if (link != null) meeting.setLink(link);
 
-        return meetingRepository.save(meeting);
+        return updateMeeting(meeting);
     }
 
     /**
@@ -365,7 +427,9 @@ public class MeetingService {
      */
     @Transactional
     public Meeting updateMeeting(Meeting meeting) {
-        return meetingRepository.save(meeting);
+        Meeting saved = meetingRepository.save(meeting);
+        changeStreamService.publishMeeting(ChangeType.MEETING_UPDATED, saved);
+        return saved;
     }
 
     /**
@@ -385,7 +449,7 @@ public class MeetingService {
         validateNoOverlap(meeting.getClub(), newStartTime, newEndTime, meetingID);
         meeting.setStartTime(newStartTime);
         meeting.setEndTime(newEndTime);
-        return meetingRepository.save(meeting);
+        return updateMeeting(meeting);
     }
 
     // ====== DELETE ======
@@ -394,7 +458,8 @@ public class MeetingService {
      * Deletes a meeting by its ID.
      *
      * <p><strong>Cascading Behavior:</strong> This method also deletes all associated
-     * attendee records and register entries to maintain data integrity.</p>
+     * attendee records and register entries to maintain data integrity, using set-based
+     * statements through {@link TeardownService}.</p>
      *
      * @param meetingID the ID of the meeting to delete
      * @throws EntityNotFoundException if no meeting with the given ID exists
@@ -402,29 +467,21 @@ public class MeetingService {
     @Transactional
     public void deleteMeeting(Long meetingID) {
         Meeting meeting = requireById(meetingID);
-
-        List<MeetingAttendee> attendees = meetingAttendeeService.findAllMeetingAttendances(meeting);
-        for (MeetingAttendee attendee : attendees) {
-            meetingAttendeeService.deleteMeetingAttendee(meeting, attendee.getUser());
-        }
-
-        meetingRepository.delete(meeting);
+        teardownService.deleteMeetings(List.of(meetingID));
+        changeStreamService.publishMeeting(ChangeType.MEETING_DELETED, meeting);
     }
 
     /**
      * Deletes all meetings for a specific club.
      *
      * <p>This is typically used when a club is being deleted. All associated
-     * attendee and register records are also cleaned up.</p>
+     * attendee and register records are also cleaned up, in one statement per table.</p>
      *
      * @param club the club whose meetings should be deleted
      */
     @Transactional
     public void deleteAllMeetingsForClub(Club club) {
-        List<Meeting> meetings = getMeetingsForClub(club);
-        for (Meeting meeting : meetings) {
-            deleteMeeting(meeting.getMeetingID());
-        }
+        deleteMeetings(getMeetingsForClub(club));
     }
 
     /**
@@ -437,10 +494,12 @@ public class MeetingService {
      */
     @Transactional
     public void deletePastMeetings(Club club) {
-        List<Meeting> pastMeetings = getPastMeetings(club);
-        for (Meeting meeting : pastMeetings) {
-            deleteMeeting(meeting.getMeetingID());
-        }
+        deleteMeetings(getPastMeetings(club));
+    }
+
+    private void deleteMeetings(List<Meeting> meetings) {
+        if (meetings.isEmpty()) return;
+        teardownService.deleteMeetings(meetings.stream().map(Meeting::getMeetingID).toList());
     }
 
     // ====== ATTENDEE MANAGEMENT ======
@@ -586,6 +645,17 @@ public class MeetingService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Counts upcoming meetings a user has RSVPed to.
+     *
+     * @param userID the user to query
+     * @return number of RSVPed meetings that have not started yet
+     */
+    @Transactional(readOnly = true)
+    public long countUpcomingMeetingsForUser(Long userID) {
+        return meetingAttendeeService.countUpcomingMeetingAttendances(userID);
+    }
+
     /**
      * Retrieves all meetings a user has RSVPed to with a specific status.
      *
@@ -649,4 +719,7 @@ public class MeetingService {
         }
     }
 
+    private static FeedCursor feedPosition(MeetingView meeting) {
+        return new FeedCursor(meeting.createdAt(), meeting.meetingID());
+    }
 }
@@ -1,19 +1,32 @@
 package com.litclub.Backend.service.middle;
 
+import com.litclub.Backend.construct.feed.CursorPage;
+import com.litclub.Backend.construct.event.ChangeType;
+import com.litclub.Backend.construct.feed.FeedCursor;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.construct.note.NoteWithReplies;
 import com.litclub.Backend.entity.Note;
 import com.litclub.Backend.entity.Reply;
 import com.litclub.Backend.entity.User;
 import com.litclub.Backend.exception.MalformedDTOException;
 import com.litclub.Backend.repository.NoteRepository;
 import com.litclub.Backend.repository.ReplyRepository;
+import com.litclub.Backend.repository.ReplyRepository.ReplyNode;
+import com.litclub.Backend.service.low.ChangeStreamService;
 import com.litclub.Backend.service.low.NoteService;
+import com.litclub.Backend.service.low.SearchIndexService;
+import com.litclub.Backend.service.low.SyncTombstoneService;
+import com.litclub.Backend.service.low.UserStatsService;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Middle-tier service managing reply creation, retrieval, and threading operations.
@@ -34,6 +47,10 @@ import java.util.List;
  *
  * <p><strong>Tier Position:</strong> Middle tier – depends only on low-tier repositories.</p>
  *
+ * <p><strong>Threads:</strong> whole threads are walked in the database with a recursive CTE
+ * ({@link ReplyRepository#findThreadNodes(Collection)}), so loading, counting or deleting a thread
+ * costs a fixed number of statements regardless of its size or depth.</p>
+ *
  * <p><strong>Note on Inheritance vs Composition:</strong> This service uses composition rather than
  * inheritance from {@link NoteService} because replies have distinct lifecycle and querying patterns.
  * The {@link Reply} entity already handles the inheritance relationship with {@link Note}.</p>
@@ -48,10 +65,23 @@ public class ReplyService {
 
     private final ReplyRepository replyRepository;
     private final NoteRepository noteRepository;
-
-    public ReplyService(ReplyRepository replyRepository, NoteRepository noteRepository) {
+    private final UserStatsService userStatsService;
+    private final SearchIndexService searchIndexService;
+    private final ChangeStreamService changeStreamService;
+    private final SyncTombstoneService syncTombstoneService;
+
+    public ReplyService(ReplyRepository replyRepository,
+                        NoteRepository noteRepository,
+                        UserStatsService userStatsService,
+                        SearchIndexService searchIndexService,
+                        ChangeStreamService changeStreamService,
+                        SyncTombstoneService syncTombstoneService) {
         this.replyRepository = replyRepository;
         this.noteRepository = noteRepository;
+        this.userStatsService = userStatsService;
+        this.searchIndexService = searchIndexService;
+        this.changeStreamService = changeStreamService;
+        this.syncTombstoneService = syncTombstoneService;
     }
 
     // ====== CREATE ======
@@ -90,7 +120,11 @@ public class ReplyService {
         reply.setParentNote(parentNote);
         reply.setContent(content);
 
-        return replyRepository.save(reply);
+        userStatsService.markDirty(user);
+        Reply saved = replyRepository.save(reply);
+        searchIndexService.indexNote(saved);
+        changeStreamService.publishReply(ChangeType.REPLY_CREATED, saved);
+        return saved;
     }
 
     // ====== READ ======
@@ -129,32 +163,107 @@ public class ReplyService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Reply> getRepliesForNote(Note parentNote, Pageable pageable) {
-        return replyRepository.findAllByParentNote(parentNote, pageable);
+    public Page<NoteView> getRepliesForNote(Note parentNote, Pageable pageable) {
+        return replyRepository.findViewsByParentNote(parentNote, pageable);
+    }
+
+    /**
+     * Retrieves one page of the direct replies to a note, oldest first.
+     *
+     * @param parentNote the note to fetch replies for (must be a valid entity)
+     * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size the requested page size, clamped to {@link CursorPage#MAX_SIZE}
+     * @throws MalformedDTOException if the cursor is not one this server issued
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NoteView> getReplyFeed(Note parentNote, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor, FeedCursor.OLDEST);
+        int pageSize = CursorPage.size(size);
+        return CursorPage.of(replyRepository.findFeedByParentNote(parentNote, after.createdAt(), after.id(),
+                        Limit.of(pageSize + 1)),
+                pageSize, reply -> new FeedCursor(reply.createdAt(), reply.noteID()));
     }
 
     /**
      * Retrieves the complete reply thread for a note, including nested replies.
      *
-     * <p>This method recursively fetches all replies and their replies, building
-     * a complete discussion tree. Be cautious with deeply nested threads as this
-     * may result in N+1 queries. For large threads, consider using a DTO with
-     * fetch joins.</p>
+     * <p>The thread is walked with one recursive query and the replies are then loaded
+     * with one fetch-joined query, independent of the thread's size or depth.</p>
      *
      * @param parentNote the root note to fetch the thread for
-     * @return list containing all replies in the thread (flat list, not tree structure)
+     * @return list containing all replies in the thread (flat list ordered by depth, not tree structure)
      */
     @Transactional(readOnly = true)
     public List<Reply> getReplyThread(Note parentNote) {
-        List<Reply> directReplies = getRepliesForNote(parentNote);
-        List<Reply> allReplies = new java.util.ArrayList<>(directReplies);
+        List<ReplyNode> nodes = replyRepository.findThreadNodes(List.of(parentNote.getNoteID()));
+        Map<Long, Reply> replies = loadReplies(nodes);
+
+        return nodes.stream()
+                .map(node -> replies.get(node.getNoteID()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Builds the nested reply tree for a note.
+     *
+     * @param note the root note
+     * @return the note with its replies nested beneath it
+     * @see #getNotesWithReplies(List)
+     */
+    @Transactional(readOnly = true)
+    public NoteWithReplies getNoteWithReplies(Note note) {
+        return getNotesWithReplies(List.of(note)).getFirst();
+    }
+
+    /**
+     * Builds the nested reply trees for several notes at once.
+     *
+     * <p>All threads are walked with a single recursive query and their replies loaded with a
+     * single fetch-joined query; the trees are then assembled in memory. Siblings are ordered by ID,
+     * i.e. by creation order.</p>
+     *
+     * @param notes the root notes
+     * @return one tree per note, in the order of {@code notes}
+     */
+    @Transactional(readOnly = true)
+    public List<NoteWithReplies> getNotesWithReplies(List<Note> notes) {
+        if (notes.isEmpty()) return List.of();
+
+        List<Long> rootIDs = notes.stream().map(Note::getNoteID).toList();
+        List<ReplyNode> nodes = replyRepository.findThreadNodes(rootIDs);
+        Map<Long, Reply> replies = loadReplies(nodes);
+
+        Map<Long, List<Reply>> children = new HashMap<>();
+        for (ReplyNode node : nodes) {
+            Reply reply = replies.get(node.getNoteID());
+            if (reply != null) {
+                children.computeIfAbsent(node.getParentNoteID(), id -> new ArrayList<>()).add(reply);
+            }
+        }
+
+        return notes.stream()
+                .map(note -> buildTree(note, children))
+                .toList();
+    }
 
-        // Recursively fetch replies to replies
-        for (Reply reply : directReplies) {
-            allReplies.addAll(getReplyThread(reply));
+    private static NoteWithReplies buildTree(Note note, Map<Long, List<Reply>> children) {
+        List<NoteWithReplies> replies = new ArrayList<>();
+        int replyCount = 0;
+        for (Reply child : children.getOrDefault(note.getNoteID(), List.of())) {
+            NoteWithReplies subtree = buildTree(child, children);
+            replies.add(subtree);
+            replyCount += 1 + subtree.replyCount();
         }
+        return new NoteWithReplies(note, replies, replyCount);
+    }
+
+    private Map<Long, Reply> loadReplies(List<ReplyNode> nodes) {
+        if (nodes.isEmpty()) return Map.of();
 
-        return allReplies;
+        List<Long> noteIDs = nodes.stream().map(ReplyNode::getNoteID).toList();
+        return replyRepository.findAllWithAuthorByNoteIDIn(noteIDs).stream()
+                .collect(Collectors.toMap(Reply::getNoteID, Function.identity()));
     }
 
     /**
@@ -194,7 +303,7 @@ public class ReplyService {
      */
     @Transactional(readOnly = true)
     public int getReplyCount(Note parentNote) {
-        return getReplyThread(parentNote).size();
+        return Math.toIntExact(replyRepository.countThread(parentNote.getNoteID()));
     }
 
     /**
@@ -262,7 +371,10 @@ public class ReplyService {
 
         Reply reply = getReplyById(replyID);
         reply.setContent(newContent);
-        return replyRepository.save(reply);
+        Reply saved = replyRepository.save(reply);
+        searchIndexService.indexNote(saved);
+        changeStreamService.publishReply(ChangeType.REPLY_UPDATED, saved);
+        return saved;
     }
 
     // ====== DELETE ======
@@ -280,17 +392,20 @@ public class ReplyService {
      */
     @Transactional
     public void deleteReply(Long replyID) {
-        if (!replyRepository.existsById(replyID)) {
-            throw new EntityNotFoundException("Reply with ID " + replyID + " not found");
-        }
-        replyRepository.deleteById(replyID);
+        Reply reply = getReplyById(replyID);
+        syncTombstoneService.recordNotes(List.of(replyID));
+        replyRepository.delete(reply);
+        userStatsService.markDirty(reply.getUser());
+        searchIndexService.removeReplies(List.of(replyID));
+        changeStreamService.publishRepliesDeleted(reply, List.of(replyID));
     }
 
     /**
-     * Deletes a reply and all its nested children recursively.
+     * Deletes a reply and all its nested children.
      *
      * <p>This method ensures complete cleanup of reply threads without leaving
-     * orphaned nested replies.</p>
+     * orphaned nested replies. The subtree is resolved with one recursive query and
+     * removed with set-based deletes.</p>
      *
      * @param replyID the ID of the reply to delete
      * @throws EntityNotFoundException if no reply with the given ID exists
@@ -299,58 +414,84 @@ public class ReplyService {
     public void deleteReplyAndChildren(Long replyID) {
         Reply reply = getReplyById(replyID);
 
-        // Recursively delete all child replies first
-        List<Reply> children = getRepliesForNote(reply);
-        for (Reply child : children) {
-            deleteReplyAndChildren(child.getNoteID());
-        }
+        List<ReplyNode> nodes = replyRepository.findThreadNodes(List.of(replyID));
+        Set<Long> noteIDs = new LinkedHashSet<>();
+        Set<Long> userIDs = new HashSet<>();
+        noteIDs.add(replyID);
+        userIDs.add(reply.getUser().getUserID());
+        collect(nodes, noteIDs, userIDs);
 
-        // Delete the reply itself
-        replyRepository.deleteById(replyID);
+        deleteAll(noteIDs, userIDs);
+        changeStreamService.publishRepliesDeleted(reply, noteIDs);
     }
 
     /**
      * Deletes all direct replies to a specific note.
      *
-     * <p><strong>Warning:</strong> This does not recursively delete nested replies.
-     * Use {@link #deleteReplyThreadForNote(Note)} for complete thread cleanup.</p>
+     * <p>Replies nested below them are deleted as well, since a reply cannot outlive its parent;
+     * this is therefore the same as {@link #deleteReplyThreadForNote(Note)}.</p>
      *
      * @param parentNote the note whose direct replies should be deleted
      */
     @Transactional
     public void deleteRepliesForNote(Note parentNote) {
-        List<Reply> replies = getRepliesForNote(parentNote);
-        replyRepository.deleteAll(replies);
+        deleteReplyThreadForNote(parentNote);
     }
 
     /**
      * Deletes all replies in a thread, including nested replies.
      *
-     * <p>This method recursively deletes the entire reply tree under a note,
+     * <p>This method deletes the entire reply tree under a note with set-based deletes,
      * ensuring complete cleanup of the discussion thread.</p>
      *
      * @param parentNote the root note whose entire reply thread should be deleted
      */
     @Transactional
     public void deleteReplyThreadForNote(Note parentNote) {
-        List<Reply> directReplies = getRepliesForNote(parentNote);
+        List<ReplyNode> nodes = replyRepository.findThreadNodes(List.of(parentNote.getNoteID()));
+        if (nodes.isEmpty()) return;
 
-        for (Reply reply : directReplies) {
-            deleteReplyAndChildren(reply.getNoteID());
-        }
+        Set<Long> noteIDs = new LinkedHashSet<>();
+        Set<Long> userIDs = new HashSet<>();
+        collect(nodes, noteIDs, userIDs);
+
+        deleteAll(noteIDs, userIDs);
     }
 
     /**
      * Deletes all replies created by a specific user across all notes.
      *
-     * <p><strong>Cascading Behavior:</strong> If deleted replies have children,
-     * those children may become orphaned. Consider your entity cascade configuration.</p>
+     * <p>Replies by other users nested below them are deleted as well. The replies and their
+     * subtrees are resolved with one recursive query and removed with set-based deletes.</p>
      *
      * @param user the user whose replies should be deleted
      */
     @Transactional
     public void purgeUserReplies(User user) {
-        List<Reply> replies = getRepliesByUser(user);
-        replyRepository.deleteAll(replies);
+        List<Long> replyIDs = replyRepository.findNoteIDsByUser(user);
+        if (replyIDs.isEmpty()) return;
+
+        Set<Long> noteIDs = new LinkedHashSet<>(replyIDs);
+        Set<Long> userIDs = new HashSet<>();
+        userIDs.add(user.getUserID());
+        collect(replyRepository.findThreadNodes(replyIDs), noteIDs, userIDs);
+
+        deleteAll(noteIDs, userIDs);
+    }
+
+    // ------ Utility ------
+    private static void collect(List<ReplyNode> nodes, Set<Long> noteIDs, Set<Long> userIDs) {
+        for (ReplyNode node : nodes) {
+            noteIDs.add(node.getNoteID());
+            userIDs.add(node.getUserID());
+        }
+    }
+
+    private void deleteAll(Collection<Long> noteIDs, Collection<Long> userIDs) {
+        syncTombstoneService.recordNotes(noteIDs);
+        replyRepository.deleteReplyRows(noteIDs);
+        replyRepository.deleteNoteRows(noteIDs);
+        userIDs.forEach(userStatsService::markDirty);
+        searchIndexService.removeReplies(noteIDs);
     }
 }
\ No newline at end of file
@@ -10,10 +10,12 @@ import com.litclub.Backend.exception.CredentialsAlreadyTakenException;
 import com.litclub.Backend.exception.UserNotFoundException;
 import com.litclub.Backend.repository.UserRepository;
 import com.litclub.Backend.security.roles.GlobalRole;
+import com.litclub.Backend.security.userdetails.PrincipalCache;
 import com.litclub.Backend.service.low.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -50,6 +52,7 @@ import java.util.stream.Collectors;
  *   <li>{@link ReviewService} - Book review operations</li>
  *   <li>{@link MeetingAttendeeService} - Meeting RSVP management</li>
  *   <li>{@link MeetingRegisterService} - Attendance tracking</li>
+ *   <li>{@link UserRecordService} - Batched {@link UserRecord} assembly</li>
  * </ul>
  *
  * @see User
@@ -72,6 +75,10 @@ public class UserService {
     private final ReviewService reviewService;
     private final MeetingAttendeeService meetingAttendeeService;
     private final MeetingRegisterService meetingRegisterService;
+    private final PrincipalCache principalCache;
+    private final UserRecordService userRecordService;
+    private final UserStatsService userStatsService;
+    private final TeardownService teardownService;
 
     @Autowired
     public UserService(UserRepository userRepository,
@@ -81,7 +88,11 @@ public class UserService {
                        DiscussionPromptService discussionPromptService,
                        ReviewService reviewService,
                        MeetingAttendeeService meetingAttendeeService,
-                       MeetingRegisterService meetingRegisterService) {
+                       MeetingRegisterService meetingRegisterService,
+                       PrincipalCache principalCache,
+                       UserRecordService userRecordService,
+                       UserStatsService userStatsService,
+                       TeardownService teardownService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.clubMembershipService = clubMembershipService;
@@ -90,6 +101,10 @@ public class UserService {
         this.reviewService = reviewService;
         this.meetingAttendeeService = meetingAttendeeService;
         this.meetingRegisterService = meetingRegisterService;
+        this.principalCache = principalCache;
+        this.userRecordService = userRecordService;
+        this.userStatsService = userStatsService;
+        this.teardownService = teardownService;
     }
 
     // ====== AUTHENTICATION =====
@@ -204,6 +219,16 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * Retrieves all users in the system as {@link UserRecord}s with a constant number of queries.
+     *
+     * @return records for all users, empty if none exist
+     */
+    @Transactional(readOnly = true)
+    public List<UserRecord> getAllUserRecords() {
+        return userRecordService.getAllUserRecords();
+    }
+
     /**
      * Retrieves a user by username.
      *
@@ -299,6 +324,46 @@ public class UserService {
         return clubMembershipService.getClubsForUser(user);
     }
 
+    /**
+     * Retrieves every member of a club as {@link UserRecord}s with a constant number of queries.
+     *
+     * @param club the club (must be a valid entity)
+     * @return records for all members of the club
+     */
+    @Transactional(readOnly = true)
+    public List<UserRecord> getMemberRecordsForClub(Club club) {
+        return userRecordService.getMemberRecords(club);
+    }
+
+    /**
+     * Retrieves one page of a club's members as {@link UserRecord}s.
+     *
+     * <p>The page is cut in the database and the members' clubs are loaded in a single
+     * follow-up query, so the cost does not grow with the size of the club.</p>
+     *
+     * @param club the club (must be a valid entity)
+     * @param pageable page request; sort properties refer to {@link User} fields
+     * @return the requested page of member records
+     */
+    @Transactional(readOnly = true)
+    public Page<UserRecord> getMemberRecordsForClub(Club club, Pageable pageable) {
+        return convertUserPageToRecordPage(clubMembershipService.getUsersForClub(club, pageable));
+    }
+
+    /**
+     * Retrieves one page of a club's members, most recently joined first, as {@link UserRecord}s.
+     *
+     * @param club the club (must be a valid entity)
+     * @param pageable page request; its sort is ignored
+     * @return the requested page of member records
+     */
+    @Transactional(readOnly = true)
+    public Page<UserRecord> getRecentMemberRecordsForClub(Club club, Pageable pageable) {
+        return convertUserPageToRecordPage(clubMembershipService.getRecentUsersForClub(
+                club, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        ));
+    }
+
     /**
      * Retrieves all club memberships for a user.
      *
@@ -333,6 +398,19 @@ public class UserService {
 
     // ===== BOOKS (UserBooksService) =====
 
+    /**
+     * Retrieves one page of a book's readers as {@link UserRecord}s.
+     *
+     * @param book the book (must be a valid entity)
+     * @param pageable page request; sort properties refer to {@link User} fields
+     * @return the requested page of reader records
+     * @see #getMemberRecordsForClub(Club, Pageable)
+     */
+    @Transactional(readOnly = true)
+    public Page<UserRecord> getReaderRecordsForBook(Book book, Pageable pageable) {
+        return convertUserPageToRecordPage(userBooksService.getUsersForBook(book, pageable));
+    }
+
     /**
      * Retrieves all books in the user's personal library.
      *
@@ -563,13 +641,14 @@ public class UserService {
      *
      * @param userID the user ID
      * @param query the search text
-     * @return list of matching reviews
+     * @param pageable the page of matches to return
+     * @return one page of matching reviews, best match first
      * @throws UserNotFoundException if the user does not exist
      */
     @Transactional(readOnly = true)
-    public List<Review> searchUserReviews(Long userID, String query) {
+    public Page<Review> searchUserReviews(Long userID, String query, Pageable pageable) {
         User user = requireUserById(userID);
-        return reviewService.searchUserReviews(user, query);
+        return reviewService.searchUserReviews(user, query, pageable);
     }
 
     /**
@@ -768,6 +847,7 @@ public class UserService {
     @Transactional
     public UserRecord updateUser(Long userID, UserRegistrationRecord userRecord) {
         User userToUpdate = requireUserById(userID);
+        principalCache.evict(userToUpdate.getUsername());
 
         if (userRecord.username() != null) userToUpdate.setUsername(userRecord.username());
         if (userRecord.firstName() != null) userToUpdate.setFirstName(userRecord.firstName());
@@ -784,6 +864,7 @@ public class UserService {
     @Transactional
     public UserRecord updateUser(User user) {
         userRepository.save(user);
+        principalCache.evict(user.getUsername());
         return convertUserToRecord(user);
     }
 
@@ -792,61 +873,63 @@ public class UserService {
     /**
      * Deletes a user account by username or email.
      *
-     * <p>This operation cascades to related entities based on JPA cascade rules.
-     * Ensure proper cascade configuration on relationships to avoid orphaned data.</p>
+     * <p>Same as {@link #deleteUser(Long)}.</p>
      *
      * @param identifier either the username or email of the user
      * @throws UserNotFoundException if the user could not be found
      */
     @Transactional
     public void deleteUser(String identifier) {
-        User user = requireUserByIdentifier(identifier);
-        userRepository.delete(user);
+        deleteUser(requireUserByIdentifier(identifier).getUserID());
     }
 
     /**
-     * Deletes a user account by ID.
+     * Deletes a user account by ID, together with everything the user owns.
+     *
+     * <p>The removal is done with set-based statements by {@link TeardownService#deleteUser(Long)},
+     * which also describes what is removed, what is kept and what happens to clubs the user created.</p>
      *
      * @param userID the user ID
      * @throws UserNotFoundException if the user does not exist
      */
     @Transactional
     public void deleteUser(Long userID) {
-        User user = requireUserById(userID);
-        userRepository.delete(user);
+        requireUserById(userID);
+        teardownService.deleteUser(userID);
     }
 
     /**
      * Performs a complete cleanup of all user-related data before deletion.
      *
-     * <p>This method explicitly deletes all relationships managed by low-tier services
-     * to ensure clean data removal. Use this instead of {@link #deleteUser(Long)} when
-     * you want explicit control over cascading deletions.</p>
+     * <p>Kept for callers predating the set-based teardown; {@link #deleteUser(Long)} now removes
+     * every related row itself.</p>
      *
      * @param userID the user ID
      * @throws UserNotFoundException if the user does not exist
      */
     @Transactional
     public void deleteUserWithCleanup(Long userID) {
-        User user = requireUserById(userID);
-
-        // Clean up all discussion prompts
-        discussionPromptService.purgeUserPrompts(user);
-
-        // Clean up all reviews
-        reviewService.purgeUserReviews(user);
-
-        // Clean up meeting attendance records
-        // MeetingRegisterService doesn't have a purge method, so we delete individually
-        List<MeetingRegister> attendanceRecords = meetingRegisterService.findAll(user);
-        // Note: You might want to add a purgeUserAttendance method to MeetingRegisterService
-
-        // Finally, delete the user (cascades will handle club memberships and user books)
-        userRepository.delete(user);
+        deleteUser(userID);
     }
 
     // ===== STATISTICS & ANALYTICS =====
 
+    /**
+     * Reads the user's materialized {@link UserStats} row.
+     *
+     * <p>The row is maintained as the user's activity changes, so this is a single-row read;
+     * it is computed on the spot only if it does not exist yet.</p>
+     *
+     * @param userID the user ID
+     * @return the user's statistics
+     * @throws UserNotFoundException if the user does not exist
+     */
+    @Transactional
+    public UserStats getUserStats(Long userID) {
+        return userStatsService.getStats(userID)
+                .orElseThrow(() -> new UserNotFoundException("userID", String.valueOf(userID)));
+    }
+
     /**
      * Calculates the user's average book rating across all reviews.
      *
@@ -856,13 +939,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public double getAverageRating(Long userID) {
-        List<Review> reviews = getReviewsForUser(userID);
-        if (reviews.isEmpty()) return 0.0;
-
-        return reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
+        return reviewService.getAverageRating(requireUserById(userID));
     }
 
     /**
@@ -948,26 +1025,42 @@ public class UserService {
         return getMeetingRSVPsForUser(userID).size();
     }
 
+    /**
+     * Recomputes every user's {@link UserStats} row from the source tables.
+     *
+     * <p>Rows are normally kept current as activity changes; this repairs drift and backfills
+     * rows for users created before the read model existed.</p>
+     *
+     * @return the number of users whose rows were rebuilt
+     */
+    @Transactional
+    public int rebuildUserStats() {
+        return userStatsService.rebuildAll();
+    }
+
     /**
      * Gets a complete user activity summary.
      *
+     * <p>All values come from the user's {@link UserStats} row.</p>
+     *
      * @param userID the user ID
      * @return map containing various activity counts
      * @throws UserNotFoundException if the user does not exist
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public Map<String, Object> getUserActivitySummary(Long userID) {
+        UserStats stats = getUserStats(userID);
         Map<String, Object> summary = new HashMap<>();
 
-        summary.put("totalClubs", getClubsForUser(userID).size());
-        summary.put("totalBooks", countBooksInLibrary(userID));
-        summary.put("readingStatusBreakdown", getReadingStatusBreakdown(userID));
-        summary.put("totalReviews", countReviews(userID));
-        summary.put("averageRating", getAverageRating(userID));
-        summary.put("totalPrompts", countDiscussionPrompts(userID));
-        summary.put("totalRSVPs", countMeetingRSVPs(userID));
-        summary.put("meetingsAttended", countMeetingsAttended(userID));
-        summary.put("lateArrivals", countLateArrivals(userID));
+        summary.put("totalClubs", Math.toIntExact(stats.getClubs()));
+        summary.put("totalBooks", stats.getTotalBooks());
+        summary.put("readingStatusBreakdown", stats.getReadingStatusBreakdown());
+        summary.put("totalReviews", stats.getReviews());
+        summary.put("averageRating", stats.getAverageRating());
+        summary.put("totalPrompts", stats.getPrompts());
+        summary.put("totalRSVPs", stats.getRsvps());
+        summary.put("meetingsAttended", stats.getMeetingsAttended());
+        summary.put("lateArrivals", stats.getLateArrivals());
 
         return summary;
     }
@@ -978,7 +1071,8 @@ public class UserService {
      * Converts a {@link User} entity to a {@link UserRecord} DTO.
      *
      * <p>This method eagerly loads the user's club memberships to populate
-     * the record. Use sparingly in performance-critical paths.</p>
+     * the record. Use sparingly in performance-critical paths; to convert
+     * more than one user use {@link #convertUsersToRecords(Collection)}.</p>
      *
      * @param user the user entity to convert
      * @return the corresponding {@link UserRecord}
@@ -994,20 +1088,39 @@ public class UserService {
         );
     }
 
-    public static Page<UserRecord> convertUserListToRecordPage(List<User> users, Pageable pageable) {
-        List<UserRecord> userRecords = users
-                .stream()
-                .map(UserService::convertUserToRecord)
-                .toList();
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), userRecords.size());
+    /**
+     * Converts a page of {@link User}s to {@link UserRecord}s.
+     *
+     * <p>Clubs for every user on the page are loaded with one set-based query instead of
+     * walking each user's lazy memberships.</p>
+     *
+     * @see UserRecordService
+     *
+     * @param users the page of users
+     * @return the same page mapped to records
+     */
+    @Transactional(readOnly = true)
+    public Page<UserRecord> convertUserPageToRecordPage(Page<User> users) {
         return new PageImpl<>(
-                userRecords.subList(start, end),
-                pageable,
-                userRecords.size()
+                userRecordService.toUserRecords(users.getContent()),
+                users.getPageable(),
+                users.getTotalElements()
         );
     }
 
+    /**
+     * Converts several {@link User}s to {@link UserRecord}s with a constant number of queries.
+     *
+     * <p>Prefer this over mapping {@link #convertUserToRecord(User)} across a collection.</p>
+     *
+     * @param users the users to convert
+     * @return one record per distinct user, in input order
+     * @see UserRecordService#toUserRecords(Collection)
+     */
+    public List<UserRecord> convertUsersToRecords(Collection<User> users) {
+        return userRecordService.toUserRecords(users);
+    }
+
     /**
      * Returns all clubs the user is a member of.
      *
@@ -1,15 +1,21 @@
 package com.litclub.Backend.service.top.facilitator;
 
 import com.litclub.Backend.construct.club.*;
+import com.litclub.Backend.construct.meeting.MeetingView;
+import com.litclub.Backend.construct.user.UserRecord;
 import com.litclub.Backend.entity.*;
 import com.litclub.Backend.service.low.ClubBookService;
+import com.litclub.Backend.repository.ClubStatisticsRepository.ClubCounts;
 import com.litclub.Backend.service.low.ClubMembershipService;
+import com.litclub.Backend.service.low.ClubStatisticsService;
 import com.litclub.Backend.service.low.DiscussionPromptService;
 import com.litclub.Backend.service.low.NoteService;
 import com.litclub.Backend.service.middle.BookService;
 import com.litclub.Backend.service.middle.ClubService;
 import com.litclub.Backend.service.middle.MeetingService;
 import com.litclub.Backend.service.middle.UserService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +24,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ClubActivityService {
@@ -30,6 +39,7 @@ public class ClubActivityService {
     private final ClubMembershipService membershipService;
     private final BookService bookService;
     private final ClubBookService clubBookService;
+    private final ClubStatisticsService clubStatisticsService;
 
     public ClubActivityService(
             ClubService clubService,
@@ -37,7 +47,8 @@ public class ClubActivityService {
             MeetingService meetingService,
             DiscussionPromptService promptService,
             NoteService noteService,
-            ClubMembershipService membershipService, BookService bookService, ClubBookService clubBookService) {
+            ClubMembershipService membershipService, BookService bookService, ClubBookService clubBookService,
+            ClubStatisticsService clubStatisticsService) {
         this.clubService = clubService;
         this.userService = userService;
         this.meetingService = meetingService;
@@ -46,6 +57,7 @@ public class ClubActivityService {
         this.membershipService = membershipService;
         this.bookService = bookService;
         this.clubBookService = clubBookService;
+        this.clubStatisticsService = clubStatisticsService;
     }
 
     // ====== CLUB OVERVIEW ======
@@ -73,22 +85,29 @@ public class ClubActivityService {
         );
     }
 
+    /**
+     * Builds the club dashboard.
+     *
+     * <p>Counts come from a single aggregate query and the member list is a bounded page of the most
+     * recently joined members, so the cost does not grow with the amount of club activity.</p>
+     *
+     * @param clubID the club
+     * @param members page request for {@link ClubDashboard#recentlyActive()}
+     * @return the dashboard
+     */
     @Transactional(readOnly = true)
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID) or @userSecurity.isAdmin(authentication)")
-    public ClubDashboard getClubDashboard(Long clubID) {
+    public ClubDashboard getClubDashboard(Long clubID, Pageable members) {
         Club club = clubService.requireClubById(clubID);
-
-        ClubActivityReport activityReport = getClubActivity(club.getClubID());
+        ClubCounts counts = clubStatisticsService.getCounts(club);
 
         return new ClubDashboard(
-                activityReport.club(),
-                activityReport.totalMembers(),
-                activityReport.upcomingMeetings().size(),
-                activityReport.activePrompts().size(),
-                clubService.getUsersForClub(club).stream().map(UserService::convertUserToRecord).toList(),
-                activityReport.upcomingMeetings()
-                        .stream().min(Comparator.comparing(Meeting::getStartTime))
-                        .orElse(null)
+                clubService.convertClubToSummaryDTO(club),
+                Math.toIntExact(counts.getMembers()),
+                Math.toIntExact(counts.getUpcomingMeetings()),
+                Math.toIntExact(counts.getPrompts()),
+                userService.getRecentMemberRecordsForClub(club, members).getContent(),
+                meetingService.getNextMeeting(club).orElse(null)
         );
     }
 
@@ -113,11 +132,13 @@ public class ClubActivityService {
     public List<MemberParticipation> getMemberParticipations(Long clubID) {
         Club club = clubService.requireClubById(clubID);
         List<User> users = clubService.getUsersForClub(club);
+        Map<Long, UserRecord> records = userService.convertUsersToRecords(users).stream()
+                .collect(Collectors.toMap(UserRecord::userID, Function.identity(), (first, second) -> first));
         List<MemberParticipation> memberParticipations = new ArrayList<>();
         for (User user : users) {
             memberParticipations.add(
                     new MemberParticipation(
-                            UserService.convertUserToRecord(user),
+                            records.get(user.getUserID()),
                             meetingService.getMeetings(user, club).size(),
                             noteService.getAllNotes(user).size(),
                             promptService.findAllByPoster(user).size(),
@@ -134,6 +155,12 @@ public class ClubActivityService {
         return filterUpcomingMeetings(meetings);
     }
 
+    @Transactional(readOnly = true)
+    @PreAuthorize("@clubSecurity.isMember(authentication, #clubID) or @userSecurity.isAdmin(authentication)")
+    public Page<MeetingView> getUpcomingMeetings(Long clubID, Pageable pageable) {
+        return meetingService.getUpcomingMeetings(clubService.requireClubById(clubID), pageable);
+    }
+
     @Transactional(readOnly = true)
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID) or @userSecurity.isAdmin(authentication)")
     public List<DiscussionPrompt> getDiscussionPrompts(Long clubID) {
@@ -153,13 +180,14 @@ public class ClubActivityService {
     @PreAuthorize("@clubSecurity.isMember(authentication, #clubID) or @userSecurity.isAdmin(authentication)")
     public ClubStatistics getClubStatistics(Long clubID) {
         Club club = clubService.requireClubById(clubID);
+        ClubCounts counts = clubStatisticsService.getCounts(club);
         return new ClubStatistics(
                 clubID,
-                clubService.getUsersForClub(club).size(),
-                meetingService.getMeetingsForClub(club).size(),
-                promptService.findAllPromptsByClub(club).size(),
-                noteService.getAllNotes(club).size(),
-                bookService.getBooksByUser(clubService.getClubOwners(clubID).getFirst()).size(),
+                Math.toIntExact(counts.getMembers()),
+                Math.toIntExact(counts.getMeetings()),
+                Math.toIntExact(counts.getPrompts()),
+                Math.toIntExact(counts.getNotes()),
+                Math.toIntExact(counts.getOwnerBooks()),
                 -1
         );
     }
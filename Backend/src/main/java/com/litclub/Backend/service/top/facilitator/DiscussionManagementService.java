@@ -177,13 +177,7 @@ public class DiscussionManagementService {
     @Transactional
     public NoteWithReplies getNoteWithReplies(long noteID) {
         Note note = noteService.getNoteById(noteID);
-        List<Reply> replies = getRepliesForNote(noteID);
-
-        return new NoteWithReplies(
-                note,
-                replies,
-                replies.size()
-        );
+        return replyService.getNoteWithReplies(note);
     }
 
     @Transactional
@@ -191,12 +185,10 @@ public class DiscussionManagementService {
         DiscussionPrompt prompt = promptService.findPromptById(promptID);
         List<Note> notes = noteService.getAllNotes(prompt);
 
-        List<NoteWithReplies> notesWithReplies = notes.stream()
-                .map(note -> getNoteWithReplies(note.getNoteID()))
-                .toList();
+        List<NoteWithReplies> notesWithReplies = replyService.getNotesWithReplies(notes);
 
         int totalReplies = notesWithReplies.stream()
-                .mapToInt(nwr -> nwr.replies().size())
+                .mapToInt(NoteWithReplies::replyCount)
                 .sum();
 
         return new DiscussionThread(
@@ -15,11 +15,16 @@ import com.litclub.Backend.service.low.ReviewService;
 import com.litclub.Backend.service.low.UserBooksService;
 import com.litclub.Backend.service.middle.BookService;
 import com.litclub.Backend.service.middle.UserService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class LibraryManagementService {
@@ -42,33 +47,26 @@ public class LibraryManagementService {
     }
 
     // ====== LIBRARY MANAGEMENT ======
-    @Transactional
+    @Transactional(readOnly = true)
     @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
     public UserLibrary getUserLibrary(Long userID){
         User user = userService.requireUserById(userID);
-        List<Book> books = bookService.getBooksByUser(user);
+        List<UserBook> libraryItems = userBooksService.getLibrary(user);
         List<Review> reviews = reviewService.getReviews(user);
 
-        return new UserLibrary(
-                UserService.convertUserToRecord(user),
-                books.stream()
-                        .map(book -> convertBookToBookWithStatus(book, user))
-                        .filter(bws -> bws.status().equals(BookStatus.READING))
-                        .toList(),
-                books.stream()
-                        .map(book -> convertBookToBookWithStatus(book, user))
-                        .filter(bws -> bws.status().equals(BookStatus.WANT_TO_READ))
-                        .toList(),
-                books.stream()
-                        .map(book -> convertBookToBookWithStatus(book, user))
-                        .filter(bws -> bws.status().equals(BookStatus.READ))
-                        .toList(),
-                books.stream()
-                        .map(book -> convertBookToBookWithStatus(book, user))
-                        .filter(bws -> bws.status().equals(BookStatus.DNF))
-                        .toList(),
-                reviews
-        );
+        return assembleLibrary(user, libraryItems, reviews);
+    }
+
+    /**
+     * Returns one page of a single shelf (reading status) of the user's library, so clients can load
+     * large libraries incrementally.
+     */
+    @Transactional(readOnly = true)
+    @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
+    public Page<BookWithStatus> getUserLibraryShelf(Long userID, BookStatus status, Pageable pageable) {
+        User user = userService.requireUserById(userID);
+        return userBooksService.getShelf(user, status, pageable)
+                .map(LibraryManagementService::convertUserBookToBookWithStatus);
     }
 
     @Transactional
@@ -120,6 +118,37 @@ public class LibraryManagementService {
     }
 
     // ------ UTILITY ------
+    /** Sorts library entries onto their shelves in a single pass; entries without a status are left out. */
+    private static UserLibrary assembleLibrary(User user, List<UserBook> libraryItems, List<Review> reviews) {
+        Map<BookStatus, List<BookWithStatus>> shelves = new EnumMap<>(BookStatus.class);
+        for (BookStatus status : BookStatus.values()) {
+            shelves.put(status, new ArrayList<>());
+        }
+        for (UserBook libraryItem : libraryItems) {
+            if (libraryItem.getStatus() == null) continue;
+            shelves.get(libraryItem.getStatus()).add(convertUserBookToBookWithStatus(libraryItem));
+        }
+
+        return new UserLibrary(
+                UserService.convertUserToRecord(user),
+                shelves.get(BookStatus.READING),
+                shelves.get(BookStatus.WANT_TO_READ),
+                shelves.get(BookStatus.READ),
+                shelves.get(BookStatus.DNF),
+                reviews
+        );
+    }
+
+    static BookWithStatus convertUserBookToBookWithStatus(UserBook libraryItem) {
+        return new BookWithStatus(
+                libraryItem.getBook(),
+                libraryItem.getStatus(),
+                libraryItem.getRating(),
+                libraryItem.getDateStarted(),
+                libraryItem.getDateFinished()
+        );
+    }
+
     private BookWithStatus convertBookToBookWithStatus(Book book, User user){
         UserBook libraryItem = userBooksService.getUserBookByUserAndBook(user,book);
         return new BookWithStatus(
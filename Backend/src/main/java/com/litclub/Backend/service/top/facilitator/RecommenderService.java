@@ -2,25 +2,52 @@ package com.litclub.Backend.service.top.facilitator;
 
 import com.litclub.Backend.entity.Book;
 import com.litclub.Backend.entity.User;
+import com.litclub.Backend.repository.BookRepository;
 import com.litclub.Backend.repository.UserBooksRepository;
+import com.litclub.Backend.service.low.BookNeighbourService;
+import com.litclub.Backend.service.low.SearchIndexService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * Recommends books to a user.
+ *
+ * <p>Recommendations come from the precomputed neighbours of the books in the user's library (see
+ * {@link BookNeighbourService}), so a request costs a few indexed lookups however large the clubs are. Users
+ * whose library has no neighbours yet (new users, or before the first rebuild) get the books most common among
+ * their fellow club members instead. Either way, books already in the user's library are never recommended.</p>
+ */
 @Service
 public class RecommenderService {
 
     private final UserBooksRepository userBooksRepository;
+    private final BookRepository bookRepository;
+    private final BookNeighbourService bookNeighbourService;
 
     public RecommenderService(
-            UserBooksRepository userBooksRepository
+            UserBooksRepository userBooksRepository,
+            BookRepository bookRepository,
+            BookNeighbourService bookNeighbourService
     ) {
         this.userBooksRepository = userBooksRepository;
+        this.bookRepository = bookRepository;
+        this.bookNeighbourService = bookNeighbourService;
     }
 
     @Transactional(readOnly = true)
     public Page<Book> findRecommendedBooks(User user, Pageable pageable) {
-        return userBooksRepository.findRecommendedBooks(user, pageable);
+        Page<Long> bookIDs = bookNeighbourService.getRecommendedBookIDs(user, pageable);
+        if (bookIDs.getTotalElements() == 0) {
+            return userBooksRepository.findRecommendedBooks(user, pageable);
+        }
+
+        List<Book> books = SearchIndexService.inRankOrder(
+                bookRepository.findAllById(bookIDs.getContent()), bookIDs.getContent(), Book::getBookID);
+        return new PageImpl<>(books, bookIDs.getPageable(), bookIDs.getTotalElements());
     }
 }
@@ -0,0 +1,120 @@
+package com.litclub.Backend.service.top.facilitator;
+
+import com.litclub.Backend.construct.feed.FeedCursor;
+import com.litclub.Backend.construct.library.BookWithStatus;
+import com.litclub.Backend.construct.meeting.MeetingView;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.construct.review.ReviewView;
+import com.litclub.Backend.construct.sync.*;
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.service.low.ClubMembershipService;
+import com.litclub.Backend.service.low.NoteService;
+import com.litclub.Backend.service.low.ReviewService;
+import com.litclub.Backend.service.low.SyncTombstoneService;
+import com.litclub.Backend.service.low.UserBooksService;
+import com.litclub.Backend.service.middle.MeetingService;
+import com.litclub.Backend.service.middle.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Answers {@code GET /api/sync}: the rows a client keeps offline (library, clubs, meetings, own notes and reviews)
+ * that changed since its previous sync, so that it can start from its local copy and catch up with one request.
+ *
+ * <p>Changes are found by the {@code updated_at} column of each table and deletions by the
+ * {@link SyncTombstoneService}. The token handed back is the time the sync started minus
+ * {@code litclub.sync.overlap}: a transaction that was still open while the rows were read may commit rows stamped
+ * slightly earlier, and the overlap makes the next sync pick them up. Rows are therefore sometimes delivered twice,
+ * which is harmless because clients upsert them by ID.</p>
+ *
+ * <p>Without a token, or with one older than the tombstones still kept, the answer is a full snapshot.</p>
+ */
+@Service
+public class SyncService {
+
+    private final UserService userService;
+    private final UserBooksService userBooksService;
+    private final ClubMembershipService clubMembershipService;
+    private final MeetingService meetingService;
+    private final NoteService noteService;
+    private final ReviewService reviewService;
+    private final SyncTombstoneService syncTombstoneService;
+    private final Duration overlap;
+
+    public SyncService(UserService userService,
+                       UserBooksService userBooksService,
+                       ClubMembershipService clubMembershipService,
+                       MeetingService meetingService,
+                       NoteService noteService,
+                       ReviewService reviewService,
+                       SyncTombstoneService syncTombstoneService,
+                       @Value("${litclub.sync.overlap:PT1M}") Duration overlap) {
+        this.userService = userService;
+        this.userBooksService = userBooksService;
+        this.clubMembershipService = clubMembershipService;
+        this.meetingService = meetingService;
+        this.noteService = noteService;
+        this.reviewService = reviewService;
+        this.syncTombstoneService = syncTombstoneService;
+        this.overlap = overlap;
+    }
+
+    /**
+     * Collects what changed for a user since their previous sync.
+     *
+     * @param since the token of the previous sync, or {@code null} for a full snapshot
+     * @throws MalformedDTOException if the token was not issued by this server
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse sync(Long userID, String since) {
+        SyncToken previous = SyncToken.decode(since);
+        LocalDateTime asOf = LocalDateTime.now();
+        User user = userService.requireUserById(userID);
+
+        boolean full = previous == null || previous.since().isBefore(syncTombstoneService.getOldestRetained());
+        LocalDateTime changedAfter = full ? FeedCursor.OLDEST.createdAt() : previous.since();
+
+        Map<SyncEntityType, Set<Long>> deleted = new EnumMap<>(SyncEntityType.class);
+        if (!full) {
+            for (SyncTombstone tombstone : syncTombstoneService.findSince(userID, changedAfter)) {
+                deleted.computeIfAbsent(tombstone.entityType(), type -> new LinkedHashSet<>()).add(tombstone.entityID());
+            }
+        }
+
+        List<BookWithStatus> library = userBooksService.getLibraryChangedSince(user, changedAfter).stream()
+                .map(LibraryManagementService::convertUserBookToBookWithStatus)
+                .toList();
+        List<Club> clubs = clubMembershipService.getClubsChangedSince(user, changedAfter);
+        List<MeetingView> meetings = meetingService.getMeetingsChangedSince(user, changedAfter);
+        List<NoteView> notes = noteService.getNotesChangedSince(user, changedAfter);
+        List<ReviewView> reviews = reviewService.getReviewsChangedSince(user, changedAfter);
+
+        return new SyncResponse(
+                new SyncToken(asOf.minus(overlap)).encode(),
+                full,
+                delta(library, entry -> entry.book().getBookID(), deleted.get(SyncEntityType.LIBRARY)),
+                delta(clubs, Club::getClubID, deleted.get(SyncEntityType.CLUBS)),
+                delta(meetings, MeetingView::meetingID, deleted.get(SyncEntityType.MEETINGS)),
+                delta(notes, NoteView::noteID, deleted.get(SyncEntityType.NOTES)),
+                delta(reviews, ReviewView::reviewID, deleted.get(SyncEntityType.REVIEWS))
+        );
+    }
+
+    // ------ UTILITY ------
+    /** Pairs the changed rows with the deleted IDs, leaving out rows deleted and then created again. */
+    private static <T> SyncDelta<T> delta(List<T> upserted, Function<T, Long> id, Set<Long> deleted) {
+        if (deleted == null) {
+            return new SyncDelta<>(upserted, List.of());
+        }
+        upserted.forEach(row -> deleted.remove(id.apply(row)));
+        return new SyncDelta<>(upserted, List.copyOf(deleted));
+    }
+}
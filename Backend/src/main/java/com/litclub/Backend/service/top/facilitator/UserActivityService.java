@@ -1,7 +1,6 @@
 package com.litclub.Backend.service.top.facilitator;
 
 import com.litclub.Backend.construct.library.book.BookDTO;
-import com.litclub.Backend.construct.library.book.BookStatus;
 import com.litclub.Backend.construct.user.UserProfile;
 import com.litclub.Backend.construct.user.UserActivityReport;
 import com.litclub.Backend.construct.user.UserStatistics;
@@ -13,6 +12,8 @@ import com.litclub.Backend.service.middle.BookService;
 import com.litclub.Backend.service.middle.ClubService;
 import com.litclub.Backend.service.middle.MeetingService;
 import com.litclub.Backend.service.middle.UserService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -122,6 +123,12 @@ public class UserActivityService {
         return clubService.getClubsByUser(userService.requireUserById(userID));
     }
 
+    @Transactional(readOnly = true)
+    @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
+    public Page<Club> getClubsForUser(Long userID, Pageable pageable) {
+        return clubService.getClubsByUser(userService.requireUserById(userID), pageable);
+    }
+
     @Transactional(readOnly = true)
     @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
     public List<Book> getBooksForUser(Long userID) {
@@ -135,38 +142,24 @@ public class UserActivityService {
     }
 
     // ====== ANALYTICS ======
-    @Transactional(readOnly = true)
+    @Transactional
     @PreAuthorize("@userSecurity.isCurrentUserOrAdmin(authentication, #userID)")
     public UserStatistics getUserStatistics(Long userID) {
-        User user = userService.requireUserById(userID);
-
-        List<Club> clubs = getClubsForUser(userID);
-        List<Book> books = getBooksForUser(userID);
-        List<Meeting> meetings = getMeetingsForUser(userID);
-        List<Review> reviews = getReviewsForUser(userID);
-        List<Note> notes = getNotesForUser(userID);
-        List<DiscussionPrompt> prompts = getDiscussionPromptsFromUser(userID);
-
-        List<BookDTO> bookDTOs = convertBooksToDTO(books, user);
-        int booksRead = countBooksByStatus(bookDTOs, BookStatus.READ);
-        int booksReading = countBooksByStatus(bookDTOs, BookStatus.READING);
-        int booksAbandoned = countBooksByStatus(bookDTOs, BookStatus.DNF);
-
-        int upcomingMeetings = filterUpcomingMeetings(meetings).size();
-        double averageRating = calculateAverageRating(reviews);
+        UserStats stats = userService.getUserStats(userID);
+        long upcomingMeetings = meetingService.countUpcomingMeetingsForUser(userID);
 
         return new UserStatistics(
                 userID,
-                clubs.size(),
-                booksRead,
-                booksReading,
-                booksAbandoned,
-                meetings.size(),
-                upcomingMeetings,
-                reviews.size(),
-                notes.size(),
-                prompts.size(),
-                averageRating
+                Math.toIntExact(stats.getClubs()),
+                Math.toIntExact(stats.getBooksRead()),
+                Math.toIntExact(stats.getBooksReading()),
+                Math.toIntExact(stats.getBooksDnf()),
+                Math.toIntExact(stats.getRsvps()),
+                Math.toIntExact(upcomingMeetings),
+                Math.toIntExact(stats.getReviews()),
+                Math.toIntExact(stats.getNotes()),
+                Math.toIntExact(stats.getPrompts()),
+                stats.getAverageRating()
         );
     }
 
@@ -179,18 +172,6 @@ public class UserActivityService {
                 .toList();
     }
 
-    private List<BookDTO> convertBooksToDTO(List<Book> books, User user) {
-        return books.stream()
-                .map(book -> bookService.convertBookToDTO(book, user))
-                .toList();
-    }
-
-    private static int countBooksByStatus(List<BookDTO> bookDTOs, BookStatus status) {
-        return (int) bookDTOs.stream()
-                .filter(bookDTO -> bookDTO.status() == status)
-                .count();
-    }
-
     private static List<Meeting> filterUpcomingMeetings(List<Meeting> meetings) {
         return meetings.stream()
                 .filter(meeting -> meeting.getStartTime().isAfter(LocalDateTime.now()))
@@ -202,21 +183,4 @@ public class UserActivityService {
                 .filter(meeting -> meeting.getStartTime().isBefore(LocalDateTime.now()))
                 .toList();
     }
-
-    private static double calculateAverageRating(List<Review> reviews) {
-        long reviewsWithRating = reviews.stream()
-                .filter(review -> review.getRating() != null)
-                .count();
-
-        if (reviewsWithRating == 0) {
-            return 0.0;
-        }
-
-        double sumRatings = reviews.stream()
-                .filter(review -> review.getRating() != null)
-                .mapToDouble(Review::getRating)
-                .sum();
-
-        return sumRatings / reviewsWithRating;
-    }
 }
\ No newline at end of file
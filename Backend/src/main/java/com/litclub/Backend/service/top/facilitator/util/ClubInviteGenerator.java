@@ -5,8 +5,7 @@ import com.litclub.Backend.entity.User;
 import com.litclub.Backend.exception.MalformedDTOException;
 import com.litclub.Backend.security.roles.ClubRole;
 import com.litclub.Backend.service.low.ClubMembershipService;
-import com.litclub.Backend.service.middle.ClubService;
-import com.litclub.Backend.service.middle.UserService;
+import com.litclub.Backend.service.low.RedeemedInviteService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
@@ -18,34 +17,40 @@ import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.EnumSet;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Issues and redeems signed, single-use club invites.
+ *
+ * <p>An invite carries the inviter, the club and its issue time, signed with {@code invite.secret}. Redemption
+ * checks the signature and age, that the inviter may still invite to the club, and finally records the invite
+ * with {@link RedeemedInviteService}, which fails if it was redeemed before.</p>
+ *
+ * <p>{@link Mac} instances are not thread-safe and costly to create, so each thread keeps its own, initialised
+ * with the secret once.</p>
+ */
 @Component
 public class ClubInviteGenerator {
 
     private static final long INVITE_MAX_AGE_MS = TimeUnit.DAYS.toMillis(7);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Set<ClubRole> INVITER_ROLES = EnumSet.of(ClubRole.MODERATOR, ClubRole.OWNER);
 
-    private final ClubService clubService;
-    private final UserService userService;
     private final ClubMembershipService clubMembershipService;
-
-    // Thread-safe set storing already-redeemed tokens
-    private final Set<String> redeemedInvites = ConcurrentHashMap.newKeySet();
-
-    // Server-side secret for signing tokens
-    @Value("${invite.secret}")
-    private String secretKey;
+    private final RedeemedInviteService redeemedInviteService;
+    private final ThreadLocal<Mac> mac;
 
     public ClubInviteGenerator(
-            ClubService clubService,
-            UserService userService,
-            ClubMembershipService clubMembershipService
+            ClubMembershipService clubMembershipService,
+            RedeemedInviteService redeemedInviteService,
+            @Value("${invite.secret}") String secretKey
     ) {
-        this.clubService = clubService;
-        this.userService = userService;
         this.clubMembershipService = clubMembershipService;
+        this.redeemedInviteService = redeemedInviteService;
+        SecretKeySpec key = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> newMac(key));
     }
 
 
@@ -58,7 +63,7 @@ public class ClubInviteGenerator {
         long timestamp = System.currentTimeMillis();
         String payload = inviter.getUserID() + ":" + club.getClubID() + ":" + timestamp;
 
-        String signature = hmacSha256(payload, secretKey);
+        String signature = hmacSha256(payload);
         String tokenRaw = payload + "." + signature;
 
         return Base64.getUrlEncoder()
@@ -67,13 +72,13 @@ public class ClubInviteGenerator {
     }
 
 
+    /**
+     * Validates an invite and redeems it.
+     *
+     * @throws MalformedDTOException if the token is malformed, forged, expired or already redeemed
+     * @throws AccessDeniedException if the inviter is no longer a moderator or owner of the club
+     */
     public DecodedInvite decodeInvite(String token) {
-        // Check if already redeemed
-        boolean firstUse = redeemedInvites.add(token);
-        if (!firstUse) {
-            throw new MalformedDTOException("Invite already used");
-        }
-
         // Base64 decode
         String decoded;
         try {
@@ -95,7 +100,7 @@ public class ClubInviteGenerator {
         String providedSig = tokenParts[1];
 
         // Verify signature
-        String expectedSig = hmacSha256(payload, secretKey);
+        String expectedSig = hmacSha256(payload);
         if (!MessageDigest.isEqual(
                 providedSig.getBytes(StandardCharsets.UTF_8),
                 expectedSig.getBytes(StandardCharsets.UTF_8)
@@ -125,15 +130,14 @@ public class ClubInviteGenerator {
         }
 
         // Validate inviter permissions at redemption time
-        Club club = clubService.requireClubById(clubID);
-        User inviter = userService.requireUserById(inviterID);
-
-        var roles = clubMembershipService.getRolesForUserInClub(inviter, club);
-        if (!roles.contains(ClubRole.MODERATOR) && !roles.contains(ClubRole.OWNER)) {
+        if (!clubMembershipService.hasAnyRole(inviterID, clubID, INVITER_ROLES)) {
             throw new AccessDeniedException("Inviter unauthorized to generate invites");
         }
 
-        // Valid token
+        // Valid token; redeem it unless that already happened
+        if (!redeemedInviteService.markRedeemed(providedSig, timestamp + INVITE_MAX_AGE_MS)) {
+            throw new MalformedDTOException("Invite already used");
+        }
         return new DecodedInvite(inviterID, clubID, timestamp);
     }
 
@@ -141,14 +145,18 @@ public class ClubInviteGenerator {
 
     // --- HMAC helper ---------------------------------------------------------
 
-    private String hmacSha256(String data, String secret) {
+    private String hmacSha256(String data) {
+        byte[] rawHmac = mac.get().doFinal(data.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(rawHmac);
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
-            byte[] rawHmac = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(rawHmac);
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            throw new IllegalStateException("Failed to compute HMAC", e);
+            throw new IllegalStateException("Failed to initialise HMAC", e);
         }
     }
 
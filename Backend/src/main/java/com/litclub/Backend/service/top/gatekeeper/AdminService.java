@@ -1,11 +1,15 @@
 package com.litclub.Backend.service.top.gatekeeper;
 
 import com.litclub.Backend.config.ConfigurationManager;
+import com.litclub.Backend.construct.teardown.TeardownReport;
 import com.litclub.Backend.construct.user.UserRecord;
 import com.litclub.Backend.construct.user.UserRegistrationRecord;
 import com.litclub.Backend.entity.Club;
 import com.litclub.Backend.entity.User;
 import com.litclub.Backend.security.roles.GlobalRole;
+import com.litclub.Backend.service.low.BookNeighbourService;
+import com.litclub.Backend.service.low.RatingStatsService;
+import com.litclub.Backend.service.low.SearchIndexService;
 import com.litclub.Backend.service.middle.ClubService;
 import com.litclub.Backend.service.middle.UserService;
 import org.springframework.data.domain.Page;
@@ -17,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.util.Set;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Top-tier gatekeeper service that exposes administrative operations for the application.
@@ -65,6 +68,9 @@ public class AdminService {
     private final UserService userService;
     private final ClubService clubService;
     private final ConfigurationManager configuration;
+    private final SearchIndexService searchIndexService;
+    private final BookNeighbourService bookNeighbourService;
+    private final RatingStatsService ratingStatsService;
     /**
      * Create a new AdminService.
      *
@@ -74,15 +80,24 @@ public class AdminService {
      * @param userService    middle-tier service responsible for user operations (register, update, delete, fetch).
      * @param clubService    middle-tier service responsible for club operations (delete, list, etc.).
      * @param configuration  configuration manager that holds and persists instance-wide settings.
+     * @param searchIndexService low-tier service that maintains the full-text search index.
+     * @param bookNeighbourService low-tier service that maintains the precomputed book neighbours.
+     * @param ratingStatsService low-tier service that maintains the book and user rating aggregates.
      */
     public AdminService(
             UserService userService,
             ClubService clubService,
-            ConfigurationManager configuration
+            ConfigurationManager configuration,
+            SearchIndexService searchIndexService,
+            BookNeighbourService bookNeighbourService,
+            RatingStatsService ratingStatsService
     ) {
         this.userService = userService;
         this.clubService = clubService;
         this.configuration = configuration;
+        this.searchIndexService = searchIndexService;
+        this.bookNeighbourService = bookNeighbourService;
+        this.ratingStatsService = ratingStatsService;
     }
 
     // ====== USERS ======
@@ -182,27 +197,73 @@ public class AdminService {
     /**
      * Retrieve a list of all users in the system as {@link com.litclub.Backend.construct.user.UserRecord} objects.
      *
-     * <p>This method:
-     * <ol>
-     *   <li>Calls {@link UserService#getAllUsers()} to obtain the raw {@link com.litclub.Backend.entity.User} list.</li>
-     *   <li>Converts each {@code User} to a {@code UserRecord} via {@link UserService#convertUserToRecord(User)}.</li>
-     * </ol>
-     * </p>
-     *
-     * <p>Returned list is a new {@link java.util.List} (stream-mapped), safe for callers to read/iterate without affecting
-     * internal service state.</p>
+     * <p>Delegates to {@link UserService#getAllUserRecords()}, which reads the user columns and every
+     * user's clubs with two set-based queries rather than converting each {@link com.litclub.Backend.entity.User}
+     * individually.</p>
      *
      * @return a {@link java.util.List} of {@link com.litclub.Backend.construct.user.UserRecord}; never {@code null} (may be empty).
-     * @see UserService#getAllUsers()
-     * @see UserService#convertUserToRecord(User)
+     * @see UserService#getAllUserRecords()
      */
     @Transactional
     @PreAuthorize("@userSecurity.isAdmin(authentication)")
     public List<UserRecord> getAllUsers() {
-        List<User> users = userService.getAllUsers();
-        return users.stream()
-                .map(UserService::convertUserToRecord)
-                .collect(Collectors.toList());
+        return userService.getAllUserRecords();
+    }
+
+    /**
+     * Rebuild the materialized statistics of every user.
+     *
+     * <p>Delegates to {@link UserService#rebuildUserStats()}. Statistics are normally maintained as users act, so this
+     * is only needed to backfill after an upgrade or to repair rows after data was changed outside the application.</p>
+     *
+     * @return the number of users whose statistics were rebuilt.
+     * @see UserService#rebuildUserStats()
+     */
+    @Transactional
+    @PreAuthorize("@userSecurity.isAdmin(authentication)")
+    public int rebuildUserStatistics() {
+        return userService.rebuildUserStats();
+    }
+
+    /**
+     * Rebuild the full-text search index from the books, notes, replies and reviews in the database.
+     *
+     * <p>The index is kept in sync as content is written, so this is only needed after an upgrade or after data was
+     * changed outside the application.</p>
+     *
+     * @return the number of documents indexed.
+     * @see SearchIndexService#rebuild()
+     */
+    @PreAuthorize("@userSecurity.isAdmin(authentication)")
+    public int rebuildSearchIndex() {
+        return searchIndexService.rebuild();
+    }
+
+    /**
+     * Recompute the book neighbours that recommendations are served from.
+     *
+     * <p>They are rebuilt on a schedule, so this is only needed to pick up a large import right away.</p>
+     *
+     * @return the number of neighbour rows written, or {@code -1} if a rebuild was already running.
+     * @see BookNeighbourService#rebuild()
+     */
+    @PreAuthorize("@userSecurity.isAdmin(authentication)")
+    public long rebuildRecommendations() {
+        return bookNeighbourService.rebuild();
+    }
+
+    /**
+     * Rebuild the book and user rating aggregates from the reviews table.
+     *
+     * <p>The aggregates are kept up to date as reviews change and reconciled nightly, so this is only needed to
+     * repair them right away after reviews were changed outside the application.</p>
+     *
+     * @return the number of books with ratings.
+     * @see RatingStatsService#rebuildAll()
+     */
+    @PreAuthorize("@userSecurity.isAdmin(authentication)")
+    public int rebuildRatingStatistics() {
+        return ratingStatsService.rebuildAll();
     }
 
     // ====== CLUBS ======
@@ -210,16 +271,18 @@ public class AdminService {
     /**
      * Permanently delete a club identified by {@code clubID}.
      *
-     * <p>Delegates to {@link ClubService#deleteClub(Long)}. The ClubService defines cascade rules, membership cleanup,
+     * <p>Delegates to {@link ClubService#deleteClub(Long, Long)}. The ClubService defines cascade rules, membership cleanup,
      * and any domain-specific constraints about deleting clubs (for example, preventing deletion if active meetings exist).</p>
      *
      * @param clubID id of the club to delete (must not be {@code null}).
-     * @see ClubService#deleteClub(Long)
+     * @param requesterID id of the administrator asking for the deletion
+     * @return the teardown report, still running for large clubs
+     * @see ClubService#deleteClub(Long, Long)
      */
     @Transactional
     @PreAuthorize("@userSecurity.isAdmin(authentication)")
-    public void deleteClub(Long clubID) {
-        clubService.deleteClub(clubID);
+    public TeardownReport deleteClub(Long clubID, Long requesterID) {
+        return clubService.deleteClub(clubID, requesterID);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.litclub.Backend.service.top.gatekeeper;
 
+import com.litclub.Backend.construct.teardown.TeardownReport;
 import com.litclub.Backend.entity.Club;
 import com.litclub.Backend.entity.ClubMembership;
 import com.litclub.Backend.entity.User;
@@ -35,8 +36,8 @@ public class ClubOwnerService {
     // ====== DESTRUCTIVE CLUB ACTIONS ======
     @Transactional
     @PreAuthorize("@clubSecurity.isOwner(authentication, #clubID) or @userSecurity.isAdmin(authentication)")
-    public void deleteClub(Long clubID) {
-        clubService.deleteClub(clubID);
+    public TeardownReport deleteClub(Long clubID, Long requesterID) {
+        return clubService.deleteClub(clubID, requesterID);
     }
 
     // ====== OWNERSHIP MANAGEMENT ======
@@ -0,0 +1,21 @@
+-- Indexes for the keyset-paginated feeds. Each feed filters on its owner and walks (created_at, id), so the
+-- index ends with both and a page is read straight off it, however deep the cursor.
+
+-- NoteRepository.findFeedByClub; supersedes idx_notes_club_created
+CREATE INDEX IF NOT EXISTS idx_notes_club_feed ON notes (club_id, created_at, noteid);
+DROP INDEX IF EXISTS idx_notes_club_created;
+-- NoteRepository.findFeedByDiscussionPrompt; supersedes idx_notes_discussion
+CREATE INDEX IF NOT EXISTS idx_notes_discussion_feed ON notes (discussion_id, created_at, noteid);
+DROP INDEX IF EXISTS idx_notes_discussion;
+
+-- MeetingRepository.findFeedByClub, findFeedByClubIn
+CREATE INDEX IF NOT EXISTS idx_meetings_club_feed ON meetings (club_id, created_at, meetingid);
+
+-- ReviewRepository.findFeedByBook
+CREATE INDEX IF NOT EXISTS idx_reviews_book_feed ON reviews (book_id, created_at, review_id);
+-- ReviewRepository.findFeedByUser, findByUser; supersedes idx_reviews_user
+CREATE INDEX IF NOT EXISTS idx_reviews_user_feed ON reviews (user_id, created_at, review_id);
+DROP INDEX IF EXISTS idx_reviews_user;
+
+-- ReplyRepository.findFeedByParentNote filters on replies.parent_note_id (idx_replies_parent) and orders by
+-- notes.created_at, which lives in the parent table; a thread's direct replies are sorted after the lookup.
@@ -0,0 +1,9 @@
+-- Single-use club invites. A row records that the invite with this signature has been redeemed; it is kept until the
+-- invite itself would have expired, after which the signature check alone rejects it and the row is purged.
+CREATE TABLE redeemed_invites (
+    signature  VARCHAR(64) NOT NULL PRIMARY KEY,
+    expires_at TIMESTAMP   NOT NULL
+);
+
+-- RedeemedInviteService.purgeExpired
+CREATE INDEX idx_redeemed_invites_expires ON redeemed_invites (expires_at);
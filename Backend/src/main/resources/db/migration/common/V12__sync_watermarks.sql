@@ -0,0 +1,40 @@
+-- Watermarks for GET /api/sync. Every synced row carries the time it last changed, and a deleted row leaves a
+-- tombstone behind, so a client can ask for everything that changed after the token of its previous sync.
+ALTER TABLE user_books ADD COLUMN updated_at TIMESTAMP(6) DEFAULT LOCALTIMESTAMP NOT NULL;
+ALTER TABLE clubs ADD COLUMN updated_at TIMESTAMP(6) DEFAULT LOCALTIMESTAMP NOT NULL;
+ALTER TABLE meetings ADD COLUMN updated_at TIMESTAMP(6) DEFAULT LOCALTIMESTAMP NOT NULL;
+ALTER TABLE notes ADD COLUMN updated_at TIMESTAMP(6) DEFAULT LOCALTIMESTAMP NOT NULL;
+ALTER TABLE reviews ADD COLUMN updated_at TIMESTAMP(6) DEFAULT LOCALTIMESTAMP NOT NULL;
+
+UPDATE user_books SET updated_at = created_at;
+UPDATE clubs SET updated_at = created_at WHERE created_at IS NOT NULL;
+UPDATE meetings SET updated_at = created_at WHERE created_at IS NOT NULL;
+UPDATE notes SET updated_at = created_at WHERE created_at IS NOT NULL;
+UPDATE reviews SET updated_at = created_at WHERE created_at IS NOT NULL;
+
+-- A deleted row, addressed to its owner (user_id) or to every member of its club (club_id). Tombstones are
+-- purged once they are older than litclub.sync.tombstone-retention; a client whose token is older than that
+-- receives a full snapshot instead of a delta.
+CREATE TABLE sync_tombstones (
+    tombstone_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type  VARCHAR(16)  NOT NULL,
+    entity_id    BIGINT       NOT NULL,
+    user_id      BIGINT,
+    club_id      BIGINT,
+    deleted_at   TIMESTAMP(6) NOT NULL
+);
+
+-- SyncTombstoneService.findSince
+CREATE INDEX idx_sync_tombstones_user ON sync_tombstones (user_id, deleted_at);
+CREATE INDEX idx_sync_tombstones_club ON sync_tombstones (club_id, deleted_at);
+-- SyncTombstoneService.purgeExpired
+CREATE INDEX idx_sync_tombstones_deleted ON sync_tombstones (deleted_at);
+
+-- UserBooksRepository.findLibraryChangedSince
+CREATE INDEX IF NOT EXISTS idx_user_books_user_updated ON user_books (user_id, updated_at);
+-- MeetingRepository.findViewsChangedForMember
+CREATE INDEX IF NOT EXISTS idx_meetings_club_updated ON meetings (club_id, updated_at);
+-- NoteRepository.findViewsChangedByUser
+CREATE INDEX IF NOT EXISTS idx_notes_user_updated ON notes (user_id, updated_at);
+-- ReviewRepository.findViewsChangedByUser
+CREATE INDEX IF NOT EXISTS idx_reviews_user_updated ON reviews (user_id, updated_at);
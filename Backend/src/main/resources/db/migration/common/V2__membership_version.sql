@@ -0,0 +1,3 @@
+-- Counter bumped whenever a user's club memberships or club roles change; tokens carrying an older value are
+-- re-issued (JwtAuthenticationFilter).
+ALTER TABLE users ADD COLUMN membership_version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,20 @@
+-- Materialized per-user statistics, maintained by UserStatsService. Rows are computed on first read, so existing
+-- users need no backfill.
+CREATE TABLE user_stats (
+    books_dnf bigint not null,
+    books_read bigint not null,
+    books_reading bigint not null,
+    books_want_to_read bigint not null,
+    clubs bigint not null,
+    late_arrivals bigint not null,
+    meetings_attended bigint not null,
+    notes bigint not null,
+    prompts bigint not null,
+    rated_reviews bigint not null,
+    rating_sum bigint not null,
+    reviews bigint not null,
+    rsvps bigint not null,
+    updated_at timestamp(6),
+    user_id bigint not null,
+    primary key (user_id)
+);
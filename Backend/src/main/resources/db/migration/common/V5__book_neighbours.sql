@@ -0,0 +1,7 @@
+-- Precomputed item-to-item neighbours for recommendations, rebuilt by BookNeighbourScheduler.
+CREATE TABLE book_neighbours (
+    similarity float(53) not null,
+    book_id bigint not null,
+    neighbour_id bigint not null,
+    primary key (book_id, neighbour_id)
+);
@@ -0,0 +1,27 @@
+-- Incrementally maintained rating aggregates (RatingStatsService). Existing ratings are folded in by the
+-- scheduled reconciliation.
+CREATE TABLE book_rating_stats (
+    book_id bigint not null,
+    five_stars bigint not null,
+    four_stars bigint not null,
+    one_star bigint not null,
+    rating_sum bigint not null,
+    ratings bigint not null,
+    three_stars bigint not null,
+    two_stars bigint not null,
+    updated_at timestamp(6),
+    primary key (book_id)
+);
+
+CREATE TABLE user_rating_stats (
+    five_stars bigint not null,
+    four_stars bigint not null,
+    one_star bigint not null,
+    rating_sum bigint not null,
+    ratings bigint not null,
+    three_stars bigint not null,
+    two_stars bigint not null,
+    updated_at timestamp(6),
+    user_id bigint not null,
+    primary key (user_id)
+);
@@ -0,0 +1,69 @@
+-- Secondary indexes for the repository finders on request paths. Each is named after the finders it
+-- serves; the leading columns match their equality filters and any trailing column their range or order.
+-- QueryPlanVerifier checks at startup that these finders are planned as index scans.
+
+-- NoteRepository.findAllByClub, ClubStatisticsRepository.findCounts
+CREATE INDEX IF NOT EXISTS idx_notes_club_created ON notes (club_id, created_at);
+-- NoteRepository.findAllByBook, findAllByBookAndIsPrivate, findAllByBookAndClub
+CREATE INDEX IF NOT EXISTS idx_notes_book_private ON notes (book_id, is_private);
+-- NoteRepository.findAllByUser, findAllByUserAndBook, existsByUserAndBookAndContent
+CREATE INDEX IF NOT EXISTS idx_notes_user_book ON notes (user_id, book_id);
+-- NoteRepository.findAllByDiscussionPrompt, DiscussionPromptRepository.detachNotesFrom*
+CREATE INDEX IF NOT EXISTS idx_notes_discussion ON notes (discussion_id);
+
+-- ReplyRepository.findAllByParentNote, countByParentNote, findThreadNodes, countThread
+CREATE INDEX IF NOT EXISTS idx_replies_parent ON replies (parent_note_id);
+
+-- MeetingRepository.findByClubAndStartTimeAfterOrderByStartTimeAsc, findConflictingMeetings, countByClub*
+CREATE INDEX IF NOT EXISTS idx_meetings_club_start ON meetings (club_id, start_time);
+-- MeetingRepository.findAllByCreator, existsByCreator
+CREATE INDEX IF NOT EXISTS idx_meetings_creator ON meetings (creator_user_id);
+
+-- MeetingAttendeeRepository.findByUser, findByUserAndRsvpStatus (the key leads with meeting_id)
+CREATE INDEX IF NOT EXISTS idx_meeting_attendees_user ON meeting_attendees (user_id, rsvp_status);
+-- MeetingRegisterRepository.findAllByUser, findAllByUserAnd*
+CREATE INDEX IF NOT EXISTS idx_meeting_register_user ON meeting_register (user_id);
+
+-- ClubMembershipRepository.findByMember, findClubsByMember, findClubIDsByMemberID (the key leads with club_id)
+CREATE INDEX IF NOT EXISTS idx_club_memberships_member ON club_memberships (member_id, club_id);
+-- ClubMembership.roles, loaded per membership
+CREATE INDEX IF NOT EXISTS idx_club_membership_roles_membership ON club_membership_roles (club_id, member_id);
+
+-- ClubRepository.findClubByClubName
+CREATE INDEX IF NOT EXISTS idx_clubs_name ON clubs (club_name);
+-- Clubs created by a user, handed over or removed with them
+CREATE INDEX IF NOT EXISTS idx_clubs_creator ON clubs (creator_id);
+
+-- DiscussionPromptRepository.findAllByClub, existsByPromptAndClub
+CREATE INDEX IF NOT EXISTS idx_discussion_prompts_club_posted ON discussion_prompts (club_id, posted_at);
+-- DiscussionPromptRepository.findAllByPoster, findAllByPosterAndClub
+CREATE INDEX IF NOT EXISTS idx_discussion_prompts_poster ON discussion_prompts (poster_id);
+
+-- UserRepository.findUserByEmail
+CREATE INDEX IF NOT EXISTS idx_users_email ON users (email);
+-- User.globalRoles, loaded with every principal
+CREATE INDEX IF NOT EXISTS idx_user_global_roles_user ON user_global_roles (user_id);
+
+-- UserBooksRepository.findAllByUser, findShelfByUser, findLibraryByUser (the key leads with book_id)
+CREATE INDEX IF NOT EXISTS idx_user_books_user_status ON user_books (user_id, status);
+
+-- ReviewRepository.findByBook, findByBookAndUser, existsByUserAndBook
+CREATE INDEX IF NOT EXISTS idx_reviews_book_user ON reviews (book_id, user_id);
+-- ReviewRepository.findByUser
+CREATE INDEX IF NOT EXISTS idx_reviews_user ON reviews (user_id);
+
+-- ClubBookRepository.findAllByClubAndValid (the key leads with book_id)
+CREATE INDEX IF NOT EXISTS idx_club_books_club_valid ON club_books (club_id, is_valid);
+
+-- BookRepository.findBookByTitleAndPrimaryAuthor, findAllByTitle
+CREATE INDEX IF NOT EXISTS idx_books_title_author ON books (title, primary_author);
+-- Books added by a user, detached when the user is removed
+CREATE INDEX IF NOT EXISTS idx_books_added_by ON books (added_by);
+-- Book.authors
+CREATE INDEX IF NOT EXISTS idx_book_authors_book ON book_authors (book_id);
+
+-- BookEnrichmentJobRepository.findClaimableIDs (queued jobs by availability, stale running jobs by lock)
+CREATE INDEX IF NOT EXISTS idx_book_enrichment_jobs_available ON book_enrichment_jobs (status, available_at);
+CREATE INDEX IF NOT EXISTS idx_book_enrichment_jobs_locked ON book_enrichment_jobs (status, locked_until);
+-- BookEnrichmentJobRepository.findAllByBook_BookID
+CREATE INDEX IF NOT EXISTS idx_book_enrichment_jobs_book ON book_enrichment_jobs (book_id);
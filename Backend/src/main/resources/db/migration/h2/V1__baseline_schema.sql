@@ -0,0 +1,173 @@
+-- Schema as generated by Hibernate for H2 (ddl-auto=update) by the application before migrations were
+-- introduced. Databases created that way are baselined at this version and skip it; every later change to the
+-- schema is a migration of its own.
+
+CREATE TABLE book_authors (
+    book_id bigint not null,
+    author_name varchar(255)
+);
+
+CREATE TABLE books (
+    published_year date,
+    added_by bigint,
+    book_id bigint generated by default as identity,
+    cover_url varchar(500),
+    edition varchar(255),
+    isbn varchar(255) unique,
+    primary_author varchar(255),
+    publisher varchar(255),
+    title varchar(255) not null,
+    primary key (book_id)
+);
+
+CREATE TABLE club_books (
+    is_valid boolean not null,
+    book_id bigint not null,
+    club_id bigint not null,
+    created_at timestamp(6),
+    primary key (book_id, club_id)
+);
+
+CREATE TABLE club_membership_roles (
+    club_id bigint not null,
+    member_id bigint not null,
+    roles enum ('MEMBER','MODERATOR','OWNER')
+);
+
+CREATE TABLE club_memberships (
+    club_id bigint not null,
+    joined_at timestamp(6),
+    member_id bigint not null,
+    primary key (club_id, member_id)
+);
+
+CREATE TABLE clubs (
+    club_id bigint generated by default as identity,
+    created_at timestamp(6),
+    creator_id bigint not null,
+    club_name varchar(255) not null,
+    description varchar(255),
+    primary key (club_id)
+);
+
+CREATE TABLE discussion_prompts (
+    club_id bigint not null,
+    posted_at timestamp(6),
+    poster_id bigint not null,
+    promptid bigint generated by default as identity,
+    prompt varchar(255) not null,
+    primary key (promptid)
+);
+
+CREATE TABLE meeting_attendees (
+    rsvp_status tinyint check (rsvp_status between 0 and 2),
+    created_at timestamp(6),
+    meeting_id bigint not null,
+    user_id bigint not null,
+    primary key (meeting_id, user_id)
+);
+
+CREATE TABLE meeting_register (
+    attended boolean,
+    excused boolean,
+    late boolean,
+    meeting_id bigint not null,
+    user_id bigint not null,
+    primary key (meeting_id, user_id)
+);
+
+CREATE TABLE meetings (
+    club_id bigint,
+    created_at timestamp(6),
+    creator_user_id bigint,
+    end_time timestamp(6),
+    meetingid bigint generated by default as identity,
+    start_time timestamp(6),
+    link varchar(255),
+    location varchar(255),
+    title varchar(255),
+    primary key (meetingid)
+);
+
+CREATE TABLE notes (
+    is_private boolean,
+    book_id bigint,
+    club_id bigint,
+    created_at timestamp(6),
+    discussion_id bigint,
+    noteid bigint generated by default as identity,
+    user_id bigint not null,
+    content clob not null,
+    primary key (noteid)
+);
+
+CREATE TABLE replies (
+    noteid bigint not null,
+    parent_note_id bigint not null,
+    primary key (noteid)
+);
+
+CREATE TABLE reviews (
+    rating integer,
+    book_id bigint,
+    created_at timestamp(6),
+    review_id bigint generated by default as identity,
+    user_id bigint,
+    content clob,
+    primary key (review_id)
+);
+
+CREATE TABLE user_books (
+    date_finished date,
+    date_started date,
+    rating integer,
+    status tinyint check (status between 0 and 3),
+    book_id bigint not null,
+    created_at timestamp(6) not null,
+    user_id bigint not null,
+    primary key (book_id, user_id)
+);
+
+CREATE TABLE user_global_roles (
+    user_id bigint not null,
+    global_roles enum ('ADMINISTRATOR','USER')
+);
+
+CREATE TABLE users (
+    created_at timestamp(6) not null,
+    user_id bigint generated by default as identity,
+    email varchar(255),
+    first_name varchar(255),
+    password_hash varchar(255),
+    second_name varchar(255),
+    username varchar(255) not null unique,
+    primary key (user_id)
+);
+
+ALTER TABLE book_authors ADD CONSTRAINT FKbhqtkv2cndf10uhtknaqbyo0a FOREIGN KEY (book_id) REFERENCES books;
+ALTER TABLE books ADD CONSTRAINT FKd0e3174lb369f10fs3m52jo28 FOREIGN KEY (added_by) REFERENCES users;
+ALTER TABLE club_books ADD CONSTRAINT FKqig91t9ry98ou068f96u1bsfx FOREIGN KEY (book_id) REFERENCES books;
+ALTER TABLE club_books ADD CONSTRAINT FK2mb4d11itlowqevbaoocmhr6f FOREIGN KEY (club_id) REFERENCES clubs;
+ALTER TABLE club_membership_roles ADD CONSTRAINT FKgx7fb717qlcmgyrtjjfmftqpo FOREIGN KEY (club_id, member_id) REFERENCES club_memberships;
+ALTER TABLE club_memberships ADD CONSTRAINT FKmcwgnghjqsbmw5va78a2jurbf FOREIGN KEY (club_id) REFERENCES clubs;
+ALTER TABLE club_memberships ADD CONSTRAINT FKr30u3gpk9y5y036c3ghbha2ji FOREIGN KEY (member_id) REFERENCES users;
+ALTER TABLE clubs ADD CONSTRAINT FKjn7c1jkeeep0ggx198nyh6kak FOREIGN KEY (creator_id) REFERENCES users;
+ALTER TABLE discussion_prompts ADD CONSTRAINT FKsxnj1fgpqbh0rcug3cw2qnchy FOREIGN KEY (club_id) REFERENCES clubs;
+ALTER TABLE discussion_prompts ADD CONSTRAINT FKg30bfxwrirje3565let5t9jwm FOREIGN KEY (poster_id) REFERENCES users;
+ALTER TABLE meeting_attendees ADD CONSTRAINT FKjrrh506w4qj7m1kap6fup86ni FOREIGN KEY (meeting_id) REFERENCES meetings;
+ALTER TABLE meeting_attendees ADD CONSTRAINT FK2ok8604933c4xrov05cgtwh0t FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE meeting_register ADD CONSTRAINT FKndo5fa95rc8qmj4y617liv8y1 FOREIGN KEY (meeting_id) REFERENCES meetings;
+ALTER TABLE meeting_register ADD CONSTRAINT FK2lwlmatfuxbu7n7u36q3ak2sc FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE meetings ADD CONSTRAINT FK8o9yrd9febejo6dahfqsccmno FOREIGN KEY (club_id) REFERENCES clubs;
+ALTER TABLE meetings ADD CONSTRAINT FKjeqsjgxqiai0vbhl7mkqoaqfx FOREIGN KEY (creator_user_id) REFERENCES users;
+ALTER TABLE notes ADD CONSTRAINT FKcuk3pkb6p8ff9ivd1a3st6wix FOREIGN KEY (book_id) REFERENCES books;
+ALTER TABLE notes ADD CONSTRAINT FKlbbue9smcw8jc6g4t465y1rtg FOREIGN KEY (club_id) REFERENCES clubs;
+ALTER TABLE notes ADD CONSTRAINT FKtfhm8jpi4qq8yg6x7k71va1yw FOREIGN KEY (discussion_id) REFERENCES discussion_prompts;
+ALTER TABLE notes ADD CONSTRAINT FKechaouoa6kus6k1dpix1u91c FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE replies ADD CONSTRAINT FKq68opuiegbof7fy2ywxufu4ub FOREIGN KEY (parent_note_id) REFERENCES notes;
+ALTER TABLE replies ADD CONSTRAINT FKi1qr1f47b0by2j25iwxx8iyu9 FOREIGN KEY (noteid) REFERENCES notes;
+ALTER TABLE reviews ADD CONSTRAINT FK6a9k6xvev80se5rreqvuqr7f9 FOREIGN KEY (book_id) REFERENCES books;
+ALTER TABLE reviews ADD CONSTRAINT FKcgy7qjc1r99dp117y9en6lxye FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE user_books ADD CONSTRAINT FKa26s0po2ld5t5mi5sww9ca98 FOREIGN KEY (book_id) REFERENCES books;
+ALTER TABLE user_books ADD CONSTRAINT FKseruwi8quqdx6svnurcamej55 FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE user_global_roles ADD CONSTRAINT FKaov6f0l996be2sjlt4mo9h6oe FOREIGN KEY (user_id) REFERENCES users;
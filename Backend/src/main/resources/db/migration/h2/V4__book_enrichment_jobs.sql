@@ -0,0 +1,21 @@
+-- Background metadata enrichment (BookEnrichmentWorker). Existing books keep a NULL status: they were never queued.
+ALTER TABLE books ADD COLUMN metadata_status enum ('ENRICHED','FAILED','NOT_FOUND','PENDING');
+
+CREATE TABLE book_enrichment_jobs (
+    attempts integer not null,
+    available_at timestamp(6) not null,
+    book_id bigint not null,
+    created_at timestamp(6),
+    job_id bigint not null,
+    locked_until timestamp(6),
+    updated_at timestamp(6),
+    last_error varchar(1000),
+    lease_owner varchar(36),
+    author varchar(255),
+    isbn varchar(255),
+    title varchar(255),
+    status enum ('DONE','FAILED','QUEUED','RUNNING') not null,
+    primary key (job_id)
+);
+
+ALTER TABLE book_enrichment_jobs ADD CONSTRAINT FKg0g86fxqwsspmlvbpq10okpc7 FOREIGN KEY (book_id) REFERENCES books;
@@ -0,0 +1,9 @@
+-- ID sequences (IdSequences). H2 databases are only ever created empty, so the sequences start at 1.
+CREATE SEQUENCE book_enrichment_jobs_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE books_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE clubs_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE discussion_prompts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE meetings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE notes_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE reviews_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
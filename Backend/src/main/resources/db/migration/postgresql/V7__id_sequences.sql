@@ -0,0 +1,26 @@
+-- ID sequences (IdSequences). Rows written before this migration were numbered by identity columns, so each
+-- sequence is moved at least an allocation block (50) past its table's highest ID. A sequence is never moved
+-- backwards.
+
+DO $$
+DECLARE
+    target RECORD;
+BEGIN
+    FOR target IN SELECT * FROM (VALUES
+            ('users_seq', 'users', 'user_id'),
+            ('clubs_seq', 'clubs', 'club_id'),
+            ('books_seq', 'books', 'book_id'),
+            ('book_enrichment_jobs_seq', 'book_enrichment_jobs', 'job_id'),
+            ('discussion_prompts_seq', 'discussion_prompts', 'promptid'),
+            ('meetings_seq', 'meetings', 'meetingid'),
+            ('notes_seq', 'notes', 'noteid'),
+            ('reviews_seq', 'reviews', 'review_id')
+        ) AS t(sequence_name, table_name, id_column)
+    LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH 1 INCREMENT BY 50', target.sequence_name);
+        EXECUTE format(
+                'SELECT setval(%L, GREATEST((SELECT COALESCE(MAX(%I), 0) FROM %I) + 50, (SELECT last_value FROM %I)))',
+                target.sequence_name, target.id_column, target.table_name, target.sequence_name);
+    END LOOP;
+END
+$$;
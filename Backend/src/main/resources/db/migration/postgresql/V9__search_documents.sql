@@ -0,0 +1,22 @@
+-- Full-text index read and written by PostgresSearchEngine, previously created by it on startup.
+
+CREATE TABLE IF NOT EXISTS search_documents (
+    doc_type   VARCHAR(16) NOT NULL,
+    entity_id  BIGINT      NOT NULL,
+    title      TEXT,
+    body       TEXT,
+    author_id  BIGINT,
+    private_to BIGINT,
+    club_id    BIGINT,
+    book_id    BIGINT,
+    root_id    BIGINT,
+    created_at TIMESTAMP,
+    document   TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(body, '')), 'B')
+    ) STORED,
+    PRIMARY KEY (doc_type, entity_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_search_documents_document ON search_documents USING GIN (document);
+CREATE INDEX IF NOT EXISTS idx_search_documents_root ON search_documents (root_id);
@@ -0,0 +1,76 @@
+package com.litclub.Backend;
+
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.ClubMembership;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.repository.BookRepository;
+import com.litclub.Backend.repository.ClubMembershipRepository;
+import com.litclub.Backend.repository.ClubRepository;
+import com.litclub.Backend.repository.UserRepository;
+import com.litclub.Backend.security.roles.ClubRole;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Saves the users, books, clubs and memberships that integration tests build on.
+ *
+ * <p>Rows are written straight through the repositories, so no statistics, search index or
+ * membership side effects are triggered; tests that need those go through the services.
+ * Tests remain responsible for removing what they create.</p>
+ */
+@Component
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final ClubRepository clubRepository;
+    private final ClubMembershipRepository clubMembershipRepository;
+
+    public TestFixtures(UserRepository userRepository,
+                        BookRepository bookRepository,
+                        ClubRepository clubRepository,
+                        ClubMembershipRepository clubMembershipRepository) {
+        this.userRepository = userRepository;
+        this.bookRepository = bookRepository;
+        this.clubRepository = clubRepository;
+        this.clubMembershipRepository = clubMembershipRepository;
+    }
+
+    /** A regular user named {@code username}, with an e-mail address derived from it. */
+    public User user(String username) {
+        User user = new User(username, "Test", "User", username + "@example.com", false);
+        user.setPasswordHash("hash");
+        return userRepository.save(user);
+    }
+
+    /** A book with the given title and, if any are given, authors. */
+    public Book book(String title, String... authors) {
+        Book book = new Book();
+        book.setTitle(title);
+        if (authors.length > 0) {
+            book.setAuthors(List.of(authors));
+        }
+        return bookRepository.save(book);
+    }
+
+    /** A club created by {@code creator}, who is not enrolled in it. */
+    public Club club(String name, User creator) {
+        Club club = new Club();
+        club.setClubName(name);
+        club.setCreator(creator);
+        return clubRepository.save(club);
+    }
+
+    /** Enrolls {@code user} in {@code club} with one role. */
+    public ClubMembership enroll(Club club, User user, ClubRole role) {
+        ClubMembership membership = new ClubMembership();
+        membership.setClub(club);
+        membership.setMember(user);
+        membership.setRoles(new HashSet<>(Set.of(role)));
+        return clubMembershipRepository.save(membership);
+    }
+}
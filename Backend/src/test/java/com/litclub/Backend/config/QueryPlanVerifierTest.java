@@ -0,0 +1,54 @@
+package com.litclub.Backend.config;
+
+import com.litclub.Backend.config.QueryPlanVerifier.PlannedQuery;
+import com.litclub.Backend.config.QueryPlanVerifier.Violation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the migrated embedded database with a size limit of zero, so any table scan is reported.
+ * The application context starting at all already means the startup check passed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryPlanVerifierTest {
+
+    @Autowired private QueryPlanVerifier queryPlanVerifier;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void hotPathQueries_ShouldAllBePlannedAgainstAnIndex() throws Exception {
+        assertThat(queryPlanVerifier.verify(QueryPlanVerifier.QUERIES)).isEmpty();
+    }
+
+    @Test
+    void verify_ShouldReportAQueryThatScansATable() throws Exception {
+        List<Violation> violations = queryPlanVerifier.verify(List.of(
+                new PlannedQuery("MeetingRepository.findByTitleContainingIgnoreCase",
+                        "SELECT * FROM meetings WHERE LOWER(title) LIKE '%sample%'")));
+
+        assertThat(violations).singleElement().satisfies(violation -> {
+            assertThat(violation.finder()).isEqualTo("MeetingRepository.findByTitleContainingIgnoreCase");
+            assertThat(violation.table()).isEqualTo("meetings");
+            assertThat(violation.plan()).containsIgnoringCase("tableScan");
+        });
+    }
+
+    @Test
+    void migrations_ShouldHaveCreatedTheHotPathIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes WHERE LOWER(table_name) = 'notes'",
+                String.class);
+
+        assertThat(indexes).contains("idx_notes_club_feed", "idx_notes_book_private",
+                "idx_notes_user_book", "idx_notes_discussion_feed")
+                .doesNotContain("idx_notes_club_created", "idx_notes_discussion");
+    }
+}
@@ -0,0 +1,163 @@
+package com.litclub.Backend.controller.club;
+
+import com.litclub.Backend.TestFixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.litclub.Backend.entity.*;
+import com.litclub.Backend.repository.*;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import com.litclub.Backend.service.low.TeardownService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the size and cost of the club list endpoints the desktop client polls.
+ *
+ * <p>Runs without a test-managed transaction so that, as in production, nothing can be lazily loaded
+ * while a response is written.</p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ClubFeedPayloadTest {
+
+    private static final int NOTES = 20;
+    private static final int MEETINGS = 20;
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TeardownService teardownService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private NoteRepository noteRepository;
+    @Autowired private MeetingRepository meetingRepository;
+
+    private User member;
+    private Book book;
+    private Club club;
+    private CustomUserDetails principal;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        member = fixtures.user("payloadmember");
+
+        Book newBook = new Book();
+        newBook.setTitle("The Long Book");
+        newBook.setAuthors(List.of("First Author", "Second Author"));
+        newBook.setPublisher("A Publisher With A Long Name");
+        newBook.setCoverUrl("https://covers.example.com/b/id/0000000000-L.jpg");
+        book = bookRepository.save(newBook);
+
+        Club newClub = new Club();
+        newClub.setClubName("Payload Club");
+        newClub.setDescription("A club whose description travels with every note when entities are serialized.");
+        newClub.setCreator(member);
+        club = clubRepository.save(newClub);
+
+        fixtures.enroll(club, member, ClubRole.MEMBER);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < NOTES; i++) {
+            Note note = new Note();
+            note.setUser(member);
+            note.setBook(book);
+            note.setClub(club);
+            note.setContent("Note " + i);
+            noteRepository.save(note);
+        }
+        for (int i = 0; i < MEETINGS; i++) {
+            Meeting meeting = new Meeting();
+            meeting.setClub(club);
+            meeting.setCreator(member);
+            meeting.setTitle("Meeting " + i);
+            meeting.setStartTime(start.plusDays(i));
+            meeting.setEndTime(start.plusDays(i).plusHours(2));
+            meetingRepository.save(meeting);
+        }
+
+        principal = new CustomUserDetails(
+                userRepository.findByUsernameWithMembershipsAndRoles(member.getUsername()).orElseThrow());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        teardownService.deleteClub(club.getClubID());
+        teardownService.deleteUser(member.getUserID());
+        bookRepository.deleteById(book.getBookID());
+    }
+
+    private String fetch(String path) throws Exception {
+        statistics.clear();
+        return mockMvc.perform(get(path).with(user(principal)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    /** The bytes the same rows took when the endpoints serialized entities. */
+    private int entityBytes(List<?> entities) {
+        return transactionTemplate.execute(tx -> {
+            try {
+                return objectMapper.writeValueAsBytes(entities).length;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    void clubNotes_ShouldBeAFractionOfTheEntityPayload_InConstantStatements() throws Exception {
+        String page = fetch("/api/clubs/" + club.getClubID() + "/notes?size=" + NOTES);
+        long pageStatements = statistics.getPrepareStatementCount();
+        String feed = fetch("/api/clubs/" + club.getClubID() + "/notes/feed?size=" + NOTES);
+        long feedStatements = statistics.getPrepareStatementCount();
+
+        int entities = entityBytes(transactionTemplate.execute(tx -> noteRepository.findAllByClub(club)));
+        assertThat(feed.length()).isLessThan(entities / 2);
+        assertThat(page.length()).isLessThan(entities / 2);
+        assertThat(feed).contains("\"username\":\"payloadmember\"").doesNotContain("email", "description");
+
+        // the club and its creator, the rows and, for the page, its count; never one per note
+        assertThat(pageStatements).isLessThanOrEqualTo(4);
+        assertThat(feedStatements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void clubMeetings_ShouldBeAFractionOfTheEntityPayload_InConstantStatements() throws Exception {
+        String page = fetch("/api/clubs/" + club.getClubID() + "/meetings?size=" + MEETINGS);
+        long pageStatements = statistics.getPrepareStatementCount();
+        String feed = fetch("/api/clubs/" + club.getClubID() + "/meetings/feed?size=" + MEETINGS);
+        long feedStatements = statistics.getPrepareStatementCount();
+
+        int entities = entityBytes(transactionTemplate.execute(tx -> meetingRepository.findAllByClub(club)));
+        assertThat(feed.length()).isLessThan(entities / 2);
+        assertThat(page.length()).isLessThan(entities / 2);
+        assertThat(feed).contains("\"clubName\":\"Payload Club\"").doesNotContain("email", "description");
+
+        assertThat(pageStatements).isLessThanOrEqualTo(4);
+        assertThat(feedStatements).isLessThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,93 @@
+package com.litclub.Backend.recommend;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ItemNeighbourhoodsTest {
+
+    private record Edge(long book, long neighbour, float similarity) {}
+
+    private static List<Edge> edges(ItemNeighbourhoods neighbourhoods) {
+        List<Edge> edges = new ArrayList<>();
+        neighbourhoods.forEach((book, neighbour, similarity) -> edges.add(new Edge(book, neighbour, similarity)));
+        return edges;
+    }
+
+    @Test
+    void compute_ShouldKeepTheMostSimilarBooks_BestFirst() throws InterruptedException {
+        InteractionMatrix matrix = InteractionMatrix.builder(100)
+                .add(1, 10, 1).add(1, 20, 1)
+                .add(2, 10, 1).add(2, 20, 1).add(2, 30, 1)
+                .add(3, 10, 1).add(3, 40, 1)
+                .add(4, 10, 0.5f).add(4, 10, 0.5f)   // repeated pairs are summed
+                .add(4, 50, 0)                       // non-positive weights are ignored
+                .build();
+
+        assertThat(matrix.users()).isEqualTo(4);
+        assertThat(matrix.books()).isEqualTo(4);
+        assertThat(matrix.interactions()).isEqualTo(8);
+
+        List<Edge> edges = edges(ItemNeighbourhoods.compute(matrix, 2, 3));
+
+        // book 10 is read by all four users, 20 by two of them, 30 and 40 by one each
+        List<Edge> ofTen = edges.stream().filter(edge -> edge.book() == 10).toList();
+        assertThat(ofTen).extracting(Edge::neighbour).containsExactly(20L, 30L);
+        assertThat(ofTen.get(0).similarity()).isCloseTo((float) (2 / (2 * Math.sqrt(2))), within(1e-6f));
+        assertThat(edges.stream().filter(edge -> edge.book() == 40)).extracting(Edge::neighbour).containsExactly(10L);
+        assertThat(edges).allMatch(edge -> edge.book() != edge.neighbour());
+    }
+
+    @Test
+    void builder_ShouldKeepOnlyTheHeaviestBooksOfLargeLibraries() throws InterruptedException {
+        InteractionMatrix matrix = InteractionMatrix.builder(2)
+                .add(1, 10, 0.1f).add(1, 20, 0.9f).add(1, 30, 0.8f)
+                .add(2, 10, 1).add(2, 20, 1)
+                .build();
+
+        assertThat(matrix.interactions()).isEqualTo(4);
+        assertThat(edges(ItemNeighbourhoods.compute(matrix, 5, 1)))
+                .filteredOn(edge -> edge.book() == 30)
+                .extracting(Edge::neighbour).containsExactly(20L);
+    }
+
+    /**
+     * 100k users and 500k books with Zipf-like popularity, 30 books per user on average.
+     * Run with {@code LITCLUB_BENCHMARK=true ./gradlew test --tests '*ItemNeighbourhoodsTest*'}.
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "LITCLUB_BENCHMARK", matches = "true")
+    void benchmark_SyntheticCatalogue() throws InterruptedException {
+        int users = 100_000;
+        int books = 500_000;
+        int k = 20;
+        SplittableRandom random = new SplittableRandom(42);
+
+        long started = System.nanoTime();
+        InteractionMatrix.Builder builder = InteractionMatrix.builder(500);
+        for (int user = 0; user < users; user++) {
+            int library = 1 + (int) Math.min(2_000, -30 * Math.log(1 - random.nextDouble()));
+            for (int n = 0; n < library; n++) {
+                long book = (long) Math.floor(Math.pow(books, random.nextDouble())) - 1;
+                builder.add(user, book, 0.2f + 0.8f * (float) random.nextDouble());
+            }
+        }
+        InteractionMatrix matrix = builder.build();
+        long built = System.nanoTime();
+
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        ItemNeighbourhoods neighbourhoods = ItemNeighbourhoods.compute(matrix, k, parallelism);
+        long computed = System.nanoTime();
+
+        System.out.printf("users=%d books=%d interactions=%d threads=%d build=%dms neighbours=%dms rows=%d%n",
+                matrix.users(), matrix.books(), matrix.interactions(), parallelism,
+                (built - started) / 1_000_000, (computed - built) / 1_000_000, neighbourhoods.size());
+        assertThat(neighbourhoods.size()).isPositive();
+    }
+}
@@ -0,0 +1,95 @@
+package com.litclub.Backend.security.jwt;
+
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.ClubMembership;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.security.roles.utility.AuthorityMapper;
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtServiceTest {
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+                Base64.getEncoder().encodeToString("unit-test-secret-unit-test-secret-0123456789".getBytes()));
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtService, "embedClubAuthorities", true);
+        jwtService.init();
+    }
+
+    private static User userWithMemberships() {
+        User user = new User("reader", "Read", "Er", "reader@example.com", false);
+        user.setUserID(7L);
+
+        user.getMemberships().add(membership(user, 10L, Set.of(ClubRole.OWNER, ClubRole.MEMBER)));
+        user.getMemberships().add(membership(user, 20L, Set.of(ClubRole.MEMBER)));
+        return user;
+    }
+
+    private static ClubMembership membership(User user, Long clubID, Set<ClubRole> roles) {
+        Club club = new Club();
+        club.setClubID(clubID);
+        ClubMembership membership = new ClubMembership();
+        membership.setClub(club);
+        membership.setMember(user);
+        membership.setRoles(roles);
+        return membership;
+    }
+
+    @Test
+    void parseToken_ShouldReturnAllClaims_FromSinglePass() {
+        User user = userWithMemberships();
+        String token = jwtService.generateToken(new CustomUserDetails(user));
+
+        Optional<JwtClaims> claims = jwtService.parseToken("Bearer " + token);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().username()).isEqualTo("reader");
+        assertThat(claims.get().userID()).isEqualTo(7L);
+        assertThat(claims.get().issuedAtMillis()).isPositive();
+        assertThat(claims.get().membershipVersion()).isZero();
+        assertThat(claims.get().clubRoles())
+                .containsEntry(10L, ClubRole.OWNER)
+                .containsEntry(20L, ClubRole.MEMBER);
+    }
+
+    @Test
+    void parseToken_ShouldReturnEmpty_WhenSignatureIsTampered() {
+        String token = jwtService.generateToken(new CustomUserDetails(userWithMemberships()));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(jwtService.parseToken(tampered)).isEmpty();
+        assertThat(jwtService.isTokenValid(tampered)).isFalse();
+    }
+
+    @Test
+    void clubRoleClaim_ShouldExpandToSameAuthoritiesAsMemberships() {
+        User user = userWithMemberships();
+        JwtClaims claims = jwtService.parseToken(jwtService.generateToken(new CustomUserDetails(user))).orElseThrow();
+
+        assertThat(AuthorityMapper.mapToAuthorities(user, claims.clubRoles()))
+                .containsExactlyInAnyOrderElementsOf(AuthorityMapper.mapToAuthorities(user));
+    }
+
+    @Test
+    void isStale_ShouldDetectMembershipVersionBump() {
+        JwtClaims claims = jwtService.parseToken(jwtService.generateToken(new CustomUserDetails(userWithMemberships())))
+                .orElseThrow();
+
+        assertThat(claims.isStale(0L)).isFalse();
+        assertThat(claims.isStale(1L)).isTrue();
+    }
+}
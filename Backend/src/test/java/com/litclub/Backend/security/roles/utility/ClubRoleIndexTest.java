@@ -0,0 +1,62 @@
+package com.litclub.Backend.security.roles.utility;
+
+import com.litclub.Backend.security.roles.ClubRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClubRoleIndexTest {
+
+    private static Set<GrantedAuthority> authorities(String... values) {
+        Set<GrantedAuthority> set = new HashSet<>();
+        for (String value : values) set.add(new SimpleGrantedAuthority(value));
+        return set;
+    }
+
+    @Test
+    void hasRole_ShouldMatchOnlyGrantedRolesPerClub() {
+        ClubRoleIndex index = ClubRoleIndex.of(authorities(
+                "CLUB_1_OWNER", "CLUB_1_MEMBER", "CLUB_42_MODERATOR", "ROLE_USER"));
+
+        assertThat(index.hasRole(1L, ClubRole.OWNER)).isTrue();
+        assertThat(index.hasRole(1L, ClubRole.MEMBER)).isTrue();
+        assertThat(index.hasRole(1L, ClubRole.MODERATOR)).isFalse();
+        assertThat(index.hasRole(42L, ClubRole.MODERATOR)).isTrue();
+        assertThat(index.hasRole(42L, ClubRole.OWNER)).isFalse();
+        assertThat(index.hasRole(7L, ClubRole.MEMBER)).isFalse();
+        assertThat(index.isAdmin()).isFalse();
+    }
+
+    @Test
+    void of_ShouldDetectAdministrator_AndIgnoreMalformedAuthorities() {
+        ClubRoleIndex index = ClubRoleIndex.of(authorities(
+                "ROLE_ADMINISTRATOR", "CLUB_x_MEMBER", "CLUB_3_JANITOR", "CLUB_", "CLUB_5"));
+
+        assertThat(index.isAdmin()).isTrue();
+        assertThat(index.hasRole(3L, ClubRole.MEMBER)).isFalse();
+        assertThat(index.hasRole(5L, ClubRole.MEMBER)).isFalse();
+    }
+
+    @Test
+    void of_ShouldHandleEmptyAndLargeAuthoritySets() {
+        assertThat(ClubRoleIndex.of(Set.of()).hasRole(1L, ClubRole.MEMBER)).isFalse();
+
+        List<String> values = new ArrayList<>();
+        for (long clubID = 1; clubID <= 500; clubID++) values.add("CLUB_" + clubID + "_MEMBER");
+        ClubRoleIndex index = ClubRoleIndex.of(authorities(values.toArray(String[]::new)));
+
+        for (long clubID = 1; clubID <= 500; clubID++) {
+            assertThat(index.hasRole(clubID, ClubRole.MEMBER)).isTrue();
+            assertThat(index.hasRole(clubID, ClubRole.OWNER)).isFalse();
+        }
+        assertThat(index.hasRole(501L, ClubRole.MEMBER)).isFalse();
+        assertThat(index.hasRole(0L, ClubRole.MEMBER)).isFalse();
+    }
+}
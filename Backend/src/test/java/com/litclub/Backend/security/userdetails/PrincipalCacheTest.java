@@ -0,0 +1,80 @@
+package com.litclub.Backend.security.userdetails;
+
+import com.litclub.Backend.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private CustomUserDetails load(String username) {
+        loads.incrementAndGet();
+        User user = new User();
+        user.setUsername(username);
+        return new CustomUserDetails(user);
+    }
+
+    @Test
+    void get_ShouldLoadOnce_ForSameUsernameAndIssueTime() {
+        CustomUserDetails first = principalCache.get("alice", 1000L, () -> load("alice"));
+        CustomUserDetails second = principalCache.get("alice", 1000L, () -> load("alice"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldReload_WhenTokenIssueTimeDiffers() {
+        principalCache.get("alice", 1000L, () -> load("alice"));
+        principalCache.get("alice", 2000L, () -> load("alice"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evict_ShouldDropEveryEntryForUsername() {
+        principalCache.get("alice", 1000L, () -> load("alice"));
+        principalCache.get("alice", 2000L, () -> load("alice"));
+        principalCache.get("bob", 1000L, () -> load("bob"));
+
+        principalCache.evict("alice");
+
+        principalCache.get("alice", 1000L, () -> load("alice"));
+        principalCache.get("bob", 1000L, () -> load("bob"));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void metrics_ShouldReportHitsAndMisses() {
+        principalCache.get("alice", 1000L, () -> load("alice"));
+        principalCache.get("alice", 1000L, () -> load("alice"));
+
+        double hits = meterRegistry.get("cache.gets")
+                .tag("cache", PrincipalCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter().count();
+        double misses = meterRegistry.get("cache.gets")
+                .tag("cache", PrincipalCache.CACHE_NAME)
+                .tag("result", "miss")
+                .functionCounter().count();
+
+        assertThat(hits).isEqualTo(1.0);
+        assertThat(misses).isEqualTo(1.0);
+    }
+}
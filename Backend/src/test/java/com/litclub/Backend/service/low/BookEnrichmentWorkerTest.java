@@ -0,0 +1,266 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.library.BookAddRequest;
+import com.litclub.Backend.construct.library.book.BookMetadataStatus;
+import com.litclub.Backend.construct.library.book.EnrichmentJobStatus;
+import com.litclub.Backend.construct.library.book.clientDTO.BookMetadataDTO;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.BookEnrichmentJob;
+import com.litclub.Backend.repository.BookEnrichmentJobRepository;
+import com.litclub.Backend.repository.BookRepository;
+import com.litclub.Backend.service.middle.BookService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the enrichment pipeline against a local stand-in for openlibrary.org.
+ *
+ * <p>Book creation commits before the worker picks the job up, so this test runs without a
+ * test-managed transaction and removes what it created afterwards.</p>
+ */
+@SpringBootTest(properties = {
+        "litclub.enrichment.worker.enabled=true",
+        "litclub.enrichment.poll-interval=PT1H",
+        "litclub.enrichment.max-attempts=1"
+})
+@ActiveProfiles("test")
+class BookEnrichmentWorkerTest {
+
+    private static final HttpServer OPEN_LIBRARY = startOpenLibrary();
+
+    @DynamicPropertySource
+    static void openLibrary(DynamicPropertyRegistry registry) {
+        registry.add("openlibrary.base-url", () -> "http://localhost:" + OPEN_LIBRARY.getAddress().getPort());
+    }
+
+    @Autowired private BookService bookService;
+    @Autowired private BookEnrichmentWorker worker;
+    @Autowired private BookEnrichmentService enrichmentService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private BookEnrichmentJobRepository jobRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private final List<Long> createdBookIDs = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (Long bookID : createdBookIDs) {
+            jobRepository.deleteAll(jobRepository.findAllByBook_BookID(bookID));
+            bookRepository.deleteById(bookID);
+        }
+    }
+
+    @AfterAll
+    static void stopOpenLibrary() {
+        OPEN_LIBRARY.stop(0);
+    }
+
+    @Test
+    void createBook_ShouldReturnPlaceholder_AndEnrichInBackground() throws InterruptedException {
+        Book placeholder = create("Dune", "Herbert");
+
+        assertThat(placeholder.getMetadataStatus()).isEqualTo(BookMetadataStatus.PENDING);
+        assertThat(placeholder.getCoverUrl()).isNull();
+
+        Book enriched = awaitSettled(placeholder.getBookID());
+        assertThat(enriched.getMetadataStatus()).isEqualTo(BookMetadataStatus.ENRICHED);
+        assertThat(enriched.getAuthors()).containsExactly("Frank Herbert");
+        assertThat(enriched.getIsbn()).isEqualTo("9780441013593");
+        assertThat(enriched.getPublisher()).isEqualTo("Ace");
+        assertThat(enriched.getYear()).isEqualTo(LocalDate.of(2005, 1, 1));
+        assertThat(enriched.getCoverUrl()).isEqualTo("https://covers.openlibrary.org/b/id/11481354-L.jpg");
+        assertThat(jobRepository.findAllByBook_BookID(enriched.getBookID()))
+                .extracting(BookEnrichmentJob::getStatus)
+                .containsExactly(EnrichmentJobStatus.DONE);
+    }
+
+    @Test
+    void unmatchedBook_ShouldBeMarkedNotFound() throws InterruptedException {
+        Book placeholder = create("Nothing Like It", "Nobody");
+
+        Book settled = awaitSettled(placeholder.getBookID());
+        assertThat(settled.getMetadataStatus()).isEqualTo(BookMetadataStatus.NOT_FOUND);
+        assertThat(settled.getTitle()).isEqualTo("Nothing Like It");
+    }
+
+    @Test
+    void failingLookup_ShouldGiveUpAfterLastAttempt() throws InterruptedException {
+        Book placeholder = create("Broken", "Server");
+
+        Book settled = awaitSettled(placeholder.getBookID());
+        assertThat(settled.getMetadataStatus()).isEqualTo(BookMetadataStatus.FAILED);
+        assertThat(jobRepository.findAllByBook_BookID(settled.getBookID()))
+                .singleElement()
+                .satisfies(job -> {
+                    assertThat(job.getStatus()).isEqualTo(EnrichmentJobStatus.FAILED);
+                    assertThat(job.getAttempts()).isEqualTo(1);
+                    assertThat(job.getLastError()).contains("500");
+                });
+    }
+
+    @Test
+    void completion_ShouldRequireCurrentLease() {
+        Book book = new Book();
+        book.setTitle("Leased");
+        book.setMetadataStatus(BookMetadataStatus.PENDING);
+        book = bookRepository.save(book);
+        createdBookIDs.add(book.getBookID());
+
+        BookEnrichmentJob job = new BookEnrichmentJob();
+        job.setBook(book);
+        job.setTitle("Leased");
+        job.setStatus(EnrichmentJobStatus.RUNNING);
+        job.setAttempts(1);
+        job.setAvailableAt(LocalDateTime.now().minusMinutes(5));
+        job.setLeaseOwner("current");
+        job.setLockedUntil(LocalDateTime.now().plusMinutes(5));
+        Long jobID = jobRepository.save(job).getJobID();
+
+        assertThat(enrichmentService.complete(jobID, "previous", Optional.empty())).isFalse();
+        assertThat(enrichmentService.fail(jobID, "previous", "timed out")).isFalse();
+        assertThat(jobRepository.findById(jobID).orElseThrow().getStatus()).isEqualTo(EnrichmentJobStatus.RUNNING);
+
+        job = jobRepository.findById(jobID).orElseThrow();
+        job.setLockedUntil(LocalDateTime.now().minusSeconds(1));
+        jobRepository.save(job);
+        assertThat(enrichmentService.complete(jobID, "current", Optional.empty())).isFalse();
+
+        job = jobRepository.findById(jobID).orElseThrow();
+        job.setLockedUntil(LocalDateTime.now().plusMinutes(5));
+        jobRepository.save(job);
+        assertThat(enrichmentService.complete(jobID, "current", Optional.empty())).isTrue();
+        assertThat(jobRepository.findById(jobID).orElseThrow())
+                .satisfies(done -> {
+                    assertThat(done.getStatus()).isEqualTo(EnrichmentJobStatus.DONE);
+                    assertThat(done.getLeaseOwner()).isNull();
+                });
+        assertThat(bookRepository.findById(book.getBookID()).orElseThrow().getMetadataStatus())
+                .isEqualTo(BookMetadataStatus.NOT_FOUND);
+    }
+
+    @Test
+    void drain_ShouldPickUpJobQueuedWhileFinishing() {
+        Queue<BookEnrichmentJob> queue = new ConcurrentLinkedQueue<>();
+        BookEnrichmentService queueService = new BookEnrichmentService(null, null, null, null, 1, Duration.ZERO, Duration.ZERO) {
+            @Override
+            public List<BookEnrichmentJob> claim(int limit) {
+                BookEnrichmentJob job = queue.poll();
+                return job == null ? List.of() : List.of(job);
+            }
+
+            @Override
+            public boolean complete(Long jobID, String leaseOwner, Optional<BookMetadataDTO> metadata) {
+                return true;
+            }
+        };
+        BookMetadataService noLookup = new BookMetadataService(null, null, null, transactionManager, 1, 1) {
+            @Override
+            public Optional<BookMetadataDTO> fetchMetadata(String isbn, String title, String author) {
+                return Optional.empty();
+            }
+        };
+        // Another caller queues a job and asks for a drain just as the running drain lets go of its flag
+        AtomicInteger lateCall = new AtomicInteger(-1);
+        BookEnrichmentWorker racingWorker = new BookEnrichmentWorker(queueService, noLookup, 1) {
+            @Override
+            void releaseDrain() {
+                if (lateCall.get() < 0) {
+                    queue.add(new BookEnrichmentJob());
+                    lateCall.set(drain());
+                }
+                super.releaseDrain();
+            }
+        };
+
+        queue.add(new BookEnrichmentJob());
+        try {
+            assertThat(racingWorker.drain()).isEqualTo(2);
+            assertThat(lateCall.get()).isZero();
+            assertThat(queue).isEmpty();
+        } finally {
+            racingWorker.shutdown();
+        }
+    }
+
+    private Book create(String title, String author) {
+        Book book = bookService.createBook(new BookAddRequest(title, author, null, null));
+        createdBookIDs.add(book.getBookID());
+        return book;
+    }
+
+    private Book awaitSettled(Long bookID) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            worker.drain();
+            Book book = bookRepository.findById(bookID).orElseThrow();
+            if (book.getMetadataStatus() != BookMetadataStatus.PENDING) return book;
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Book " + bookID + " was not enriched in time");
+    }
+
+    private static HttpServer startOpenLibrary() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/search.json", BookEnrichmentWorkerTest::search);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void search(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        if (query.contains("title=Broken")) {
+            respond(exchange, 500, "{}");
+        } else if (query.contains("title=Dune")) {
+            respond(exchange, 200, """
+                {"numFound": 1, "docs": [{
+                    "title": "Dune",
+                    "author_name": ["Frank Herbert"],
+                    "isbn": ["9780441013593"],
+                    "publisher": ["Ace"],
+                    "publish_year": [1965, 2005],
+                    "cover_i": 11481354
+                }]}
+                """);
+        } else {
+            respond(exchange, 200, "{\"numFound\": 0, \"docs\": []}");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.library.book.BookImportReport;
+import com.litclub.Backend.construct.library.book.BookMetadataStatus;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.exception.BookImportNotFoundException;
+import com.litclub.Backend.exception.TooManyImportsException;
+import com.litclub.Backend.repository.BookRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs bulk ISBN imports against a local stand-in for openlibrary.org that answers multi-ISBN searches.
+ *
+ * <p>Imported books are committed chunk by chunk, so this test runs without a test-managed transaction
+ * and removes what it created afterwards.</p>
+ */
+@SpringBootTest(properties = "openlibrary.bulk.chunk-size=2")
+@ActiveProfiles("test")
+class BookImportServiceTest {
+
+    private static final AtomicInteger SEARCHES = new AtomicInteger();
+    // Searches for SLOW_ISBN wait on this, keeping their imports running
+    private static final String SLOW_ISBN = "9780000000009";
+    private static volatile CountDownLatch slowSearches = new CountDownLatch(0);
+    private static final HttpServer OPEN_LIBRARY = startOpenLibrary();
+
+    @DynamicPropertySource
+    static void openLibrary(DynamicPropertyRegistry registry) {
+        registry.add("openlibrary.base-url", () -> "http://localhost:" + OPEN_LIBRARY.getAddress().getPort());
+    }
+
+    @Autowired private BookImportService bookImportService;
+    @Autowired private BookMetadataService bookMetadataService;
+    @Autowired private BookRepository bookRepository;
+
+    private static final long OWNER_ID = 42L;
+
+    private static final List<String> ISBNS = List.of(
+            "9780000000001", "978-0-00-000000-1", "9780000000002", "9780000000003",
+            "9780000000004", "9780000000005", "not-an-isbn"
+    );
+
+    @BeforeEach
+    void setUp() {
+        Book existing = new Book();
+        existing.setTitle("Already Here");
+        existing.setAuthors(List.of("Someone"));
+        existing.setIsbn("9780000000005");
+        bookRepository.save(existing);
+        SEARCHES.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAll(bookRepository.findAllByIsbnIn(List.of(
+                "9780000000001", "9780000000002", "9780000000003", "9780000000004", "9780000000005")));
+    }
+
+    @AfterAll
+    static void stopOpenLibrary() {
+        OPEN_LIBRARY.stop(0);
+    }
+
+    @Test
+    void enrichAndSaveBulkByIsbns_ShouldBatchLookups_AndSkipKnownIsbns() {
+        List<Book> books = bookMetadataService.enrichAndSaveBulkByIsbns(ISBNS);
+
+        // 4 unknown ISBNs in chunks of 2
+        assertThat(SEARCHES.get()).isEqualTo(2);
+        assertThat(books).extracting(Book::getIsbn)
+                .containsExactlyInAnyOrder("9780000000001", "9780000000002", "9780000000003", "9780000000005");
+
+        Book dune = bookRepository.findBookByisbn("9780000000002").orElseThrow();
+        assertThat(dune.getTitle()).isEqualTo("Dune");
+        assertThat(dune.getAuthors()).containsExactly("Frank Herbert");
+        assertThat(dune.getPublisher()).isEqualTo("Ace");
+        assertThat(dune.getCoverUrl()).isEqualTo("https://covers.openlibrary.org/b/id/11481354-L.jpg");
+        assertThat(dune.getMetadataStatus()).isEqualTo(BookMetadataStatus.ENRICHED);
+
+        Book omens = bookRepository.findBookByisbn("9780000000003").orElseThrow();
+        assertThat(omens.getAuthors()).containsExactly("Terry Pratchett", "Neil Gaiman");
+    }
+
+    @Test
+    void startImport_ShouldReportProgressUntilFinished() throws InterruptedException {
+        BookImportReport started = bookImportService.startImport(OWNER_ID, ISBNS);
+        assertThat(started.importID()).isNotBlank();
+
+        BookImportReport report = started;
+        for (int i = 0; i < 100 && !report.finished(); i++) {
+            Thread.sleep(100);
+            report = bookImportService.getReport(started.importID());
+        }
+
+        assertThat(report.finished()).isTrue();
+        assertThat(report.requested()).isEqualTo(7);
+        assertThat(report.unique()).isEqualTo(5);
+        assertThat(report.invalid()).isEqualTo(1);
+        assertThat(report.alreadyKnown()).isEqualTo(1);
+        assertThat(report.imported()).isEqualTo(3);
+        assertThat(report.notFound()).isEqualTo(1);
+        assertThat(report.failed()).isZero();
+        assertThat(report.processed()).isEqualTo(5);
+        assertThat(report.remoteRequests()).isEqualTo(2);
+    }
+
+    @Test
+    void startImport_ShouldBeOwnedByItsUser_AndCapRunningImports() throws InterruptedException {
+        long user = 1001L;
+        long otherUser = 1002L;
+        slowSearches = new CountDownLatch(1);
+        try {
+            BookImportReport first = bookImportService.startImport(user, List.of(SLOW_ISBN));
+            bookImportService.startImport(user, List.of(SLOW_ISBN));
+
+            assertThat(bookImportService.isOwner(first.importID(), user)).isTrue();
+            assertThat(bookImportService.isOwner(first.importID(), otherUser)).isFalse();
+            assertThat(bookImportService.isOwner("missing", user)).isFalse();
+
+            assertThatThrownBy(() -> bookImportService.startImport(user, List.of(SLOW_ISBN)))
+                    .isInstanceOf(TooManyImportsException.class);
+            assertThat(bookImportService.startImport(otherUser, List.of(SLOW_ISBN)).importID()).isNotBlank();
+        } finally {
+            slowSearches.countDown();
+        }
+
+        BookImportReport report = bookImportService.startImport(otherUser, List.of(SLOW_ISBN));
+        for (int i = 0; i < 100 && !report.finished(); i++) {
+            Thread.sleep(100);
+            report = bookImportService.getReport(report.importID());
+        }
+        for (int i = 0; i < 100; i++) {
+            try {
+                bookImportService.startImport(user, List.of(SLOW_ISBN));
+                return;
+            } catch (TooManyImportsException e) {
+                Thread.sleep(100);
+            }
+        }
+        throw new AssertionError("Finished imports still counted against the limit");
+    }
+
+    @Test
+    void getReport_ShouldRejectUnknownImport() {
+        assertThatThrownBy(() -> bookImportService.getReport("missing"))
+                .isInstanceOf(BookImportNotFoundException.class);
+    }
+
+    private static HttpServer startOpenLibrary() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/search.json", BookImportServiceTest::search);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void search(HttpExchange exchange) throws IOException {
+        SEARCHES.incrementAndGet();
+        String query = exchange.getRequestURI().getQuery();
+        if (query.contains(SLOW_ISBN)) {
+            try {
+                slowSearches.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<String> docs = new ArrayList<>();
+        if (query.contains("9780000000001") || query.contains("9780000000002")) {
+            docs.add("""
+                {"title": "Dune", "author_name": ["Frank Herbert"], "isbn": ["9780000000001", "9780000000002"],
+                 "publisher": ["Ace"], "publish_year": [1965], "cover_i": 11481354}
+                """);
+        }
+        if (query.contains("9780000000003")) {
+            docs.add("""
+                {"title": "Good Omens", "author_name": ["Terry Pratchett", "Neil Gaiman"],
+                 "isbn": ["9780000000003"], "publish_year": [1990]}
+                """);
+        }
+        respond(exchange, "{\"numFound\": " + docs.size() + ", \"docs\": [" + String.join(",", docs) + "]}");
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.event.ChangeEvent;
+import com.litclub.Backend.construct.event.ChangeType;
+import com.litclub.Backend.entity.*;
+import com.litclub.Backend.repository.BookRepository;
+import com.litclub.Backend.repository.UserRepository;
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import com.litclub.Backend.service.middle.MeetingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs without a test-managed transaction, since changes are only streamed once their transaction commits.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ChangeStreamServiceTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ChangeStreamService changeStreamService;
+    @Autowired private NoteService noteService;
+    @Autowired private MeetingService meetingService;
+    @Autowired private ClubMembershipService clubMembershipService;
+    @Autowired private TeardownService teardownService;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BookRepository bookRepository;
+
+    private User owner;
+    private User guest;
+    private Book book;
+    private Club club;
+    private LocalDateTime nextMeeting = LocalDateTime.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        owner = fixtures.user("streamowner");
+        guest = fixtures.user("streamguest");
+        book = fixtures.book("Streamed Book");
+        club = fixtures.club("Stream Club", owner);
+        clubMembershipService.enrollUserToClub(club, owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeStreamService.shutdown();
+        teardownService.deleteClub(club.getClubID());
+        teardownService.deleteUser(owner.getUserID());
+        teardownService.deleteUser(guest.getUserID());
+        bookRepository.deleteById(book.getBookID());
+    }
+
+    private Note postNote(String content, boolean isPrivate) {
+        return noteService.save(owner, book, content, Optional.of(club), Optional.empty(), isPrivate);
+    }
+
+    private Meeting createMeeting(String title) {
+        nextMeeting = nextMeeting.plusDays(1);
+        return meetingService.createMeeting(club, owner, title, nextMeeting, nextMeeting.plusHours(1), "Library", null);
+    }
+
+    @Test
+    void clubStream_ShouldCarryCommittedChanges_AsDeltas() throws Exception {
+        RecordingEmitter stream = new RecordingEmitter();
+        changeStreamService.subscribeToClub(stream, club.getClubID(), owner.getUserID(), null);
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            postNote("Committed with the transaction", false);
+            assertThat(stream.events).isEmpty();
+        });
+        ChangeEvent created = stream.next();
+        assertThat(created.type()).isEqualTo(ChangeType.NOTE_CREATED);
+        assertThat(created.note().content()).isEqualTo("Committed with the transaction");
+        assertThat(created.note().user().username()).isEqualTo("streamowner");
+        assertThat(created.note().createdAt()).isNotNull();
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            postNote("Rolled back", false);
+            tx.setRollbackOnly();
+        });
+        postNote("Private to its author", true);
+        noteService.deleteNote(created.entityID());
+
+        ChangeEvent deleted = stream.next();
+        assertThat(deleted.type()).isEqualTo(ChangeType.NOTE_DELETED);
+        assertThat(deleted.entityID()).isEqualTo(created.entityID());
+        assertThat(deleted.note()).isNull();
+        assertThat(deleted.eventID()).isGreaterThan(created.eventID());
+    }
+
+    @Test
+    void subscribe_ShouldReplayMissedEvents_OrReset() throws Exception {
+        RecordingEmitter first = new RecordingEmitter();
+        changeStreamService.subscribeToClub(first, club.getClubID(), owner.getUserID(), null);
+        createMeeting("Seen");
+        long lastSeen = first.next().eventID();
+
+        createMeeting("Missed");
+        Meeting moved = createMeeting("Moved");
+        meetingService.rescheduleMeeting(moved.getMeetingID(), nextMeeting.plusDays(7), nextMeeting.plusDays(7).plusHours(1));
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        changeStreamService.subscribeToClub(resumed, club.getClubID(), owner.getUserID(), lastSeen);
+        assertThat(List.of(resumed.next(), resumed.next(), resumed.next()))
+                .extracting(event -> event.type() + " " + event.meeting().title())
+                .containsExactly("MEETING_CREATED Missed", "MEETING_CREATED Moved", "MEETING_UPDATED Moved");
+
+        RecordingEmitter stale = new RecordingEmitter();
+        changeStreamService.subscribeToClub(stale, club.getClubID(), owner.getUserID(), 1L);
+        assertThat(stale.next().type()).isEqualTo(ChangeType.RESET);
+    }
+
+    @Test
+    void userStream_ShouldFollowTheUsersMemberships() throws Exception {
+        RecordingEmitter userStream = new RecordingEmitter();
+        changeStreamService.subscribeToUser(userStream, guest.getUserID(), List.of(), null);
+
+        createMeeting("Before joining");
+        clubMembershipService.enrollUserToClub(club, guest);
+        ChangeEvent joined = userStream.next();
+        assertThat(joined.type()).isEqualTo(ChangeType.MEMBER_JOINED);
+        assertThat(joined.membership().club().clubName()).isEqualTo("Stream Club");
+
+        RecordingEmitter clubStream = new RecordingEmitter();
+        changeStreamService.subscribeToClub(clubStream, club.getClubID(), guest.getUserID(), null);
+        postNote("Not for the user stream", false);
+        createMeeting("After joining");
+        assertThat(userStream.next().meeting().title()).isEqualTo("After joining");
+
+        clubMembershipService.deRegisterUserFromClub(guest, club);
+        assertThat(userStream.next().type()).isEqualTo(ChangeType.MEMBER_LEFT);
+        assertThat(clubStream.completed).isTrue();
+
+        createMeeting("After leaving");
+        clubMembershipService.enrollUserToClub(club, guest);
+        assertThat(userStream.next().type()).isEqualTo(ChangeType.MEMBER_JOINED);
+    }
+
+    @Test
+    void clubEvents_ShouldOpenAStream_ForMembersOnly() throws Exception {
+        String events = "/api/clubs/" + club.getClubID() + "/events";
+
+        mockMvc.perform(get(events).with(user(principal(owner))))
+                .andExpect(request().asyncStarted());
+        assertThat(changeStreamService.countStreams()).isEqualTo(1);
+
+        mockMvc.perform(get(events).with(user(principal(guest))))
+                .andExpect(status().isForbidden());
+    }
+
+    private CustomUserDetails principal(User user) {
+        return new CustomUserDetails(userRepository.findByUsernameWithMembershipsAndRoles(user.getUsername()).orElseThrow());
+    }
+
+    /** Records the change events a stream would have written to its client. */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<ChangeEvent> events = new LinkedBlockingQueue<>();
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof ChangeEvent event) {
+                    events.add(event);
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        ChangeEvent next() throws InterruptedException {
+            ChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("next change event").isNotNull();
+            return event;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.entity.*;
+import com.litclub.Backend.repository.*;
+import com.litclub.Backend.repository.ClubStatisticsRepository.ClubCounts;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class ClubStatisticsServiceTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private ClubStatisticsService clubStatisticsService;
+    @Autowired private ClubMembershipService clubMembershipService;
+    @Autowired private UserBooksService userBooksService;
+    @Autowired private MeetingRepository meetingRepository;
+    @Autowired private DiscussionPromptRepository discussionPromptRepository;
+    @Autowired private NoteRepository noteRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Club club;
+    private Club emptyClub;
+
+    @BeforeEach
+    void setUp() {
+        User owner = fixtures.user("statsowner");
+        User member = fixtures.user("statsmember");
+
+        club = fixtures.club("Stats Club", owner);
+        emptyClub = fixtures.club("Empty Club", member);
+        clubMembershipService.enrollUserToClub(club, owner);
+        clubMembershipService.enrollUserToClub(club, member);
+
+        for (int i = 0; i < 3; i++) {
+            userBooksService.addUserBook(owner, fixtures.book("Stats Book " + i), BookStatus.READ);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        saveMeeting(owner, now.minusDays(7));
+        saveMeeting(owner, now.plusDays(7));
+        saveMeeting(owner, now.plusDays(14));
+
+        DiscussionPrompt prompt = new DiscussionPrompt();
+        prompt.setClub(club);
+        prompt.setPoster(owner);
+        prompt.setPrompt("Thoughts?");
+        discussionPromptRepository.save(prompt);
+
+        for (int i = 0; i < 4; i++) {
+            Note note = new Note();
+            note.setClub(club);
+            note.setUser(i % 2 == 0 ? owner : member);
+            note.setContent("note " + i);
+            noteRepository.save(note);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void saveMeeting(User creator, LocalDateTime start) {
+        Meeting meeting = new Meeting();
+        meeting.setClub(club);
+        meeting.setCreator(creator);
+        meeting.setTitle("Meeting");
+        meeting.setStartTime(start);
+        meeting.setEndTime(start.plusHours(1));
+        meetingRepository.save(meeting);
+    }
+
+    @Test
+    void getCounts_ShouldAggregateEveryCount_InOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ClubCounts counts = clubStatisticsService.getCounts(club);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(counts.getMembers()).isEqualTo(2);
+        assertThat(counts.getMeetings()).isEqualTo(3);
+        assertThat(counts.getUpcomingMeetings()).isEqualTo(2);
+        assertThat(counts.getPrompts()).isEqualTo(1);
+        assertThat(counts.getNotes()).isEqualTo(4);
+        assertThat(counts.getOwnerBooks()).isEqualTo(3);
+    }
+
+    @Test
+    void getCounts_ShouldReturnZeros_ForClubWithoutActivity() {
+        ClubCounts counts = clubStatisticsService.getCounts(emptyClub);
+
+        assertThat(counts.getMembers()).isZero();
+        assertThat(counts.getMeetings()).isZero();
+        assertThat(counts.getNotes()).isZero();
+        assertThat(counts.getOwnerBooks()).isZero();
+    }
+}
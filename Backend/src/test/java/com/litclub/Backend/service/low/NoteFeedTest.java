@@ -0,0 +1,116 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.feed.CursorPage;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.Note;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.repository.NoteRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NoteFeedTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private NoteService noteService;
+    @Autowired private NoteRepository noteRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private User author;
+    private Club club;
+    private List<Long> noteIDs;
+
+    @BeforeEach
+    void setUp() {
+        author = fixtures.user("feedauthor");
+        club = fixtures.club("Feed Club", author);
+
+        noteIDs = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            noteIDs.add(saveNote("note " + i).getNoteID());
+        }
+        entityManager.flush();
+
+        // two runs of equal timestamps, so the ID has to break ties across page boundaries
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 12, 0);
+        for (int i = 0; i < noteIDs.size(); i++) {
+            jdbcTemplate.update("UPDATE notes SET created_at = ? WHERE noteid = ?",
+                    base.plusMinutes(i < 12 ? 0 : 1), noteIDs.get(i));
+        }
+        entityManager.clear();
+    }
+
+    private Note saveNote(String content) {
+        Note note = new Note();
+        note.setClub(club);
+        note.setUser(author);
+        note.setContent(content);
+        return noteRepository.save(note);
+    }
+
+    @Test
+    void getNoteFeed_ShouldWalkEveryNoteOnce_NewestFirst() {
+        List<Long> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<NoteView> page = noteService.getNoteFeed(club, cursor, 10);
+            page.content().forEach(note -> seen.add(note.noteID()));
+            pageSizes.add(page.content().size());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        List<Long> expected = new ArrayList<>(noteIDs.subList(12, 25));
+        expected.sort(Comparator.reverseOrder());
+        noteIDs.subList(0, 12).stream().sorted(Comparator.reverseOrder()).forEach(expected::add);
+
+        assertThat(pageSizes).containsExactly(10, 10, 5);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void getNoteFeed_ShouldNotShift_WhenNotesArePostedBetweenPages() {
+        CursorPage<NoteView> first = noteService.getNoteFeed(club, null, 10);
+
+        saveNote("posted while reading");
+        entityManager.flush();
+
+        CursorPage<NoteView> second = noteService.getNoteFeed(club, first.nextCursor(), 10);
+        assertThat(second.content()).extracting(NoteView::noteID)
+                .doesNotContainAnyElementsOf(first.content().stream().map(NoteView::noteID).toList())
+                .hasSize(10);
+        assertThat(second.content()).extracting(NoteView::content).doesNotContain("posted while reading");
+    }
+
+    @Test
+    void getNoteFeed_ShouldClampPageSize() {
+        assertThat(noteService.getNoteFeed(club, null, 0).content()).hasSize(1);
+        assertThat(noteService.getNoteFeed(club, null, 1_000).content()).hasSize(25);
+    }
+
+    @Test
+    void getNoteFeed_ShouldRejectForeignCursor() {
+        assertThatThrownBy(() -> noteService.getNoteFeed(club, "not-a-cursor", 10))
+                .isInstanceOf(MalformedDTOException.class);
+    }
+}
@@ -0,0 +1,186 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.construct.review.BookRatingSummary;
+import com.litclub.Backend.construct.review.ReviewDTO;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.BookRatingStats;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Rating deltas are applied just before a transaction commits, so this test deliberately runs
+ * without a test-managed transaction and removes what it created afterwards.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class RatingStatsServiceTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private RatingStatsService ratingStatsService;
+    @Autowired private ReviewService reviewService;
+    @Autowired private UserBooksService userBooksService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private UserBooksRepository userBooksRepository;
+    @Autowired private ReviewRepository reviewRepository;
+    @Autowired private UserStatsRepository userStatsRepository;
+    @Autowired private BookRatingStatsRepository bookRatingStatsRepository;
+    @Autowired private UserRatingStatsRepository userRatingStatsRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private User first;
+    private User second;
+    private Book rated;
+    private Book unrated;
+
+    @BeforeEach
+    void setUp() {
+        first = fixtures.user("ratingfirst");
+        second = fixtures.user("ratingsecond");
+        rated = fixtures.book("Rated Book");
+        unrated = fixtures.book("Unrated Book");
+        for (User user : List.of(first, second)) {
+            userBooksService.addUserBook(user, rated, BookStatus.READ);
+            userBooksService.addUserBook(user, unrated, BookStatus.READ);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (User user : List.of(first, second)) {
+            reviewRepository.deleteAll(reviewRepository.findByUser(user));
+            userBooksRepository.deleteAll(userBooksRepository.findAllByUser(user));
+        }
+        bookRepository.deleteAll(List.of(rated, unrated));
+        bookRatingStatsRepository.deleteAllById(List.of(rated.getBookID(), unrated.getBookID()));
+        for (User user : List.of(first, second)) {
+            userRatingStatsRepository.findById(user.getUserID()).ifPresent(userRatingStatsRepository::delete);
+            userStatsRepository.findById(user.getUserID()).ifPresent(userStatsRepository::delete);
+            userRepository.delete(user);
+        }
+    }
+
+    private ReviewDTO review(Book book, User user, Integer rating) {
+        return new ReviewDTO(book.getBookID(), user.getUserID(), rating, "Thoughts");
+    }
+
+    @Test
+    void aggregates_ShouldFollowReviewCreateUpdateAndDelete() {
+        reviewService.createReview(review(rated, first, 5), first, rated);
+        reviewService.createReview(review(rated, second, 2), second, rated);
+        reviewService.createReview(review(unrated, first, null), first, unrated);
+
+        assertThat(ratingStatsService.getAverageRating(rated)).isEqualTo(3.5);
+        assertThat(ratingStatsService.getAverageRating(first)).isEqualTo(5.0);
+
+        reviewService.updateReview(review(rated, second, 4), second, rated);
+        assertThat(bookRatingStatsRepository.findById(rated.getBookID()).orElseThrow().getHistogram())
+                .isEqualTo(Map.of(1, 0L, 2, 0L, 3, 0L, 4, 1L, 5, 1L));
+
+        reviewService.deleteReview(first, rated);
+        BookRatingStats stats = bookRatingStatsRepository.findById(rated.getBookID()).orElseThrow();
+        assertThat(stats.getRatings()).isEqualTo(1);
+        assertThat(stats.getAverageRating()).isEqualTo(4.0);
+        assertThat(ratingStatsService.getAverageRating(first)).isEqualTo(0.0);
+        assertThat(ratingStatsService.getAverageRating(unrated)).isEqualTo(0.0);
+    }
+
+    @Test
+    void getBookRatings_ShouldAnswerForManyBooksInOneStatement_InRequestOrder() {
+        reviewService.createReview(review(rated, first, 3), first, rated);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<BookRatingSummary> summaries = ratingStatsService.getBookRatings(
+                List.of(unrated.getBookID(), rated.getBookID(), unrated.getBookID()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(summaries).extracting(BookRatingSummary::bookID)
+                .containsExactly(unrated.getBookID(), rated.getBookID());
+        assertThat(summaries.get(0).ratings()).isZero();
+        assertThat(summaries.get(1).averageRating()).isEqualTo(3.0);
+        assertThat(summaries.get(1).histogram()).containsEntry(3, 1L);
+    }
+
+    @Test
+    void getBookRatings_ShouldRejectOversizedBatches() {
+        List<Long> tooMany = LongStream.rangeClosed(1, 501).boxed().toList();
+        assertThatThrownBy(() -> ratingStatsService.getBookRatings(tooMany))
+                .isInstanceOf(MalformedDTOException.class);
+    }
+
+    @Test
+    void concurrentFirstRatings_ShouldBothBeCounted() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CyclicBarrier bothWritten = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> writers = List.of(first, second).stream()
+                    .<Future<?>>map(user -> executor.submit(() -> transaction.executeWithoutResult(status -> {
+                        reviewService.createReview(review(rated, user, user == first ? 5 : 2), user, rated);
+                        try {
+                            bothWritten.await(10, TimeUnit.SECONDS);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })))
+                    .toList();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BookRatingStats stats = bookRatingStatsRepository.findById(rated.getBookID()).orElseThrow();
+        assertThat(stats.getRatings()).isEqualTo(2);
+        assertThat(stats.getRatingSum()).isEqualTo(7);
+    }
+
+    @Test
+    void rebuildAll_ShouldRepairDriftFromTheReviewsTable() {
+        reviewService.createReview(review(rated, first, 4), first, rated);
+        reviewService.createReview(review(rated, second, 1), second, rated);
+
+        BookRatingStats drifted = bookRatingStatsRepository.findById(rated.getBookID()).orElseThrow();
+        drifted.setRatings(7);
+        drifted.setFiveStars(7);
+        bookRatingStatsRepository.save(drifted);
+
+        ratingStatsService.rebuildAll();
+
+        BookRatingStats repaired = bookRatingStatsRepository.findById(rated.getBookID()).orElseThrow();
+        assertThat(repaired.getRatings()).isEqualTo(2);
+        assertThat(repaired.getRatingSum()).isEqualTo(5);
+        assertThat(repaired.getHistogram()).containsEntry(1, 1L).containsEntry(4, 1L).containsEntry(5, 0L);
+        assertThat(userRatingStatsRepository.findById(second.getUserID()).orElseThrow().getAverageRating())
+                .isEqualTo(1.0);
+    }
+}
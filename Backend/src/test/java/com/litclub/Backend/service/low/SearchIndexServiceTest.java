@@ -0,0 +1,210 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.search.SearchDocument;
+import com.litclub.Backend.construct.search.SearchDocumentType;
+import com.litclub.Backend.construct.search.SearchHit;
+import com.litclub.Backend.construct.search.SearchQuery;
+import com.litclub.Backend.entity.*;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.repository.*;
+import com.litclub.Backend.search.SearchEngine;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.service.middle.ReplyService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Searches the in-memory engine used by the test profile.
+ *
+ * <p>Index changes are applied when the writing transaction commits, so this test runs without a
+ * test-managed transaction and removes what it created afterwards.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchIndexServiceTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private SearchIndexService searchIndexService;
+    @Autowired private NoteService noteService;
+    @Autowired private ReplyService replyService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private ClubMembershipRepository clubMembershipRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserStatsRepository userStatsRepository;
+    @Autowired private NoteRepository noteRepository;
+    @Autowired private ReviewRepository reviewRepository;
+    @Autowired private SearchEngine searchEngine;
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private User member;
+    private User outsider;
+    private Book book;
+    private Club club;
+
+    @BeforeEach
+    void setUp() {
+        owner = fixtures.user("searchowner");
+        member = fixtures.user("searchmember");
+        outsider = fixtures.user("searchoutsider");
+
+        book = fixtures.book("Leviathan Voyages", "Ishmael Writer");
+        searchIndexService.indexBook(book);
+
+        club = fixtures.club("Search Club", owner);
+        fixtures.enroll(club, owner, ClubRole.MEMBER);
+        fixtures.enroll(club, member, ClubRole.MEMBER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (User user : List.of(owner, member, outsider)) {
+            noteService.getAllNotes(user).stream()
+                    .filter(note -> !(note instanceof Reply))
+                    .forEach(note -> noteService.deleteNote(note.getNoteID()));
+        }
+        clubMembershipRepository.deleteAll(clubMembershipRepository.findByClub(club));
+        clubRepository.delete(club);
+        bookRepository.delete(book);
+        searchIndexService.rebuild();
+        for (User user : List.of(owner, member, outsider)) {
+            userStatsRepository.findById(user.getUserID()).ifPresent(userStatsRepository::delete);
+            userRepository.delete(user);
+        }
+    }
+
+    private List<Long> search(User viewer, String text) {
+        return searchIndexService.search(viewer.getUserID(), text, Set.of(), PageRequest.of(0, 20))
+                .map(SearchHit::entityID).getContent();
+    }
+
+    @Test
+    void search_ShouldRankBetterMatchesFirst_AndMatchWordForms() {
+        Note passing = noteService.save(owner, book, "The whale surfaced once near the ship",
+                Optional.of(club), Optional.empty(), false);
+        Note focused = noteService.save(owner, book, "Whales, whales and more whales: the whaling chapters",
+                Optional.of(club), Optional.empty(), false);
+
+        assertThat(search(member, "whale")).containsExactly(focused.getNoteID(), passing.getNoteID());
+        assertThat(searchIndexService.search(member.getUserID(), "leviathan", Set.of(SearchDocumentType.BOOK),
+                PageRequest.of(0, 20)).getContent()).extracting(SearchHit::entityID).containsExactly(book.getBookID());
+    }
+
+    @Test
+    void search_ShouldOnlyShowPrivateNotesToTheirOwner_AndClubNotesToMembers() {
+        Note secret = noteService.save(owner, book, "Private musings on the harpoon",
+                Optional.empty(), Optional.empty(), true);
+        Note shared = noteService.save(owner, book, "Club thoughts on the harpoon",
+                Optional.of(club), Optional.empty(), false);
+
+        assertThat(search(owner, "harpoon")).containsExactlyInAnyOrder(secret.getNoteID(), shared.getNoteID());
+        assertThat(search(member, "harpoon")).containsExactly(shared.getNoteID());
+        assertThat(search(outsider, "harpoon")).isEmpty();
+    }
+
+    @Test
+    void search_ShouldApplyTheRootNotesVisibility_ToReplies() {
+        Note secret = noteService.save(owner, book, "Private root", Optional.empty(), Optional.empty(), true);
+        Reply reply = replyService.createReply(owner, secret, "A reply about the compass");
+
+        Page<SearchHit> hits = searchIndexService.search(owner.getUserID(), "compass", Set.of(SearchDocumentType.REPLY),
+                PageRequest.of(0, 20));
+        assertThat(hits.getContent()).extracting(SearchHit::entityID).containsExactly(reply.getNoteID());
+        assertThat(search(member, "compass")).isEmpty();
+    }
+
+    @Test
+    void search_ShouldReflectUpdates_AndDropDeletedThreads() {
+        Note note = noteService.save(owner, book, "Notes on the albatross",
+                Optional.of(club), Optional.empty(), false);
+        replyService.createReply(member, note, "The albatross again");
+
+        noteService.updateNote("Notes on the mariner", note.getNoteID());
+        assertThat(search(owner, "albatross")).hasSize(1).doesNotContain(note.getNoteID());
+        assertThat(search(owner, "mariner")).containsExactly(note.getNoteID());
+
+        noteService.deleteNote(note.getNoteID());
+        assertThat(search(owner, "albatross")).isEmpty();
+        assertThat(search(owner, "mariner")).isEmpty();
+    }
+
+    @Test
+    void search_ShouldRejectBlankText() {
+        assertThatThrownBy(() -> search(owner, "  ")).isInstanceOf(MalformedDTOException.class);
+    }
+
+    @Test
+    void rebuild_ShouldLeaveTheIndexUntouched_WhenABatchFails() {
+        Note note = noteService.save(owner, book, "Notes on the kraken", Optional.of(club), Optional.empty(), false);
+        SearchIndexService failing = new SearchIndexService(new FailingSecondBatch(searchEngine), bookRepository,
+                noteRepository, reviewRepository, clubMembershipRepository, entityManager, transactionManager);
+
+        assertThatThrownBy(failing::rebuild).isInstanceOf(IllegalStateException.class);
+
+        assertThat(search(member, "kraken")).containsExactly(note.getNoteID());
+        assertThat(searchIndexService.search(member.getUserID(), "leviathan", Set.of(SearchDocumentType.BOOK),
+                PageRequest.of(0, 20)).getContent()).extracting(SearchHit::entityID).containsExactly(book.getBookID());
+    }
+
+    /** Passes writes on to the real engine, but fails the second batch of documents. */
+    private static final class FailingSecondBatch implements SearchEngine {
+
+        private final SearchEngine delegate;
+        private int batches;
+
+        private FailingSecondBatch(SearchEngine delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void upsert(Collection<SearchDocument> documents) {
+            if (++batches == 2) throw new IllegalStateException("Batch failed");
+            delegate.upsert(documents);
+        }
+
+        @Override
+        public void delete(SearchDocumentType type, Collection<Long> entityIDs) {
+            delegate.delete(type, entityIDs);
+        }
+
+        @Override
+        public void deleteThread(Long rootNoteID) {
+            delegate.deleteThread(rootNoteID);
+        }
+
+        @Override
+        public Page<SearchHit> search(SearchQuery query, Pageable pageable) {
+            return delegate.search(query, pageable);
+        }
+
+        @Override
+        public boolean needsRebuild() {
+            return delegate.needsRebuild();
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.construct.meeting.RegisterDTO;
+import com.litclub.Backend.construct.meeting.RsvpStatus;
+import com.litclub.Backend.construct.review.ReviewDTO;
+import com.litclub.Backend.construct.teardown.TeardownReport;
+import com.litclub.Backend.construct.teardown.TeardownStep;
+import com.litclub.Backend.entity.*;
+import com.litclub.Backend.repository.*;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.service.middle.ClubService;
+import com.litclub.Backend.service.middle.MeetingService;
+import com.litclub.Backend.service.middle.ReplyService;
+import com.litclub.Backend.service.middle.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teardowns schedule statistics and index updates for commit time, so this test runs without a
+ * test-managed transaction and removes what it created afterwards.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TeardownServiceTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TeardownService teardownService;
+    @Autowired private ClubService clubService;
+    @Autowired private UserService userService;
+    @Autowired private MeetingService meetingService;
+    @Autowired private ReplyService replyService;
+    @Autowired private NoteService noteService;
+    @Autowired private DiscussionPromptService discussionPromptService;
+    @Autowired private ClubMembershipService clubMembershipService;
+    @Autowired private ClubBookService clubBookService;
+    @Autowired private MeetingRegisterService meetingRegisterService;
+    @Autowired private ReviewService reviewService;
+    @Autowired private UserBooksService userBooksService;
+    @Autowired private UserStatsService userStatsService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private NoteRepository noteRepository;
+    @Autowired private BookRatingStatsRepository bookRatingStatsRepository;
+
+    private User owner;
+    private User member;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        owner = fixtures.user("teardownowner");
+        member = fixtures.user("teardownmember");
+        Book newBook = new Book();
+        newBook.setTitle("Teardown Book");
+        newBook.setAddedBy(owner);
+        book = bookRepository.save(newBook);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (User user : List.of(owner, member)) {
+            if (userRepository.existsById(user.getUserID())) {
+                teardownService.deleteUser(user.getUserID());
+            }
+        }
+        bookRatingStatsRepository.deleteById(book.getBookID());
+        bookRepository.deleteById(book.getBookID());
+    }
+
+    private Club createClub(String name) {
+        Club club = new Club();
+        club.setClubName(name);
+        club = clubService.registerClub(club, owner);
+        clubMembershipService.enrollUserToClub(club, member);
+        return club;
+    }
+
+    private static Map<String, Long> deletedRows(TeardownReport report) {
+        return report.steps().stream()
+                .filter(step -> "DELETE".equals(step.operation()))
+                .collect(Collectors.toMap(TeardownStep::table, TeardownStep::rows, Long::sum));
+    }
+
+    @Test
+    void deleteClub_ShouldRemoveEveryDependentRow_AndReportPerTable() {
+        Club club = createClub("Teardown Club");
+        Note note = noteService.save(owner, book, "Opening note", Optional.of(club), Optional.empty(), false);
+        Reply reply = replyService.createReply(member, note, "A reply");
+        replyService.createReply(owner, reply, "A nested reply");
+        DiscussionPrompt prompt = discussionPromptService.createPrompt("Thoughts?", owner, club);
+        noteService.save(member, book, "An answer", Optional.of(club), Optional.of(prompt), false);
+        LocalDateTime start = LocalDateTime.now().plusDays(2);
+        Meeting meeting = meetingService.createMeeting(club, owner, "Session", start, start.plusHours(1),
+                "Library", null);
+        meetingService.registerAttendee(meeting, member, RsvpStatus.ATTENDING);
+        meetingRegisterService.addEntry(new RegisterDTO(meeting, member, true, false, false));
+        clubBookService.createClubBook(club, book);
+        long versionBefore = userRepository.findById(member.getUserID()).orElseThrow().getMembershipVersion();
+
+        TeardownReport report = clubService.deleteClub(club.getClubID(), owner.getUserID());
+
+        assertThat(report.finished()).isTrue();
+        assertThat(report.error()).isNull();
+        assertThat(deletedRows(report)).containsAllEntriesOf(Map.of(
+                "replies", 2L, "notes", 4L, "discussion_prompts", 1L,
+                "meeting_attendees", 1L, "meeting_register", 1L, "meetings", 1L,
+                "club_books", 1L, "club_membership_roles", 3L, "club_memberships", 2L, "clubs", 1L));
+        assertThat(report.rowsDeleted()).isEqualTo(17);
+        assertThat(teardownService.getReport(report.teardownID()).steps()).isEqualTo(report.steps());
+
+        assertThat(clubRepository.existsById(club.getClubID())).isFalse();
+        assertThat(noteRepository.existsById(note.getNoteID())).isFalse();
+        assertThat(userRepository.findById(member.getUserID()).orElseThrow().getMembershipVersion())
+                .isGreaterThan(versionBefore);
+        UserStats stats = userStatsService.getStats(member.getUserID()).orElseThrow();
+        assertThat(stats.getClubs()).isZero();
+        assertThat(stats.getNotes()).isZero();
+        assertThat(stats.getRsvps()).isZero();
+    }
+
+    @Test
+    void deleteUser_ShouldHandClubsToAnotherOwner_AndDetachSharedRows() {
+        Club club = createClub("Handover Club");
+        clubMembershipService.modifyClubRole(new HashSet<>(Set.of(ClubRole.OWNER)), member, club);
+        Note note = noteService.save(owner, book, "Soon gone", Optional.of(club), Optional.empty(), false);
+        replyService.createReply(member, note, "Gone with it");
+        userBooksService.addUserBook(owner, book, BookStatus.READ);
+        reviewService.createReview(new ReviewDTO(book.getBookID(), owner.getUserID(), 4, "Fine"), owner, book);
+        assertThat(bookRatingStatsRepository.findById(book.getBookID()).orElseThrow().getRatings()).isEqualTo(1);
+
+        userService.deleteUser(owner.getUserID());
+
+        assertThat(userRepository.existsById(owner.getUserID())).isFalse();
+        assertThat(clubRepository.findById(club.getClubID()).orElseThrow().getCreator().getUserID())
+                .isEqualTo(member.getUserID());
+        assertThat(bookRepository.findById(book.getBookID()).orElseThrow().getAddedBy()).isNull();
+        assertThat(bookRatingStatsRepository.findById(book.getBookID()).orElseThrow().getRatings()).isZero();
+        assertThat(userStatsService.getStats(member.getUserID()).orElseThrow().getNotes()).isZero();
+
+        clubService.deleteClub(club.getClubID(), owner.getUserID());
+    }
+
+    @Test
+    void startClubDeletion_ShouldRunInTheBackground_AndFinish() throws InterruptedException {
+        Club club = createClub("Background Club");
+        noteService.save(member, book, "Background note", Optional.of(club), Optional.empty(), false);
+
+        TeardownReport started = teardownService.startClubDeletion(club.getClubID(), owner.getUserID());
+        assertThat(teardownService.isRequester(started.teardownID(), owner.getUserID())).isTrue();
+        assertThat(teardownService.isRequester(started.teardownID(), member.getUserID())).isFalse();
+        TeardownReport report = started;
+        for (int attempt = 0; attempt < 100 && !report.finished(); attempt++) {
+            Thread.sleep(50);
+            report = teardownService.getReport(started.teardownID());
+        }
+
+        assertThat(report.finished()).isTrue();
+        assertThat(report.error()).isNull();
+        assertThat(deletedRows(report)).containsEntry("notes", 1L).containsEntry("clubs", 1L);
+        assertThat(clubRepository.existsById(club.getClubID())).isFalse();
+    }
+}
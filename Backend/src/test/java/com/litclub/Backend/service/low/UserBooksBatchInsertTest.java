@@ -0,0 +1,140 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.entity.UserBook;
+import com.litclub.Backend.repository.BookRepository;
+import com.litclub.Backend.repository.UserBooksRepository;
+import com.litclub.Backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * New library entries are persisted rather than merged, so a batch of them costs no lookups and goes out
+ * as JDBC batches. Runs without a test-managed transaction and removes what it created afterwards.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class UserBooksBatchInsertTest {
+
+    @Autowired private TeardownService teardownService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private UserBooksRepository userBooksRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Book> books = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        users.forEach(user -> teardownService.deleteUser(user.getUserID()));
+        bookRepository.deleteAllById(books.stream().map(Book::getBookID).toList());
+    }
+
+    private void createCatalogue(int userCount, int bookCount) {
+        users.addAll(userRepository.saveAll(IntStream.range(0, userCount).mapToObj(n -> {
+            User user = new User("batchuser" + n, "Batch", "User", "batchuser" + n + "@example.com", false);
+            user.setPasswordHash("hash");
+            return user;
+        }).toList()));
+        books.addAll(bookRepository.saveAll(IntStream.range(0, bookCount).mapToObj(n -> {
+            Book book = new Book();
+            book.setTitle("Batch Book " + n);
+            return book;
+        }).toList()));
+    }
+
+    private List<UserBook> newEntries(List<User> readers) {
+        List<UserBook> entries = new ArrayList<>(readers.size() * books.size());
+        for (User user : readers) {
+            for (Book book : books) {
+                UserBook entry = new UserBook();
+                entry.setUser(user);
+                entry.setBook(book);
+                entry.setStatus(BookStatus.WANT_TO_READ);
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    void saveAll_ShouldInsertNewEntriesWithoutLookups() {
+        createCatalogue(2, 60);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<UserBook> entries = newEntries(users);
+        assertThat(entries).allMatch(UserBook::isNew);
+
+        userBooksRepository.saveAll(entries);
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        // a single prepared INSERT executed as batches of 50, instead of a SELECT and an INSERT per row
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(entries).noneMatch(UserBook::isNew);
+        assertThat(userBooksRepository.findAllByUser(users.getFirst())).hasSize(60)
+                .noneMatch(UserBook::isNew);
+    }
+
+    /**
+     * Inserts 100k library entries the way {@code save} used to (a merge, so a lookup per row, without
+     * batching) and the way it does now (a persist, in JDBC batches).
+     * Run with {@code LITCLUB_BENCHMARK=true ./gradlew test --tests '*UserBooksBatchInsertTest*'}.
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "LITCLUB_BENCHMARK", matches = "true")
+    void benchmark_HundredThousandEntries() {
+        createCatalogue(100, 1_000);
+
+        long merged = timeInserts(entry -> entityManager.merge(entry), 1);
+        jdbcTemplate.getJdbcTemplate().update("DELETE FROM user_books");
+        long persisted = timeInserts(entry -> entityManager.persist(entry), null);
+
+        System.out.printf("rows=%d merge-per-row=%dms batched-persist=%dms speed-up=%.1fx%n",
+                users.size() * books.size(), merged, persisted, (double) merged / persisted);
+        assertThat(userBooksRepository.count()).isEqualTo(100_000);
+    }
+
+    private long timeInserts(Consumer<UserBook> write, Integer batchSize) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long started = System.nanoTime();
+        transaction.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<UserBook> entries = newEntries(users);
+            for (int n = 0; n < entries.size(); n++) {
+                write.accept(entries.get(n));
+                if (n % 1_000 == 999) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+}
@@ -0,0 +1,130 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.user.UserRecord;
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.ClubMembership;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.repository.ClubMembershipRepository;
+import com.litclub.Backend.repository.UserRepository;
+import com.litclub.Backend.security.roles.ClubRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class UserRecordServiceTest {
+
+    private static final int USER_COUNT = 1_000;
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private UserRecordService userRecordService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ClubMembershipRepository clubMembershipRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private List<Long> userIDs;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            String username = String.format("record%04d", i);
+            User user = new User(username, "Record", "User", username + "@example.com", false);
+            user.setPasswordHash("hash");
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+
+        Club everyone = fixtures.club("Everyone", users.getFirst());
+        Club evens = fixtures.club("Evens", users.get(1));
+
+        List<ClubMembership> memberships = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            memberships.add(membership(everyone, users.get(i)));
+            if (i % 2 == 0) memberships.add(membership(evens, users.get(i)));
+        }
+        clubMembershipRepository.saveAll(memberships);
+
+        userIDs = users.stream().map(User::getUserID).toList();
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static ClubMembership membership(Club club, User user) {
+        ClubMembership membership = new ClubMembership();
+        membership.setClub(club);
+        membership.setMember(user);
+        membership.setRoles(new HashSet<>(Set.of(ClubRole.MEMBER)));
+        return membership;
+    }
+
+    private long countStatements(Supplier<List<UserRecord>> action) {
+        entityManager.clear();
+        statistics.clear();
+        List<UserRecord> records = action.get();
+        assertThat(records).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void getUserRecords_ShouldIssueSameNumberOfStatements_ForOneAndManyUsers() {
+        long single = countStatements(() -> userRecordService.getUserRecords(userIDs.subList(0, 1)));
+        long many = countStatements(() -> userRecordService.getUserRecords(userIDs));
+
+        assertThat(single).isLessThanOrEqualTo(2);
+        assertThat(many).isEqualTo(single);
+    }
+
+    @Test
+    void toUserRecords_ShouldIssueSameNumberOfStatements_ForOneAndManyUsers() {
+        List<User> users = userRepository.findAllById(userIDs);
+
+        long single = countStatements(() -> userRecordService.toUserRecords(users.subList(0, 1)));
+        long many = countStatements(() -> userRecordService.toUserRecords(users));
+
+        assertThat(single).isLessThanOrEqualTo(1);
+        assertThat(many).isEqualTo(single);
+    }
+
+    @Test
+    void getUserRecords_ShouldPreserveInputOrder_AndPopulateClubs() {
+        List<Long> requested = List.of(userIDs.get(3), userIDs.get(0), userIDs.get(3), -1L);
+
+        List<UserRecord> records = userRecordService.getUserRecords(requested);
+
+        assertThat(records).extracting(UserRecord::userID).containsExactly(userIDs.get(3), userIDs.get(0));
+        assertThat(records.get(0).clubs()).extracting(Club::getClubName).containsExactly("Everyone");
+        assertThat(records.get(1).clubs()).extracting(Club::getClubName)
+                .containsExactlyInAnyOrder("Everyone", "Evens");
+    }
+
+    @Test
+    void getAllUserRecords_ShouldReturnEveryUser() {
+        long statements = countStatements(userRecordService::getAllUserRecords);
+
+        assertThat(userRecordService.getAllUserRecords()).hasSizeGreaterThanOrEqualTo(USER_COUNT);
+        assertThat(statements).isLessThanOrEqualTo(2);
+    }
+}
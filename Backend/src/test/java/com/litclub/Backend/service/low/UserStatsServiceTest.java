@@ -0,0 +1,154 @@
+package com.litclub.Backend.service.low;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.construct.review.ReviewDTO;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.entity.UserStats;
+import com.litclub.Backend.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statistics rows are recomputed just before a transaction commits, so this test deliberately runs
+ * without a test-managed transaction and removes what it created afterwards.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class UserStatsServiceTest {
+
+    private static final long ORPHAN_ID = 987_654_321L;
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private UserStatsService userStatsService;
+    @Autowired private UserBooksService userBooksService;
+    @Autowired private ReviewService reviewService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private UserBooksRepository userBooksRepository;
+    @Autowired private ReviewRepository reviewRepository;
+    @Autowired private UserStatsRepository userStatsRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private User reader;
+    private Book first;
+    private Book second;
+
+    @BeforeEach
+    void setUp() {
+        reader = fixtures.user("statsreader");
+        first = fixtures.book("Stats First");
+        second = fixtures.book("Stats Second");
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAll(reviewRepository.findByUser(reader));
+        userBooksRepository.deleteAll(userBooksRepository.findAllByUser(reader));
+        bookRepository.deleteAll(List.of(first, second));
+        userStatsRepository.findById(ORPHAN_ID).ifPresent(userStatsRepository::delete);
+        userStatsRepository.findById(reader.getUserID()).ifPresent(userStatsRepository::delete);
+        userRepository.delete(reader);
+    }
+
+    private UserStats stored() {
+        return userStatsRepository.findById(reader.getUserID()).orElseThrow();
+    }
+
+    @Test
+    void mutations_ShouldKeepRowCurrent() {
+        userBooksService.addUserBook(reader, first, BookStatus.READ);
+        userBooksService.addUserBook(reader, second, BookStatus.READING);
+        reviewService.createReview(new ReviewDTO(first.getBookID(), reader.getUserID(), 4, "Good"), reader, first);
+
+        UserStats stats = stored();
+        assertThat(stats.getBooksRead()).isEqualTo(1);
+        assertThat(stats.getBooksReading()).isEqualTo(1);
+        assertThat(stats.getReviews()).isEqualTo(1);
+        assertThat(stats.getAverageRating()).isEqualTo(4.0);
+
+        userBooksService.changeStatus(reader, second, BookStatus.DNF);
+        reviewService.deleteReview(reader, first);
+
+        stats = stored();
+        assertThat(stats.getBooksReading()).isZero();
+        assertThat(stats.getBooksDnf()).isEqualTo(1);
+        assertThat(stats.getReviews()).isZero();
+        assertThat(stats.getAverageRating()).isZero();
+    }
+
+    @Test
+    void concurrentFirstChanges_ShouldBothBeCounted() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CyclicBarrier bothWritten = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> writers = List.of(first, second).stream()
+                    .<Future<?>>map(book -> executor.submit(() -> transaction.executeWithoutResult(status -> {
+                        userBooksService.addUserBook(reader, book, BookStatus.READ);
+                        try {
+                            bothWritten.await(10, TimeUnit.SECONDS);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })))
+                    .toList();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(stored().getBooksRead()).isEqualTo(2);
+    }
+
+    @Test
+    void getStats_ShouldReadSingleRow() {
+        userBooksService.addUserBook(reader, first, BookStatus.WANT_TO_READ);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        UserStats stats = userStatsService.getStats(reader.getUserID()).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(stats.getBooksWantToRead()).isEqualTo(1);
+        assertThat(stats.getTotalBooks()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildAll_ShouldRepairDriftAndRemoveOrphans() {
+        userBooksService.addUserBook(reader, first, BookStatus.READ);
+
+        UserStats drifted = stored();
+        drifted.setBooksRead(42);
+        userStatsRepository.save(drifted);
+        userStatsRepository.save(new UserStats(ORPHAN_ID));
+
+        userStatsService.rebuildAll();
+
+        assertThat(stored().getBooksRead()).isEqualTo(1);
+        assertThat(userStatsRepository.existsById(ORPHAN_ID)).isFalse();
+    }
+}
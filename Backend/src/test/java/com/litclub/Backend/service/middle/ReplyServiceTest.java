@@ -0,0 +1,133 @@
+package com.litclub.Backend.service.middle;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.feed.CursorPage;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.construct.note.NoteWithReplies;
+import com.litclub.Backend.entity.Note;
+import com.litclub.Backend.entity.Reply;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.repository.NoteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class ReplyServiceTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private ReplyService replyService;
+    @Autowired private NoteRepository noteRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Note root;
+    private Reply first;
+    private Statistics statistics;
+
+    /*
+     * root
+     * ├── first
+     * │   ├── firstA
+     * │   │   └── firstAA
+     * │   └── firstB
+     * └── second
+     */
+    @BeforeEach
+    void setUp() {
+        User alice = fixtures.user("threadalice");
+        User bob = fixtures.user("threadbob");
+
+        Note note = new Note();
+        note.setUser(alice);
+        note.setContent("Root note");
+        note.setPrivate(true);
+        root = noteRepository.save(note);
+
+        first = replyService.createReply(bob, root, "first");
+        Reply firstA = replyService.createReply(alice, first, "first A");
+        replyService.createReply(bob, firstA, "first AA");
+        replyService.createReply(alice, first, "first B");
+        replyService.createReply(bob, root, "second");
+
+        entityManager.flush();
+        entityManager.clear();
+        // callers hand in a note they have just loaded
+        root = noteRepository.findById(root.getNoteID()).orElseThrow();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getReplyThread_ShouldLoadEveryDepth_InTwoStatements() {
+        List<Reply> thread = replyService.getReplyThread(root);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(thread).extracting(Reply::getContent)
+                .containsExactly("first", "second", "first A", "first B", "first AA");
+    }
+
+    @Test
+    void getReplyCount_ShouldCountEveryDepth_InOneStatement() {
+        assertThat(replyService.getReplyCount(root)).isEqualTo(5);
+        assertThat(replyService.getReplyCount(first)).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getNoteWithReplies_ShouldNestReplies() {
+        NoteWithReplies tree = replyService.getNoteWithReplies(root);
+
+        assertThat(tree.replyCount()).isEqualTo(5);
+        assertThat(tree.replies()).extracting(nwr -> nwr.note().getContent())
+                .containsExactly("first", "second");
+
+        NoteWithReplies firstTree = tree.replies().getFirst();
+        assertThat(firstTree.replyCount()).isEqualTo(3);
+        assertThat(firstTree.replies()).extracting(nwr -> nwr.note().getContent())
+                .containsExactly("first A", "first B");
+        assertThat(firstTree.replies().getFirst().replies()).extracting(nwr -> nwr.note().getContent())
+                .containsExactly("first AA");
+        assertThat(tree.replies().get(1).replies()).isEmpty();
+    }
+
+    @Test
+    void getReplyFeed_ShouldPageDirectReplies_OldestFirst() {
+        CursorPage<NoteView> firstPage = replyService.getReplyFeed(root, null, 1);
+        assertThat(firstPage.content()).extracting(NoteView::content).containsExactly("first");
+        assertThat(firstPage.nextCursor()).isNotNull();
+
+        CursorPage<NoteView> secondPage = replyService.getReplyFeed(root, firstPage.nextCursor(), 1);
+        assertThat(secondPage.content()).extracting(NoteView::content).containsExactly("second");
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void deleteReplyAndChildren_ShouldRemoveWholeSubtree() {
+        replyService.deleteReplyAndChildren(first.getNoteID());
+
+        assertThat(replyService.getReplyThread(root)).extracting(Reply::getContent)
+                .containsExactly("second");
+    }
+
+    @Test
+    void deleteReplyThreadForNote_ShouldRemoveEveryReply() {
+        replyService.deleteReplyThreadForNote(root);
+
+        assertThat(replyService.getReplyCount(root)).isZero();
+        assertThat(noteRepository.findById(root.getNoteID())).isPresent();
+    }
+}
@@ -0,0 +1,95 @@
+package com.litclub.Backend.service.middle;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.construct.user.UserRecord;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.service.low.ClubMembershipService;
+import com.litclub.Backend.service.low.UserBooksService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserServicePaginationTest {
+
+    private static final int MEMBER_COUNT = 25;
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private UserService userService;
+    @Autowired private ClubMembershipService clubMembershipService;
+    @Autowired private UserBooksService userBooksService;
+
+    private Club club;
+    private Club otherClub;
+    private Book book;
+    private List<User> members;
+
+    @BeforeEach
+    void setUp() {
+        members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            String username = String.format("pager%02d", i);
+            members.add(fixtures.user(username));
+        }
+
+        club = fixtures.club("Paged Club", members.getFirst());
+        otherClub = fixtures.club("Other Club", members.getFirst());
+        book = fixtures.book("Paged Book");
+
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            User member = members.get(i);
+            clubMembershipService.enrollUserToClub(club, member);
+            if (i % 2 == 0) clubMembershipService.enrollUserToClub(otherClub, member);
+            if (i < 12) userBooksService.addUserBook(member, book, BookStatus.READING);
+        }
+    }
+
+    @Test
+    void getMemberRecordsForClub_ShouldReturnRequestedSlice_WithTotalFromDatabase() {
+        Page<UserRecord> page = userService.getMemberRecordsForClub(
+                club, PageRequest.of(2, 10, Sort.by("username")));
+
+        assertThat(page.getTotalElements()).isEqualTo(MEMBER_COUNT);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(UserRecord::username)
+                .containsExactly("pager20", "pager21", "pager22", "pager23", "pager24");
+    }
+
+    @Test
+    void getMemberRecordsForClub_ShouldPopulateClubsForEveryMember() {
+        Page<UserRecord> page = userService.getMemberRecordsForClub(
+                club, PageRequest.of(0, 4, Sort.by("username")));
+
+        assertThat(page.getContent()).hasSize(4);
+        assertThat(page.getContent().get(0).clubs()).extracting(Club::getClubName)
+                .containsExactlyInAnyOrder("Paged Club", "Other Club");
+        assertThat(page.getContent().get(1).clubs()).extracting(Club::getClubName)
+                .containsExactly("Paged Club");
+    }
+
+    @Test
+    void getReaderRecordsForBook_ShouldPageReaders() {
+        Page<UserRecord> page = userService.getReaderRecordsForBook(
+                book, PageRequest.of(1, 5, Sort.by("username")));
+
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        assertThat(page.getContent()).extracting(UserRecord::username)
+                .containsExactly("pager05", "pager06", "pager07", "pager08", "pager09");
+    }
+}
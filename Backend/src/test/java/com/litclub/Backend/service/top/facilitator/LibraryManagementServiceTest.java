@@ -0,0 +1,92 @@
+package com.litclub.Backend.service.top.facilitator;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.library.BookWithStatus;
+import com.litclub.Backend.construct.library.UserLibrary;
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.service.low.UserBooksService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(roles = "ADMINISTRATOR")
+class LibraryManagementServiceTest {
+
+    private static final int BOOKS = 20;
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private LibraryManagementService libraryManagementService;
+    @Autowired private UserBooksService userBooksService;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private User reader;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reader = fixtures.user("shelfreader");
+
+        BookStatus[] statuses = BookStatus.values();
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = fixtures.book("Shelf Book " + i, "Author " + i, "Co-Author " + i);
+            userBooksService.addUserBook(reader, book, statuses[i % statuses.length]);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getUserLibrary_ShouldSortEveryBookOntoItsShelf_WithoutPerBookQueries() {
+        UserLibrary library = libraryManagementService.getUserLibrary(reader.getUserID());
+
+        int perShelf = BOOKS / BookStatus.values().length;
+        assertThat(library.currentlyReading()).hasSize(perShelf)
+                .allMatch(bws -> bws.status() == BookStatus.READING);
+        assertThat(library.wantToRead()).hasSize(perShelf)
+                .allMatch(bws -> bws.status() == BookStatus.WANT_TO_READ);
+        assertThat(library.read()).hasSize(perShelf)
+                .allMatch(bws -> bws.status() == BookStatus.READ);
+        assertThat(library.dnf()).hasSize(perShelf)
+                .allMatch(bws -> bws.status() == BookStatus.DNF);
+        assertThat(library.read()).allMatch(bws -> bws.book().getAuthors().size() == 2);
+
+        // user, its roles, the whole library, reviews, the user record's clubs
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    void getUserLibraryShelf_ShouldPageASingleStatus() {
+        Page<BookWithStatus> page = libraryManagementService.getUserLibraryShelf(
+                reader.getUserID(), BookStatus.READING, PageRequest.of(0, 3));
+
+        assertThat(page.getTotalElements()).isEqualTo(BOOKS / BookStatus.values().length);
+        assertThat(page.getContent()).hasSize(3)
+                .allMatch(bws -> bws.status() == BookStatus.READING)
+                .allMatch(bws -> bws.book().getAuthors().size() == 2);
+
+        // user, its roles, page, count, one batch of authors
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+}
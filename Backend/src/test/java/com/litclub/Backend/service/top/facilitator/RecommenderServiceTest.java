@@ -0,0 +1,114 @@
+package com.litclub.Backend.service.top.facilitator;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.entity.Book;
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.ClubMembership;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.repository.ClubMembershipRepository;
+import com.litclub.Backend.repository.ClubRepository;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.service.low.BookNeighbourService;
+import com.litclub.Backend.service.low.UserBooksService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RecommenderServiceTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private RecommenderService recommenderService;
+    @Autowired private BookNeighbourService bookNeighbourService;
+    @Autowired private UserBooksService userBooksService;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private ClubMembershipRepository clubMembershipRepository;
+    @Autowired private EntityManager entityManager;
+
+    private final Book[] books = new Book[7];
+    private User alice;
+    private User target;
+
+    /*
+     * alice   1 2
+     * bob     1 2 3
+     * carol   1     4
+     * dave              5 6
+     * target  1   3     5 (did not finish)
+     */
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i < books.length; i++) {
+            books[i] = fixtures.book("Recommended Book " + i);
+        }
+
+        alice = saveUser("recalice", 1, 2);
+        saveUser("recbob", 1, 2, 3);
+        saveUser("reccarol", 1, 4);
+        saveUser("recdave", 5, 6);
+        target = saveUser("rectarget", 1, 3);
+        userBooksService.addUserBook(target, books[5], BookStatus.DNF);
+
+        entityManager.flush();
+    }
+
+    private User saveUser(String username, int... read) {
+        User user = fixtures.user(username);
+        for (int book : read) {
+            userBooksService.addUserBook(user, books[book], BookStatus.READ);
+        }
+        return user;
+    }
+
+    private List<Long> ids(int... indexes) {
+        return Arrays.stream(indexes).mapToObj(i -> books[i].getBookID()).toList();
+    }
+
+    @Test
+    void findRecommendedBooks_ShouldRankNeighboursOfTheLibrary_AndSkipOwnedBooks() {
+        assertThat(bookNeighbourService.rebuild()).isPositive();
+
+        Page<Book> page = recommenderService.findRecommendedBooks(target, PageRequest.of(0, 10));
+
+        // 2 neighbours both 1 and 3, 4 only 1; 1, 3 and 5 are owned; 6 is only reachable through the abandoned 5
+        assertThat(page.getContent()).extracting(Book::getBookID).containsExactlyElementsOf(ids(2, 4));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void findRecommendedBooks_ShouldFallBackToClubPopularity_WithoutNeighbours() {
+        User newcomer = saveUser("recnewcomer");
+        Club club = new Club();
+        club.setClubName("Recommendation Club");
+        club.setCreator(alice);
+        club = clubRepository.save(club);
+        for (User member : List.of(alice, newcomer)) {
+            ClubMembership membership = new ClubMembership();
+            membership.setClub(club);
+            membership.setMember(member);
+            membership.setRoles(Set.of(ClubRole.MEMBER));
+            clubMembershipRepository.save(membership);
+        }
+        entityManager.flush();
+
+        bookNeighbourService.rebuild();
+        Page<Book> page = recommenderService.findRecommendedBooks(newcomer, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(Book::getBookID).containsExactlyInAnyOrderElementsOf(ids(1, 2));
+    }
+}
@@ -0,0 +1,156 @@
+package com.litclub.Backend.service.top.facilitator;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.construct.library.BookWithStatus;
+import com.litclub.Backend.construct.library.book.BookStatus;
+import com.litclub.Backend.construct.meeting.MeetingView;
+import com.litclub.Backend.construct.note.NoteView;
+import com.litclub.Backend.construct.review.ReviewDTO;
+import com.litclub.Backend.construct.sync.SyncResponse;
+import com.litclub.Backend.construct.sync.SyncToken;
+import com.litclub.Backend.entity.*;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.service.low.*;
+import com.litclub.Backend.service.middle.MeetingService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SyncServiceTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private SyncService syncService;
+    @Autowired private UserBooksService userBooksService;
+    @Autowired private ClubMembershipService clubMembershipService;
+    @Autowired private MeetingService meetingService;
+    @Autowired private NoteService noteService;
+    @Autowired private ReviewService reviewService;
+    @Autowired private TeardownService teardownService;
+    @Autowired private EntityManager entityManager;
+
+    private User reader;
+    private Book kept;
+    private Book removed;
+    private Club stayed;
+    private Club left;
+    private Meeting meeting;
+    private Note note;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        reader = fixtures.user("syncreader");
+
+        kept = fixtures.book("Kept Book");
+        removed = fixtures.book("Removed Book");
+        userBooksService.addUserBook(reader, kept, BookStatus.WANT_TO_READ);
+        userBooksService.addUserBook(reader, removed, BookStatus.READING);
+
+        stayed = saveClub("Stayed Club");
+        left = saveClub("Left Club");
+
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        meeting = meetingService.createMeeting(stayed, reader, "Synced Meeting", start, start.plusHours(1),
+                "Library", null);
+        note = noteService.save(reader, kept, "Synced note", Optional.empty(), Optional.empty(), true);
+        review = reviewService.createReview(
+                new ReviewDTO(removed.getBookID(), reader.getUserID(), 4, "Good"), reader, removed);
+
+        entityManager.flush();
+    }
+
+    private Club saveClub(String name) {
+        Club club = fixtures.club(name, reader);
+        clubMembershipService.enrollUserToClub(club, reader);
+        return club;
+    }
+
+    /** A token for now, once the clock has moved past every row written so far. */
+    private String tokenForNow() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        Thread.sleep(5);
+        return new SyncToken(now).encode();
+    }
+
+    @Test
+    void sync_WithoutToken_ShouldReturnAFullSnapshot() {
+        SyncResponse snapshot = syncService.sync(reader.getUserID(), null);
+
+        assertThat(snapshot.full()).isTrue();
+        assertThat(snapshot.token()).isNotBlank();
+        assertThat(snapshot.library().upserted()).extracting(entry -> entry.book().getTitle())
+                .containsExactlyInAnyOrder("Kept Book", "Removed Book");
+        assertThat(snapshot.clubs().upserted()).extracting(Club::getClubName)
+                .containsExactlyInAnyOrder("Stayed Club", "Left Club");
+        assertThat(snapshot.meetings().upserted()).extracting(MeetingView::title).containsExactly("Synced Meeting");
+        assertThat(snapshot.notes().upserted()).extracting(NoteView::content).containsExactly("Synced note");
+        assertThat(snapshot.reviews().upserted()).hasSize(1);
+        assertThat(snapshot.library().deleted()).isEmpty();
+    }
+
+    @Test
+    void sync_WithToken_ShouldReturnOnlyChangesAndDeletions() throws InterruptedException {
+        String token = tokenForNow();
+
+        userBooksService.changeStatus(reader, kept, BookStatus.READING);
+        userBooksService.removeUserBook(reader, removed);
+        reviewService.deleteReview(review);
+        clubMembershipService.deRegisterUserFromClub(reader, left);
+        noteService.deleteNote(note.getNoteID());
+        teardownService.deleteMeetings(List.of(meeting.getMeetingID()));
+
+        SyncResponse delta = syncService.sync(reader.getUserID(), token);
+
+        assertThat(delta.full()).isFalse();
+        assertThat(delta.library().upserted()).extracting(BookWithStatus::status).containsExactly(BookStatus.READING);
+        assertThat(delta.library().deleted()).containsExactly(removed.getBookID());
+        assertThat(delta.reviews().deleted()).containsExactly(review.getReviewID());
+        assertThat(delta.clubs().upserted()).isEmpty();
+        assertThat(delta.clubs().deleted()).containsExactly(left.getClubID());
+        assertThat(delta.notes().deleted()).containsExactly(note.getNoteID());
+        assertThat(delta.meetings().deleted()).containsExactly(meeting.getMeetingID());
+    }
+
+    @Test
+    void sync_ShouldNotDeleteRowsThatCameBack() throws InterruptedException {
+        String token = tokenForNow();
+
+        clubMembershipService.deRegisterUserFromClub(reader, left);
+        userBooksService.removeUserBook(reader, removed);
+        entityManager.flush();
+        clubMembershipService.enrollUserToClub(left, reader);
+        userBooksService.addUserBook(reader, removed, BookStatus.READ);
+
+        SyncResponse delta = syncService.sync(reader.getUserID(), token);
+
+        assertThat(delta.clubs().upserted()).extracting(Club::getClubName).containsExactly("Left Club");
+        assertThat(delta.clubs().deleted()).isEmpty();
+        assertThat(delta.library().upserted()).extracting(entry -> entry.book().getBookID())
+                .containsExactly(removed.getBookID());
+        assertThat(delta.library().deleted()).isEmpty();
+    }
+
+    @Test
+    void sync_WithExpiredOrForeignToken_ShouldFallBack() {
+        String expired = new SyncToken(LocalDateTime.now().minusYears(1)).encode();
+        assertThat(syncService.sync(reader.getUserID(), expired).full()).isTrue();
+
+        assertThatThrownBy(() -> syncService.sync(reader.getUserID(), "not-a-token"))
+                .isInstanceOf(MalformedDTOException.class)
+                .hasMessage("Invalid sync token");
+    }
+}
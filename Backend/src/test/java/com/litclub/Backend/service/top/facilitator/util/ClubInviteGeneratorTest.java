@@ -0,0 +1,109 @@
+package com.litclub.Backend.service.top.facilitator.util;
+
+import com.litclub.Backend.TestFixtures;
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.service.low.ClubMembershipService;
+import com.litclub.Backend.service.low.RedeemedInviteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ClubInviteGeneratorTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private ClubInviteGenerator clubInviteGenerator;
+    @Autowired private ClubMembershipService clubMembershipService;
+    @Autowired private RedeemedInviteService redeemedInviteService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Value("${invite.secret}")
+    private String secret;
+
+    private User moderator;
+    private User member;
+    private Club club;
+
+    @BeforeEach
+    void setUp() {
+        moderator = fixtures.user("invitemod");
+        member = fixtures.user("invitemember");
+
+        club = fixtures.club("Invite Club", moderator);
+        fixtures.enroll(club, moderator, ClubRole.MODERATOR);
+        fixtures.enroll(club, member, ClubRole.MEMBER);
+    }
+
+    private int redemptions() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM redeemed_invites", Integer.class);
+    }
+
+    @Test
+    void decodeInvite_ShouldRedeemOnlyOnce() {
+        String token = clubInviteGenerator.generateInvite(moderator, club);
+
+        ClubInviteGenerator.DecodedInvite invite = clubInviteGenerator.decodeInvite(token);
+        assertThat(invite.clubID()).isEqualTo(club.getClubID());
+        assertThat(invite.inviterID()).isEqualTo(moderator.getUserID());
+
+        assertThatThrownBy(() -> clubInviteGenerator.decodeInvite(token))
+                .isInstanceOf(MalformedDTOException.class)
+                .hasMessage("Invite already used");
+    }
+
+    @Test
+    void decodeInvite_ShouldRejectReplay_AfterRestart() {
+        String token = clubInviteGenerator.generateInvite(moderator, club);
+        clubInviteGenerator.decodeInvite(token);
+
+        ClubInviteGenerator restarted = new ClubInviteGenerator(clubMembershipService, redeemedInviteService, secret);
+        assertThatThrownBy(() -> restarted.decodeInvite(token))
+                .isInstanceOf(MalformedDTOException.class)
+                .hasMessage("Invite already used");
+    }
+
+    @Test
+    void decodeInvite_ShouldNotRecordRejectedInvites() {
+        String fromMember = clubInviteGenerator.generateInvite(member, club);
+        assertThatThrownBy(() -> clubInviteGenerator.decodeInvite(fromMember))
+                .isInstanceOf(AccessDeniedException.class);
+
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (moderator.getUserID() + ":" + club.getClubID() + ":" + System.currentTimeMillis() + ".forged")
+                        .getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> clubInviteGenerator.decodeInvite(forged))
+                .isInstanceOf(MalformedDTOException.class)
+                .hasMessage("Invalid invite signature");
+
+        assertThat(redemptions()).isZero();
+    }
+
+    @Test
+    void purgeExpired_ShouldForgetOnlyExpiredRedemptions() {
+        long now = System.currentTimeMillis();
+        assertThat(redeemedInviteService.markRedeemed("expired", now - 1_000)).isTrue();
+        assertThat(redeemedInviteService.markRedeemed("current", now + 60_000)).isTrue();
+        assertThat(redeemedInviteService.markRedeemed("current", now + 60_000)).isFalse();
+
+        assertThat(redeemedInviteService.purgeExpired()).isEqualTo(1);
+        assertThat(redemptions()).isEqualTo(1);
+        assertThat(redeemedInviteService.markRedeemed("current", now + 60_000)).isFalse();
+    }
+}
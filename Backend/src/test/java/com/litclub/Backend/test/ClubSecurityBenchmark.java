@@ -0,0 +1,98 @@
+package com.litclub.Backend.test;
+
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.ClubMembership;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.security.roles.utility.ClubSecurityExpressionHandler;
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Set;
+
+/**
+ * Standalone micro-benchmark for club-level authorization checks.
+ * NOT managed by Spring - runs independently with its own main method.
+ *
+ * <p>Compares the previous {@code @clubSecurity} check, which concatenated the expected authority
+ * string and streamed over every granted authority, with the {@code ClubRoleIndex} lookup now used
+ * by {@link ClubSecurityExpressionHandler}, for principals with 1, 50 and 500 memberships.</p>
+ *
+ * Usage: Run this class directly; optional first argument is the number of measured iterations.
+ */
+public class ClubSecurityBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int[] MEMBERSHIP_COUNTS = {1, 50, 500};
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        ClubSecurityExpressionHandler handler = new ClubSecurityExpressionHandler();
+
+        System.out.println("=================================================");
+        System.out.println("    Club security benchmark (" + iterations + " iterations)");
+        System.out.println("=================================================\n");
+
+        for (int count : MEMBERSHIP_COUNTS) {
+            CustomUserDetails principal = new CustomUserDetails(userWithMemberships(count));
+            Authentication auth = new UsernamePasswordAuthenticationToken(
+                    principal, null, principal.getAuthorities());
+
+            run("warmup", WARMUP_ITERATIONS, count, i -> previousCheck(auth, i) ? 1 : 0, false);
+            run("warmup", WARMUP_ITERATIONS, count, i -> handler.isModerator(auth, i) ? 1 : 0, false);
+
+            System.out.println("--- " + count + " membership(s) ---");
+            long previous = run("Previous check (concat + stream)", iterations, count,
+                    i -> previousCheck(auth, i) ? 1 : 0, true);
+            long indexed = run("Indexed check (ClubRoleIndex)", iterations, count,
+                    i -> handler.isModerator(auth, i) ? 1 : 0, true);
+            System.out.printf("Speed-up: %.2fx%n%n", (double) previous / indexed);
+        }
+    }
+
+    private static boolean previousCheck(Authentication auth, Long clubID) {
+        String role = "CLUB_" + clubID + "_MODERATOR";
+        if (auth == null || auth.getAuthorities() == null) return false;
+        return auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(a -> a.equals(role));
+    }
+
+    private static long run(String name, int iterations, int count, Operation operation, boolean print) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            // Probe existing clubs and one miss per round so both paths see hits and misses
+            sink += operation.execute((long) (i % (count + 1)) + 1);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (print) {
+            System.out.printf("%-40s %10.1f ns/op  (sink=%d)%n", name, (double) elapsed / iterations, sink);
+        }
+        return elapsed;
+    }
+
+    private static User userWithMemberships(int count) {
+        User user = new User("benchmark", "Bench", "Mark", "bench@example.com", false);
+        user.setUserID(1L);
+        for (long clubID = 1; clubID <= count; clubID++) {
+            Club club = new Club();
+            club.setClubID(clubID);
+
+            ClubMembership membership = new ClubMembership();
+            membership.setClub(club);
+            membership.setMember(user);
+            membership.setRoles(Set.of(clubID % 5 == 0 ? ClubRole.MODERATOR : ClubRole.MEMBER));
+            user.getMemberships().add(membership);
+        }
+        return user;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        int execute(Long clubID);
+    }
+}
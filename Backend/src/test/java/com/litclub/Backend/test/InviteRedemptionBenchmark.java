@@ -0,0 +1,163 @@
+package com.litclub.Backend.test;
+
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.exception.MalformedDTOException;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.service.low.ClubMembershipService;
+import com.litclub.Backend.service.low.RedeemedInviteService;
+import com.litclub.Backend.service.top.facilitator.util.ClubInviteGenerator;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Standalone benchmark for club invite redemption.
+ * NOT managed by Spring - runs independently with its own main method.
+ *
+ * <p>First compares the previous HMAC path, which created and keyed a {@link Mac} for every token, with the
+ * per-thread {@code Mac} now used by {@link ClubInviteGenerator}. Then redeems every one of 10,000 distinct invites
+ * twice, all released at once from a thread pool, against the {@code redeemed_invites} table in an in-memory H2
+ * database, and checks that each invite was accepted exactly once. The inviter's role check is stubbed out, and
+ * connections are not pooled, so that timing is dominated by connecting rather than by the store.</p>
+ *
+ * Usage: Run this class directly; optional arguments are the number of invites and of threads.
+ */
+public class InviteRedemptionBenchmark {
+
+    private static final String SECRET = "benchmark-invite-secret";
+    private static final int HMAC_ITERATIONS = 200_000;
+
+    public static void main(String[] args) throws Exception {
+        int invites = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+
+        System.out.println("=================================================");
+        System.out.println("    Invite redemption benchmark (" + invites + " invites, " + threads + " threads)");
+        System.out.println("=================================================\n");
+
+        benchmarkHmac();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:invites;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V11__redeemed_invites.sql"))
+                .execute(dataSource);
+        ClubInviteGenerator generator = new ClubInviteGenerator(
+                new AnyRole(), new RedeemedInviteService(new JdbcTemplate(dataSource)), SECRET);
+
+        Club club = new Club();
+        club.setClubID(1L);
+        List<String> tokens = new ArrayList<>(invites);
+        for (long inviterID = 1; inviterID <= invites; inviterID++) {
+            User inviter = new User();
+            inviter.setUserID(inviterID);
+            tokens.add(generator.generateInvite(inviter, club));
+        }
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger replays = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> redemptions = new ArrayList<>(invites * 2);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            for (String token : tokens) {
+                redemptions.add(() -> {
+                    start.await();
+                    try {
+                        generator.decodeInvite(token);
+                        accepted.incrementAndGet();
+                    } catch (MalformedDTOException e) {
+                        replays.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> results = new ArrayList<>(redemptions.size());
+            for (Callable<Void> redemption : redemptions) {
+                results.add(pool.submit(redemption));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+
+            System.out.printf("%-40s %10.1f µs/op  (%d redemptions in %d ms)%n", "Concurrent redemption",
+                    elapsed / 1_000.0 / redemptions.size(), redemptions.size(), elapsed / 1_000_000);
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.printf("Accepted %d, rejected as replays %d%n", accepted.get(), replays.get());
+        if (accepted.get() != invites || replays.get() != invites) {
+            throw new IllegalStateException("Expected every invite to be accepted exactly once");
+        }
+    }
+
+    private static void benchmarkHmac() throws Exception {
+        SecretKeySpec key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        Mac cached = Mac.getInstance("HmacSHA256");
+        cached.init(key);
+
+        run("warmup", () -> perTokenMac(key), false);
+        run("warmup", () -> cached.doFinal(payload()).length, false);
+
+        long previous = run("Previous HMAC (Mac per token)", () -> perTokenMac(key), true);
+        long current = run("Per-thread Mac", () -> cached.doFinal(payload()).length, true);
+        System.out.printf("Speed-up: %.2fx%n%n", (double) previous / current);
+    }
+
+    private static int perTokenMac(SecretKeySpec key) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(key);
+        return mac.doFinal(payload()).length;
+    }
+
+    private static byte[] payload() {
+        return "42:7:1700000000000".getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long run(String name, Operation operation, boolean print) throws Exception {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < HMAC_ITERATIONS; i++) {
+            sink += operation.execute();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (print) {
+            System.out.printf("%-40s %10.1f ns/op  (sink=%d)%n", name, (double) elapsed / HMAC_ITERATIONS, sink);
+        }
+        return elapsed;
+    }
+
+    /** Treats every inviter as a moderator, so that only signing and the replay store are measured. */
+    private static final class AnyRole extends ClubMembershipService {
+        AnyRole() {
+            super(null, null, null, null, null, null);
+        }
+
+        @Override
+        public boolean hasAnyRole(Long userID, Long clubID, Collection<ClubRole> roles) {
+            return true;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        int execute() throws Exception;
+    }
+}
@@ -0,0 +1,97 @@
+package com.litclub.Backend.test;
+
+import com.litclub.Backend.entity.Club;
+import com.litclub.Backend.entity.ClubMembership;
+import com.litclub.Backend.entity.User;
+import com.litclub.Backend.security.jwt.JwtClaims;
+import com.litclub.Backend.security.jwt.JwtService;
+import com.litclub.Backend.security.roles.ClubRole;
+import com.litclub.Backend.security.userdetails.CustomUserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Standalone micro-benchmark for the JWT request path.
+ * NOT managed by Spring - runs independently with its own main method.
+ *
+ * <p>Compares the previous filter path, which verified and parsed the token once in
+ * {@code extractUsername} and again in {@code isTokenValid}, with the single-pass
+ * {@link JwtService#parseToken(String)}.</p>
+ *
+ * Usage: Run this class directly; optional first argument is the number of measured iterations.
+ */
+public class JwtParseBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+                Base64.getEncoder().encodeToString("benchmark-secret-benchmark-secret-0123456789".getBytes()));
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtService, "embedClubAuthorities", true);
+        jwtService.init();
+
+        String token = "Bearer " + jwtService.generateToken(new CustomUserDetails(userWithMemberships(20)));
+
+        System.out.println("=================================================");
+        System.out.println("    JWT parse benchmark (" + iterations + " iterations)");
+        System.out.println("=================================================\n");
+
+        run("Previous path (extractUsername + isTokenValid)", WARMUP_ITERATIONS, () -> previousPath(jwtService, token));
+        run("Single parse (parseToken)", WARMUP_ITERATIONS, () -> singleParse(jwtService, token));
+
+        long previous = run("Previous path (extractUsername + isTokenValid)", iterations, () -> previousPath(jwtService, token));
+        long single = run("Single parse (parseToken)", iterations, () -> singleParse(jwtService, token));
+
+        System.out.printf("%nSpeed-up: %.2fx%n", (double) previous / single);
+    }
+
+    private static int previousPath(JwtService jwtService, String token) {
+        String username = jwtService.extractUsername(jwtService.stripBearer(token));
+        return jwtService.isTokenValid(token) ? username.length() : 0;
+    }
+
+    private static int singleParse(JwtService jwtService, String token) {
+        Optional<JwtClaims> claims = jwtService.parseToken(token);
+        return claims.map(c -> c.username().length()).orElse(0);
+    }
+
+    private static long run(String name, int iterations, Operation operation) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.execute();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-50s %8.2f µs/op  (sink=%d)%n", name, elapsed / 1_000.0 / iterations, sink);
+        return elapsed;
+    }
+
+    private static User userWithMemberships(int count) {
+        User user = new User("benchmark", "Bench", "Mark", "bench@example.com", false);
+        user.setUserID(1L);
+        for (long clubID = 1; clubID <= count; clubID++) {
+            Club club = new Club();
+            club.setClubID(clubID);
+
+            ClubMembership membership = new ClubMembership();
+            membership.setClub(club);
+            membership.setMember(user);
+            membership.setRoles(Set.of(clubID % 5 == 0 ? ClubRole.MODERATOR : ClubRole.MEMBER));
+            user.getMemberships().add(membership);
+        }
+        return user;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        int execute();
+    }
+}
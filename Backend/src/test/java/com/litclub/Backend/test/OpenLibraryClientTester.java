@@ -15,7 +15,7 @@ import java.util.Scanner;
  */
 public class OpenLibraryClientTester {
 
-    private static final OpenLibraryClient client = new OpenLibraryClient();
+    private static final OpenLibraryClient client = new OpenLibraryClient("https://openlibrary.org");
     private static final Scanner scanner = new Scanner(System.in);
 
     public static void main(String[] args) {
@@ -1,5 +1,6 @@
 package com.litclub;
 
+import com.litclub.persistence.repository.ClubRepository;
 import com.litclub.session.AppSession;
 import com.litclub.theme.ThemeManager;
 import com.litclub.ui.crossroads.CrossRoadsPage;
@@ -77,6 +78,10 @@ public class SceneManager {
         themeManager.clearRegisteredComponents();
         Stage stage = application.getPrimaryStage();
         CrossRoadsPage crossRoadsPage = new CrossRoadsPage();
+
+        ClubRepository clubRepository = ClubRepository.getInstance();
+        clubRepository.closeClubStream();
+        clubRepository.openUserStream(AppSession.getInstance().getUserRecord().userID());
         Scene scene = new Scene(crossRoadsPage);
 
         stage.setTitle("LitClub Desktop - Crossroads");
@@ -94,9 +99,11 @@ public class SceneManager {
 
         if (isPersonal) {
             EventBus.getInstance().off(EventBus.clubEvents());
+            ClubRepository.getInstance().closeClubStream();
             stage.setTitle("LitClub Desktop - " + AppSession.getInstance().getUserRecord().username());
         } else {
             EventBus.getInstance().off(EventBus.personalEvents());
+            ClubRepository.getInstance().openClubStream(AppSession.getInstance().getCurrentClub().getClubID());
             stage.setTitle("LitClub Desktop - " + AppSession.getInstance().getCurrentClub().getClubName());
         }
         stage.setMaximized(true);
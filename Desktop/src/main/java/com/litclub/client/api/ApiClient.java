@@ -1,22 +1,42 @@
 package com.litclub.client.api;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.litclub.construct.interfaces.CursorPage;
+import com.litclub.construct.interfaces.PageResponse;
 import org.json.JSONObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Singleton HTTP client for communicating with the LitClub backend.
@@ -29,6 +49,23 @@ import java.util.concurrent.CompletableFuture;
  *   <li>Error mapping and handling</li>
  * </ul>
  *
+ * <p>Responses are decoded straight from the response stream rather than buffered into a
+ * {@code String} first. Two system properties tune this:
+ * <ul>
+ *   <li>{@code litclub.api.gzip} (default {@code true}): ask the backend for gzipped responses</li>
+ *   <li>{@code litclub.api.log-sample} (default {@code 0}): fraction of responses, from 0 to 1,
+ *       whose body is printed for debugging. Status lines are always printed.</li>
+ * </ul>
+ *
+ * <p>Identical GETs are not sent twice at once: a GET or feed read for an endpoint that is
+ * already being fetched in the same session joins the request in flight. Responses fetched
+ * through {@link #getCached} are also kept for a short time; repositories
+ * {@link #invalidate(String) invalidate} them when they change what an endpoint returns.
+ * {@link #getRequestStats()} counts how often each happened.</p>
+ *
+ * <p>When a response carries a refreshed token, because the one sent predates a change to the
+ * user's club memberships, later requests are sent with the refreshed one.</p>
+ *
  * <p><strong>Thread Safety:</strong> This class is thread-safe and designed
  * as a singleton. All methods can be called from any thread.
  */
@@ -36,13 +73,34 @@ public class ApiClient {
 
     private static ApiClient instance;
 
+    // Largest page the backend serves for cursor feeds
+    private static final int FEED_PAGE_SIZE = 100;
+
+    // Response header carrying a replacement for a token issued before a membership change
+    private static final String REFRESHED_TOKEN_HEADER = "X-Refreshed-Token";
+
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final PageReader pageReader;
     private final String baseUrl;
 
+    // Response handling, from system properties
+    private final boolean gzip;
+    private final double logSample;
+
     // Session state
-    private String authToken;
-    private Long currentUserId;
+    private volatile String authToken;
+    private volatile Long currentUserId;
+
+    // GETs in flight and short-lived responses; invalidations counts calls to invalidate()
+    private final Map<RequestKey, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<RequestKey, CachedResponse> responseCache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // Diagnostics
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder cacheHitCount = new LongAdder();
 
     // Private constructor for singleton
     private ApiClient(String baseUrl) {
@@ -54,6 +112,10 @@ public class ApiClient {
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
         this.objectMapper.registerModule(new Jdk8Module());
+        this.pageReader = new PageReader(objectMapper);
+
+        this.gzip = Boolean.parseBoolean(System.getProperty("litclub.api.gzip", "true"));
+        this.logSample = Double.parseDouble(System.getProperty("litclub.api.log-sample", "0"));
     }
 
     /**
@@ -86,17 +148,39 @@ public class ApiClient {
      * @param token JWT token from login/register
      * @param userId the authenticated user's ID
      */
-    public void setAuthToken(String token, Long userId) {
+    public synchronized void setAuthToken(String token, Long userId) {
         this.authToken = token;
         this.currentUserId = userId;
+        responseCache.clear();
+    }
+
+    /**
+     * Switches to a token the backend re-issued because the one sent predates a change to the
+     * user's club memberships. Ignored unless the request that received it was sent with the
+     * current token, so a response arriving after logout or a new login cannot replace it.
+     * Responses cached under the old token are dropped, since they may reflect the old roles.
+     */
+    private synchronized void adoptRefreshedToken(HttpResponse<?> response) {
+        response.headers().firstValue(REFRESHED_TOKEN_HEADER).ifPresent(refreshed -> {
+            String sent = response.request().headers().firstValue("Authorization").orElse(null);
+            if (authToken != null && sent != null && sent.equals("Bearer " + authToken)) {
+                this.authToken = refreshed;
+                responseCache.clear();
+            }
+        });
     }
 
     /**
-     * Clears the authentication token (logout).
+     * Clears the authentication token (logout), and every response cached for the session.
      */
-    public void clearAuthToken() {
+    public synchronized void clearAuthToken() {
         this.authToken = null;
         this.currentUserId = null;
+        responseCache.clear();
+
+        RequestStats stats = getRequestStats();
+        System.out.println("[API] " + stats.sent() + " GETs sent, " + stats.coalesced() + " joined a request in flight, "
+                + stats.cacheHits() + " served from cache");
     }
 
     /**
@@ -151,34 +235,146 @@ public class ApiClient {
 
     /**
      * Performs a GET request with Class-based deserialization.
+     * Joins an identical GET already in flight; callers then share the response object.
      *
      * @param endpoint API endpoint path (e.g., "/api/books")
      * @param responseType class of the expected response
      * @return CompletableFuture with deserialized response
      */
     public <T> CompletableFuture<T> get(String endpoint, Class<T> responseType) {
-        HttpRequest request = buildRequest(endpoint)
-                .GET()
-                .build();
-
-        logRequest("GET", endpoint);
-        return sendRequest(request, responseType);
+        return shared("GET", endpoint, null, () -> sendGet(endpoint, responseType));
     }
 
     /**
      * Performs a GET request with TypeReference-based deserialization for generic types.
+     * Joins an identical GET already in flight; callers then share the response object.
      *
      * @param endpoint API endpoint path
      * @param typeReference TypeReference for generic types (e.g., List&lt;Book&gt;)
      * @return CompletableFuture with deserialized response
      */
     public <T> CompletableFuture<T> get(String endpoint, TypeReference<T> typeReference) {
+        return shared("GET", endpoint, null, () -> sendGet(endpoint, typeReference));
+    }
+
+    /**
+     * Performs a GET request whose response is kept for {@code ttl} and served to later calls
+     * for the same endpoint until it expires or is {@link #invalidate(String) invalidated}.
+     * Failed requests are not kept.
+     *
+     * @param endpoint API endpoint path
+     * @param responseType class of the expected response
+     * @param ttl how long the response may be served from memory
+     * @return CompletableFuture with deserialized response
+     */
+    public <T> CompletableFuture<T> getCached(String endpoint, Class<T> responseType, Duration ttl) {
+        return shared("GET", endpoint, ttl, () -> sendGet(endpoint, responseType));
+    }
+
+    /**
+     * Performs a GET request for a generic type whose response is kept for {@code ttl}.
+     *
+     * @see #getCached(String, Class, Duration)
+     */
+    public <T> CompletableFuture<T> getCached(String endpoint, TypeReference<T> typeReference, Duration ttl) {
+        return shared("GET", endpoint, ttl, () -> sendGet(endpoint, typeReference));
+    }
+
+    /**
+     * Drops cached responses for an endpoint and everything below it, e.g.
+     * {@code "/api/clubs/3/meetings"} also covers {@code "/api/clubs/3/meetings/feed"}.
+     * Requests for it already in flight complete for their callers but are no longer joined or cached.
+     *
+     * @param endpoint API endpoint path, without query string
+     */
+    public void invalidate(String endpoint) {
+        invalidations.incrementAndGet();
+        responseCache.keySet().removeIf(key -> key.isBelow(endpoint));
+        inFlight.keySet().removeIf(key -> key.isBelow(endpoint));
+    }
+
+    /**
+     * Gets how many GETs were sent, joined a request in flight, or were served from cache,
+     * since the client was created.
+     */
+    public RequestStats getRequestStats() {
+        return new RequestStats(sentCount.sum(), coalescedCount.sum(), cacheHitCount.sum());
+    }
+
+    /**
+     * Fetches one page of a paginated endpoint, handing its items over in chunks as they are decoded.
+     *
+     * <p>{@code onChunk} receives only the items decoded since its last call, so callers append them;
+     * it runs on the HTTP thread, before the returned future completes.</p>
+     *
+     * @param endpoint API endpoint path, including its page query
+     * @param typeReference TypeReference for the page type
+     * @param onChunk called with each chunk of up to {@link PageReader#CHUNK_SIZE} items; may be null
+     * @return CompletableFuture with the whole page
+     */
+    public <T> CompletableFuture<PageResponse<T>> getPage(String endpoint, TypeReference<PageResponse<T>> typeReference,
+                                                          Consumer<List<T>> onChunk) {
+        return getPaged(endpoint, typeReference, PageResponse::setContent, onChunk);
+    }
+
+    /**
+     * Reads a cursor-paginated feed to its end, following each page's cursor to the next.
+     *
+     * <p>Pages are requested one after another and decoded as they stream in; every
+     * {@link PageReader#CHUNK_SIZE} items {@code onProgress} receives the items decoded since its
+     * last call, so callers can show the feed while the rest streams in by appending them. Its
+     * first call is flagged so callers replace what they showed before; an empty feed gets one
+     * such call with no items once its last page is read.</p>
+     *
+     * <p>A read of a feed that is already being read joins it: the caller gets the whole feed
+     * when it completes, but {@code onProgress} is only called for the first reader.</p>
+     *
+     * @param endpoint feed endpoint path without query string (e.g., "/api/clubs/1/notes/feed")
+     * @param typeReference TypeReference for the page type
+     * @param onProgress called on the HTTP thread with each chunk of new items; may be null
+     * @return CompletableFuture with every item of the feed, in feed order
+     */
+    public <T> CompletableFuture<List<T>> getFeed(String endpoint, TypeReference<CursorPage<T>> typeReference,
+                                                  FeedListener<T> onProgress) {
+        return shared("FEED", endpoint, null,
+                () -> getFeedFrom(endpoint, null, typeReference, onProgress, new ArrayList<>()));
+    }
+
+    private <T> CompletableFuture<List<T>> getFeedFrom(String endpoint, String cursor,
+                                                       TypeReference<CursorPage<T>> typeReference,
+                                                       FeedListener<T> onProgress, List<T> accumulator) {
+        String query = "?size=" + FEED_PAGE_SIZE
+                + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+        Consumer<List<T>> onChunk = chunk -> {
+            // Chunks are never empty, so the feed's first chunk is the one that finds nothing loaded
+            boolean first = accumulator.isEmpty();
+            accumulator.addAll(chunk);
+            if (onProgress != null) {
+                onProgress.onItems(chunk, first);
+            }
+        };
+
+        return getPaged(endpoint + query, typeReference, CursorPage::setContent, onChunk)
+                .thenCompose(page -> {
+                    if (page.hasNext()) {
+                        return getFeedFrom(endpoint, page.getNextCursor(), typeReference, onProgress, accumulator);
+                    }
+                    if (onProgress != null && accumulator.isEmpty()) {
+                        onProgress.onItems(List.of(), true);
+                    }
+                    return CompletableFuture.completedFuture(accumulator);
+                });
+    }
+
+    private <P, T> CompletableFuture<P> getPaged(String endpoint, TypeReference<P> typeReference,
+                                                 BiConsumer<P, List<T>> setContent, Consumer<List<T>> onChunk) {
         HttpRequest request = buildRequest(endpoint)
                 .GET()
                 .build();
+        JavaType pageType = objectMapper.getTypeFactory().constructType(typeReference);
 
         logRequest("GET", endpoint);
-        return sendRequest(request, typeReference);
+        return sendRequest(request, parser -> pageReader.read(parser, pageType, setContent, onChunk));
     }
 
     /**
@@ -309,20 +505,128 @@ public class ApiClient {
                 .build();
 
         logRequest("DELETE", endpoint);
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
                 .thenApply(response -> {
-                    if (response.statusCode() >= 400) {
-                        throw new ApiException(
-                                "DELETE request failed with status " + response.statusCode(),
-                                response.body()
-                        );
+                    adoptRefreshedToken(response);
+                    try (InputStream body = decodedBody(response)) {
+                        if (response.statusCode() >= 400) {
+                            throw new ApiException(
+                                    "DELETE request failed with status " + response.statusCode(),
+                                    new String(body.readAllBytes(), StandardCharsets.UTF_8)
+                            );
+                        }
+                        return null;
+                    } catch (IOException e) {
+                        throw new ApiException("Failed to read response", e);
+                    }
+                });
+    }
+
+    /**
+     * Opens a server-sent event stream and deserializes each event's data.
+     *
+     * <p>The stream reconnects on its own and resumes after the last event it received; see
+     * {@link EventStream}. Events that cannot be deserialized are logged and skipped.</p>
+     *
+     * @param endpoint stream endpoint path (e.g., "/api/clubs/1/events")
+     * @param eventType class of each event's data
+     * @param onEvent called with each event, in order, on the stream's own thread
+     * @return the open stream, to be closed when no longer needed
+     */
+    public <T> EventStream stream(String endpoint, Class<T> eventType, Consumer<T> onEvent) {
+        EventStream stream = new EventStream(endpoint, httpClient,
+                lastEventID -> {
+                    logRequest("STREAM", endpoint);
+                    return buildStreamRequest(endpoint, lastEventID);
+                },
+                data -> {
+                    try {
+                        onEvent.accept(objectMapper.readValue(data, eventType));
+                    } catch (JsonProcessingException e) {
+                        throw new ApiException("Failed to deserialize event", e);
                     }
-                    return null;
                 });
+        stream.start();
+        return stream;
     }
 
     // ====== INTERNAL HELPERS ======
 
+    /**
+     * Serves a read from cache, joins an identical one in flight, or starts it through {@code request}.
+     * Every caller gets its own copy of the shared future, so cancelling one does not affect the others.
+     *
+     * @param ttl how long to cache the response, or null not to cache it
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> shared(String method, String endpoint, Duration ttl,
+                                            Supplier<CompletableFuture<T>> request) {
+        RequestKey key = new RequestKey(method, endpoint, authToken);
+
+        if (ttl != null) {
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+                cacheHitCount.increment();
+                return CompletableFuture.completedFuture((T) cached.value());
+            }
+            if (cached != null) {
+                responseCache.remove(key, cached);
+            }
+        }
+
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalescedCount.increment();
+            return ((CompletableFuture<T>) existing).copy();
+        }
+
+        long generation = invalidations.get();
+        sentCount.increment();
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+
+        response.whenComplete((value, error) -> {
+            if (error == null && ttl != null && invalidations.get() == generation) {
+                CachedResponse cached = new CachedResponse(value, System.nanoTime() + ttl.toNanos());
+                responseCache.put(key, cached);
+                if (invalidations.get() != generation) {
+                    responseCache.remove(key, cached); // invalidated while being stored
+                }
+            }
+            inFlight.remove(key, created);
+
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(value);
+            }
+        });
+        return created.copy();
+    }
+
+    private <T> CompletableFuture<T> sendGet(String endpoint, Class<T> responseType) {
+        HttpRequest request = buildRequest(endpoint)
+                .GET()
+                .build();
+
+        logRequest("GET", endpoint);
+        return sendRequest(request, responseType);
+    }
+
+    private <T> CompletableFuture<T> sendGet(String endpoint, TypeReference<T> typeReference) {
+        HttpRequest request = buildRequest(endpoint)
+                .GET()
+                .build();
+
+        logRequest("GET", endpoint);
+        return sendRequest(request, typeReference);
+    }
+
     /**
      * Builds a request with common headers and authentication.
      */
@@ -333,6 +637,10 @@ public class ApiClient {
                 .header("Accept", "application/json")
                 .timeout(Duration.ofSeconds(30));
 
+        if (gzip) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+
         // Add auth token if available
         if (authToken != null && !authToken.isEmpty()) {
             builder.header("Authorization", "Bearer " + authToken);
@@ -341,6 +649,25 @@ public class ApiClient {
         return builder;
     }
 
+    /**
+     * Builds an event stream request; it has no timeout, since the stream stays open.
+     */
+    private HttpRequest buildStreamRequest(String endpoint, String lastEventID) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + endpoint))
+                .header("Accept", "text/event-stream")
+                .GET();
+
+        if (authToken != null && !authToken.isEmpty()) {
+            builder.header("Authorization", "Bearer " + authToken);
+        }
+        if (lastEventID != null) {
+            builder.header("Last-Event-ID", lastEventID);
+        }
+
+        return builder.build();
+    }
+
     /**
      * Logs HTTP request details to console.
      */
@@ -352,59 +679,136 @@ public class ApiClient {
      * Sends the request and deserializes the response using Class.
      */
     private <T> CompletableFuture<T> sendRequest(HttpRequest request, Class<T> responseType) {
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(response -> deserializeResponse(response,
-                        body -> objectMapper.readValue(body, responseType)));
+        return sendRequest(request, parser -> objectMapper.readValue(parser, responseType));
     }
 
     /**
      * Sends the request and deserializes the response using TypeReference.
      */
     private <T> CompletableFuture<T> sendRequest(HttpRequest request, TypeReference<T> typeReference) {
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(response -> deserializeResponse(response,
-                        body -> objectMapper.readValue(body, typeReference)));
+        return sendRequest(request, parser -> objectMapper.readValue(parser, typeReference));
+    }
+
+    private <T> CompletableFuture<T> sendRequest(HttpRequest request, DeserializationFunction<T> deserializer) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> deserializeResponse(response, deserializer));
     }
 
     /**
      * Common deserialization logic using functional interface for flexibility.
+     *
+     * <p>The body is parsed as it is read from the connection. Only error bodies, and bodies
+     * picked for debug logging, are read into memory whole.</p>
      */
-    private <T> T deserializeResponse(HttpResponse<String> response,
+    private <T> T deserializeResponse(HttpResponse<InputStream> response,
                                       DeserializationFunction<T> deserializer) {
-        // Handle HTTP errors
-        if (response.statusCode() >= 400) {
-            throw new ApiException(
-                    "Request failed with status " + response.statusCode(),
-                    response.body()
-            );
-        }
+        adoptRefreshedToken(response);
+        try (InputStream body = decodedBody(response)) {
+            // Handle HTTP errors
+            if (response.statusCode() >= 400) {
+                throw new ApiException(
+                        "Request failed with status " + response.statusCode(),
+                        new String(body.readAllBytes(), StandardCharsets.UTF_8)
+                );
+            }
 
-        // Handle empty responses (204 No Content)
-        if (response.statusCode() == 204 || response.body().isEmpty()) {
-            System.out.println("[API Response] Status: " + response.statusCode() + " (No Content)");
-            return null;
+            // Handle empty responses (204 No Content)
+            if (response.statusCode() == 204) {
+                System.out.println("[API Response] Status: 204 (No Content)");
+                return null;
+            }
+
+            System.out.println("[API Response] Status: " + response.statusCode());
+            InputStream source = body;
+            if (logSample > 0 && ThreadLocalRandom.current().nextDouble() < logSample) {
+                byte[] bytes = body.readAllBytes();
+                System.out.println(new String(bytes, StandardCharsets.UTF_8));
+                source = new ByteArrayInputStream(bytes);
+            }
+
+            // Deserialize response
+            try (JsonParser parser = objectMapper.createParser(source)) {
+                if (parser.nextToken() == null) {
+                    return null; // empty body
+                }
+                return deserializer.deserialize(parser);
+            }
+        } catch (JsonProcessingException e) {
+            throw new ApiException("Failed to deserialize response", e);
+        } catch (IOException e) {
+            throw new ApiException("Failed to read response", e);
         }
+    }
 
-        // Log response body
-        System.out.println("[API Response] Status: " + response.statusCode());
-        System.out.println(response.body());
+    /**
+     * Gets the response body, unzipped if the backend gzipped it.
+     */
+    private static InputStream decodedBody(HttpResponse<InputStream> response) throws IOException {
+        InputStream body = response.body();
+        boolean gzipped = response.headers().firstValue("Content-Encoding")
+                .filter(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .isPresent();
+        if (!gzipped) {
+            return body;
+        }
 
-        // Deserialize response
         try {
-            return deserializer.deserialize(response.body());
-        } catch (Exception e) {
-            throw new ApiException("Failed to deserialize response", e);
+            return new GZIPInputStream(body);
+        } catch (IOException e) {
+            body.close();
+            throw e;
         }
     }
 
+    /**
+     * Receives a feed's items chunk by chunk as {@link #getFeed} reads it.
+     */
+    @FunctionalInterface
+    public interface FeedListener<T> {
+
+        /**
+         * @param items the items decoded since the last call, in feed order
+         * @param first whether these are the feed's first items, which replace anything shown before;
+         *              an empty feed gets a single call with no items and {@code first} set
+         */
+        void onItems(List<T> items, boolean first);
+    }
+
     /**
      * Functional interface for deserialization abstraction.
      */
     @FunctionalInterface
     private interface DeserializationFunction<T> {
-        T deserialize(String body) throws Exception;
+        T deserialize(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Identifies a read for sharing and caching: the same endpoint read the same way in the same session.
+     */
+    private record RequestKey(String method, String endpoint, String session) {
+
+        /**
+         * Checks if this read is for {@code prefix} or an endpoint below it.
+         */
+        boolean isBelow(String prefix) {
+            if (!endpoint.startsWith(prefix)) {
+                return false;
+            }
+            if (endpoint.length() == prefix.length()) {
+                return true;
+            }
+            char next = endpoint.charAt(prefix.length());
+            return next == '/' || next == '?';
+        }
     }
 
+    private record CachedResponse(Object value, long expiresAt) {}
+
+    /**
+     * How many GETs were sent, how many joined a request in flight, and how many were served from cache.
+     */
+    public record RequestStats(long sent, long coalesced, long cacheHits) {}
+
     // ====== EXCEPTION CLASS ======
 
     /**
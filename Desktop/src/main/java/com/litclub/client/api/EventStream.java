@@ -0,0 +1,195 @@
+package com.litclub.client.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A long-lived server-sent event stream from the LitClub backend.
+ *
+ * <p>Reads the stream on its own virtual thread and hands the data of every event to a
+ * callback, in order. When the connection drops it reconnects, sending the ID of the last
+ * event received as {@code Last-Event-ID} so the backend resumes right after it. Reconnect
+ * attempts back off from one second to thirty.</p>
+ *
+ * <p>The stream stops for good when it is {@link #close() closed}, or when the backend
+ * refuses it with 401, 403 or 404, since retrying would not change the answer.</p>
+ *
+ * <p>Created through {@link ApiClient#stream}.</p>
+ */
+public class EventStream implements AutoCloseable {
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final String name;
+    private final HttpClient httpClient;
+    private final Function<String, HttpRequest> requests;
+    private final Consumer<String> onData;
+    private final Thread reader;
+
+    private volatile boolean closed;
+    private volatile Stream<String> openBody;
+
+    // Event being read, and the ID of the last one dispatched
+    private final StringBuilder data = new StringBuilder();
+    private String eventID;
+    private volatile String lastEventID;
+
+    /**
+     * @param name endpoint the stream reads, for logging
+     * @param requests builds the request for a connection from the last event ID, which is null at first
+     * @param onData receives the data of each event, on the stream's thread
+     */
+    EventStream(String name, HttpClient httpClient, Function<String, HttpRequest> requests, Consumer<String> onData) {
+        this.name = name;
+        this.httpClient = httpClient;
+        this.requests = requests;
+        this.onData = onData;
+        this.reader = Thread.ofVirtual().name("event-stream " + name).unstarted(this::run);
+    }
+
+    void start() {
+        reader.start();
+    }
+
+    /**
+     * Gets the ID of the last event received.
+     *
+     * @return the event ID, or null before the first event
+     */
+    public String getLastEventID() {
+        return lastEventID;
+    }
+
+    public boolean isOpen() {
+        return !closed && reader.isAlive();
+    }
+
+    /**
+     * Stops the stream; no event is delivered after this returns.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Stream<String> body = openBody;
+        if (body != null) {
+            body.close();
+        }
+        reader.interrupt();
+    }
+
+    private void run() {
+        Duration backoff = MIN_BACKOFF;
+
+        while (!closed) {
+            try {
+                HttpResponse<Stream<String>> response =
+                        httpClient.send(requests.apply(lastEventID), HttpResponse.BodyHandlers.ofLines());
+                int status = response.statusCode();
+
+                if (status == 401 || status == 403 || status == 404) {
+                    response.body().close();
+                    System.err.println("[API] STREAM " + name + " refused with status " + status);
+                    closed = true;
+                    break;
+                }
+
+                if (status >= 400) {
+                    response.body().close();
+                    System.err.println("[API] STREAM " + name + " failed with status " + status);
+                } else {
+                    backoff = MIN_BACKOFF;
+                    try (Stream<String> lines = response.body()) {
+                        openBody = lines;
+                        if (!closed) {
+                            lines.forEach(this::readLine);
+                        }
+                    } finally {
+                        openBody = null;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException | UncheckedIOException e) {
+                if (!closed) {
+                    System.err.println("[API] STREAM " + name + " disconnected: " + e.getMessage());
+                }
+            }
+
+            if (closed) {
+                break;
+            }
+
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+        }
+    }
+
+    /**
+     * Reads one line of the event stream format; a blank line ends an event.
+     */
+    private void readLine(String line) {
+        if (closed) {
+            throw new UncheckedIOException(new IOException("Stream closed"));
+        }
+
+        if (line.isEmpty()) {
+            dispatch();
+            return;
+        }
+        if (line.startsWith(":")) {
+            return; // comment, sent as a heartbeat
+        }
+
+        int colon = line.indexOf(':');
+        String field = colon < 0 ? line : line.substring(0, colon);
+        String value = colon < 0 ? "" : line.substring(colon + 1);
+        if (value.startsWith(" ")) {
+            value = value.substring(1);
+        }
+
+        switch (field) {
+            case "id" -> eventID = value;
+            case "data" -> {
+                if (!data.isEmpty()) {
+                    data.append('\n');
+                }
+                data.append(value);
+            }
+            default -> {
+                // event names are repeated in the data
+            }
+        }
+    }
+
+    private void dispatch() {
+        if (eventID != null) {
+            lastEventID = eventID;
+            eventID = null;
+        }
+        if (data.isEmpty()) {
+            return;
+        }
+
+        String event = data.toString();
+        data.setLength(0);
+        try {
+            onData.accept(event);
+        } catch (RuntimeException e) {
+            System.err.println("[API] STREAM " + name + " could not handle event: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.litclub.client.api;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Decodes one page of a paginated response ({@code PageResponse} or {@code CursorPage})
+ * straight off the response stream.
+ *
+ * <p>Items of the page's {@code content} array are bound one at a time as their tokens
+ * arrive, and handed to a callback every {@link #CHUNK_SIZE} items, so the UI can show the
+ * start of a page while the rest is still being read. The page's other fields (totals,
+ * cursor) are small and are bound once the whole object has been read.</p>
+ *
+ * <p>Used by {@link ApiClient#getPage} and {@link ApiClient#getFeed}.</p>
+ */
+public class PageReader {
+
+    /** Items handed to the chunk callback at a time. */
+    public static final int CHUNK_SIZE = 25;
+
+    private static final String CONTENT = "content";
+
+    private final ObjectMapper objectMapper;
+
+    public PageReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads a page object from the parser.
+     *
+     * @param parser parser positioned on the page's opening brace, or before it
+     * @param pageType full type of the page, e.g. {@code CursorPage<Note>}; its first type
+     *                 parameter is the item type
+     * @param setContent stores the decoded items in the page
+     * @param onChunk receives each chunk of decoded items, in order, on the calling thread;
+     *                may be null. Not called for an empty page.
+     * @return the page, with every item in its content
+     */
+    public <P, T> P read(JsonParser parser, JavaType pageType, BiConsumer<P, List<T>> setContent,
+                         Consumer<List<T>> onChunk) throws IOException {
+        JsonToken token = parser.currentToken() != null ? parser.currentToken() : parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw MismatchedInputException.from(parser, pageType, "Expected a page object, found " + token);
+        }
+
+        ObjectReader itemReader = objectMapper.readerFor(pageType.containedType(0));
+        ObjectNode fields = objectMapper.createObjectNode();
+        List<T> content = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (CONTENT.equals(name) && value == JsonToken.START_ARRAY) {
+                int chunkStart = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    content.add(itemReader.readValue(parser));
+                    if (onChunk != null && content.size() - chunkStart == CHUNK_SIZE) {
+                        onChunk.accept(List.copyOf(content.subList(chunkStart, content.size())));
+                        chunkStart = content.size();
+                    }
+                }
+                if (onChunk != null && content.size() > chunkStart) {
+                    onChunk.accept(List.copyOf(content.subList(chunkStart, content.size())));
+                }
+            } else {
+                JsonNode node = objectMapper.readTree(parser);
+                fields.set(name, node);
+            }
+        }
+
+        P page = objectMapper.readerFor(pageType).readValue(fields);
+        setContent.accept(page, content);
+        return page;
+    }
+}
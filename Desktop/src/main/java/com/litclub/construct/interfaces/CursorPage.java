@@ -0,0 +1,59 @@
+package com.litclub.construct.interfaces;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Generic DTO for one page of a cursor-paginated feed.
+ *
+ * <p>Unlike {@link PageResponse}, a feed page carries no totals: it holds its items and an
+ * opaque token for the page after it, which is passed back verbatim as the {@code cursor}
+ * parameter. The token is {@code null} on the last page.</p>
+ *
+ * @param <T> the type of content in the page
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CursorPage<T> {
+
+    @JsonProperty("content")
+    private List<T> content;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    public CursorPage() {
+    }
+
+    public List<T> getContent() {
+        return content != null ? content : List.of();
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Checks if the feed continues after this page.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPage{" +
+                "content size=" + getContent().size() +
+                ", hasNext=" + hasNext() +
+                '}';
+    }
+}
@@ -0,0 +1,32 @@
+package com.litclub.construct.interfaces.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.litclub.construct.Meeting;
+import com.litclub.construct.Note;
+import com.litclub.construct.Reply;
+
+/**
+ * One change pushed on a club or user change stream.
+ *
+ * <p>Carries the row that changed, in the same shape the list endpoints return, or only
+ * its ID when it was deleted. At most one of {@code note}, {@code reply}, {@code meeting}
+ * and {@code membership} is set, matching {@code type}.</p>
+ *
+ * @param eventID increases with every event; the stream resumes after the last one seen
+ * @param clubID the club the change belongs to
+ * @param entityID the note, reply or meeting changed, or the member whose membership changed
+ * @param parentID the note replied to for replies, the discussion prompt for prompt notes
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChangeEvent(
+        long eventID,
+        ChangeType type,
+        Long clubID,
+        Long entityID,
+        Long parentID,
+        Note note,
+        Reply reply,
+        Meeting meeting,
+        MembershipChange membership
+) {
+}
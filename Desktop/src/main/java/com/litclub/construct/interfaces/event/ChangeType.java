@@ -0,0 +1,26 @@
+package com.litclub.construct.interfaces.event;
+
+/**
+ * What a {@link ChangeEvent} reports; mirrors the backend's change types.
+ */
+public enum ChangeType {
+    NOTE_CREATED,
+    NOTE_UPDATED,
+    NOTE_DELETED,
+    REPLY_CREATED,
+    REPLY_UPDATED,
+    REPLY_DELETED,
+    MEETING_CREATED,
+    MEETING_UPDATED,
+    MEETING_DELETED,
+    MEMBER_JOINED,
+    MEMBER_UPDATED,
+    MEMBER_LEFT,
+
+    /** The stream could not resume where it left off; everything it feeds must be fetched again. */
+    RESET;
+
+    public boolean isDeletion() {
+        return this == NOTE_DELETED || this == REPLY_DELETED || this == MEETING_DELETED;
+    }
+}
@@ -0,0 +1,19 @@
+package com.litclub.construct.interfaces.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.litclub.construct.Club;
+import com.litclub.construct.User;
+import com.litclub.construct.enums.ClubRole;
+
+import java.util.Set;
+
+/**
+ * A member's place in a club after a membership change; {@code roles} is empty once they have left.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MembershipChange(
+        Club club,
+        User member,
+        Set<ClubRole> roles
+) {
+}
@@ -0,0 +1,27 @@
+package com.litclub.construct.interfaces.sync;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * The changes to one kind of row since a sync token.
+ *
+ * @param upserted rows created or updated, in the same shape the list endpoints return
+ * @param deleted IDs of rows that were deleted, or that the user can no longer see
+ * @param <T> the type of row
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SyncDelta<T>(
+        List<T> upserted,
+        List<Long> deleted
+) {
+
+    public List<T> upsertedOrEmpty() {
+        return upserted != null ? upserted : List.of();
+    }
+
+    public List<Long> deletedOrEmpty() {
+        return deleted != null ? deleted : List.of();
+    }
+}
@@ -0,0 +1,29 @@
+package com.litclub.construct.interfaces.sync;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.litclub.construct.Club;
+import com.litclub.construct.Meeting;
+import com.litclub.construct.Note;
+import com.litclub.construct.Review;
+import com.litclub.construct.interfaces.library.BookWithStatus;
+
+/**
+ * Response of {@code GET /api/sync}: everything that changed for the user since a sync token.
+ *
+ * <p>Library entries are keyed by book ID, everything else by its own ID.</p>
+ *
+ * @param token opaque token to send as {@code since} on the next sync
+ * @param full true when the deltas hold a full snapshot that replaces local state, because
+ *             no token was sent or the token was too old to answer with a delta
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SyncResponse(
+        String token,
+        boolean full,
+        SyncDelta<BookWithStatus> library,
+        SyncDelta<Club> clubs,
+        SyncDelta<Meeting> meetings,
+        SyncDelta<Note> notes,
+        SyncDelta<Review> reviews
+) {
+}
@@ -1,30 +1,63 @@
 package com.litclub.persistence.cache;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.gson.*;
 import com.litclub.construct.*;
+import com.litclub.persistence.sync.SyncSnapshot;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.function.Function;
+
+/**
+ * Local cache of the data shown by the repositories, kept under the user's application
+ * data directory.
+ *
+ * <p>Each type is stored in its own {@link RecordLog}: saving a list appends only the
+ * records that changed since the last save, saving or deleting one record appends just
+ * that record, and loading reads them through a memory mapping, one record at a time. Records are compact Gson JSON. Sync snapshots are stored
+ * separately, as whole files written with Jackson.</p>
+ *
+ * <p><strong>Thread Safety:</strong> repositories save from API callback threads, so
+ * every access to the logs is synchronized on this manager.</p>
+ */
 public class CacheManager {
 
     private static CacheManager instance;
     private final Path cacheDir;
     private final Gson gson;
-
-    private static final String BOOKS_FILE = "books.json";
-    private static final String NOTES_FILE = "notes.json";
-    private static final String MEETINGS_FILE = "meetings.json";
-    private static final String REVIEWS_FILE = "reviews.json";
-    private static final String PROMPTS_FILE = "prompts.json";
-    private static final String REPLIES_FILE = "replies.json";
+    private final ObjectMapper snapshotMapper;
+
+    private final RecordLog<Book> books;
+    private final RecordLog<Note> notes;
+    private final RecordLog<Meeting> meetings;
+    private final RecordLog<Review> reviews;
+    private final RecordLog<DiscussionPrompt> prompts;
+    private final RecordLog<Reply> replies;
+
+    private static final String BOOKS_FILE = "books.log";
+    private static final String NOTES_FILE = "notes.log";
+    private static final String MEETINGS_FILE = "meetings.log";
+    private static final String REVIEWS_FILE = "reviews.log";
+    private static final String PROMPTS_FILE = "prompts.log";
+    private static final String REPLIES_FILE = "replies.log";
+    private static final String SYNC_FILE_PREFIX = "sync-";
+
+    // Whole-file caches written before the record logs
+    private static final List<String> LEGACY_FILES = List.of(
+            "books.json", "notes.json", "meetings.json", "reviews.json", "prompts.json", "replies.json");
 
     private CacheManager() throws IOException {
         String userHome = System.getProperty("user.home");
@@ -42,13 +75,35 @@ public class CacheManager {
 
         // Configure Gson with LocalDateTime and LocalDate support
         gson = new GsonBuilder()
-                .setPrettyPrinting()
                 .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
                 .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
                 .create();
+
+        // Sync snapshots hold records (BookWithStatus), which Gson cannot read back
+        snapshotMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new Jdk8Module())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        for (String legacyFile : LEGACY_FILES) {
+            Files.deleteIfExists(cacheDir.resolve(legacyFile));
+        }
+
+        books = openLog(BOOKS_FILE, Book.class, Book::getBookID);
+        notes = openLog(NOTES_FILE, Note.class, Note::getNoteID);
+        meetings = openLog(MEETINGS_FILE, Meeting.class, Meeting::getMeetingID);
+        reviews = openLog(REVIEWS_FILE, Review.class, Review::getReviewID);
+        prompts = openLog(PROMPTS_FILE, DiscussionPrompt.class, DiscussionPrompt::getPromptID);
+        replies = openLog(REPLIES_FILE, Reply.class, Reply::getNoteID);
+    }
+
+    private <T> RecordLog<T> openLog(String fileName, Class<T> type, Function<T, Long> id) throws IOException {
+        return new RecordLog<>(cacheDir.resolve(fileName), id,
+                record -> gson.toJson(record).getBytes(StandardCharsets.UTF_8),
+                payload -> gson.fromJson(new String(payload, StandardCharsets.UTF_8), type));
     }
 
-    public static CacheManager getInstance() {
+    public static synchronized CacheManager getInstance() {
         if (instance == null) {
             try {
                 instance = new CacheManager();
@@ -61,169 +116,217 @@ public class CacheManager {
 
     // ==================== BOOKS ====================
 
-    public void saveBooks(List<Book> books) {
+    public synchronized void saveBooks(List<Book> books) {
         try {
-            String json = gson.toJson(books);
-            Files.writeString(cacheDir.resolve(BOOKS_FILE), json);
-            System.out.println("Successfully cached " + books.size() + " books");
+            int written = this.books.replaceAll(books);
+            System.out.println("Successfully cached " + books.size() + " books (" + written + " records written)");
         } catch (IOException e) {
             System.err.println("Failed to save books: " + e.getMessage());
         }
     }
 
-    public ArrayList<Book> loadBooks() {
-        Path booksFile = cacheDir.resolve(BOOKS_FILE);
-
-        if (!Files.exists(booksFile)) {
-            return new ArrayList<>();
-        }
-
+    /**
+     * Caches one book, replacing its cached copy if there is one and leaving the other books alone.
+     */
+    public synchronized void saveBook(Book book) {
         try {
-            String json = Files.readString(booksFile);
-            Book[] booksArray = gson.fromJson(json, Book[].class);
-            return booksArray != null ? new ArrayList<>(List.of(booksArray)) : new ArrayList<>();
+            books.put(book);
         } catch (IOException e) {
-            System.err.println("Failed to load books: " + e.getMessage());
-            return new ArrayList<>();
+            System.err.println("Failed to save book: " + e.getMessage());
         }
     }
 
+    /**
+     * Loads a single cached book without reading the others.
+     *
+     * @return the book, or null if it is not cached
+     */
+    public synchronized Book loadBook(Long bookID) {
+        return books.read(bookID);
+    }
+
+    public synchronized ArrayList<Book> loadBooks() {
+        return new ArrayList<>(books.readAll());
+    }
+
     // ==================== NOTES ====================
 
-    public void saveNotes(List<Note> notes) {
+    public synchronized void saveNotes(List<Note> notes) {
         try {
-            String json = gson.toJson(notes);
-            Files.writeString(cacheDir.resolve(NOTES_FILE), json);
+            this.notes.replaceAll(notes);
         } catch (IOException e) {
             System.err.println("Failed to save notes: " + e.getMessage());
         }
     }
 
-    public ArrayList<Note> loadNotes() {
-        Path notesFile = cacheDir.resolve(NOTES_FILE);
-
-        if (!Files.exists(notesFile)) {
-            return new ArrayList<>();
+    public synchronized void saveNote(Note note) {
+        try {
+            notes.put(note);
+        } catch (IOException e) {
+            System.err.println("Failed to save note: " + e.getMessage());
         }
+    }
 
+    public synchronized void deleteNote(Long noteID) {
         try {
-            String json = Files.readString(notesFile);
-            Note[] notesArray = gson.fromJson(json, Note[].class);
-            return notesArray != null ? new ArrayList<>(List.of(notesArray)) : new ArrayList<>();
+            notes.remove(noteID);
         } catch (IOException e) {
-            System.err.println("Failed to load notes: " + e.getMessage());
-            return new ArrayList<>();
+            System.err.println("Failed to delete note: " + e.getMessage());
         }
     }
 
+    /**
+     * Loads a single cached note without reading the others.
+     *
+     * @return the note, or null if it is not cached
+     */
+    public synchronized Note loadNote(Long noteID) {
+        return notes.read(noteID);
+    }
+
+    public synchronized ArrayList<Note> loadNotes() {
+        return new ArrayList<>(notes.readAll());
+    }
+
     // ==================== MEETINGS ====================
 
-    public void saveMeetings(List<Meeting> meetings) {
+    public synchronized void saveMeetings(List<Meeting> meetings) {
         try {
-            String json = gson.toJson(meetings);
-            Files.writeString(cacheDir.resolve(MEETINGS_FILE), json);
+            this.meetings.replaceAll(meetings);
         } catch (IOException e) {
             System.err.println("Failed to save meetings: " + e.getMessage());
         }
     }
 
-    public ArrayList<Meeting> loadMeetings() {
-        Path meetingsFile = cacheDir.resolve(MEETINGS_FILE);
-
-        if (!Files.exists(meetingsFile)) {
-            return new ArrayList<>();
+    public synchronized void saveMeeting(Meeting meeting) {
+        try {
+            meetings.put(meeting);
+        } catch (IOException e) {
+            System.err.println("Failed to save meeting: " + e.getMessage());
         }
+    }
 
+    public synchronized void deleteMeeting(Long meetingID) {
         try {
-            String json = Files.readString(meetingsFile);
-            Meeting[] meetingsArray = gson.fromJson(json, Meeting[].class);
-            return meetingsArray != null ? new ArrayList<>(List.of(meetingsArray)) : new ArrayList<>();
+            meetings.remove(meetingID);
         } catch (IOException e) {
-            System.err.println("Failed to load meetings: " + e.getMessage());
-            return new ArrayList<>();
+            System.err.println("Failed to delete meeting: " + e.getMessage());
         }
     }
 
+    public synchronized ArrayList<Meeting> loadMeetings() {
+        return new ArrayList<>(meetings.readAll());
+    }
+
     // ==================== REVIEWS ====================
 
-    public void saveReviews(List<Review> reviews) {
+    public synchronized void saveReviews(List<Review> reviews) {
         try {
-            String json = gson.toJson(reviews);
-            Files.writeString(cacheDir.resolve(REVIEWS_FILE), json);
+            this.reviews.replaceAll(reviews);
         } catch (IOException e) {
             System.err.println("Failed to save reviews: " + e.getMessage());
         }
     }
 
-    public ArrayList<Review> loadReviews() {
-        Path reviewsFile = cacheDir.resolve(REVIEWS_FILE);
+    public synchronized ArrayList<Review> loadReviews() {
+        return new ArrayList<>(reviews.readAll());
+    }
+
+    // =================== DISCUSSION PROMPTS =======================
 
-        if (!Files.exists(reviewsFile)) {
-            return new ArrayList<>();
+    public synchronized void savePrompts(List<DiscussionPrompt> prompts) {
+        try {
+            this.prompts.replaceAll(prompts);
+        } catch (IOException e) {
+            System.err.println("Failed to save prompts: " + e.getMessage());
         }
+    }
 
+    public synchronized void savePrompt(DiscussionPrompt prompt) {
         try {
-            String json = Files.readString(reviewsFile);
-            Review[] reviewsArray = gson.fromJson(json, Review[].class);
-            return reviewsArray != null ? new ArrayList<>(List.of(reviewsArray)) : new ArrayList<>();
+            prompts.put(prompt);
         } catch (IOException e) {
-            System.err.println("Failed to load reviews: " + e.getMessage());
-            return new ArrayList<>();
+            System.err.println("Failed to save prompt: " + e.getMessage());
         }
     }
 
-    // =================== DISCUSSION PROMPTS =======================
-    public void savePrompts(List<DiscussionPrompt> prompts) {
+    public synchronized void deletePrompt(Long promptID) {
         try {
-            String json = gson.toJson(prompts);
-            Files.writeString(cacheDir.resolve(PROMPTS_FILE), json);
+            prompts.remove(promptID);
         } catch (IOException e) {
-            System.err.println("Failed to save prompts: " + e.getMessage());
+            System.err.println("Failed to delete prompt: " + e.getMessage());
         }
     }
 
-    public ArrayList<DiscussionPrompt> loadPrompts() {
-        Path promptsFile = cacheDir.resolve(PROMPTS_FILE);
+    public synchronized ArrayList<DiscussionPrompt> loadPrompts() {
+        return new ArrayList<>(prompts.readAll());
+    }
+
+    // ==================== REPLIES ====================
 
-        if (!Files.exists(promptsFile)) {
-            return new ArrayList<>();
+    public synchronized void saveReplies(List<Reply> replies) {
+        try {
+            this.replies.replaceAll(replies);
+        } catch (IOException e) {
+            System.err.println("Failed to save replies: " + e.getMessage());
         }
+    }
 
+    public synchronized void saveReply(Reply reply) {
         try {
-            String json = Files.readString(promptsFile);
-            DiscussionPrompt[] promptRecords = gson.fromJson(json, DiscussionPrompt[].class);
-            return promptRecords != null ? new ArrayList<>(List.of(promptRecords)) : new ArrayList<>();
+            replies.put(reply);
         } catch (IOException e) {
-            System.err.println("Failed to load prompts: " + e.getMessage());
-            return new ArrayList<>();
+            System.err.println("Failed to save reply: " + e.getMessage());
         }
     }
 
-    // ==================== REPLIES ====================
+    public synchronized void deleteReply(Long replyID) {
+        try {
+            replies.remove(replyID);
+        } catch (IOException e) {
+            System.err.println("Failed to delete reply: " + e.getMessage());
+        }
+    }
+
+    public synchronized ArrayList<Reply> loadReplies() {
+        return new ArrayList<>(replies.readAll());
+    }
+
+    // ==================== SYNC SNAPSHOTS ====================
+
+    /**
+     * Saves a user's synced state. The file is written beside the snapshot and then moved
+     * over it, so a crash mid-write leaves the previous snapshot intact.
+     */
+    public void saveSyncSnapshot(Long userID, SyncSnapshot snapshot) {
+        Path snapshotFile = cacheDir.resolve(SYNC_FILE_PREFIX + userID + ".json");
+        Path tempFile = cacheDir.resolve(SYNC_FILE_PREFIX + userID + ".json.tmp");
 
-    public void saveReplies(List<Reply> replies) {
         try {
-            String json = gson.toJson(replies);
-            Files.writeString(cacheDir.resolve(REPLIES_FILE), json);
-        }  catch (IOException e) {
-            System.err.println("Failed to save replies: " + e.getMessage());
+            snapshotMapper.writeValue(tempFile.toFile(), snapshot);
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Failed to save sync snapshot: " + e.getMessage());
         }
     }
 
-    public ArrayList<Reply> loadReplies() {
-        Path repliesFile = cacheDir.resolve(REPLIES_FILE);
+    /**
+     * Loads a user's synced state.
+     *
+     * @return the snapshot, or null if the user has none or it cannot be read
+     */
+    public SyncSnapshot loadSyncSnapshot(Long userID) {
+        Path snapshotFile = cacheDir.resolve(SYNC_FILE_PREFIX + userID + ".json");
 
-        if (!Files.exists(repliesFile)) {
-            return new ArrayList<>();
+        if (!Files.exists(snapshotFile)) {
+            return null;
         }
 
         try {
-            String json = Files.readString(repliesFile);
-            Reply[] repliesArray = gson.fromJson(json, Reply[].class);
-            return repliesArray != null ? new ArrayList<>(List.of(repliesArray)) : new ArrayList<>();
+            return snapshotMapper.readValue(snapshotFile.toFile(), SyncSnapshot.class);
         } catch (IOException e) {
-            System.err.println("Failed to load replies: " + e.getMessage());
-            return new ArrayList<>();
+            System.err.println("Failed to load sync snapshot: " + e.getMessage());
+            return null;
         }
     }
 
@@ -231,15 +334,18 @@ public class CacheManager {
 
     /**
      * Clears all cached data. Useful for logout or reset.
+     *
+     * <p>Sync snapshots are kept: they are per user, and they are what lets the next sign-in
+     * show the user's data before the server has answered.</p>
      */
-    public void clearCache() {
+    public synchronized void clearCache() {
         try {
-            Files.deleteIfExists(cacheDir.resolve(BOOKS_FILE));
-            Files.deleteIfExists(cacheDir.resolve(NOTES_FILE));
-            Files.deleteIfExists(cacheDir.resolve(MEETINGS_FILE));
-            Files.deleteIfExists(cacheDir.resolve(REVIEWS_FILE));
-            Files.deleteIfExists(cacheDir.resolve(PROMPTS_FILE));
-            Files.deleteIfExists(cacheDir.resolve(REPLIES_FILE));
+            books.clear();
+            notes.clear();
+            meetings.clear();
+            reviews.clear();
+            prompts.clear();
+            replies.clear();
             System.out.println("Cache cleared successfully");
         } catch (IOException e) {
             System.err.println("Failed to clear cache: " + e.getMessage());
@@ -254,15 +360,15 @@ public class CacheManager {
     }
 
     /**
-     * Checks if any cache files exist.
+     * Checks if any cached data exists.
      */
-    public boolean hasCachedData() {
-        return Files.exists(cacheDir.resolve(BOOKS_FILE)) ||
-                Files.exists(cacheDir.resolve(NOTES_FILE)) ||
-                Files.exists(cacheDir.resolve(MEETINGS_FILE)) ||
-                Files.exists(cacheDir.resolve(REVIEWS_FILE)) ||
-                Files.exists(cacheDir.resolve(PROMPTS_FILE)) ||
-                Files.exists(cacheDir.resolve(REPLIES_FILE));
+    public synchronized boolean hasCachedData() {
+        return !books.isEmpty() ||
+                !notes.isEmpty() ||
+                !meetings.isEmpty() ||
+                !reviews.isEmpty() ||
+                !prompts.isEmpty() ||
+                !replies.isEmpty();
     }
 
     // ==================== GSON ADAPTERS ====================
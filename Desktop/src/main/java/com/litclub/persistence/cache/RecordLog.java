@@ -0,0 +1,435 @@
+package com.litclub.persistence.cache;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only log of records of one type, keyed by ID, with an in-memory index of
+ * where each record's latest version lives.
+ *
+ * <p>Every record is framed as its payload length, a put or delete marker, its ID, a
+ * CRC32C checksum and the payload bytes. Saving a collection only appends the records
+ * whose bytes changed since they were last written, and a delete marker for each ID that
+ * is no longer present, so a save costs what changed rather than the size of the store.
+ * On open the log is scanned once to rebuild the index; a torn record at the end, left by
+ * a crash mid-append, is cut off.</p>
+ *
+ * <p>Reads go through a read-only memory mapping of the log, so {@link #read(long)}
+ * decodes a single record without reading the rest of the file.</p>
+ *
+ * <p><strong>Compaction:</strong> once superseded records take more room than live ones
+ * (and at least {@link #COMPACT_THRESHOLD} bytes), the live records are copied to a new
+ * segment, which is synced and then moved over the log in one atomic rename. A crash
+ * before the rename leaves the old log untouched.</p>
+ *
+ * <p>Not thread-safe on its own; {@link CacheManager} serializes access.</p>
+ *
+ * @param <T> the type of record
+ */
+public class RecordLog<T> {
+
+    static final long COMPACT_THRESHOLD = 1 << 20;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 0;
+
+    private final Path file;
+    private final Function<T, Long> id;
+    private final Function<T, byte[]> encoder;
+    private final Function<byte[], T> decoder;
+
+    // ID -> latest version, in the order last saved
+    private final Map<Long, Slot> index = new LinkedHashMap<>();
+    private FileChannel channel;
+    private long end;
+    private long liveBytes;
+
+    // Read-only mapping of the log, remapped once appends outgrow it
+    private Arena arena;
+    private MemorySegment mapped;
+
+    /** Where a record's payload lives, and its checksum to tell whether it changed. */
+    private record Slot(long offset, int length, int checksum) {}
+
+    /**
+     * Opens the log at {@code file}, creating it if needed.
+     *
+     * @param id the ID of a record; records without one are not stored
+     * @param encoder serializes a record to its payload
+     * @param decoder deserializes a payload
+     */
+    public RecordLog(Path file, Function<T, Long> id, Function<T, byte[]> encoder, Function<byte[], T> decoder)
+            throws IOException {
+        this.file = file;
+        this.id = id;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        open();
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Makes the log hold exactly {@code records}, appending only what changed.
+     *
+     * @return the number of records appended, deletions included
+     */
+    public int replaceAll(Collection<T> records) throws IOException {
+        Map<Long, Slot> previous = new LinkedHashMap<>(index);
+        index.clear();
+
+        List<ByteBuffer> pending = new ArrayList<>();
+        long position = end;
+        int appended = 0;
+
+        for (T record : records) {
+            Long recordID = id.apply(record);
+            if (recordID == null) {
+                continue;
+            }
+
+            byte[] payload = encoder.apply(record);
+            int checksum = checksum(PUT, recordID, payload);
+            Slot current = previous.remove(recordID);
+            if (current != null && holds(current, payload, checksum)) {
+                index.put(recordID, current);
+                continue;
+            }
+            if (current != null) {
+                liveBytes -= HEADER_SIZE + current.length();
+            }
+
+            pending.add(frame(PUT, recordID, payload, checksum));
+            index.put(recordID, new Slot(position + HEADER_SIZE, payload.length, checksum));
+            liveBytes += HEADER_SIZE + payload.length;
+            position += HEADER_SIZE + payload.length;
+            appended++;
+        }
+
+        for (Map.Entry<Long, Slot> removed : previous.entrySet()) {
+            liveBytes -= HEADER_SIZE + removed.getValue().length();
+            pending.add(frame(DELETE, removed.getKey(), new byte[0], checksum(DELETE, removed.getKey(), new byte[0])));
+            position += HEADER_SIZE;
+            appended++;
+        }
+
+        write(pending);
+        return appended;
+    }
+
+    /**
+     * Adds or replaces one record, appending it only if it changed.
+     *
+     * @return true if the record was written
+     */
+    public boolean put(T record) throws IOException {
+        Long recordID = id.apply(record);
+        if (recordID == null) {
+            return false;
+        }
+
+        byte[] payload = encoder.apply(record);
+        int checksum = checksum(PUT, recordID, payload);
+        Slot current = index.get(recordID);
+        if (current != null && holds(current, payload, checksum)) {
+            return false;
+        }
+        if (current != null) {
+            liveBytes -= HEADER_SIZE + current.length();
+        }
+
+        index.put(recordID, new Slot(end + HEADER_SIZE, payload.length, checksum));
+        liveBytes += HEADER_SIZE + payload.length;
+        write(List.of(frame(PUT, recordID, payload, checksum)));
+        return true;
+    }
+
+    /**
+     * Removes one record.
+     *
+     * @return true if there was a record with this ID
+     */
+    public boolean remove(long recordID) throws IOException {
+        Slot current = index.remove(recordID);
+        if (current == null) {
+            return false;
+        }
+
+        liveBytes -= HEADER_SIZE + current.length();
+        write(List.of(frame(DELETE, recordID, new byte[0], checksum(DELETE, recordID, new byte[0]))));
+        return true;
+    }
+
+    /**
+     * Removes every record and truncates the log.
+     */
+    public void clear() throws IOException {
+        unmap();
+        channel.truncate(0);
+        index.clear();
+        end = 0;
+        liveBytes = 0;
+    }
+
+    // ==================== READS ====================
+
+    /**
+     * Reads every record, in the order they were last saved.
+     */
+    public List<T> readAll() {
+        List<T> records = new ArrayList<>(index.size());
+        for (Slot slot : index.values()) {
+            records.add(decode(slot));
+        }
+        return records;
+    }
+
+    /**
+     * Reads one record.
+     *
+     * @return the record, or null if there is none with this ID
+     */
+    public T read(long recordID) {
+        Slot slot = index.get(recordID);
+        return slot != null ? decode(slot) : null;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    /**
+     * Gets the size of the log on disk, superseded records included.
+     */
+    public long getFileSize() {
+        return end;
+    }
+
+    // ==================== COMPACTION ====================
+
+    /**
+     * Rewrites the log with only its live records, swapping the new segment in atomically.
+     */
+    public void compact() throws IOException {
+        Path segment = file.resolveSibling(file.getFileName() + ".compact");
+        Map<Long, Slot> compacted = new LinkedHashMap<>();
+        long position = 0;
+
+        try (FileChannel out = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Map.Entry<Long, Slot> entry : index.entrySet()) {
+                Slot slot = entry.getValue();
+                ByteBuffer record = ByteBuffer.wrap(bytes(slot.offset() - HEADER_SIZE, HEADER_SIZE + slot.length()));
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+                compacted.put(entry.getKey(), new Slot(position + HEADER_SIZE, slot.length(), slot.checksum()));
+                position += HEADER_SIZE + slot.length();
+            }
+            out.force(true);
+        }
+
+        // The mapping and channel must be released before the rename, or Windows refuses it
+        close();
+        try {
+            Files.move(segment, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Keep the uncompacted log
+            Files.deleteIfExists(segment);
+            open();
+            throw e;
+        }
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        index.clear();
+        index.putAll(compacted);
+        end = position;
+        liveBytes = position;
+    }
+
+    /**
+     * Releases the file. The log cannot be used afterwards unless reopened.
+     */
+    public void close() throws IOException {
+        unmap();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    // ------ Utility ------
+
+    private void open() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        scan();
+    }
+
+    /**
+     * Rebuilds the index from the log, cutting off a torn record at its end.
+     */
+    private void scan() throws IOException {
+        unmap();
+        index.clear();
+        liveBytes = 0;
+
+        long size = channel.size();
+        long position = 0;
+
+        while (position + HEADER_SIZE <= size) {
+            ByteBuffer header = view(position, HEADER_SIZE);
+            int length = header.getInt();
+            byte kind = header.get();
+            long recordID = header.getLong();
+            int checksum = header.getInt();
+
+            if (length < 0 || (kind != PUT && kind != DELETE) || position + HEADER_SIZE + length > size) {
+                break;
+            }
+            if (checksum(kind, recordID, bytes(position + HEADER_SIZE, length)) != checksum) {
+                break;
+            }
+
+            Slot previous = index.remove(recordID);
+            if (previous != null) {
+                liveBytes -= HEADER_SIZE + previous.length();
+            }
+            if (kind == PUT) {
+                index.put(recordID, new Slot(position + HEADER_SIZE, length, checksum));
+                liveBytes += HEADER_SIZE + length;
+            }
+            position += HEADER_SIZE + length;
+        }
+
+        if (position < size) {
+            System.err.println("Dropping " + (size - position) + " torn bytes from " + file.getFileName());
+            unmap();
+            channel.truncate(position);
+        }
+        end = position;
+    }
+
+    /**
+     * Appends records whose slots are already in the index, then compacts if due.
+     */
+    private void write(List<ByteBuffer> records) throws IOException {
+        try {
+            append(records);
+        } catch (IOException e) {
+            // The index no longer matches the file; rebuild it from what was written
+            scan();
+            throw e;
+        }
+        if (end - liveBytes >= COMPACT_THRESHOLD && end - liveBytes > liveBytes) {
+            compact();
+        }
+    }
+
+    private void append(List<ByteBuffer> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        ByteBuffer[] buffers = records.toArray(ByteBuffer[]::new);
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+
+        channel.position(end);
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+        end = channel.position();
+    }
+
+    /**
+     * Whether the slot already holds exactly {@code payload}. The checksum and length rule out
+     * most changes cheaply; the bytes are compared too, since a CRC32C match alone would let a
+     * colliding change go unsaved.
+     */
+    private boolean holds(Slot slot, byte[] payload, int checksum) {
+        if (slot.checksum() != checksum || slot.length() != payload.length) {
+            return false;
+        }
+        if (mapped == null || mapped.byteSize() < slot.offset() + slot.length()) {
+            remap();
+        }
+        return mapped.asSlice(slot.offset(), slot.length()).mismatch(MemorySegment.ofArray(payload)) == -1;
+    }
+
+    private T decode(Slot slot) {
+        return decoder.apply(bytes(slot.offset(), slot.length()));
+    }
+
+    private byte[] bytes(long offset, int length) {
+        if (mapped == null || mapped.byteSize() < offset + length) {
+            remap();
+        }
+        return mapped.asSlice(offset, length).toArray(ValueLayout.JAVA_BYTE);
+    }
+
+    /**
+     * Gets a view of part of the mapped log, without copying it.
+     */
+    private ByteBuffer view(long offset, int length) {
+        if (mapped == null || mapped.byteSize() < offset + length) {
+            remap();
+        }
+        return mapped.asSlice(offset, length).asByteBuffer();
+    }
+
+    private void remap() {
+        unmap();
+        try {
+            arena = Arena.ofShared();
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        } catch (IOException e) {
+            unmap();
+            throw new IllegalStateException("Unable to map " + file.getFileName(), e);
+        }
+    }
+
+    private void unmap() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+        }
+        mapped = null;
+    }
+
+    private static ByteBuffer frame(byte kind, long recordID, byte[] payload, int checksum) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        buffer.putInt(payload.length).put(kind).putLong(recordID).putInt(checksum).put(payload);
+        return buffer.flip();
+    }
+
+    private static int checksum(byte kind, long recordID, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(kind);
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(recordID).flip());
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -2,13 +2,16 @@ package com.litclub.persistence.repository;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.litclub.client.api.ApiClient;
+import com.litclub.client.api.EventStream;
 import com.litclub.construct.*;
 import com.litclub.construct.enums.ClubRole;
+import com.litclub.construct.interfaces.CursorPage;
 import com.litclub.construct.interfaces.PageResponse;
 import com.litclub.construct.interfaces.club.ActiveFlag;
 import com.litclub.construct.interfaces.club.ClubCreateRequest;
 import com.litclub.construct.interfaces.club.Invite;
 import com.litclub.construct.interfaces.discussion.DiscussionThread;
+import com.litclub.construct.interfaces.event.ChangeEvent;
 import com.litclub.construct.interfaces.meeting.MeetingCreateRequest;
 import com.litclub.construct.interfaces.meeting.MeetingUpdateRequest;
 import com.litclub.construct.interfaces.note.NoteCreateRequest;
@@ -19,9 +22,12 @@ import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Repository managing club-related data: clubs, meetings, discussions, and club notes.
@@ -30,6 +36,13 @@ import java.util.concurrent.CompletableFuture;
  * between the API client and local cache. All operations return CompletableFuture for
  * async handling with UI loading states.</p>
  *
+ * <p><strong>Change streams:</strong> while a user is signed in, their change stream keeps
+ * their clubs and meetings current, and while a club is open, its change stream keeps the
+ * club's meetings, notes and replies current. Changes made by any member arrive as deltas
+ * and are applied to the lists in place, so nothing has to be fetched again after a
+ * mutation. The note and reply lists are shared between contexts, so a delta is only
+ * applied when it belongs to the notes or replies the list was last fetched for.</p>
+ *
  * <p><strong>Thread Safety:</strong> All ObservableList modifications happen on JavaFX
  * Application Thread via Platform.runLater().</p>
  */
@@ -37,6 +50,9 @@ public class ClubRepository {
 
     private static ClubRepository instance;
 
+    // How long a club role is reused before it is fetched again
+    private static final Duration ROLE_TTL = Duration.ofSeconds(30);
+
     private final ApiClient apiClient;
     private final CacheManager cacheManager;
 
@@ -50,6 +66,18 @@ public class ClubRepository {
 
     private final ObservableList<Meeting> userMeetings;
 
+    // Change streams
+    private EventStream userStream;
+    private EventStream clubStream;
+    private Long streamedUserID;
+    private Long streamedClubID;
+
+    // What the shared note and reply lists were last fetched for
+    private volatile Long notesClubID;
+    private volatile Long notesPromptID;
+    private volatile Long repliesNoteID;
+    private volatile Runnable repliesReload;
+
     private ClubRepository() {
         this.apiClient = ApiClient.getInstance();
         this.cacheManager = CacheManager.getInstance();
@@ -92,13 +120,21 @@ public class ClubRepository {
     }
 
     /**
-     * Fetches the user's permission in the selected club.
+     * Replaces the user's clubs with the ones held by the sync engine.
+     */
+    public void setUserClubs(List<Club> clubs) {
+        Platform.runLater(() -> userClubs.setAll(clubs));
+    }
+
+    /**
+     * Fetches the user's permission in the selected club. The role is reused for
+     * {@link #ROLE_TTL}, or until a change to the user's membership is streamed.
      *
      * @param clubID the selected club
      * @return CompletavleFuture that completes when the permission is fetched.
      */
     public CompletableFuture<ClubRole> fetchClubPermission(Long clubID) {
-        return apiClient.get("/api/clubs/" + clubID + "/role", ClubRole.class)
+        return apiClient.getCached("/api/clubs/" + clubID + "/role", ClubRole.class, ROLE_TTL)
                 .thenApply(role -> {
                     Platform.runLater(() -> {
                         AppSession.getInstance().setHighestRole(role);
@@ -134,6 +170,7 @@ public class ClubRepository {
     public CompletableFuture<Club> createClub(ClubCreateRequest clubRequest) {
         return apiClient.post("/api/clubs", clubRequest, Club.class)
                 .thenApply(club -> {
+                    invalidateUserClubs();
                     Platform.runLater(() -> {
                         userClubs.add(club);
                     });
@@ -160,6 +197,7 @@ public class ClubRepository {
     public CompletableFuture<ClubMembership> redeemInvite(String invite) {
         return apiClient.post("/api/clubs/join", new Invite(invite), ClubMembership.class)
                 .thenApply(membership -> {
+                    invalidateUserClubs();
                     Platform.runLater(() -> {
                         userClubs.add(membership.getClub());
                     });
@@ -177,6 +215,8 @@ public class ClubRepository {
     public CompletableFuture<Club> updateClub(Long clubID, ClubCreateRequest clubRequest) {
         return apiClient.put("/api/clubs/" + clubID, clubRequest, Club.class)
                 .thenApply(club -> {
+                    apiClient.invalidate("/api/clubs/" + clubID);
+                    invalidateUserClubs();
                     Platform.runLater(() -> {
                         // Replace old club with updated one
                         userClubs.removeIf(c -> c.getClubID().equals(clubID));
@@ -195,6 +235,8 @@ public class ClubRepository {
     public CompletableFuture<Void> deleteClub(Long clubID) {
         return apiClient.delete("/api/clubs/" + clubID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/clubs/" + clubID);
+                    invalidateUserClubs();
                     Platform.runLater(() -> {
                         userClubs.removeIf(c -> c.getClubID().equals(clubID));
                     });
@@ -210,6 +252,7 @@ public class ClubRepository {
     public CompletableFuture<ClubMembership> joinClub(Long clubID) {
         return apiClient.post("/api/clubs/" + clubID + "/join", ClubMembership.class)
                 .thenApply(membership -> {
+                    invalidateUserClubs();
                     // Fetch the club details to add to userClubs
                     fetchClub(clubID);
                     return membership;
@@ -225,6 +268,8 @@ public class ClubRepository {
     public CompletableFuture<Void> leaveClub(Long clubID) {
         return apiClient.post("/api/clubs/" + clubID + "/leave", Void.class)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/clubs/" + clubID);
+                    invalidateUserClubs();
                     Platform.runLater(() -> {
                         userClubs.removeIf(c -> c.getClubID().equals(clubID));
                     });
@@ -251,7 +296,11 @@ public class ClubRepository {
      * @return CompletableFuture with the membership
      */
     public CompletableFuture<ClubMembership> addMemberToClub(Long clubID, UserRecord userRecord) {
-        return apiClient.post("/api/clubs/" + clubID + "/members", userRecord, ClubMembership.class);
+        return apiClient.post("/api/clubs/" + clubID + "/members", userRecord, ClubMembership.class)
+                .thenApply(membership -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/members");
+                    return membership;
+                });
     }
 
     /**
@@ -262,27 +311,23 @@ public class ClubRepository {
      * @return CompletableFuture that completes when member is removed
      */
     public CompletableFuture<Void> removeMemberFromClub(Long clubID, Long userID) {
-        return apiClient.delete("/api/clubs/" + clubID + "/members/" + userID);
+        return apiClient.delete("/api/clubs/" + clubID + "/members/" + userID)
+                .thenRun(() -> apiClient.invalidate("/api/clubs/" + clubID + "/members"));
     }
 
     // ==================== MEETINGS ====================
 
     /**
-     * Fetches meetings for a club (fetching multiple pages to get as much as possible).
+     * Fetches every meeting of a club, following the meeting feed page by page.
      *
      * @param clubID the club's ID
      * @return CompletableFuture that completes when meetings are loaded
      */
     public CompletableFuture<Void> fetchClubMeetings(Long clubID) {
-        return fetchClubMeetingsRecursive(clubID, 0, new ArrayList<>())
-                .thenAccept(allMeetings -> {
-                    Platform.runLater(() -> {
-                        meetings.clear();
-                        meetings.addAll(allMeetings);
-                    });
-
-                    cacheManager.saveMeetings(allMeetings);
-                });
+        return apiClient.getFeed("/api/clubs/" + clubID + "/meetings/feed",
+                        new TypeReference<CursorPage<Meeting>>() {},
+                        showIn(meetings))
+                .thenAccept(cacheManager::saveMeetings);
     }
 
     /**
@@ -292,34 +337,17 @@ public class ClubRepository {
      * @return CompletableFuture that completes when meetings are loaded
      */
     public CompletableFuture<Void> fetchUserMeetings(Long userID) {
-        return apiClient.get("/api/meetings/user/" + userID + "?page=0&size=100",
-                        new TypeReference<PageResponse<Meeting>>() {})
-                .thenAccept(pageResponse -> {
-                    Platform.runLater(() -> {
-                        userMeetings.clear();
-                        userMeetings.addAll(pageResponse.getContent());
-                    });
-
-                    cacheManager.saveMeetings(new ArrayList<>(userMeetings));
-                });
+        return apiClient.getFeed("/api/meetings/user/" + userID + "/feed",
+                        new TypeReference<CursorPage<Meeting>>() {},
+                        showIn(userMeetings))
+                .thenAccept(cacheManager::saveMeetings);
     }
 
     /**
-     * Recursively fetches all pages of meetings.
+     * Replaces the meetings across the user's clubs with the ones held by the sync engine.
      */
-    private CompletableFuture<List<Meeting>> fetchClubMeetingsRecursive(Long clubID, int page, List<Meeting> accumulator) {
-        return apiClient.get("/api/clubs/" + clubID + "/meetings?page=" + page + "&size=100",
-                        new TypeReference<PageResponse<Meeting>>() {})
-                .thenCompose(pageResponse -> {
-                    accumulator.addAll(pageResponse.getContent());
-
-                    // If there are more pages, fetch the next one
-                    if (pageResponse.hasNext()) {
-                        return fetchClubMeetingsRecursive(clubID, page + 1, accumulator);
-                    } else {
-                        return CompletableFuture.completedFuture(accumulator);
-                    }
-                });
+    public void setUserMeetings(List<Meeting> meetings) {
+        Platform.runLater(() -> userMeetings.setAll(meetings));
     }
 
     /**
@@ -338,7 +366,7 @@ public class ClubRepository {
                         meetings.add(meeting);
                     });
 
-                    cacheManager.saveMeetings(new ArrayList<>(meetings));
+                    cacheManager.saveMeeting(meeting);
                     return meeting;
                 });
     }
@@ -353,11 +381,12 @@ public class ClubRepository {
     public CompletableFuture<Meeting> createMeeting(Long clubID, MeetingCreateRequest meetingRequest) {
         return apiClient.post("/api/clubs/" + clubID + "/meetings", meetingRequest, Meeting.class)
                 .thenApply(meeting -> {
+                    invalidateMeetings(clubID);
                     Platform.runLater(() -> {
-                        meetings.add(meeting);
+                        upsert(meetings, meeting, Meeting::getMeetingID);
                     });
 
-                    cacheManager.saveMeetings(new ArrayList<>(meetings));
+                    cacheManager.saveMeeting(meeting);
                     return meeting;
                 });
     }
@@ -373,13 +402,14 @@ public class ClubRepository {
     public CompletableFuture<Meeting> updateMeeting(Long clubID, Long meetingID, MeetingUpdateRequest meetingRequest) {
         return apiClient.post("/api/clubs/" + clubID + "/meetings/" + meetingID, meetingRequest, Meeting.class)
                 .thenApply(meeting -> {
+                    invalidateMeetings(clubID);
                     Platform.runLater(() -> {
                         // Replace old meeting with updated one
                         meetings.removeIf(m -> m.getMeetingID().equals(meetingID));
                         meetings.add(meeting);
                     });
 
-                    cacheManager.saveMeetings(new ArrayList<>(meetings));
+                    cacheManager.saveMeeting(meeting);
                     return meeting;
                 });
     }
@@ -394,11 +424,12 @@ public class ClubRepository {
     public CompletableFuture<Void> deleteMeeting(Long clubID, Long meetingID) {
         return apiClient.delete("/api/clubs/" + clubID + "/meetings/" + meetingID)
                 .thenAccept(v -> {
+                    invalidateMeetings(clubID);
                     Platform.runLater(() -> {
                         meetings.removeIf(m -> m.getMeetingID().equals(meetingID));
                     });
 
-                    cacheManager.saveMeetings(new ArrayList<>(meetings));
+                    cacheManager.deleteMeeting(meetingID);
                 });
     }
 
@@ -433,11 +464,12 @@ public class ClubRepository {
     public CompletableFuture<DiscussionPrompt> createDiscussion(Long clubID, String prompt) {
         return apiClient.post("/api/clubs/" + clubID + "/discussions", prompt, DiscussionPrompt.class)
                 .thenApply(discussionPrompt -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/discussions");
                     Platform.runLater(() -> {
                         discussions.add(discussionPrompt);
                     });
 
-                    cacheManager.savePrompts(new ArrayList<>(discussions));
+                    cacheManager.savePrompt(discussionPrompt);
                     return discussionPrompt;
                 });
     }
@@ -463,11 +495,12 @@ public class ClubRepository {
     public CompletableFuture<Void> deleteDiscussion(Long clubID, Long promptID) {
         return apiClient.delete("/api/clubs/" + clubID + "/discussions/" + promptID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/discussions");
                     Platform.runLater(() -> {
                         discussions.removeIf(d -> d.getPromptID().equals(promptID));
                     });
 
-                    cacheManager.savePrompts(new ArrayList<>(discussions));
+                    cacheManager.deletePrompt(promptID);
                 });
     }
 
@@ -480,16 +513,12 @@ public class ClubRepository {
      * @return CompletableFuture that completes when notes are loaded
      */
     public CompletableFuture<Void> fetchClubNotes(Long clubID) {
-        return apiClient.get("/api/clubs/" + clubID + "/notes?page=0&size=100",
-                        new TypeReference<PageResponse<Note>>() {})
-                .thenAccept(page -> {
-                    Platform.runLater(() -> {
-                        clubNotes.clear();
-                        clubNotes.addAll(page.getContent());
-                    });
-
-                    cacheManager.saveNotes(new ArrayList<>(clubNotes));
-                });
+        notesClubID = clubID;
+        notesPromptID = null;
+        return apiClient.getFeed("/api/clubs/" + clubID + "/notes/feed",
+                        new TypeReference<CursorPage<Note>>() {},
+                        showIn(clubNotes))
+                .thenAccept(cacheManager::saveNotes);
     }
 
     /**
@@ -500,16 +529,12 @@ public class ClubRepository {
      * @return CompletableFuture that completes when notes are loaded
      */
     public CompletableFuture<Void> fetchPromptNotes(Long clubID, Long promptID) {
-        return apiClient.get("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes?page=0&size=100",
-                        new TypeReference<PageResponse<Note>>() {})
-                .thenAccept(page -> {
-                    Platform.runLater(() -> {
-                        clubNotes.clear();
-                        clubNotes.addAll(page.getContent());
-                    });
-
-                    cacheManager.saveNotes(new ArrayList<>(clubNotes));
-                });
+        notesClubID = clubID;
+        notesPromptID = promptID;
+        return apiClient.getFeed("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes/feed",
+                        new TypeReference<CursorPage<Note>>() {},
+                        showIn(clubNotes))
+                .thenAccept(cacheManager::saveNotes);
     }
 
     /**
@@ -522,11 +547,12 @@ public class ClubRepository {
     public CompletableFuture<Note> createClubNote(Long clubID, NoteCreateRequest noteRequest) {
         return apiClient.post("/api/clubs/" + clubID + "/notes", noteRequest, Note.class)
                 .thenApply(note -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/notes");
                     Platform.runLater(() -> {
-                        clubNotes.add(note);
+                        upsert(clubNotes, note, Note::getNoteID);
                     });
 
-                    cacheManager.saveNotes(new ArrayList<>(clubNotes));
+                    cacheManager.saveNote(note);
                     return note;
                 });
     }
@@ -542,11 +568,12 @@ public class ClubRepository {
     public CompletableFuture<Note> createPromptNote(Long clubID, Long promptID, NoteCreateRequest noteRequest) {
         return apiClient.post("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes", noteRequest, Note.class)
                 .thenApply(note -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/discussions/" + promptID);
                     Platform.runLater(() -> {
-                        clubNotes.add(note);
+                        upsert(clubNotes, note, Note::getNoteID);
                     });
 
-                    cacheManager.saveNotes(new ArrayList<>(clubNotes));
+                    cacheManager.saveNote(note);
                     return note;
                 });
     }
@@ -562,13 +589,14 @@ public class ClubRepository {
     public CompletableFuture<Note> updateClubNote(Long clubID, Long noteID, NoteCreateRequest noteRequest) {
         return apiClient.put("/api/clubs/" + clubID + "/notes/" + noteID, noteRequest, Note.class)
                 .thenApply(note -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/notes");
                     Platform.runLater(() -> {
                         // Replace old note with updated one
                         clubNotes.removeIf(n -> n.getNoteID().equals(noteID));
                         clubNotes.add(note);
                     });
 
-                    cacheManager.saveNotes(new ArrayList<>(clubNotes));
+                    cacheManager.saveNote(note);
                     return note;
                 });
     }
@@ -586,13 +614,14 @@ public class ClubRepository {
         return apiClient.put("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes/" + noteID,
                         noteRequest, Note.class)
                 .thenApply(note -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/discussions/" + promptID);
                     Platform.runLater(() -> {
                         // Replace old note with updated one
                         clubNotes.removeIf(n -> n.getNoteID().equals(noteID));
                         clubNotes.add(note);
                     });
 
-                    cacheManager.saveNotes(new ArrayList<>(clubNotes));
+                    cacheManager.saveNote(note);
                     return note;
                 });
     }
@@ -607,11 +636,12 @@ public class ClubRepository {
     public CompletableFuture<Void> deleteClubNote(Long clubID, Long noteID) {
         return apiClient.delete("/api/clubs/" + clubID + "/notes/" + noteID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/notes");
                     Platform.runLater(() -> {
                         clubNotes.removeIf(n -> n.getNoteID().equals(noteID));
                     });
 
-                    cacheManager.saveNotes(new ArrayList<>(clubNotes));
+                    cacheManager.deleteNote(noteID);
                 });
     }
 
@@ -626,11 +656,12 @@ public class ClubRepository {
     public CompletableFuture<Void> deletePromptNote(Long clubID, Long promptID, Long noteID) {
         return apiClient.delete("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes/" + noteID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/discussions/" + promptID);
                     Platform.runLater(() -> {
                         clubNotes.removeIf(n -> n.getNoteID().equals(noteID));
                     });
 
-                    cacheManager.saveNotes(new ArrayList<>(clubNotes));
+                    cacheManager.deleteNote(noteID);
                 });
     }
 
@@ -645,16 +676,12 @@ public class ClubRepository {
      * @return CompletableFuture that completes when replies are loaded
      */
     public CompletableFuture<Void> fetchDiscussionReplies(Long clubID, Long promptID, Long noteID) {
-        return apiClient.get("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes/" + noteID + "/replies?page=0&size=100",
-                        new TypeReference<PageResponse<Reply>>() {})
-                .thenAccept(page -> {
-                    Platform.runLater(() -> {
-                        replies.clear();
-                        replies.addAll(page.getContent());
-                    });
-
-                    cacheManager.saveReplies(new ArrayList<>(replies));
-                });
+        repliesNoteID = noteID;
+        repliesReload = () -> fetchDiscussionReplies(clubID, promptID, noteID);
+        return apiClient.getFeed("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes/" + noteID + "/replies/feed",
+                        new TypeReference<CursorPage<Reply>>() {},
+                        showIn(replies))
+                .thenAccept(cacheManager::saveReplies);
     }
 
     /**
@@ -670,11 +697,12 @@ public class ClubRepository {
         return apiClient.post("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes/" + noteID + "/replies",
                         content, Reply.class)
                 .thenApply(reply -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/discussions/" + promptID);
                     Platform.runLater(() -> {
-                        replies.add(reply);
+                        upsert(replies, reply, Reply::getNoteID);
                     });
 
-                    cacheManager.saveReplies(new ArrayList<>(replies));
+                    cacheManager.saveReply(reply);
                     return reply;
                 });
     }
@@ -693,13 +721,14 @@ public class ClubRepository {
         return apiClient.put("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes/" + noteID + "/replies/" + replyID,
                         content, Reply.class)
                 .thenApply(reply -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/discussions/" + promptID);
                     Platform.runLater(() -> {
                         // Replace old reply with updated one
                         replies.removeIf(r -> r.getNoteID().equals(replyID));
                         replies.add(reply);
                     });
 
-                    cacheManager.saveReplies(new ArrayList<>(replies));
+                    cacheManager.saveReply(reply);
                     return reply;
                 });
     }
@@ -716,11 +745,12 @@ public class ClubRepository {
     public CompletableFuture<Void> deleteDiscussionReply(Long clubID, Long promptID, Long noteID, Long replyID) {
         return apiClient.delete("/api/clubs/" + clubID + "/discussions/" + promptID + "/notes/" + noteID + "/replies/" + replyID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/discussions/" + promptID);
                     Platform.runLater(() -> {
                         replies.removeIf(r -> r.getNoteID().equals(replyID));
                     });
 
-                    cacheManager.saveReplies(new ArrayList<>(replies));
+                    cacheManager.deleteReply(replyID);
                 });
     }
 
@@ -732,15 +762,12 @@ public class ClubRepository {
      * @return CompletableFuture that completes when replies are loaded
      */
     public CompletableFuture<Void> fetchIndependentClubReplies(Long bookID, Long noteID) {
-        return apiClient.get("/api/books/" + bookID + "/notes/" + noteID + "/replies?page=0&size=100",
-                        new TypeReference<PageResponse<Reply>>() {})
-                .thenAccept(page -> {
-                    Platform.runLater(() -> {
-                        replies.clear();
-                        replies.addAll(page.getContent());
-                    });
-                    cacheManager.saveReplies(new ArrayList<>(replies));
-                });
+        repliesNoteID = noteID;
+        repliesReload = () -> fetchIndependentClubReplies(bookID, noteID);
+        return apiClient.getFeed("/api/books/" + bookID + "/notes/" + noteID + "/replies/feed",
+                        new TypeReference<CursorPage<Reply>>() {},
+                        showIn(replies))
+                .thenAccept(cacheManager::saveReplies);
     }
 
     /**
@@ -755,10 +782,11 @@ public class ClubRepository {
         return apiClient.post("/api/books/" + bookID + "/notes/" + noteID + "/replies",
                         content, Reply.class)
                 .thenApply(reply -> {
+                    apiClient.invalidate("/api/books/" + bookID + "/notes/" + noteID);
                     Platform.runLater(() -> {
-                        replies.add(reply);
+                        upsert(replies, reply, Reply::getNoteID);
                     });
-                    cacheManager.saveReplies(new ArrayList<>(replies));
+                    cacheManager.saveReply(reply);
                     return reply;
                 });
     }
@@ -775,11 +803,12 @@ public class ClubRepository {
     public CompletableFuture<Reply> updateIndependentClubReply(Long noteID, Long bookID, String content, Long replyID){
         return apiClient.put("/api/books/" + bookID + "/notes/" + noteID + "/replies/" + replyID, content, Reply.class)
                 .thenApply(reply -> {
+                    apiClient.invalidate("/api/books/" + bookID + "/notes/" + noteID);
                     Platform.runLater(() -> {
                         replies.removeIf(r -> r.getNoteID().equals(replyID));
                         replies.add(reply);
                     });
-                    cacheManager.saveReplies(new ArrayList<>(replies));
+                    cacheManager.saveReply(reply);
                     return reply;
                 });
     }
@@ -795,10 +824,11 @@ public class ClubRepository {
     public CompletableFuture<Void> deleteIndependentClubReply(Long noteID, Long bookID, Long replyID){
         return apiClient.delete("/api/books/" + bookID + "/notes/" + noteID + "/replies/" + replyID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/books/" + bookID + "/notes/" + noteID);
                     Platform.runLater(() -> {
                         replies.removeIf(r -> r.getNoteID().equals(replyID));
                     });
-                    cacheManager.saveReplies(new ArrayList<>(replies));
+                    cacheManager.deleteReply(replyID);
                 });
     }
 
@@ -817,6 +847,7 @@ public class ClubRepository {
     public CompletableFuture<Book> addClubBook(Long clubID, Long bookID){
         return apiClient.post("/api/clubs/" + clubID + "/books/" + bookID, Book.class)
                 .thenApply(clubBook -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/books");
                     Platform.runLater(() -> {
                         clubBooks.add(clubBook);
                     });
@@ -827,6 +858,7 @@ public class ClubRepository {
     public CompletableFuture<Void> updateClubBook(Long clubID, Long bookID, ActiveFlag activeFlag) {
         return apiClient.put("/api/clubs/" + clubID + "/books/" + bookID, activeFlag, ClubBook.class)
                 .thenCompose(_ -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/books");
                     return fetchClubBooks(clubID);
                 });
     }
@@ -834,6 +866,7 @@ public class ClubRepository {
     public CompletableFuture<Void> deleteClubBook(Long clubID, Long bookID) {
         return apiClient.delete("/api/clubs/" + clubID + "/books/" + bookID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/books");
                     Platform.runLater(() -> {
                         clubBooks.removeIf(book -> book.getBookID().equals(bookID));
                     });
@@ -841,6 +874,204 @@ public class ClubRepository {
     }
 
 
+    // ==================== CHANGE STREAMS ====================
+
+    /**
+     * Opens the signed-in user's change stream, which keeps their clubs and the meetings
+     * of those clubs current. Does nothing if it is already open.
+     *
+     * @param userID the signed-in user's ID
+     */
+    public synchronized void openUserStream(Long userID) {
+        if (userStream != null && userStream.isOpen() && userID.equals(streamedUserID)) {
+            return;
+        }
+        if (userStream != null) {
+            userStream.close();
+        }
+
+        streamedUserID = userID;
+        userStream = apiClient.stream("/api/users/" + userID + "/events", ChangeEvent.class,
+                event -> Platform.runLater(() -> applyUserChange(userID, event)));
+    }
+
+    /**
+     * Opens a club's change stream, closing the one of any other club. Does nothing if
+     * the club's stream is already open.
+     *
+     * @param clubID the club's ID
+     */
+    public synchronized void openClubStream(Long clubID) {
+        if (clubStream != null && clubStream.isOpen() && clubID.equals(streamedClubID)) {
+            return;
+        }
+        closeClubStream();
+
+        streamedClubID = clubID;
+        clubStream = apiClient.stream("/api/clubs/" + clubID + "/events", ChangeEvent.class,
+                event -> Platform.runLater(() -> applyClubChange(clubID, event)));
+    }
+
+    /**
+     * Closes the open club's change stream, if any.
+     */
+    public synchronized void closeClubStream() {
+        if (clubStream != null) {
+            clubStream.close();
+            clubStream = null;
+            streamedClubID = null;
+        }
+    }
+
+    /**
+     * Closes every change stream (logout).
+     */
+    public synchronized void closeStreams() {
+        closeClubStream();
+        if (userStream != null) {
+            userStream.close();
+            userStream = null;
+            streamedUserID = null;
+        }
+    }
+
+    private void applyUserChange(Long userID, ChangeEvent event) {
+        boolean self = userID.equals(event.entityID());
+
+        switch (event.type()) {
+            case MEETING_CREATED, MEETING_UPDATED -> upsert(userMeetings, event.meeting(), Meeting::getMeetingID);
+            case MEETING_DELETED -> userMeetings.removeIf(m -> m.getMeetingID().equals(event.entityID()));
+            case MEMBER_JOINED -> {
+                if (self) {
+                    fetchClub(event.clubID());
+                    fetchUserMeetings(userID);
+                }
+            }
+            case MEMBER_LEFT -> {
+                if (self) {
+                    userClubs.removeIf(c -> c.getClubID().equals(event.clubID()));
+                    userMeetings.removeIf(m -> m.getClub() != null
+                            && event.clubID().equals(m.getClub().getClubID()));
+                }
+            }
+            case RESET -> {
+                invalidateUserClubs();
+                apiClient.invalidate("/api/meetings/user/" + userID);
+                fetchUserClubs(userID);
+                fetchUserMeetings(userID);
+            }
+            default -> {
+                // notes, replies and role changes are carried by club streams
+            }
+        }
+    }
+
+    private void applyClubChange(Long clubID, ChangeEvent event) {
+        switch (event.type()) {
+            case NOTE_CREATED, NOTE_UPDATED -> {
+                if (clubID.equals(notesClubID) && Objects.equals(event.parentID(), notesPromptID)) {
+                    upsert(clubNotes, event.note(), Note::getNoteID);
+                    cacheManager.saveNote(event.note());
+                }
+            }
+            case NOTE_DELETED -> {
+                if (clubNotes.removeIf(n -> n.getNoteID().equals(event.entityID()))) {
+                    cacheManager.deleteNote(event.entityID());
+                }
+            }
+            case REPLY_CREATED, REPLY_UPDATED -> {
+                if (Objects.equals(event.parentID(), repliesNoteID)) {
+                    upsert(replies, event.reply(), Reply::getNoteID);
+                    cacheManager.saveReply(event.reply());
+                }
+            }
+            case REPLY_DELETED -> {
+                if (replies.removeIf(r -> r.getNoteID().equals(event.entityID()))) {
+                    cacheManager.deleteReply(event.entityID());
+                }
+            }
+            case MEETING_CREATED, MEETING_UPDATED -> {
+                upsert(meetings, event.meeting(), Meeting::getMeetingID);
+                cacheManager.saveMeeting(event.meeting());
+            }
+            case MEETING_DELETED -> {
+                if (meetings.removeIf(m -> m.getMeetingID().equals(event.entityID()))) {
+                    cacheManager.deleteMeeting(event.entityID());
+                }
+            }
+            case MEMBER_UPDATED -> {
+                Long currentUserID = apiClient.getCurrentUserId();
+                if (currentUserID != null && currentUserID.equals(event.entityID())) {
+                    apiClient.invalidate("/api/clubs/" + clubID + "/role");
+                    fetchClubPermission(clubID);
+                }
+            }
+            case RESET -> reloadClub(clubID);
+            default -> {
+                // joins and departures do not change the lists held here
+            }
+        }
+    }
+
+    /**
+     * Fetches again everything a club stream keeps current, after the stream could not resume.
+     */
+    private void reloadClub(Long clubID) {
+        apiClient.invalidate("/api/clubs/" + clubID);
+        fetchClubMeetings(clubID);
+        if (clubID.equals(notesClubID)) {
+            if (notesPromptID == null) {
+                fetchClubNotes(clubID);
+            } else {
+                fetchPromptNotes(clubID, notesPromptID);
+            }
+        }
+        Runnable reload = repliesReload;
+        if (reload != null) {
+            reload.run();
+        }
+    }
+
+    /**
+     * Replaces the item with the same ID in place, or appends it if the list has none.
+     */
+    /**
+     * Shows a feed in {@code list} as it streams in: its first items replace the list's contents
+     * and later ones are appended, on the FX thread.
+     */
+    private static <T> ApiClient.FeedListener<T> showIn(ObservableList<T> list) {
+        return (items, first) -> Platform.runLater(() -> {
+            if (first) {
+                list.setAll(items);
+            } else {
+                list.addAll(items);
+            }
+        });
+    }
+
+    private static <T> void upsert(ObservableList<T> list, T item, Function<T, Long> id) {
+        Long itemID = id.apply(item);
+        for (int i = 0; i < list.size(); i++) {
+            if (itemID.equals(id.apply(list.get(i)))) {
+                list.set(i, item);
+                return;
+            }
+        }
+        list.add(item);
+    }
+
+    /**
+     * Stops the signed-in user's club list from being served from a fetch started before a change.
+     */
+    private void invalidateUserClubs() {
+        apiClient.invalidate("/api/users/" + apiClient.getCurrentUserId() + "/clubs");
+    }
+
+    private void invalidateMeetings(Long clubID) {
+        apiClient.invalidate("/api/clubs/" + clubID + "/meetings");
+        apiClient.invalidate("/api/meetings/user/" + apiClient.getCurrentUserId());
+    }
+
     // ==================== GETTERS FOR OBSERVABLE LISTS ====================
 
     public ObservableList<Club> getUserClubs() {
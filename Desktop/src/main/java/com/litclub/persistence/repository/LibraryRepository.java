@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.litclub.client.api.ApiClient;
 import com.litclub.construct.*;
 import com.litclub.construct.enums.BookStatus;
+import com.litclub.construct.interfaces.CursorPage;
 import com.litclub.construct.interfaces.PageResponse;
 import com.litclub.construct.interfaces.library.BookAddRequest;
 import com.litclub.construct.interfaces.library.BookWithStatus;
@@ -25,6 +26,7 @@ import javafx.collections.ObservableList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Repository managing library-related data: users, books, reviews, and personal notes.
@@ -155,38 +157,7 @@ public class LibraryRepository {
     public CompletableFuture<Void> fetchUserLibrary(Long userID) {
         return apiClient.get("/api/users/" + userID + "/library", UserLibrary.class)
                 .thenAccept(library -> {
-                    Platform.runLater(() -> {
-                        // Clear existing data
-                        currentlyReading.clear();
-                        wantToRead.clear();
-                        finishedReading.clear();
-
-                        this.userLibrary = library;
-
-                        System.out.println("Received library data:");
-                        System.out.println("  Currently Reading: " + library.currentlyReading().size());
-                        System.out.println("  Want to Read: " + library.wantToRead().size());
-                        System.out.println("  Read: " + library.read().size());
-
-                        // Populate categorized lists
-                        currentlyReading.addAll(library.currentlyReading().stream()
-                                .map(BookWithStatus::book)
-                                .toList());
-                        wantToRead.addAll(library.wantToRead().stream()
-                                .map(BookWithStatus::book)
-                                .toList());
-                        finishedReading.addAll(library.read().stream()
-                                .map(BookWithStatus::book)
-                                .toList());
-
-                        // Update all books collection (union of all categories)
-                        allBooks.clear();
-                        allBooks.addAll(currentlyReading);
-                        allBooks.addAll(wantToRead);
-                        allBooks.addAll(finishedReading);
-
-                        System.out.println("Library loaded. Total books: " + allBooks.size());
-                    });
+                    Platform.runLater(() -> showLibrary(library));
 
                     // Cache books
                     cacheManager.saveBooks(new ArrayList<>(allBooks));
@@ -199,6 +170,119 @@ public class LibraryRepository {
                 });
     }
 
+    /**
+     * Replaces the user's library with the entries held by the sync engine.
+     *
+     * @param entries every book in the library, with its status
+     */
+    public void setLibrary(List<BookWithStatus> entries) {
+        UserLibrary library = new UserLibrary(currentUser,
+                onShelf(entries, BookStatus.READING),
+                onShelf(entries, BookStatus.WANT_TO_READ),
+                onShelf(entries, BookStatus.READ),
+                onShelf(entries, BookStatus.DNF),
+                List.of());
+
+        Platform.runLater(() -> showLibrary(library));
+    }
+
+    private static List<BookWithStatus> onShelf(List<BookWithStatus> entries, BookStatus status) {
+        return entries.stream()
+                .filter(entry -> entry.status() == status)
+                .toList();
+    }
+
+    /**
+     * Populates the shelves from a library. Must run on the JavaFX Application Thread.
+     */
+    private void showLibrary(UserLibrary library) {
+        // Clear existing data
+        currentlyReading.clear();
+        wantToRead.clear();
+        finishedReading.clear();
+
+        this.userLibrary = library;
+
+        System.out.println("Received library data:");
+        System.out.println("  Currently Reading: " + library.currentlyReading().size());
+        System.out.println("  Want to Read: " + library.wantToRead().size());
+        System.out.println("  Read: " + library.read().size());
+
+        // Populate categorized lists
+        currentlyReading.addAll(library.currentlyReading().stream()
+                .map(BookWithStatus::book)
+                .toList());
+        wantToRead.addAll(library.wantToRead().stream()
+                .map(BookWithStatus::book)
+                .toList());
+        finishedReading.addAll(library.read().stream()
+                .map(BookWithStatus::book)
+                .toList());
+
+        // Update all books collection (union of all categories)
+        allBooks.clear();
+        allBooks.addAll(currentlyReading);
+        allBooks.addAll(wantToRead);
+        allBooks.addAll(finishedReading);
+
+        System.out.println("Library loaded. Total books: " + allBooks.size());
+    }
+
+    /**
+     * Fetches one page of a single shelf of the user's library and appends it to the matching
+     * observable list. Page 0 replaces the shelf's current contents, so large libraries can be
+     * loaded incrementally (e.g. as the user scrolls) instead of through {@link #fetchUserLibrary(Long)}.
+     * Books are appended in chunks as the page is decoded, not once the whole page has arrived.
+     *
+     * @param userID the user's ID
+     * @param status the shelf to load
+     * @param page zero-based page number
+     * @param size page size
+     * @return CompletableFuture with the fetched page
+     * @throws IllegalArgumentException for {@link BookStatus#DNF}, which has no shelf to load into
+     */
+    public CompletableFuture<PageResponse<BookWithStatus>> fetchLibraryShelf(Long userID, BookStatus status,
+                                                                             int page, int size) {
+        ObservableList<Book> shelf = switch (status) {
+            case READING -> currentlyReading;
+            case WANT_TO_READ -> wantToRead;
+            case READ -> finishedReading;
+            case DNF -> throw new IllegalArgumentException("There is no DNF shelf to load");
+        };
+        TypeReference<PageResponse<BookWithStatus>> typeRef = new TypeReference<>() {};
+        String endpoint = "/api/users/" + userID + "/library?status=" + status + "&page=" + page + "&size=" + size;
+        AtomicBoolean replaced = new AtomicBoolean(page != 0);
+
+        return apiClient.getPage(endpoint, typeRef,
+                        chunk -> showShelfChunk(shelf, replaced.getAndSet(true), chunk))
+                .thenApply(pageResponse -> {
+                    if (!replaced.get()) {
+                        showShelfChunk(shelf, false, List.of()); // empty first page still clears the shelf
+                    }
+
+                    // One page of one shelf: update those books, keep the rest of the cache
+                    for (BookWithStatus entry : pageResponse.getContent()) {
+                        cacheManager.saveBook(entry.book());
+                    }
+                    return pageResponse;
+                });
+    }
+
+    private void showShelfChunk(ObservableList<Book> shelf, boolean append, List<BookWithStatus> chunk) {
+        List<Book> books = chunk.stream()
+                .map(BookWithStatus::book)
+                .toList();
+
+        Platform.runLater(() -> {
+            if (!append) {
+                allBooks.removeAll(shelf);
+                shelf.clear();
+            }
+            shelf.addAll(books);
+            allBooks.addAll(books);
+        });
+    }
+
     /**
      * Adds a book to the user's library.
      *
@@ -209,6 +293,7 @@ public class LibraryRepository {
     public CompletableFuture<BookWithStatus> addBookToLibrary(Long userID, BookAddRequest bookAddRequest) {
         return apiClient.post("/api/users/" + userID + "/library", bookAddRequest, BookWithStatus.class)
                 .thenApply(bookWithStatus -> {
+                    apiClient.invalidate("/api/users/" + userID + "/library");
                     Platform.runLater(() -> {
                         Book book = bookWithStatus.book();
 
@@ -276,6 +361,7 @@ public class LibraryRepository {
     public CompletableFuture<BookWithStatus> updateBookStatus(Long userID, Long bookID, BookStatus newStatus) {
         return apiClient.put("/api/users/" + userID + "/library/" + bookID, newStatus, BookWithStatus.class)
                 .thenApply(bookWithStatus -> {
+                    apiClient.invalidate("/api/users/" + userID + "/library");
                     Platform.runLater(() -> {
                         Book book = bookWithStatus.book();
 
@@ -309,6 +395,7 @@ public class LibraryRepository {
     public CompletableFuture<Void> removeBookFromLibrary(Long userID, Long bookID) {
         return apiClient.delete("/api/users/" + userID + "/library/" + bookID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/users/" + userID + "/library");
                     Platform.runLater(() -> {
                         // Remove from all lists
                         allBooks.removeIf(book -> book.getBookID().equals(bookID));
@@ -406,54 +493,42 @@ public class LibraryRepository {
     // ==================== REVIEWS ====================
 
     /**
-     * Fetches reviews for the current userRecord (fetching multiple pages).
+     * Fetches every review of the current userRecord, following the review feed page by page.
      *
      * @param userID the userRecord's ID
      * @return CompletableFuture that completes when reviews are loaded
      */
     public CompletableFuture<Void> fetchUserReviews(Long userID) {
-        return fetchUserReviewsRecursive(userID, 0, new ArrayList<>())
-                .thenAccept(reviews -> {
-                    Platform.runLater(() -> {
-                        userReviews.clear();
-                        userReviews.addAll(reviews);
-                    });
-
-                    cacheManager.saveReviews(reviews);
-                });
+        TypeReference<CursorPage<Review>> typeRef = new TypeReference<>() {};
+
+        return apiClient.getFeed("/api/users/" + userID + "/reviews/feed", typeRef,
+                        (items, first) -> Platform.runLater(() -> {
+                            if (first) {
+                                userReviews.setAll(items);
+                            } else {
+                                userReviews.addAll(items);
+                            }
+                        }))
+                .thenAccept(cacheManager::saveReviews);
     }
 
     /**
-     * Recursively fetches all pages of userRecord reviews.
+     * Replaces the user's reviews with the ones held by the sync engine.
      */
-    private CompletableFuture<List<Review>> fetchUserReviewsRecursive(Long userID, int page, List<Review> accumulator) {
-        TypeReference<PageResponse<Review>> typeRef = new TypeReference<>() {};
-
-        return apiClient.get("/api/users/" + userID + "/reviews?page=" + page + "&size=100", typeRef)
-                .thenCompose(pageResponse -> {
-                    accumulator.addAll(pageResponse.getContent());
-
-                    if (pageResponse.hasNext()) {
-                        return fetchUserReviewsRecursive(userID, page + 1, accumulator);
-                    } else {
-                        return CompletableFuture.completedFuture(accumulator);
-                    }
-                });
+    public void setUserReviews(List<Review> reviews) {
+        Platform.runLater(() -> userReviews.setAll(reviews));
     }
 
-    public CompletableFuture<List<LoadedReview>> fetchReviewsRecursive(Long bookID, int page, List<LoadedReview> accumulator) {
-        TypeReference<PageResponse<LoadedReview>> typeRef = new TypeReference<>() {};
-
-        return apiClient.get("/api/books/" + bookID + "/reviews?page=" + page + "&size=100", typeRef)
-                .thenCompose(pageResponse -> {
-                    accumulator.addAll(pageResponse.getContent());
+    /**
+     * Fetches every review of a book, newest first, following the review feed page by page.
+     *
+     * @param bookID the book's ID
+     * @return CompletableFuture with the reviews and their authors' usernames
+     */
+    public CompletableFuture<List<LoadedReview>> fetchBookReviews(Long bookID) {
+        TypeReference<CursorPage<LoadedReview>> typeRef = new TypeReference<>() {};
 
-                    if (pageResponse.hasNext()) {
-                        return fetchReviewsRecursive(bookID, page + 1, accumulator);
-                    } else {
-                        return CompletableFuture.completedFuture(accumulator);
-                    }
-                });
+        return apiClient.getFeed("/api/books/" + bookID + "/reviews/feed", typeRef, null);
     }
 
     /**
@@ -467,6 +542,8 @@ public class LibraryRepository {
     public CompletableFuture<Review> createOrUpdateReview(Long userID, Long bookID, ReviewRequest reviewRequest) {
         return apiClient.post("/api/users/" + userID + "/reviews?bookID=" + bookID, reviewRequest, Review.class)
                 .thenApply(review -> {
+                    apiClient.invalidate("/api/users/" + userID + "/reviews");
+                    apiClient.invalidate("/api/books/" + bookID + "/reviews");
                     Platform.runLater(() -> {
                         // Remove old review if exists
                         userReviews.removeIf(r -> r.getBook().getBookID().equals(bookID));
@@ -490,6 +567,8 @@ public class LibraryRepository {
     public CompletableFuture<Void> deleteReview(Long userID, Long bookID) {
         return apiClient.delete("/api/users/" + userID + "/reviews/" + bookID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/users/" + userID + "/reviews");
+                    apiClient.invalidate("/api/books/" + bookID + "/reviews");
                     Platform.runLater(() -> {
                         userReviews.removeIf(r -> r.getBook().getBookID().equals(bookID));
                     });
@@ -530,6 +609,13 @@ public class LibraryRepository {
                 });
     }
 
+    /**
+     * Replaces the user's notes with the ones held by the sync engine.
+     */
+    public void setPersonalNotes(List<Note> notes) {
+        Platform.runLater(() -> personalNotes.setAll(notes));
+    }
+
     /**
      * Creates a personal note.
      *
@@ -540,11 +626,12 @@ public class LibraryRepository {
     public CompletableFuture<Note> createPersonalNote(Long userID, NoteCreateRequest noteRequest) {
         return apiClient.post("/api/users/" + userID + "/notes", noteRequest, Note.class)
                 .thenApply(note -> {
+                    apiClient.invalidate("/api/users/" + userID + "/notes");
                     Platform.runLater(() -> {
                         personalNotes.add(note);
                     });
 
-                    cacheManager.saveNotes(new ArrayList<>(personalNotes));
+                    cacheManager.saveNote(note);
 
                     return note;
                 });
@@ -561,13 +648,14 @@ public class LibraryRepository {
     public CompletableFuture<Note> updatePersonalNote(Long userID, Long noteID, String content) {
         return apiClient.put("/api/users/" + userID + "/notes/" + noteID, content, Note.class)
                 .thenApply(note -> {
+                    apiClient.invalidate("/api/users/" + userID + "/notes");
                     Platform.runLater(() -> {
                         // Replace old note with updated one
                         personalNotes.removeIf(n -> n.getNoteID().equals(noteID));
                         personalNotes.add(note);
                     });
 
-                    cacheManager.saveNotes(new ArrayList<>(personalNotes));
+                    cacheManager.saveNote(note);
 
                     return note;
                 });
@@ -583,11 +671,12 @@ public class LibraryRepository {
     public CompletableFuture<Void> deletePersonalNote(Long userID, Long noteID) {
         return apiClient.delete("/api/users/" + userID + "/notes/" + noteID)
                 .thenAccept(v -> {
+                    apiClient.invalidate("/api/users/" + userID + "/notes");
                     Platform.runLater(() -> {
                         personalNotes.removeIf(n -> n.getNoteID().equals(noteID));
                     });
 
-                    cacheManager.saveNotes(new ArrayList<>(personalNotes));
+                    cacheManager.deleteNote(noteID);
                 });
     }
 
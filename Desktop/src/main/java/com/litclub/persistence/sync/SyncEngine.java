@@ -0,0 +1,263 @@
+package com.litclub.persistence.sync;
+
+import com.litclub.client.api.ApiClient;
+import com.litclub.construct.Club;
+import com.litclub.construct.Meeting;
+import com.litclub.construct.Note;
+import com.litclub.construct.Review;
+import com.litclub.construct.interfaces.library.BookWithStatus;
+import com.litclub.construct.interfaces.sync.SyncDelta;
+import com.litclub.construct.interfaces.sync.SyncResponse;
+import com.litclub.persistence.cache.CacheManager;
+import com.litclub.persistence.repository.ClubRepository;
+import com.litclub.persistence.repository.LibraryRepository;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Keeps the signed-in user's library, clubs, meetings, notes and reviews in a local store
+ * and brings them up to date with {@code GET /api/sync}.
+ *
+ * <p>At sign-in, {@link #hydrate(Long)} reads the snapshot left by the previous session and
+ * fills the repositories from it, so pages render without waiting on the server. Then
+ * {@link #sync(Long)} asks the server only for what changed since the snapshot's token,
+ * applies the delta to the snapshot, pushes the result to the repositories and saves it for
+ * the next launch. A user with no snapshot, or one too old for a delta, gets a full snapshot
+ * on the first sync instead.</p>
+ *
+ * <p>Each sign-in logs how long hydration and sync took and when the library was first
+ * rendered, prefixed with {@code [SYNC]}, to compare cold starts from the local store with
+ * cold starts from the server.</p>
+ *
+ * <p><strong>Thread Safety:</strong> the snapshot is only read and replaced while holding
+ * this engine's lock; repositories apply what they are given on the JavaFX Application
+ * Thread.</p>
+ */
+public class SyncEngine {
+
+    private static SyncEngine instance;
+
+    private final ApiClient apiClient;
+    private final CacheManager cacheManager;
+    private final LibraryRepository libraryRepository;
+    private final ClubRepository clubRepository;
+
+    // Signed-in user, their synced state, and the sync in flight
+    private Long userID;
+    private SyncSnapshot snapshot;
+    private CompletableFuture<Void> inFlight;
+
+    // Cold-start timings for the signed-in user
+    private long signedInAt;
+    private boolean libraryShown;
+
+    private SyncEngine() {
+        this.apiClient = ApiClient.getInstance();
+        this.cacheManager = CacheManager.getInstance();
+        this.libraryRepository = LibraryRepository.getInstance();
+        this.clubRepository = ClubRepository.getInstance();
+    }
+
+    public static synchronized SyncEngine getInstance() {
+        if (instance == null) {
+            instance = new SyncEngine();
+        }
+        return instance;
+    }
+
+    // ==================== HYDRATION ====================
+
+    /**
+     * Fills the repositories from the user's local snapshot, read off the calling thread.
+     * Does nothing if the user's state is already held in memory.
+     *
+     * @param userID the signed-in user's ID
+     * @return CompletableFuture with true if local data was shown, false if there was none
+     */
+    public CompletableFuture<Boolean> hydrate(Long userID) {
+        synchronized (this) {
+            if (userID.equals(this.userID)) {
+                return CompletableFuture.completedFuture(snapshot != null);
+            }
+            this.userID = userID;
+            this.snapshot = null;
+            this.inFlight = null;
+            this.signedInAt = System.nanoTime();
+            this.libraryShown = false;
+        }
+
+        return CompletableFuture.supplyAsync(() -> cacheManager.loadSyncSnapshot(userID))
+                .thenApply(loaded -> {
+                    synchronized (this) {
+                        if (loaded == null || !userID.equals(this.userID) || snapshot != null) {
+                            return snapshot != null;
+                        }
+                        snapshot = loaded;
+                    }
+
+                    publish(loaded);
+                    System.out.println("[SYNC] Hydrated " + loaded.library().size() + " books, "
+                            + loaded.clubs().size() + " clubs and " + loaded.meetings().size()
+                            + " meetings from the local store in " + sinceSignIn() + " ms");
+                    return true;
+                });
+    }
+
+    /**
+     * Checks whether the user's library is held locally, so it can be shown without a fetch.
+     */
+    public synchronized boolean hasLibrary(Long userID) {
+        return userID.equals(this.userID) && snapshot != null;
+    }
+
+    /**
+     * Logs how long after sign-in the library was first rendered. Only the first call per
+     * sign-in is logged.
+     */
+    public synchronized void recordLibraryShown() {
+        if (userID == null || libraryShown) {
+            return;
+        }
+        libraryShown = true;
+        System.out.println("[SYNC] First library render " + sinceSignIn() + " ms after sign-in ("
+                + (snapshot != null ? "local store" : "server") + ")");
+    }
+
+    /**
+     * Forgets the signed-in user (logout). Their snapshot stays on disk for their next sign-in,
+     * and a sync still in flight is not applied.
+     */
+    public synchronized void stop() {
+        userID = null;
+        snapshot = null;
+        inFlight = null;
+    }
+
+    // ==================== SYNC ====================
+
+    /**
+     * Fetches the changes since the user's snapshot and applies them. Calls made while a sync
+     * is in flight share it.
+     *
+     * @param userID the signed-in user's ID
+     * @return CompletableFuture that completes when the changes are applied and saved
+     */
+    public synchronized CompletableFuture<Void> sync(Long userID) {
+        if (!userID.equals(this.userID)) {
+            this.userID = userID;
+            this.snapshot = null;
+            this.signedInAt = System.nanoTime();
+            this.libraryShown = false;
+        } else if (inFlight != null && !inFlight.isDone()) {
+            return inFlight;
+        }
+
+        String token = snapshot != null ? snapshot.token() : null;
+        String endpoint = token == null
+                ? "/api/sync"
+                : "/api/sync?since=" + URLEncoder.encode(token, StandardCharsets.UTF_8);
+        long start = System.nanoTime();
+
+        inFlight = apiClient.get(endpoint, SyncResponse.class)
+                .thenAccept(response -> apply(userID, response, start));
+        return inFlight;
+    }
+
+    private void apply(Long userID, SyncResponse response, long start) {
+        SyncSnapshot merged;
+        synchronized (this) {
+            if (!userID.equals(this.userID)) {
+                return; // signed out while the sync was in flight
+            }
+            SyncSnapshot current = response.full() || snapshot == null ? SyncSnapshot.empty() : snapshot;
+            merged = merge(current, response);
+            snapshot = merged;
+        }
+
+        publish(merged);
+        cacheManager.saveSyncSnapshot(userID, merged);
+        System.out.println("[SYNC] " + (response.full() ? "Full snapshot" : "Delta") + " of "
+                + countUpserted(response) + " changed and " + countDeleted(response) + " deleted rows applied in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms (" + sinceSignIn() + " ms after sign-in)");
+    }
+
+    private void publish(SyncSnapshot state) {
+        libraryRepository.setLibrary(state.library());
+        libraryRepository.setUserReviews(state.reviews());
+        libraryRepository.setPersonalNotes(state.notes());
+        clubRepository.setUserClubs(state.clubs());
+        clubRepository.setUserMeetings(state.meetings());
+    }
+
+    // ==================== MERGING ====================
+
+    private static SyncSnapshot merge(SyncSnapshot current, SyncResponse response) {
+        List<Club> clubs = merge(current.clubs(), response.clubs(), Club::getClubID);
+
+        // Meetings of clubs the user left are not sent as deletions, so drop them here
+        Set<Long> leftClubs = new HashSet<>(deleted(response.clubs()));
+        List<Meeting> meetings = merge(current.meetings(), response.meetings(), Meeting::getMeetingID).stream()
+                .filter(meeting -> meeting.getClub() == null || !leftClubs.contains(meeting.getClub().getClubID()))
+                .toList();
+
+        return new SyncSnapshot(
+                response.token(),
+                merge(current.library(), response.library(), entry -> entry.book().getBookID()),
+                clubs,
+                meetings,
+                merge(current.notes(), response.notes(), Note::getNoteID),
+                merge(current.reviews(), response.reviews(), Review::getReviewID));
+    }
+
+    /**
+     * Applies a delta to a list: deleted IDs are removed, upserted rows replace the row with
+     * the same ID in place or are appended.
+     */
+    private static <T> List<T> merge(List<T> current, SyncDelta<T> delta, Function<T, Long> id) {
+        if (delta == null) {
+            return current;
+        }
+
+        Map<Long, T> byID = new LinkedHashMap<>();
+        for (T item : current) {
+            byID.put(id.apply(item), item);
+        }
+        deleted(delta).forEach(byID::remove);
+        for (T item : delta.upsertedOrEmpty()) {
+            byID.put(id.apply(item), item);
+        }
+        return new ArrayList<>(byID.values());
+    }
+
+    private static List<Long> deleted(SyncDelta<?> delta) {
+        return delta != null ? delta.deletedOrEmpty() : List.of();
+    }
+
+    private static int countUpserted(SyncResponse response) {
+        return upserted(response.library()) + upserted(response.clubs()) + upserted(response.meetings())
+                + upserted(response.notes()) + upserted(response.reviews());
+    }
+
+    private static int upserted(SyncDelta<?> delta) {
+        return delta != null ? delta.upsertedOrEmpty().size() : 0;
+    }
+
+    private static int countDeleted(SyncResponse response) {
+        return deleted(response.library()).size() + deleted(response.clubs()).size()
+                + deleted(response.meetings()).size() + deleted(response.notes()).size()
+                + deleted(response.reviews()).size();
+    }
+
+    private long sinceSignIn() {
+        return (System.nanoTime() - signedInAt) / 1_000_000;
+    }
+}
@@ -0,0 +1,30 @@
+package com.litclub.persistence.sync;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.litclub.construct.Club;
+import com.litclub.construct.Meeting;
+import com.litclub.construct.Note;
+import com.litclub.construct.Review;
+import com.litclub.construct.interfaces.library.BookWithStatus;
+
+import java.util.List;
+
+/**
+ * The user's synced state as kept on disk between launches.
+ *
+ * @param token sync token the state is current as of, or null if it was never synced
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SyncSnapshot(
+        String token,
+        List<BookWithStatus> library,
+        List<Club> clubs,
+        List<Meeting> meetings,
+        List<Note> notes,
+        List<Review> reviews
+) {
+
+    public static SyncSnapshot empty() {
+        return new SyncSnapshot(null, List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+}
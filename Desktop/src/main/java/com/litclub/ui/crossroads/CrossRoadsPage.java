@@ -2,7 +2,9 @@ package com.litclub.ui.crossroads;
 
 import com.litclub.SceneManager;
 import com.litclub.construct.Club;
+import com.litclub.persistence.repository.ClubRepository;
 import com.litclub.persistence.repository.LibraryRepository;
+import com.litclub.persistence.sync.SyncEngine;
 import com.litclub.session.AppSession;
 import com.litclub.theme.ThemeManager;
 import com.litclub.theme.ThemeToggleBar;
@@ -143,6 +145,8 @@ public class CrossRoadsPage extends BorderPane {
 
     private void handleLogout() {
         LogoutConfirmation.show(() -> {
+            ClubRepository.getInstance().closeStreams();
+            SyncEngine.getInstance().stop();
             AppSession.getInstance().clearClubContext();
             AppSession.getInstance().setUserRecord(null);
             EventBus.getInstance().clearAllListeners();
@@ -151,6 +155,12 @@ public class CrossRoadsPage extends BorderPane {
     }
 
     private void handleNavigateToPersonal() {
+        if (service.isLibraryLoaded()) {
+            service.preparePersonalContext();
+            SceneManager.getInstance().showMainPage(true);
+            return;
+        }
+
         statusBar.showLoading();
         CardsGrid.setDisable(true);
 
@@ -8,6 +8,7 @@ import com.litclub.construct.interfaces.config.ConfigurationManager;
 import com.litclub.construct.interfaces.user.UserRecord;
 import com.litclub.persistence.repository.ClubRepository;
 import com.litclub.persistence.repository.InstanceRepository;
+import com.litclub.persistence.sync.SyncEngine;
 import com.litclub.session.AppSession;
 import javafx.application.Platform;
 import javafx.collections.ObservableList;
@@ -25,11 +26,13 @@ public class CrossRoadsService {
 
     private final ClubRepository clubRepository;
     private final InstanceRepository instanceRepository;
+    private final SyncEngine syncEngine;
     private final AppSession session;
 
     public CrossRoadsService() {
         this.clubRepository = ClubRepository.getInstance();
         this.instanceRepository = InstanceRepository.getInstance();
+        this.syncEngine = SyncEngine.getInstance();
         this.session = AppSession.getInstance();
     }
 
@@ -37,7 +40,9 @@ public class CrossRoadsService {
 
     /**
      * Loads all data needed for the CrossRoads page.
-     * Fetches user's clubs, meetings, and instance settings.
+     * Shows the user's clubs and meetings from the local sync store when there is one and
+     * brings them up to date in the background; otherwise waits for the first sync.
+     * Fetches instance settings alongside.
      *
      * @param onSuccess callback when all data is loaded
      * @param onError callback if any fetch fails
@@ -49,13 +54,23 @@ public class CrossRoadsService {
             return;
         }
 
-        // Fetch all data in parallel
-        CompletableFuture<Void> clubsFuture = clubRepository.fetchUserClubs(user.userID());
-        CompletableFuture<Void> meetingsFuture = clubRepository.fetchUserMeetings(user.userID());
         CompletableFuture<?> settingsFuture = instanceRepository.fetchInstanceSettings();
+        CompletableFuture<Void> dataFuture = syncEngine.hydrate(user.userID())
+                .thenCompose(hydrated -> {
+                    CompletableFuture<Void> syncFuture = syncEngine.sync(user.userID());
+                    if (!hydrated) {
+                        return syncFuture;
+                    }
+
+                    syncFuture.exceptionally(throwable -> {
+                        System.err.println("Background sync failed: " + ApiErrorHandler.parseError(throwable));
+                        return null;
+                    });
+                    return CompletableFuture.completedFuture(null);
+                });
 
         // Wait for all to complete
-        CompletableFuture.allOf(clubsFuture, meetingsFuture, settingsFuture)
+        CompletableFuture.allOf(dataFuture, settingsFuture)
                 .thenRun(() -> {
                     Platform.runLater(() -> {
                         System.out.println("All data loaded. Clubs count: " + clubRepository.getUserClubs().size());
@@ -158,6 +173,17 @@ public class CrossRoadsService {
         loadClubBooks(club.getClubID(), onSuccess, onError);
     }
 
+    /**
+     * Checks whether the user's library is already held by the sync engine, so the
+     * personal page can open without fetching it first.
+     *
+     * @return true if the library can be shown right away
+     */
+    public boolean isLibraryLoaded() {
+        UserRecord user = session.getUserRecord();
+        return user != null && syncEngine.hasLibrary(user.userID());
+    }
+
     /**
      * Prepares personal context by clearing club data from session.
      */
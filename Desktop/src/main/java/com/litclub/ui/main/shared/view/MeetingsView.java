@@ -1,12 +1,10 @@
 package com.litclub.ui.main.shared.view;
 
 import com.litclub.construct.Meeting;
-import com.litclub.persistence.repository.ClubRepository;
 import com.litclub.session.AppSession;
 import com.litclub.theme.ThemeManager;
-import com.litclub.ui.main.shared.event.EventBus;
-import com.litclub.ui.main.shared.event.EventBus.EventType;
 import com.litclub.ui.main.shared.view.service.MeetingService;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -18,6 +16,7 @@ import javafx.scene.layout.VBox;
 
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
+import java.util.List;
 
 public class MeetingsView extends ScrollPane {
 
@@ -52,13 +51,8 @@ public class MeetingsView extends ScrollPane {
 
         this.setContent(container);
 
-        EventBus.getInstance().on(
-                EventType.CLUB_MEETINGS_UPDATED,
-                () -> {
-                    ClubRepository.getInstance().fetchClubMeetings(
-                            AppSession.getInstance().getCurrentClub().getClubID()
-                    );
-                });
+        // The list is kept current by the club's change stream
+        clubMeetings.addListener((ListChangeListener<Meeting>) change -> showMeetings());
     }
 
     private void addHeader() {
@@ -69,21 +63,26 @@ public class MeetingsView extends ScrollPane {
 
     public void showMeetings() {
         clubMeetings = meetingService.getClubMeetings();
-        clubMeetings.sort(Comparator.comparing(Meeting::getStartTime).reversed());
+
+        // Sort a copy: sorting the list itself would notify its listeners again
+        List<Meeting> sorted = clubMeetings.stream()
+                .sorted(Comparator.comparing(Meeting::getStartTime).reversed())
+                .toList();
 
         // Clear only meeting cards, keep the header
         container.getChildren().removeIf(node ->
                 node.getStyleClass().contains("meeting-card")
+                        || node.getStyleClass().contains("empty-state")
         );
 
-        if (clubMeetings.isEmpty()) {
+        if (sorted.isEmpty()) {
             Label emptyState = new Label("No upcoming meetings scheduled");
             emptyState.getStyleClass().add("empty-state");
             container.getChildren().add(emptyState);
             return;
         }
 
-        for (Meeting meeting : clubMeetings) {
+        for (Meeting meeting : sorted) {
             VBox card = createMeetingCard(meeting);
             container.getChildren().add(card);
         }
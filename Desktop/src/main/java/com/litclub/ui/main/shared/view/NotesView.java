@@ -21,10 +21,6 @@ public class NotesView extends BorderPane {
         this.isPersonal = isPersonal;
         ThemeManager.getInstance().registerComponent(this);
 
-        EventType eventType = isPersonal ?
-                EventType.PERSONAL_NOTES_UPDATED :
-                EventType.CLUB_NOTES_UPDATED;
-
         // Create core first
         notesCore = new NotesCore(isPersonal);
 
@@ -39,7 +35,10 @@ public class NotesView extends BorderPane {
         this.setTop(controlBar);
         this.setCenter(notesCore);
 
-        EventBus.getInstance().on(eventType, notesCore::refreshNotes);
+        // Club notes are kept current by the club's change stream
+        if (isPersonal) {
+            EventBus.getInstance().on(EventType.PERSONAL_NOTES_UPDATED, notesCore::refreshNotes);
+        }
 
     }
 
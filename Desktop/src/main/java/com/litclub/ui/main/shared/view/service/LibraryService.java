@@ -10,6 +10,7 @@ import com.litclub.construct.interfaces.library.book.BookSearchRequest;
 import com.litclub.ui.main.shared.event.EventBus;
 import com.litclub.ui.main.shared.event.EventBus.EventType;
 import com.litclub.persistence.repository.LibraryRepository;
+import com.litclub.persistence.sync.SyncEngine;
 import com.litclub.session.AppSession;
 import javafx.application.Platform;
 import javafx.collections.ObservableList;
@@ -20,10 +21,12 @@ import java.util.function.Consumer;
 public class LibraryService {
 
     private final LibraryRepository libraryRepository;
+    private final SyncEngine syncEngine;
     private final AppSession session;
 
     public LibraryService() {
         this.libraryRepository = LibraryRepository.getInstance();
+        this.syncEngine = SyncEngine.getInstance();
         this.session = AppSession.getInstance();
 
         EventBus.getInstance().on(EventBus.personalEvents(), this::refreshLibrarySilently);
@@ -50,7 +53,7 @@ public class LibraryService {
     // ==================== OPERATIONS (with UI-friendly callbacks) ====================
 
     /**
-     * Load user's library from API.
+     * Load user's library, from the sync engine when it already holds it, else from API.
      *
      * @param userID the user's ID
      * @param onSuccess callback when library loads successfully
@@ -60,10 +63,27 @@ public class LibraryService {
                             Runnable onSuccess,
                             Consumer<String> onError) {
 
+        // Shelves were filled from the local store and are kept current by sync
+        if (syncEngine.hasLibrary(userID)) {
+            Platform.runLater(() -> {
+                syncEngine.recordLibraryShown();
+                onSuccess.run();
+            });
+            return;
+        }
+
+        fetchLibrary(userID, onSuccess, onError);
+    }
+
+    private void fetchLibrary(Long userID,
+                              Runnable onSuccess,
+                              Consumer<String> onError) {
+
         libraryRepository.fetchUserLibrary(userID)
                 .thenRun(() -> {
                     Platform.runLater(() -> {
                         System.out.println("Library loaded successfully");
+                        syncEngine.recordLibraryShown();
                         onSuccess.run();
                     });
                 })
@@ -235,8 +255,7 @@ public class LibraryService {
     public void refreshLibrary(Long userID,
                                Runnable onSuccess,
                                Consumer<String> onError) {
-        // Same as loadLibrary - just a semantic alias
-        loadLibrary(userID, onSuccess, onError);
+        fetchLibrary(userID, onSuccess, onError);
     }
 
     // ==================== UTILITY ====================
@@ -40,7 +40,6 @@ public class MeetingService {
         ).thenAccept(meeting -> {
             Platform.runLater(() -> {
                 System.out.println("Meeting added");
-                loadClubMeetings();
                 onSuccess.accept(meeting);
             });
         }).exceptionally(throwable -> {
@@ -9,7 +9,6 @@ import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
-import java.util.ArrayList;
 import java.util.function.Consumer;
 
 public class ReviewService {
@@ -26,7 +25,7 @@ public class ReviewService {
             Runnable onSuccess,
             Consumer<String> onError) {
 
-        libraryRepository.fetchReviewsRecursive(bookID, 0, new ArrayList<>())
+        libraryRepository.fetchBookReviews(bookID)
                 .thenAccept(reviews -> {
                     Platform.runLater(() -> {
                         reviewList.setAll(reviews);
@@ -16,6 +16,7 @@ module com.litclub {
     opens com.litclub.client.api to com.fasterxml.jackson.databind, com.google.gson;
     opens com.litclub.persistence.cache to com.fasterxml.jackson.databind, com.google.gson;
     opens com.litclub.persistence.repository to com.fasterxml.jackson.databind, com.google.gson;
+    opens com.litclub.persistence.sync to com.fasterxml.jackson.databind;
     opens com.litclub.construct to com.fasterxml.jackson.databind, com.google.gson;
     opens com.litclub.construct.interfaces to com.fasterxml.jackson.databind, com.google.gson;
     opens com.litclub.construct.enums to com.fasterxml.jackson.databind, com.google.gson;
@@ -28,6 +29,8 @@ module com.litclub {
     opens com.litclub.construct.interfaces.library to com.fasterxml.jackson.databind, com.google.gson;
     opens com.litclub.construct.interfaces.meeting to com.fasterxml.jackson.databind, com.google.gson;
     opens com.litclub.construct.interfaces.discussion to com.fasterxml.jackson.databind, com.google.gson;
+    opens com.litclub.construct.interfaces.event to com.fasterxml.jackson.databind;
+    opens com.litclub.construct.interfaces.sync to com.fasterxml.jackson.databind;
 
     exports com.litclub;
     exports com.litclub.construct;
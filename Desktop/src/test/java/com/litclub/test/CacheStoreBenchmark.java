@@ -0,0 +1,213 @@
+package com.litclub.test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.litclub.construct.Book;
+import com.litclub.construct.Note;
+import com.litclub.construct.User;
+import com.litclub.persistence.cache.RecordLog;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Standalone benchmark for the desktop note cache.
+ * Runs independently with its own main method, in a temporary directory.
+ *
+ * <p>Compares the previous cache, which rewrote a pretty-printed Gson file of every note
+ * on each save and read the whole file back into a {@code String}, with the
+ * {@link RecordLog} now behind {@code CacheManager}: a full save, a save of the full list
+ * after editing one note, a save of just the edited note, reopening (which rebuilds the
+ * index), loading every note, and reading single notes by ID. Reports time, bytes allocated by the benchmark thread, and the size on disk.</p>
+ *
+ * Usage: Run this class directly; optional first argument is the number of notes.
+ */
+public class CacheStoreBenchmark {
+
+    private static final int SINGLE_READS = 1_000;
+
+    private static final Gson PRETTY = gson().setPrettyPrinting().create();
+    private static final Gson COMPACT = gson().create();
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        Path dir = Files.createTempDirectory("litclub-cache-benchmark");
+
+        System.out.println("=================================================");
+        System.out.println("    Note cache benchmark (" + count + " notes)");
+        System.out.println("=================================================\n");
+
+        try {
+            List<Note> notes = notes(count);
+            Path legacyFile = dir.resolve("notes.json");
+            Path logFile = dir.resolve("notes.log");
+
+            // Warm up both paths on a separate file pair
+            legacySave(dir.resolve("warmup.json"), notes);
+            legacyLoad(dir.resolve("warmup.json"));
+            RecordLog<Note> warmup = open(dir.resolve("warmup.log"));
+            warmup.replaceAll(notes);
+            warmup.readAll();
+            warmup.close();
+
+            System.out.println("-- Previous: pretty-printed whole file --");
+            run("Save all", () -> legacySave(legacyFile, notes));
+            edit(notes.get(count / 2));
+            run("Save after editing one note", () -> legacySave(legacyFile, notes));
+            run("Load all", () -> legacyLoad(legacyFile).size());
+            run("Read one note (whole file)", () -> legacyLoad(legacyFile).stream()
+                    .filter(note -> note.getNoteID() == count / 4)
+                    .count());
+            System.out.printf("%-45s %,12d bytes%n%n", "Size on disk", Files.size(legacyFile));
+
+            System.out.println("-- Record log --");
+            RecordLog<Note> log = open(logFile);
+            run("Save all", () -> log.replaceAll(notes));
+            edit(notes.get(count / 3));
+            run("Save after editing one note", () -> log.replaceAll(notes));
+            Note edited = notes.get(count / 4);
+            edit(edited);
+            run("Save one edited note", () -> log.put(edited) ? 1 : 0);
+            log.close();
+
+            AtomicReference<RecordLog<Note>> reopened = new AtomicReference<>();
+            run("Reopen (rebuild index)", () -> {
+                reopened.set(open(logFile));
+                return reopened.get().size();
+            });
+            run("Load all", () -> reopened.get().readAll().size());
+            Random random = new Random(42);
+            run(SINGLE_READS + " single-note reads (mapped)", () -> {
+                long found = 0;
+                for (int i = 0; i < SINGLE_READS; i++) {
+                    found += reopened.get().read(random.nextInt(count) + 1L) != null ? 1 : 0;
+                }
+                return found;
+            });
+            System.out.printf("%-45s %,12d bytes%n", "Size on disk", reopened.get().getFileSize());
+
+            run("Compact", () -> {
+                reopened.get().compact();
+                return reopened.get().size();
+            });
+            System.out.printf("%-45s %,12d bytes%n", "Size on disk after compaction", reopened.get().getFileSize());
+            reopened.get().close();
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static RecordLog<Note> open(Path file) throws Exception {
+        return new RecordLog<>(file, Note::getNoteID,
+                note -> COMPACT.toJson(note).getBytes(StandardCharsets.UTF_8),
+                payload -> COMPACT.fromJson(new String(payload, StandardCharsets.UTF_8), Note.class));
+    }
+
+    private static long legacySave(Path file, List<Note> notes) throws Exception {
+        String json = PRETTY.toJson(notes);
+        Files.writeString(file, json);
+        return json.length();
+    }
+
+    private static List<Note> legacyLoad(Path file) throws Exception {
+        String json = Files.readString(file);
+        return List.of(PRETTY.fromJson(json, Note[].class));
+    }
+
+    private static void edit(Note note) {
+        note.setContent(note.getContent() + " (edited)");
+    }
+
+    private static List<Note> notes(int count) {
+        List<User> users = new ArrayList<>();
+        for (long userID = 1; userID <= 50; userID++) {
+            User user = new User();
+            user.setUserID(userID);
+            user.setUsername("reader" + userID);
+            user.setFirstName("Reader");
+            user.setSecondName("Number " + userID);
+            users.add(user);
+        }
+
+        List<Book> books = new ArrayList<>();
+        for (long bookID = 1; bookID <= 500; bookID++) {
+            Book book = new Book();
+            book.setBookID(bookID);
+            book.setTitle("Book " + bookID);
+            book.setAuthors(List.of("Author " + bookID % 97));
+            book.setIsbn("978" + (1_000_000_000L + bookID));
+            books.add(book);
+        }
+
+        List<Note> notes = new ArrayList<>(count);
+        for (long noteID = 1; noteID <= count; noteID++) {
+            Note note = new Note();
+            note.setNoteID(noteID);
+            note.setUser(users.get((int) (noteID % users.size())));
+            note.setBook(books.get((int) (noteID % books.size())));
+            note.setContent("Note " + noteID + ": thoughts on chapter " + noteID % 30
+                    + ", and how it ties back to the opening of the book.");
+            note.setPrivate(noteID % 3 == 0);
+            notes.add(note);
+        }
+        return notes;
+    }
+
+    /** Gson set up like {@code CacheManager}'s, with java.time written as ISO strings. */
+    private static GsonBuilder gson() {
+        return new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class, isoAdapter(LocalDateTime::parse))
+                .registerTypeAdapter(LocalDate.class, isoAdapter(LocalDate::parse));
+    }
+
+    private static <T> TypeAdapter<T> isoAdapter(Function<String, T> parse) {
+        return new TypeAdapter<T>() {
+            @Override
+            public void write(JsonWriter out, T value) throws IOException {
+                out.value(value.toString());
+            }
+
+            @Override
+            public T read(JsonReader in) throws IOException {
+                return parse.apply(in.nextString());
+            }
+        }.nullSafe();
+    }
+
+    private static void run(String name, Operation operation) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long sink = operation.execute();
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf("%-45s %9.1f ms  %,14d bytes allocated  (sink=%d)%n",
+                name, elapsed / 1_000_000.0, allocated, sink);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        long execute() throws Exception;
+    }
+}
@@ -0,0 +1,183 @@
+package com.litclub.test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.litclub.client.api.PageReader;
+import com.litclub.construct.Book;
+import com.litclub.construct.Club;
+import com.litclub.construct.Note;
+import com.litclub.construct.User;
+import com.litclub.construct.interfaces.CursorPage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Standalone benchmark for decoding feed pages in the desktop {@code ApiClient}.
+ * Runs independently with its own main method; no backend is needed.
+ *
+ * <p>Decodes the same 100-note {@code CursorPage} repeatedly through the previous path (body
+ * buffered into a {@code String}, printed, then parsed) and through the streaming paths now
+ * used by {@code ApiClient}: parsing straight from the response stream, {@link PageReader}
+ * handing items over in chunks, and the same over a gzipped body. Reports time and bytes
+ * allocated per page, and for the chunked path how soon the first chunk is ready.</p>
+ *
+ * <p>The previous path prints into a discarding stream here, so the cost of a real console
+ * is not included.</p>
+ *
+ * Usage: Run this class directly; optional first argument is the number of pages to decode.
+ */
+public class PageParseBenchmark {
+
+    private static final int ITEMS_PER_PAGE = 100;
+    private static final TypeReference<CursorPage<Note>> PAGE_TYPE = new TypeReference<>() {};
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new Jdk8Module());
+    private static final PageReader PAGE_READER = new PageReader(MAPPER);
+    private static final JavaType PAGE_JAVA_TYPE = MAPPER.getTypeFactory().constructType(PAGE_TYPE);
+    private static final PrintStream CONSOLE = new PrintStream(OutputStream.nullOutputStream());
+
+    // Nanoseconds from the start of a page to its first chunk, summed over the pages
+    private static long firstChunkNanos;
+
+    public static void main(String[] args) throws Exception {
+        int pages = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+
+        byte[] body = MAPPER.writeValueAsBytes(page());
+        byte[] gzipped = gzip(body);
+
+        System.out.println("=================================================");
+        System.out.println("    Feed page decoding benchmark");
+        System.out.println("    " + pages + " pages of " + ITEMS_PER_PAGE + " notes");
+        System.out.println("=================================================\n");
+        System.out.printf("%-40s %,10d bytes%n", "Page body", body.length);
+        System.out.printf("%-40s %,10d bytes%n%n", "Page body, gzipped", gzipped.length);
+
+        // Warm up every path
+        for (int i = 0; i < 500; i++) {
+            viaString(body);
+            viaStream(body);
+            viaPageReader(new ByteArrayInputStream(body));
+            viaPageReader(new GZIPInputStream(new ByteArrayInputStream(gzipped)));
+        }
+
+        run("Previous: String + print + parse", pages, () -> viaString(body));
+        run("Stream: parse from InputStream", pages, () -> viaStream(body));
+
+        firstChunkNanos = 0;
+        run("Stream: PageReader, " + PageReader.CHUNK_SIZE + "-item chunks", pages,
+                () -> viaPageReader(new ByteArrayInputStream(body)));
+        System.out.printf("%-40s %9.1f us%n", "  first chunk ready after", firstChunkNanos / 1_000.0 / pages);
+
+        run("Stream: PageReader, gzipped body", pages,
+                () -> viaPageReader(new GZIPInputStream(new ByteArrayInputStream(gzipped))));
+    }
+
+    private static int viaString(byte[] bytes) throws Exception {
+        String body = new String(bytes, StandardCharsets.UTF_8);
+        CONSOLE.println(body);
+        return MAPPER.readValue(body, PAGE_TYPE).getContent().size();
+    }
+
+    private static int viaStream(byte[] bytes) throws Exception {
+        try (InputStream in = new ByteArrayInputStream(bytes)) {
+            return MAPPER.readValue(in, PAGE_TYPE).getContent().size();
+        }
+    }
+
+    private static int viaPageReader(InputStream in) throws Exception {
+        long start = System.nanoTime();
+        boolean[] first = {true};
+        try (in; JsonParser parser = MAPPER.createParser(in)) {
+            CursorPage<Note> page = PAGE_READER.read(parser, PAGE_JAVA_TYPE, CursorPage<Note>::setContent,
+                    (List<Note> chunk) -> {
+                        if (first[0]) {
+                            firstChunkNanos += System.nanoTime() - start;
+                            first[0] = false;
+                        }
+                    });
+            return page.getContent().size();
+        }
+    }
+
+    private static CursorPage<Note> page() {
+        List<Note> notes = new ArrayList<>();
+        for (long noteID = 1; noteID <= ITEMS_PER_PAGE; noteID++) {
+            User user = new User();
+            user.setUserID(noteID % 20);
+            user.setUsername("reader" + noteID % 20);
+            user.setFirstName("Reader");
+            user.setSecondName("Number " + noteID % 20);
+
+            Book book = new Book();
+            book.setBookID(noteID % 7);
+            book.setTitle("Book " + noteID % 7);
+            book.setAuthors(List.of("Author " + noteID % 5));
+            book.setIsbn("978" + (1_000_000_000L + noteID % 7));
+
+            Club club = new Club();
+            club.setClubID(3L);
+            club.setClubName("Thursday Readers");
+
+            Note note = new Note();
+            note.setNoteID(noteID);
+            note.setUser(user);
+            note.setBook(book);
+            note.setClub(club);
+            note.setContent("Note " + noteID + ": thoughts on chapter " + noteID % 30
+                    + ", and how it ties back to the opening of the book.");
+            note.setCreatedAt(LocalDateTime.of(2025, 3, 1, 18, 0).plusMinutes(noteID));
+            notes.add(note);
+        }
+
+        CursorPage<Note> page = new CursorPage<>();
+        page.setContent(notes);
+        page.setNextCursor("eyJjcmVhdGVkQXQiOiIyMDI1LTAzLTAxVDE5OjQwIiwiaWQiOjEwMH0");
+        return page;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static void run(String name, int pages, Operation operation) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long sink = 0;
+        for (int i = 0; i < pages; i++) {
+            sink += operation.execute();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf("%-40s %9.1f us/page  %,10d bytes/page  (sink=%d)%n",
+                name, elapsed / 1_000.0 / pages, allocated / pages, sink);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        long execute() throws Exception;
+    }
+}
@@ -0,0 +1,113 @@
+package com.litclub.test;
+
+import com.litclub.client.api.ApiClient;
+import com.litclub.client.api.ApiClient.RequestStats;
+import com.litclub.construct.enums.ClubRole;
+import com.sun.net.httpserver.HttpServer;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * Standalone benchmark for request sharing in the desktop {@code ApiClient}.
+ * Runs independently with its own main method, against a local stand-in for the backend
+ * that answers {@code /api/clubs/{id}/role} after a fixed delay.
+ *
+ * <p>Issues bursts of identical role lookups, as several views do when a club page opens,
+ * and reports how many requests reached the server and how long each burst took: through
+ * the plain {@code get} (shared while in flight), through {@code getCached} with a TTL, and
+ * through {@code getCached} again after the role was invalidated.</p>
+ *
+ * Usage: Run this class directly; optional first argument is the number of calls per burst.
+ */
+public class RequestCoalescingBenchmark {
+
+    private static final int CLUBS = 5;
+    private static final long SERVER_DELAY_MS = 40;
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+
+        AtomicInteger served = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/clubs/", exchange -> {
+            served.incrementAndGet();
+            try {
+                Thread.sleep(SERVER_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "\"MEMBER\"".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        ExecutorService executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+
+        try {
+            ApiClient.initialize("http://127.0.0.1:" + server.getAddress().getPort());
+            ApiClient apiClient = ApiClient.getInstance();
+            apiClient.setAuthToken("benchmark-token", 1L);
+
+            System.out.println("=================================================");
+            System.out.println("    Request sharing benchmark");
+            System.out.println("    " + calls + " role lookups per burst over " + CLUBS + " clubs");
+            System.out.println("=================================================\n");
+
+            // Warm up the HTTP client and the server
+            burst(calls, clubID -> apiClient.get("/api/clubs/" + clubID + "/role", ClubRole.class));
+
+            served.set(0);
+            run("get (shared while in flight)", served,
+                    () -> burst(calls, clubID -> apiClient.get("/api/clubs/" + clubID + "/role", ClubRole.class)));
+
+            Duration ttl = Duration.ofSeconds(30);
+            run("getCached, first burst", served,
+                    () -> burst(calls, clubID -> apiClient.getCached("/api/clubs/" + clubID + "/role", ClubRole.class, ttl)));
+            run("getCached, second burst", served,
+                    () -> burst(calls, clubID -> apiClient.getCached("/api/clubs/" + clubID + "/role", ClubRole.class, ttl)));
+
+            for (int clubID = 1; clubID <= CLUBS; clubID++) {
+                apiClient.invalidate("/api/clubs/" + clubID + "/role");
+            }
+            run("getCached, after invalidation", served,
+                    () -> burst(calls, clubID -> apiClient.getCached("/api/clubs/" + clubID + "/role", ClubRole.class, ttl)));
+
+            RequestStats stats = apiClient.getRequestStats();
+            System.out.printf("%nTotals: %d sent, %d joined a request in flight, %d served from cache%n",
+                    stats.sent(), stats.coalesced(), stats.cacheHits());
+        } finally {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private static void burst(int calls, LongFunction<CompletableFuture<ClubRole>> call) {
+        List<CompletableFuture<ClubRole>> futures = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            futures.add(call.apply(i % CLUBS + 1));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static void run(String name, AtomicInteger served, Runnable burst) {
+        int before = served.get();
+        long start = System.nanoTime();
+        burst.run();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-35s %8.1f ms  %4d requests reached the server%n",
+                name, elapsed / 1_000_000.0, served.get() - before);
+    }
+}
@@ -0,0 +1,269 @@
+package com.litclub.test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.litclub.client.api.ApiClient;
+import com.litclub.construct.Book;
+import com.litclub.construct.Club;
+import com.litclub.construct.Meeting;
+import com.litclub.construct.enums.BookStatus;
+import com.litclub.construct.interfaces.CursorPage;
+import com.litclub.construct.interfaces.PageResponse;
+import com.litclub.construct.interfaces.library.BookWithStatus;
+import com.litclub.construct.interfaces.library.UserLibrary;
+import com.litclub.construct.interfaces.sync.SyncDelta;
+import com.litclub.construct.interfaces.sync.SyncResponse;
+import com.litclub.persistence.cache.CacheManager;
+import com.litclub.persistence.sync.SyncSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Standalone benchmark for the desktop cold start.
+ * Runs independently with its own main method, against a local stand-in for the backend that
+ * answers each request after a fixed delay, and with its local store in a temporary directory.
+ *
+ * <p>Measures how long after sign-in the crossroads page and the personal library have their
+ * data: the previous path, which fetched the clubs and the meetings feed and then the library
+ * from the server, against the sync engine's path, which reads the snapshot left by the previous
+ * session and then applies a delta in the background. Also reports a first launch, when there is
+ * no snapshot yet and one full sync is needed. Rendering itself is not included, and neither is the
+ * instance settings request, which both paths make.</p>
+ *
+ * Usage: Run this class directly; optional arguments are the number of books in the library and
+ * the server delay in milliseconds.
+ */
+public class SyncStartupBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int CLUBS = 10;
+    private static final int MEETINGS_PER_CLUB = 5;
+    private static final int RUNS = 20;
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public static void main(String[] args) throws Exception {
+        int books = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        long delayMs = args.length > 1 ? Long.parseLong(args[1]) : 40;
+
+        // CacheManager keeps its files under user.home; point it at a scratch directory
+        Path home = Files.createTempDirectory("litclub-sync-benchmark");
+        System.setProperty("user.home", home.toString());
+
+        List<BookWithStatus> library = library(books);
+        List<Club> clubs = clubs();
+        List<Meeting> meetings = meetings(clubs);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/users/" + USER_ID + "/library", exchange -> respond(exchange, delayMs,
+                new UserLibrary(null, byStatus(library, BookStatus.READING), byStatus(library, BookStatus.WANT_TO_READ),
+                        byStatus(library, BookStatus.READ), byStatus(library, BookStatus.DNF), List.of())));
+        server.createContext("/api/users/" + USER_ID + "/clubs", exchange -> respond(exchange, delayMs,
+                new PageResponse<>(clubs, 0, 100, clubs.size(), 1)));
+        server.createContext("/api/meetings/user/" + USER_ID + "/feed", exchange -> {
+            CursorPage<Meeting> page = new CursorPage<>();
+            page.setContent(meetings);
+            respond(exchange, delayMs, page);
+        });
+        server.createContext("/api/sync", exchange -> respond(exchange, delayMs,
+                exchange.getRequestURI().getQuery() == null
+                        ? syncResponse(true, library, clubs, meetings)
+                        : syncResponse(false, library.subList(0, 2), List.of(), List.of())));
+        ExecutorService executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+
+        try {
+            ApiClient.initialize("http://127.0.0.1:" + server.getAddress().getPort());
+            ApiClient apiClient = ApiClient.getInstance();
+            apiClient.setAuthToken("benchmark-token", USER_ID);
+            CacheManager cacheManager = CacheManager.getInstance();
+
+            System.out.println("=================================================");
+            System.out.println("    Cold start benchmark");
+            System.out.println("    " + books + " books, " + CLUBS + " clubs, " + meetings.size()
+                    + " meetings, " + delayMs + " ms per request");
+            System.out.println("=================================================\n");
+
+            // Warm up the HTTP client, Jackson and the file system
+            for (int i = 0; i < 5; i++) {
+                previousStartup(apiClient);
+                firstLaunch(apiClient, cacheManager);
+                laterLaunch(apiClient, cacheManager);
+            }
+
+            report("Previous: from the server", measure(() -> previousStartup(apiClient)));
+            report("Sync, first launch (full sync)", measure(() -> firstLaunch(apiClient, cacheManager)));
+            report("Sync, later launch (local store)", measure(() -> laterLaunch(apiClient, cacheManager)));
+        } finally {
+            server.stop(0);
+            executor.shutdownNow();
+            try (Stream<Path> files = Files.walk(home)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    // ==================== STARTUP PATHS ====================
+
+    /** Crossroads fetched clubs and meetings in parallel; the library page then fetched the library. */
+    private static long[] previousStartup(ApiClient apiClient) {
+        long start = System.nanoTime();
+        CompletableFuture.allOf(
+                apiClient.get("/api/users/" + USER_ID + "/clubs?page=0&size=100",
+                        new TypeReference<PageResponse<Club>>() {}),
+                apiClient.getFeed("/api/meetings/user/" + USER_ID + "/feed",
+                        new TypeReference<CursorPage<Meeting>>() {}, null)
+        ).join();
+        long crossroads = System.nanoTime();
+        apiClient.get("/api/users/" + USER_ID + "/library", UserLibrary.class).join();
+        long shown = System.nanoTime();
+        return new long[]{crossroads - start, shown - start, shown - start};
+    }
+
+    /** No snapshot yet: everything waits on one full sync, which is then saved. */
+    private static long[] firstLaunch(ApiClient apiClient, CacheManager cacheManager) {
+        long start = System.nanoTime();
+        SyncResponse response = apiClient.get("/api/sync", SyncResponse.class).join();
+        long shown = System.nanoTime();
+        cacheManager.saveSyncSnapshot(USER_ID, snapshot(response));
+        long synced = System.nanoTime();
+        return new long[]{shown - start, shown - start, synced - start};
+    }
+
+    /** Pages show the saved snapshot; the delta since its token is fetched and saved afterwards. */
+    private static long[] laterLaunch(ApiClient apiClient, CacheManager cacheManager) {
+        long start = System.nanoTime();
+        SyncSnapshot snapshot = cacheManager.loadSyncSnapshot(USER_ID);
+        long shown = System.nanoTime();
+        apiClient.get("/api/sync?since=" + snapshot.token(), SyncResponse.class).join();
+        cacheManager.saveSyncSnapshot(USER_ID, snapshot);
+        long synced = System.nanoTime();
+        return new long[]{shown - start, shown - start, synced - start};
+    }
+
+    // ==================== MEASUREMENT ====================
+
+    /** Runs a path {@link #RUNS} times and returns the median of each of its timings. */
+    private static long[] measure(StartupPath path) {
+        long[][] runs = new long[RUNS][];
+        for (int i = 0; i < RUNS; i++) {
+            runs[i] = path.run();
+        }
+        long[] medians = new long[runs[0].length];
+        for (int t = 0; t < medians.length; t++) {
+            int timing = t;
+            long[] values = Arrays.stream(runs).mapToLong(run -> run[timing]).sorted().toArray();
+            medians[t] = values[values.length / 2];
+        }
+        return medians;
+    }
+
+    private static void report(String name, long[] timings) {
+        System.out.printf("%-35s crossroads %7.1f ms   library %7.1f ms   up to date %7.1f ms%n",
+                name, timings[0] / 1_000_000.0, timings[1] / 1_000_000.0, timings[2] / 1_000_000.0);
+    }
+
+    @FunctionalInterface
+    private interface StartupPath {
+        long[] run();
+    }
+
+    // ==================== STAND-IN BACKEND ====================
+
+    private static void respond(HttpExchange exchange, long delayMs, Object body) throws IOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = JSON.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static SyncResponse syncResponse(boolean full, List<BookWithStatus> library,
+                                             List<Club> clubs, List<Meeting> meetings) {
+        return new SyncResponse(LocalDateTime.now().toString(), full,
+                new SyncDelta<>(library, full ? List.of() : List.of(-1L)),
+                new SyncDelta<>(clubs, List.of()),
+                new SyncDelta<>(meetings, List.of()),
+                new SyncDelta<>(List.of(), List.of()),
+                new SyncDelta<>(List.of(), List.of()));
+    }
+
+    private static SyncSnapshot snapshot(SyncResponse response) {
+        return new SyncSnapshot(response.token(), response.library().upsertedOrEmpty(),
+                response.clubs().upsertedOrEmpty(), response.meetings().upsertedOrEmpty(), List.of(), List.of());
+    }
+
+    private static List<BookWithStatus> byStatus(List<BookWithStatus> library, BookStatus status) {
+        return library.stream().filter(entry -> entry.status() == status).toList();
+    }
+
+    private static List<BookWithStatus> library(int count) {
+        BookStatus[] statuses = BookStatus.values();
+        List<BookWithStatus> library = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Book book = new Book();
+            book.setBookID((long) i + 1);
+            book.setTitle("Benchmark Book " + i);
+            book.setAuthors(List.of("Author " + i));
+            book.setPublisher("Publisher " + i % 20);
+            book.setYear(LocalDate.of(1950 + i % 70, 1, 1));
+            book.setCoverUrl("https://covers.openlibrary.org/b/id/" + (1_000_000 + i) + "-L.jpg");
+            library.add(new BookWithStatus(book, statuses[i % statuses.length], i % 5 + 1,
+                    LocalDate.of(2024, 1, 1), null));
+        }
+        return library;
+    }
+
+    private static List<Club> clubs() {
+        List<Club> clubs = new ArrayList<>(CLUBS);
+        for (int i = 0; i < CLUBS; i++) {
+            Club club = new Club();
+            club.setClubID((long) i + 1);
+            club.setClubName("Benchmark Club " + i);
+            club.setDescription("Reads one book a month");
+            clubs.add(club);
+        }
+        return clubs;
+    }
+
+    private static List<Meeting> meetings(List<Club> clubs) {
+        List<Meeting> meetings = new ArrayList<>();
+        for (Club club : clubs) {
+            for (int i = 0; i < MEETINGS_PER_CLUB; i++) {
+                Meeting meeting = new Meeting();
+                meeting.setMeetingID((long) meetings.size() + 1);
+                meeting.setClub(club);
+                meeting.setTitle("Meeting " + i);
+                meeting.setStartTime(LocalDateTime.of(2026, 1, 1, 19, 0).plusWeeks(i));
+                meeting.setEndTime(LocalDateTime.of(2026, 1, 1, 21, 0).plusWeeks(i));
+                meetings.add(meeting);
+            }
+        }
+        return meetings;
+    }
+}